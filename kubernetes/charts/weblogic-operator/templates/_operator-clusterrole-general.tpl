@@ -32,4 +32,12 @@ rules:
 - apiGroups: ["authorization.k8s.io"]
   resources: ["selfsubjectaccessreviews", "localsubjectaccessreviews", "subjectaccessreviews", "selfsubjectrulesreviews"]
   verbs: ["create"]
+{{- if .watchClusterWide }}
+- apiGroups: [""]
+  resources: ["pods", "services", "configmaps", "events"]
+  verbs: ["list", "watch"]
+- apiGroups: ["batch"]
+  resources: ["jobs"]
+  verbs: ["list", "watch"]
+{{- end }}
 {{- end }}
@@ -14,6 +14,9 @@ data:
   {{- end }}
   serviceaccount: {{ .serviceAccount | quote }}
   targetNamespaces: {{ .domainNamespaces | uniq | sortAlpha | join "," | quote }}
+  {{- if .watchClusterWide }}
+  watchClusterWide: "true"
+  {{- end }}
 kind: "ConfigMap"
 metadata:
   labels:
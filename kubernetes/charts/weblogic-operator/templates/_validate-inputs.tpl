@@ -31,6 +31,7 @@
 {{-   end -}}
 {{- end -}}
 {{- $ignore := include "utils.verifyStringList" (list $scope "domainNamespaces") -}}
+{{- $ignore := include "utils.verifyOptionalBoolean" (list $scope "watchClusterWide") -}}
 {{- if include "utils.verifyBoolean" (list $scope "elkIntegrationEnabled") -}}
 {{-   if $scope.elkIntegrationEnabled -}}
 {{-     $ignore := include "utils.verifyString" (list $scope "logStashImage") -}}
@@ -1161,8 +1161,6 @@ public class WeblogicApi {
       final ProgressResponseBody.ProgressListener progressListener,
       final ProgressRequestBody.ProgressRequestListener progressRequestListener)
       throws ApiException {
-    Object localVarPostBody = null;
-
     // create path and map variables
     String localVarPath =
         ("/apis/"
@@ -1173,6 +1171,88 @@ public class WeblogicApi {
                 + DOMAIN_PLURAL)
             .replaceAll("\\{" + "namespace" + "\\}", apiClient.escapeString(namespace.toString()));
 
+    return listDomainCall(
+        localVarPath,
+        includeUninitialized,
+        pretty,
+        _continue,
+        fieldSelector,
+        labelSelector,
+        limit,
+        resourceVersion,
+        timeoutSeconds,
+        watch,
+        progressListener,
+        progressRequestListener);
+  }
+
+  /**
+   * Build call for listDomainForAllNamespaces. Parameters are as for {@link
+   * #listNamespacedDomainCall}, without the namespace.
+   *
+   * @param includeUninitialized If true, partially initialized resources are included in the
+   *     response. (optional)
+   * @param pretty If &#39;true&#39;, then the output is pretty printed. (optional)
+   * @param _continue The continue option for chunked lists. (optional)
+   * @param fieldSelector A selector to restrict the list of returned objects by their fields.
+   *     (optional)
+   * @param labelSelector A selector to restrict the list of returned objects by their labels.
+   *     (optional)
+   * @param limit limit is a maximum number of responses to return for a list call. (optional)
+   * @param resourceVersion When specified with a watch call, shows changes that occur after that
+   *     particular version of a resource. (optional)
+   * @param timeoutSeconds Timeout for the list/watch call. (optional)
+   * @param watch Watch for changes to the described resources and return them as a stream of add,
+   *     update, and remove notifications. Specify resourceVersion. (optional)
+   * @param progressListener Progress listener
+   * @param progressRequestListener Progress request listener
+   * @return Call to execute
+   * @throws ApiException If fail to serialize the request body object
+   */
+  public com.squareup.okhttp.Call listDomainForAllNamespacesCall(
+      Boolean includeUninitialized,
+      String pretty,
+      String _continue,
+      String fieldSelector,
+      String labelSelector,
+      Integer limit,
+      String resourceVersion,
+      Integer timeoutSeconds,
+      Boolean watch,
+      final ProgressResponseBody.ProgressListener progressListener,
+      final ProgressRequestBody.ProgressRequestListener progressRequestListener)
+      throws ApiException {
+    return listDomainCall(
+        "/apis/" + DOMAIN_GROUP + "/" + DOMAIN_VERSION + "/" + DOMAIN_PLURAL,
+        includeUninitialized,
+        pretty,
+        _continue,
+        fieldSelector,
+        labelSelector,
+        limit,
+        resourceVersion,
+        timeoutSeconds,
+        watch,
+        progressListener,
+        progressRequestListener);
+  }
+
+  private com.squareup.okhttp.Call listDomainCall(
+      String localVarPath,
+      Boolean includeUninitialized,
+      String pretty,
+      String _continue,
+      String fieldSelector,
+      String labelSelector,
+      Integer limit,
+      String resourceVersion,
+      Integer timeoutSeconds,
+      Boolean watch,
+      final ProgressResponseBody.ProgressListener progressListener,
+      final ProgressRequestBody.ProgressRequestListener progressRequestListener)
+      throws ApiException {
+    Object localVarPostBody = null;
+
     List<Pair> localVarQueryParams = new ArrayList<Pair>();
     List<Pair> localVarCollectionQueryParams = new ArrayList<Pair>();
     if (includeUninitialized != null)
@@ -0,0 +1,156 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.models.V1Container;
+import io.kubernetes.client.models.V1ContainerPort;
+import io.kubernetes.client.models.V1EnvVar;
+import io.kubernetes.client.models.V1ExecAction;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1PodSpec;
+import io.kubernetes.client.models.V1Probe;
+import io.kubernetes.client.models.V1ResourceRequirements;
+import io.kubernetes.client.models.V1Service;
+import io.kubernetes.client.models.V1ServicePort;
+import io.kubernetes.client.models.V1ServiceSpec;
+import io.kubernetes.client.models.V1Volume;
+import io.kubernetes.client.models.V1VolumeMount;
+import io.kubernetes.client.util.Yaml;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the hashing of pod and service models from their content with the hashing of their YAML
+ * form. Run with the "benchmarks" profile; add "-prof gc" to the JMH arguments to compare the
+ * allocation rates as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashBenchmark {
+  private V1Pod pod;
+  private V1Service service;
+
+  @Setup
+  public void setUp() {
+    pod = createPod();
+    service = createService();
+  }
+
+  @Benchmark
+  public String canonicalPodHash() {
+    return CanonicalHash.sha256Hex(pod);
+  }
+
+  @Benchmark
+  public String yamlPodHash() {
+    return DigestUtils.sha256Hex(Yaml.dump(pod));
+  }
+
+  @Benchmark
+  public String canonicalServiceHash() {
+    return CanonicalHash.sha256Hex(service);
+  }
+
+  @Benchmark
+  public String yamlServiceHash() {
+    return DigestUtils.sha256Hex(Yaml.dump(service));
+  }
+
+  private static V1Pod createPod() {
+    V1Container container =
+        new V1Container()
+            .name("weblogic-server")
+            .image("container-registry.oracle.com/middleware/weblogic:12.2.1.3")
+            .imagePullPolicy("IfNotPresent")
+            .command(Arrays.asList("/weblogic-operator/scripts/startServer.sh"))
+            .addPortsItem(new V1ContainerPort().name("default").containerPort(8001).protocol("TCP"))
+            .resources(
+                new V1ResourceRequirements()
+                    .putLimitsItem("memory", new Quantity("2Gi"))
+                    .putRequestsItem("cpu", new Quantity("500m")))
+            .readinessProbe(
+                new V1Probe()
+                    .exec(
+                        new V1ExecAction()
+                            .command(Arrays.asList("/weblogic-operator/scripts/readState.sh")))
+                    .initialDelaySeconds(30)
+                    .periodSeconds(5))
+            .livenessProbe(
+                new V1Probe()
+                    .exec(
+                        new V1ExecAction()
+                            .command(Arrays.asList("/weblogic-operator/scripts/livenessProbe.sh")))
+                    .initialDelaySeconds(30)
+                    .periodSeconds(45));
+    for (int i = 0; i < 20; i++) {
+      container.addEnvItem(new V1EnvVar().name("ENV_" + i).value("value-" + i));
+    }
+    for (String name : Arrays.asList("weblogic-domain-storage", "scripts", "debug-cm")) {
+      container.addVolumeMountsItem(new V1VolumeMount().name(name).mountPath("/" + name));
+    }
+
+    V1PodSpec spec = new V1PodSpec().addContainersItem(container).nodeName("node1");
+    for (String name : Arrays.asList("weblogic-domain-storage", "scripts", "debug-cm")) {
+      spec.addVolumesItem(new V1Volume().name(name));
+    }
+
+    return new V1Pod()
+        .metadata(
+            new V1ObjectMeta()
+                .name("domain1-managed-server1")
+                .namespace("ns1")
+                .putLabelsItem("weblogic.createdByOperator", "true")
+                .putLabelsItem("weblogic.domainUID", "domain1")
+                .putLabelsItem("weblogic.domainName", "base_domain")
+                .putLabelsItem("weblogic.serverName", "managed-server1")
+                .putLabelsItem("weblogic.clusterName", "cluster-1")
+                .putAnnotationsItem("prometheus.io/port", "8001")
+                .putAnnotationsItem("prometheus.io/path", "/wls-exporter/metrics")
+                .putAnnotationsItem("prometheus.io/scrape", "true"))
+        .spec(spec);
+  }
+
+  private static V1Service createService() {
+    return new V1Service()
+        .metadata(
+            new V1ObjectMeta()
+                .name("domain1-managed-server1")
+                .namespace("ns1")
+                .putLabelsItem("weblogic.createdByOperator", "true")
+                .putLabelsItem("weblogic.domainUID", "domain1")
+                .putLabelsItem("weblogic.serverName", "managed-server1"))
+        .spec(
+            new V1ServiceSpec()
+                .type("ClusterIP")
+                .clusterIP("None")
+                .publishNotReadyAddresses(true)
+                .putSelectorItem("weblogic.domainUID", "domain1")
+                .putSelectorItem("weblogic.serverName", "managed-server1")
+                .addPortsItem(
+                    new V1ServicePort()
+                        .name("default")
+                        .port(8001)
+                        .targetPort(new IntOrString(8001))
+                        .protocol("TCP")));
+  }
+}
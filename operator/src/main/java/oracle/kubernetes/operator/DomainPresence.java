@@ -9,6 +9,10 @@ import java.util.Optional;
 public class DomainPresence {
   private static final int DEFAULT_TIMEOUT_SECONDS = 5;
   private static final int DEFAULT_RETRY_MAX_COUNT = 5;
+  private static final int DEFAULT_MAKE_RIGHT_DELAY_MILLIS = 500;
+  private static final int DEFAULT_MAKE_RIGHT_MAX_WAIT_MILLIS = 5000;
+  private static final int DEFAULT_STATUS_WRITE_DELAY_MILLIS = 200;
+  private static final int DEFAULT_STATUS_WRITE_MAX_WAIT_MILLIS = 1000;
 
   static int getDomainPresenceFailureRetrySeconds() {
     return Optional.ofNullable(TuningParameters.getInstance())
@@ -21,4 +25,28 @@ public class DomainPresence {
         .map(parameters -> parameters.getMainTuning().domainPresenceFailureRetryMaxCount)
         .orElse(DEFAULT_RETRY_MAX_COUNT);
   }
+
+  static int getMakeRightDelayMillis() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> parameters.getMainTuning().makeRightDelayMillis)
+        .orElse(DEFAULT_MAKE_RIGHT_DELAY_MILLIS);
+  }
+
+  static int getMakeRightMaxWaitMillis() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> parameters.getMainTuning().makeRightMaxWaitMillis)
+        .orElse(DEFAULT_MAKE_RIGHT_MAX_WAIT_MILLIS);
+  }
+
+  static int getStatusWriteDelayMillis() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> parameters.getMainTuning().statusWriteDelayMillis)
+        .orElse(DEFAULT_STATUS_WRITE_DELAY_MILLIS);
+  }
+
+  static int getStatusWriteMaxWaitMillis() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> parameters.getMainTuning().statusWriteMaxWaitMillis)
+        .orElse(DEFAULT_STATUS_WRITE_MAX_WAIT_MILLIS);
+  }
 }
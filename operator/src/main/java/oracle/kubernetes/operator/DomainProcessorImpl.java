@@ -4,6 +4,7 @@
 
 package oracle.kubernetes.operator;
 
+import io.kubernetes.client.JSON;
 import io.kubernetes.client.models.V1ConfigMap;
 import io.kubernetes.client.models.V1Event;
 import io.kubernetes.client.models.V1ObjectMeta;
@@ -16,12 +17,15 @@ import io.kubernetes.client.util.Watch;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import oracle.kubernetes.operator.TuningParameters.MainTuning;
 import oracle.kubernetes.operator.calls.CallResponse;
@@ -30,7 +34,9 @@ import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.JobHelper;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.helpers.ModelCache;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.ResourceCache;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -47,6 +53,7 @@ import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.FiberScheduler;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -61,6 +68,10 @@ public class DomainProcessorImpl implements DomainProcessor {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  static final String PRIORITY_ANNOTATION = "weblogic.priority";
+
+  private static final JSON JSON_CONVERTER = new JSON();
+
   private static final Map<String, FiberGate> makeRightFiberGates = new ConcurrentHashMap<>();
   private static final Map<String, FiberGate> statusFiberGates = new ConcurrentHashMap<>();
   private DomainProcessorDelegate delegate;
@@ -85,10 +96,14 @@ public class DomainProcessorImpl implements DomainProcessor {
     return DOMAINS.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).get(domainUID);
   }
 
+  // Map from domainUID to the namespace of the domain, for lookups by domainUID alone
+  private static final Map<String, String> DOMAIN_NAMESPACES = new ConcurrentHashMap<>();
+
   private static void registerDomainPresenceInfo(DomainPresenceInfo info) {
     DOMAINS
         .computeIfAbsent(info.getNamespace(), k -> new ConcurrentHashMap<>())
         .put(info.getDomainUID(), info);
+    DOMAIN_NAMESPACES.put(info.getDomainUID(), info.getNamespace());
   }
 
   private static void unregisterPresenceInfo(String ns, String domainUID) {
@@ -96,11 +111,59 @@ public class DomainProcessorImpl implements DomainProcessor {
     if (map != null) {
       map.remove(domainUID);
     }
+    DOMAIN_NAMESPACES.remove(domainUID, ns);
+  }
+
+  /**
+   * Returns copies of the domains which the operator is managing in a namespace, excluding those
+   * being deleted. Domains which the operator has yet to process are not included.
+   *
+   * @param ns a namespace
+   * @return the domains, or null if the operator has not started to manage any domain in the
+   *     namespace
+   */
+  public static List<Domain> getManagedDomains(String ns) {
+    Map<String, DomainPresenceInfo> map = DOMAINS.get(ns);
+    if (map == null || map.isEmpty()) {
+      return null;
+    }
+    return map.values().stream()
+        .map(DomainProcessorImpl::getDomainIfNotDeleting)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Returns a copy of a domain which the operator is managing, unless it is being deleted.
+   *
+   * @param domainUID the UID of the domain
+   * @return the domain, or null if the operator is not managing a domain with the UID
+   */
+  public static Domain getManagedDomain(String domainUID) {
+    return Optional.ofNullable(DOMAIN_NAMESPACES.get(domainUID))
+        .map(DOMAINS::get)
+        .map(m -> m.get(domainUID))
+        .map(DomainProcessorImpl::getDomainIfNotDeleting)
+        .orElse(null);
+  }
+
+  // The domain of a presence info is changed as the domain is processed, so callers get a copy
+  private static Domain getDomainIfNotDeleting(DomainPresenceInfo info) {
+    return Optional.ofNullable(info.isNotDeleting() ? info.getDomain() : null)
+        .map(DomainProcessorImpl::copy)
+        .orElse(null);
+  }
+
+  private static Domain copy(Domain domain) {
+    return JSON_CONVERTER.deserialize(JSON_CONVERTER.serialize(domain), Domain.class);
   }
 
   private static final ConcurrentMap<String, ConcurrentMap<String, ScheduledFuture<?>>>
       statusUpdaters = new ConcurrentHashMap<>();
 
+  // Map from namespace/domainUID to a make-right waiting for further watch events
+  private static final Map<String, PendingMakeRight> pendingMakeRights = new ConcurrentHashMap<>();
+
   private static void registerStatusUpdater(
       String ns, String domainUID, ScheduledFuture<?> future) {
     ScheduledFuture<?> existing =
@@ -243,7 +306,7 @@ public class DomainProcessorImpl implements DomainProcessor {
 
     Optional.ofNullable(DOMAINS.get(event.getMetadata().getNamespace()))
         .map(m -> m.get(domainUid))
-        .ifPresent(info -> info.updateLastKnownServerStatus(serverName, status));
+        .ifPresent(info -> info.updateLastKnownServerStatusFromReadinessProbe(serverName, status));
   }
 
   private static String getReadinessStatus(V1Event event) {
@@ -306,6 +369,10 @@ public class DomainProcessorImpl implements DomainProcessor {
                       ProcessingConstants.DOMAIN_COMPONENT_NAME,
                       Component.createFor(info, delegate.getVersion()));
               packet.put(LoggingFilter.LOGGING_FILTER_PACKET_KEY, loggingFilter);
+              packet.put(
+                  FiberScheduler.ASSIGNMENT,
+                  new FiberScheduler.Assignment(
+                      FiberScheduler.PriorityClass.STATUS, info.getNamespace()));
               MainTuning main = TuningParameters.getInstance().getMainTuning();
               Step strategy =
                   DomainStatusUpdater.createStatusStep(main.statusUpdateTimeoutSeconds, null);
@@ -351,6 +418,15 @@ public class DomainProcessorImpl implements DomainProcessor {
       boolean explicitRecheck,
       boolean isDeleting,
       boolean isWillInterrupt) {
+    makeRightDomainPresence(info, explicitRecheck, isDeleting, isWillInterrupt, isWillInterrupt);
+  }
+
+  private void makeRightDomainPresence(
+      DomainPresenceInfo info,
+      boolean explicitRecheck,
+      boolean isDeleting,
+      boolean isWillInterrupt,
+      boolean mayDelay) {
     Domain domain = info.getDomain();
     DomainSpec spec = null;
     if (domain != null) {
@@ -371,8 +447,11 @@ public class DomainProcessorImpl implements DomainProcessor {
             LOGGER.fine(MessageKeys.NOT_STARTING_DOMAINUID_THREAD, domainUID);
             return;
           }
-          // Has the spec actually changed? We will get watch events for status updates
-          if (!explicitRecheck && spec != null && spec.equals(current.getSpec())) {
+          // Has the spec actually changed? We will get watch events for status updates, which
+          // leave the generation unchanged when written through the status subresource.
+          if (!explicitRecheck
+              && spec != null
+              && (isSameGeneration(current, domain) || spec.equals(current.getSpec()))) {
             // nothing in the spec has changed, but status likely did; update current
             existing.setDomain(domain);
             LOGGER.fine(MessageKeys.NOT_STARTING_DOMAINUID_THREAD, domainUID);
@@ -381,10 +460,102 @@ public class DomainProcessorImpl implements DomainProcessor {
         }
       }
 
+      if (isDeleting) {
+        cancelPendingMakeRight(ns, domainUID);
+        ModelCache.getInstance().remove(ns, domainUID);
+      } else if (mayDelay && DomainPresence.getMakeRightDelayMillis() > 0) {
+        delayMakeRight(info);
+        return;
+      }
+
       internalMakeRightDomainPresence(info, isDeleting, isWillInterrupt);
     }
   }
 
+  private static boolean isSameGeneration(Domain current, Domain domain) {
+    Long generation = current.getMetadata().getGeneration();
+    return generation != null && generation.equals(domain.getMetadata().getGeneration());
+  }
+
+  /**
+   * A make-right requested by a watch event, which waits until the watch events for its domain have
+   * stopped arriving for the configured delay, or for the configured maximum wait since the first
+   * of them. Later events for the domain are merged into it, rather than each starting a make-right
+   * fiber which cancels the one before.
+   */
+  private static class PendingMakeRight {
+    private DomainPresenceInfo info;
+    private int generation;
+
+    PendingMakeRight(DomainPresenceInfo info) {
+      this.info = info;
+    }
+
+    // Keeps the information with the most recent domain, as an event for a pod or service
+    // carries the domain last processed, which may predate a domain change still pending.
+    void merge(DomainPresenceInfo info) {
+      if (!isNewer(this.info.getDomain(), info.getDomain())) {
+        this.info = info;
+      }
+    }
+
+    private static boolean isNewer(Domain first, Domain second) {
+      return first != null
+          && (second == null
+              || KubernetesUtils.isFirstNewer(first.getMetadata(), second.getMetadata()));
+    }
+  }
+
+  private static String getPendingMakeRightKey(String ns, String domainUID) {
+    return ns + "/" + domainUID;
+  }
+
+  private void delayMakeRight(DomainPresenceInfo info) {
+    String key = getPendingMakeRightKey(info.getNamespace(), info.getDomainUID());
+    ScheduledExecutorService executor = getMakeRightFiberGate(info.getNamespace()).getExecutor();
+    synchronized (pendingMakeRights) {
+      PendingMakeRight pending = pendingMakeRights.get(key);
+      if (pending != null) {
+        pending.merge(info);
+      } else {
+        pending = new PendingMakeRight(info);
+        pendingMakeRights.put(key, pending);
+        scheduleMakeRight(executor, key, pending, null, DomainPresence.getMakeRightMaxWaitMillis());
+      }
+      scheduleMakeRight(
+          executor, key, pending, ++pending.generation, DomainPresence.getMakeRightDelayMillis());
+    }
+  }
+
+  // A null generation denotes the maximum wait, which applies whatever events arrive later
+  private void scheduleMakeRight(
+      ScheduledExecutorService executor,
+      String key,
+      PendingMakeRight pending,
+      Integer generation,
+      int delayMillis) {
+    if (generation == null && delayMillis <= 0) {
+      return;
+    }
+    executor.schedule(
+        () -> runPendingMakeRight(key, pending, generation), delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void runPendingMakeRight(String key, PendingMakeRight pending, Integer generation) {
+    synchronized (pendingMakeRights) {
+      if (pendingMakeRights.get(key) != pending
+          || (generation != null && generation != pending.generation)) {
+        return;
+      }
+      pendingMakeRights.remove(key);
+    }
+    makeRightDomainPresence(pending.info, true, false, true, false);
+  }
+
+  private static void cancelPendingMakeRight(String ns, String domainUID) {
+    pendingMakeRights.remove(getPendingMakeRightKey(ns, domainUID));
+  }
+
   private void internalMakeRightDomainPresence(
       @Nullable DomainPresenceInfo info, boolean isDeleting, boolean isWillInterrupt) {
     String ns = info.getNamespace();
@@ -396,13 +567,33 @@ public class DomainProcessorImpl implements DomainProcessor {
           new StartPlanStep(
               info, isDeleting ? createDomainDownPlan(info) : createDomainUpPlan(info));
 
+      Packet packet = new Packet();
+      packet.put(
+          FiberScheduler.ASSIGNMENT, new FiberScheduler.Assignment(getPriorityClass(dom), ns));
       runDomainPlan(
-          dom,
-          domainUID,
-          ns,
-          new StepAndPacket(strategy, new Packet()),
-          isDeleting,
-          isWillInterrupt);
+          dom, domainUID, ns, new StepAndPacket(strategy, packet), isDeleting, isWillInterrupt);
+    }
+  }
+
+  /**
+   * Returns the priority class of the make-right work for a domain, as selected by the value of its
+   * "weblogic.priority" annotation: "high", "normal" or "low". Any other value, or none, selects
+   * the normal class.
+   */
+  static FiberScheduler.PriorityClass getPriorityClass(Domain domain) {
+    String priority =
+        Optional.ofNullable(domain)
+            .map(Domain::getMetadata)
+            .map(V1ObjectMeta::getAnnotations)
+            .map(annotations -> annotations.get(PRIORITY_ANNOTATION))
+            .orElse("");
+    switch (priority.toLowerCase()) {
+      case "high":
+        return FiberScheduler.PriorityClass.HIGH;
+      case "low":
+        return FiberScheduler.PriorityClass.LOW;
+      default:
+        return FiberScheduler.PriorityClass.NORMAL;
     }
   }
 
@@ -445,6 +636,9 @@ public class DomainProcessorImpl implements DomainProcessor {
   }
 
   private static Step readExistingPods(DomainPresenceInfo info) {
+    if (ResourceCache.PODS.isSeeded(info.getNamespace())) {
+      return new CachedPodsStep(info);
+    }
     return new CallBuilder()
         .withLabelSelectors(
             LabelConstants.forDomainUidSelector(info.getDomainUID()),
@@ -453,6 +647,9 @@ public class DomainProcessorImpl implements DomainProcessor {
   }
 
   private Step readExistingServices(DomainPresenceInfo info) {
+    if (ResourceCache.SERVICES.isSeeded(info.getNamespace())) {
+      return new CachedServicesStep(info);
+    }
     return new CallBuilder()
         .withLabelSelectors(
             LabelConstants.forDomainUidSelector(info.getDomainUID()),
@@ -478,12 +675,47 @@ public class DomainProcessorImpl implements DomainProcessor {
     public NextAction onSuccess(Packet packet, CallResponse<V1PodList> callResponse) {
       V1PodList result = callResponse.getResult();
       if (result != null) {
-        for (V1Pod pod : result.getItems()) {
-          String serverName = PodHelper.getPodServerName(pod);
-          if (serverName != null) {
-            info.setServerPod(serverName, pod);
-          }
-        }
+        addPods(info, result.getItems());
+      }
+      return doNext(packet);
+    }
+  }
+
+  private static void addPods(DomainPresenceInfo info, List<V1Pod> pods) {
+    for (V1Pod pod : pods) {
+      String serverName = PodHelper.getPodServerName(pod);
+      if (serverName != null) {
+        info.setServerPod(serverName, pod);
+      }
+    }
+  }
+
+  private static class CachedPodsStep extends Step {
+    private final DomainPresenceInfo info;
+
+    CachedPodsStep(DomainPresenceInfo info) {
+      this.info = info;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      addPods(info, ResourceCache.PODS.list(info.getNamespace(), info.getDomainUID()));
+      return doNext(packet);
+    }
+  }
+
+  private static class CachedServicesStep extends Step {
+    private final DomainPresenceInfo info;
+
+    CachedServicesStep(DomainPresenceInfo info) {
+      this.info = info;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      for (V1Service service :
+          ResourceCache.SERVICES.list(info.getNamespace(), info.getDomainUID())) {
+        ServiceHelper.addToPresence(info, service);
       }
       return doNext(packet);
     }
@@ -0,0 +1,33 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+
+/** Is told of changes to the state of the domains which the operator manages. */
+public interface DomainStatusListener {
+
+  /**
+   * Called after a new status of a domain has been written to its domain resource. Writes may
+   * complete out of order; a status whose sequence number is lower than that of one already
+   * reported is older than it.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUID the UID of the domain
+   * @param status the status written
+   * @param sequence the sequence number of the last status change included in the write
+   */
+  void statusChanged(String namespace, String domainUID, DomainStatus status, long sequence);
+
+  /**
+   * Called when the state of a server in a domain changes.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUID the UID of the domain
+   * @param serverName the name of the server
+   * @param state the new state of the server
+   */
+  void serverStateChanged(String namespace, String domainUID, String serverName, String state);
+}
@@ -0,0 +1,57 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+
+/**
+ * Passes changes to the state of domains to the listeners which have registered for them. The
+ * operator's own code reports changes here, and need not know which listeners there are.
+ */
+public class DomainStatusListeners {
+  private static DomainStatusListeners INSTANCE = new DomainStatusListeners();
+
+  private final List<DomainStatusListener> listeners = new CopyOnWriteArrayList<>();
+
+  public static DomainStatusListeners getInstance() {
+    return INSTANCE;
+  }
+
+  public void add(DomainStatusListener listener) {
+    listeners.add(listener);
+  }
+
+  public void remove(DomainStatusListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Reports that a new status of a domain has been written to its domain resource.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUID the UID of the domain
+   * @param status the status written
+   * @param sequence the sequence number of the last status change included in the write
+   */
+  public void statusChanged(
+      String namespace, String domainUID, DomainStatus status, long sequence) {
+    listeners.forEach(l -> l.statusChanged(namespace, domainUID, status, sequence));
+  }
+
+  /**
+   * Reports that the state of a server in a domain has changed.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUID the UID of the domain
+   * @param serverName the name of the server
+   * @param state the new state of the server
+   */
+  public void serverStateChanged(
+      String namespace, String domainUID, String serverName, String state) {
+    listeners.forEach(l -> l.serverStateChanged(namespace, domainUID, serverName, state));
+  }
+}
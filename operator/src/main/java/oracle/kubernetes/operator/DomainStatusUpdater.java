@@ -14,28 +14,41 @@ import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Availa
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Failed;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Progressing;
 
+import io.kubernetes.client.JSON;
 import io.kubernetes.client.models.V1ObjectMeta;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
+import javax.json.Json;
+import javax.json.JsonObject;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
+import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.FiberScheduler;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -62,6 +75,17 @@ public class DomainStatusUpdater {
   private static final String TRUE = "True";
   private static final String FALSE = "False";
 
+  private static final JSON JSON_CONVERTER = new JSON();
+
+  // Numbers the status changes of all domains, so that each change is later than those before it
+  private static final AtomicLong STATUS_SEQUENCE = new AtomicLong();
+
+  // Map from namespace/domainUID to a status write waiting for further changes
+  private static final Map<String, PendingWrite> pendingWrites = new HashMap<>();
+
+  // Keys of the domains whose status is being written
+  private static final Set<String> writing = new HashSet<>();
+
   private DomainStatusUpdater() {}
 
   static class DomainConditionStepContext {
@@ -149,7 +173,7 @@ public class DomainStatusUpdater {
       }
       LOGGER.exiting();
 
-      return status.isModified()
+      return isStatusChanged(context.getInfo(), status)
           ? doDomainUpdate(
               context.getDomain(), context.getInfo(), packet, StatusUpdateStep.this, getNext())
           : doNext(packet);
@@ -292,7 +316,7 @@ public class DomainStatusUpdater {
       LOGGER.info(MessageKeys.DOMAIN_STATUS, context.getDomain().getDomainUID(), status);
       LOGGER.exiting();
 
-      return status.isModified()
+      return isStatusChanged(context.getInfo(), status)
           ? doDomainUpdate(
               context.getDomain(), context.getInfo(), packet, ProgressingStep.this, getNext())
           : doNext(packet);
@@ -327,7 +351,7 @@ public class DomainStatusUpdater {
       LOGGER.info(MessageKeys.DOMAIN_STATUS, context.getDomain().getDomainUID(), status);
       LOGGER.exiting();
 
-      return status.isModified()
+      return isStatusChanged(context.getInfo(), status)
           ? doDomainUpdate(
               context.getDomain(), context.getInfo(), packet, EndProgressingStep.this, getNext())
           : doNext(packet);
@@ -365,22 +389,257 @@ public class DomainStatusUpdater {
 
       LOGGER.info(MessageKeys.DOMAIN_STATUS, context.getDomain().getDomainUID(), status);
       LOGGER.exiting();
-      return status.isModified()
+      return isStatusChanged(context.getInfo(), status)
           ? doDomainUpdate(
               context.getDomain(), context.getInfo(), packet, AvailableStep.this, getNext())
           : doNext(packet);
     }
   }
 
+  // Once a status has been written through the status subresource, a later status is written only
+  // if it differs from that one; until then, only if the steps above modified the current status.
+  private static boolean isStatusChanged(DomainPresenceInfo info, DomainStatus status) {
+    DomainStatus lastWrittenStatus = info.getLastWrittenStatus();
+    return lastWrittenStatus == null ? status.isModified() : !status.equals(lastWrittenStatus);
+  }
+
+  // With a write delay configured, the change is merged into a pending write and the fiber
+  // continues at once; otherwise, it waits for the status to be written.
   private static NextAction doDomainUpdate(
       Domain dom, DomainPresenceInfo info, Packet packet, Step conflictStep, Step next) {
+    info.setStatusSequence(STATUS_SEQUENCE.incrementAndGet());
+    if (DomainPresence.getStatusWriteDelayMillis() <= 0) {
+      return doStatusWrite(dom, info, packet, info.getStatusSequence(), conflictStep, next);
+    }
+
+    requestWrite(info, packet);
+    NextAction na = new NextAction();
+    na.invoke(next, packet);
+    return na;
+  }
+
+  private static String getPendingWriteKey(DomainPresenceInfo info) {
+    return info.getNamespace() + "/" + info.getDomainUID();
+  }
+
+  private static void requestWrite(DomainPresenceInfo info, Packet packet) {
+    String key = getPendingWriteKey(info);
+    Engine engine = Fiber.current().owner;
+    synchronized (pendingWrites) {
+      PendingWrite pending = pendingWrites.get(key);
+      if (pending == null) {
+        pending = new PendingWrite(key, engine);
+        pendingWrites.put(key, pending);
+        scheduleWrite(pending, null, DomainPresence.getStatusWriteMaxWaitMillis());
+      }
+      pending.merge(packet);
+      scheduleWrite(pending, ++pending.generation, DomainPresence.getStatusWriteDelayMillis());
+    }
+  }
+
+  // A null generation denotes the maximum wait, which applies whatever changes arrive later
+  private static void scheduleWrite(PendingWrite pending, Integer generation, int delayMillis) {
+    if (generation == null && delayMillis <= 0) {
+      return;
+    }
+    pending
+        .engine
+        .getExecutor()
+        .schedule(() -> runPendingWrite(pending, generation), delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private static void runPendingWrite(PendingWrite pending, Integer generation) {
+    synchronized (pendingWrites) {
+      if (pendingWrites.get(pending.key) != pending
+          || (generation != null && generation != pending.generation)) {
+        return;
+      }
+      if (writing.contains(pending.key)) {
+        pending.isDue = true;
+        return;
+      }
+      pendingWrites.remove(pending.key);
+      writing.add(pending.key);
+    }
+    pending.start();
+  }
+
+  private static void onWriteComplete(String key) {
+    PendingWrite pending;
+    synchronized (pendingWrites) {
+      writing.remove(key);
+      pending = pendingWrites.get(key);
+    }
+    if (pending != null && pending.isDue) {
+      runPendingWrite(pending, null);
+    }
+  }
+
+  /**
+   * A write of a domain's status, which waits until changes to the status have stopped arriving for
+   * the configured delay, or for the configured maximum wait since the first of them. Later changes
+   * are merged into it, so that the status steps of a make-right write the status once, rather than
+   * once per step. A pending write which becomes due while an earlier write for the same domain is
+   * in progress waits for that write to complete. It keeps its own copy of the status to be
+   * written, as the domain in the presence info may be replaced by a watch event before it is due.
+   */
+  private static class PendingWrite {
+    private final String key;
+    private final Engine engine;
+    private Map<String, Component> components;
+    private DomainStatus status;
+    private long sequence;
+    private int generation;
+    private boolean isDue;
+
+    PendingWrite(String key, Engine engine) {
+      this.key = key;
+      this.engine = engine;
+    }
+
+    // Keeps the components and status of the most recent change
+    void merge(Packet packet) {
+      components = new HashMap<>(packet.getComponents());
+      DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
+      status = copy(info.getDomain().getStatus());
+      sequence = info.getStatusSequence();
+    }
+
+    void start() {
+      Packet packet = new Packet();
+      packet.getComponents().putAll(components);
+      DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
+      packet.put(
+          FiberScheduler.ASSIGNMENT,
+          new FiberScheduler.Assignment(FiberScheduler.PriorityClass.STATUS, info.getNamespace()));
+      engine
+          .createFiber()
+          .start(
+              new WriteStatusStep(status, sequence),
+              packet,
+              new CompletionCallback() {
+                @Override
+                public void onCompletion(Packet packet) {
+                  onWriteComplete(key);
+                }
+
+                @Override
+                public void onThrowable(Packet packet, Throwable throwable) {
+                  LOGGER.severe(MessageKeys.EXCEPTION, throwable);
+                  onWriteComplete(key);
+                }
+              });
+    }
+  }
+
+  private static DomainStatus copy(DomainStatus status) {
+    return JSON_CONVERTER.deserialize(JSON_CONVERTER.serialize(status), DomainStatus.class);
+  }
+
+  // Writes a status of the domain, unless it, or a later one, has already been written. Is also the
+  // step which, after a conflict has caused the domain to be reread, restores the status.
+  private static class WriteStatusStep extends Step {
+    private final DomainStatus status;
+    private final long sequence;
+
+    WriteStatusStep(DomainStatus status, long sequence) {
+      super(null);
+      this.status = status;
+      this.sequence = sequence;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
+      if (isWritten(info)) {
+        return doNext(packet);
+      }
+
+      Domain dom = info.getDomain();
+      dom.setStatus(status);
+      return doStatusWrite(
+          dom, info, packet, sequence, new WriteStatusStep(status, sequence), getNext());
+    }
+
+    private boolean isWritten(DomainPresenceInfo info) {
+      return info.getWrittenStatusSequence() >= sequence
+          || status.equals(info.getLastWrittenStatus());
+    }
+  }
+
+  // The sequence number is that of the last status change included in the write
+  private static NextAction doStatusWrite(
+      Domain dom,
+      DomainPresenceInfo info,
+      Packet packet,
+      long sequence,
+      Step conflictStep,
+      Step next) {
+    KubernetesVersion version = packet.getSPI(KubernetesVersion.class);
+    return version != null && version.isCRDSubresourcesStatusPatternSupported()
+        ? doStatusPatch(dom, info, packet, sequence, next)
+        : doDomainReplace(dom, info, packet, sequence, conflictStep, next);
+  }
+
+  // Replaces only the status, which does not change the domain's generation. The patch does not
+  // depend on the resource version, so it cannot conflict with changes to the spec.
+  private static NextAction doStatusPatch(
+      Domain dom, DomainPresenceInfo info, Packet packet, long sequence, Step next) {
     V1ObjectMeta meta = dom.getMetadata();
+    JsonObject status = toJsonObject(dom.getStatus());
+    DomainStatus written = JSON_CONVERTER.deserialize(status.toString(), DomainStatus.class);
+
     NextAction na = new NextAction();
+    na.invoke(
+        new CallBuilder()
+            .patchDomainStatusAsync(
+                meta.getName(),
+                meta.getNamespace(),
+                Json.createPatchBuilder().add("/status", status).build(),
+                new DefaultResponseStep<Domain>(next) {
+                  @Override
+                  public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
+                    if (callResponse.getStatusCode() == CallBuilder.NOT_FOUND) {
+                      return doNext(packet); // Just ignore update
+                    }
+                    return super.onFailure(packet, callResponse);
+                  }
 
-    // *NOTE* See the note in KubernetesVersion
-    // If we update the CRDHelper to include the status subresource, then this code
-    // needs to be modified to use replaceDomainStatusAsync.  Then, validate if onSuccess
-    // should update info.
+                  @Override
+                  public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+                    info.setLastWrittenStatus(written);
+                    info.setWrittenStatusSequence(sequence);
+                    publishStatus(info, written, sequence);
+                    return doNext(packet);
+                  }
+                }),
+        packet);
+    return na;
+  }
+
+  // Subscribers are told of a status only once the write has been accepted
+  private static void publishStatus(DomainPresenceInfo info, DomainStatus status, long sequence) {
+    DomainStatusListeners.getInstance()
+        .statusChanged(info.getNamespace(), info.getDomainUID(), status, sequence);
+  }
+
+  // The modification flag is internal to the operator and is not part of the resource
+  private static JsonObject toJsonObject(DomainStatus status) {
+    JsonObject jsonObject =
+        Json.createReader(new StringReader(JSON_CONVERTER.serialize(status))).readObject();
+    return Json.createObjectBuilder(jsonObject).remove("modified").build();
+  }
+
+  private static NextAction doDomainReplace(
+      Domain dom,
+      DomainPresenceInfo info,
+      Packet packet,
+      long sequence,
+      Step conflictStep,
+      Step next) {
+    V1ObjectMeta meta = dom.getMetadata();
+    DomainStatus written = copy(dom.getStatus());
+    NextAction na = new NextAction();
 
     na.invoke(
         new CallBuilder()
@@ -402,9 +661,9 @@ public class DomainStatusUpdater {
 
                   @Override
                   public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
-                    // Update info only if using replaceDomain
-                    // Skip, if we switch to using replaceDomainStatus
                     info.setDomain(callResponse.getResult());
+                    info.setWrittenStatusSequence(sequence);
+                    publishStatus(info, written, sequence);
                     return doNext(packet);
                   }
                 }),
@@ -465,7 +724,7 @@ public class DomainStatusUpdater {
       LOGGER.info(MessageKeys.DOMAIN_STATUS, context.getDomain().getDomainUID(), status);
       LOGGER.exiting();
 
-      return status.isModified()
+      return isStatusChanged(context.getInfo(), status)
           ? doDomainUpdate(
               context.getDomain(), context.getInfo(), packet, FailedStep.this, getNext())
           : doNext(packet);
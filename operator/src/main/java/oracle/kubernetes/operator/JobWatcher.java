@@ -41,7 +41,7 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
 
   private final String namespace;
 
-  // Map of Pod name to Complete
+  // Map of Job namespace and name to Complete
   private final ConcurrentMap<String, Complete> completeCallbackRegistrations =
       new ConcurrentHashMap<>();
 
@@ -52,18 +52,24 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
    * @return a cached jobwatcher.
    */
   public static @Nonnull JobWatcher getOrCreateFor(Domain domain) {
-    return JOB_WATCHERS.computeIfAbsent(getNamespace(domain), n -> factory.createFor(domain));
+    return JOB_WATCHERS.computeIfAbsent(
+        factory.getWatchKey(domain), n -> factory.createFor(domain));
   }
 
   private static String getNamespace(Domain domain) {
     return domain.getMetadata().getNamespace();
   }
 
+  // A watch of all namespaces may see jobs with the same name in different namespaces
+  private static String getKey(V1ObjectMeta metadata) {
+    return metadata.getNamespace() + "/" + metadata.getName();
+  }
+
   /**
    * Creates a new JobWatcher and caches it by namespace.
    *
    * @param factory thread factory
-   * @param ns Namespace
+   * @param ns Namespace, or null to watch all namespaces
    * @param initialResourceVersion Initial resource version or empty string
    * @param tuning Tuning parameters for the watch, for example watch lifetime
    * @param isStopping Stop signal
@@ -114,9 +120,8 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
         V1Job job = item.object;
         Boolean isComplete = isComplete(job);
         Boolean isFailed = isFailed(job);
-        String jobName = job.getMetadata().getName();
         if (isComplete || isFailed) {
-          Complete complete = completeCallbackRegistrations.get(jobName);
+          Complete complete = completeCallbackRegistrations.get(getKey(job.getMetadata()));
           if (complete != null) {
             complete.isComplete(job);
           }
@@ -203,14 +208,14 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
                   if (!shouldProcessJob(job)) {
                     return;
                   }
-                  completeCallbackRegistrations.remove(job.getMetadata().getName());
+                  completeCallbackRegistrations.remove(getKey(job.getMetadata()));
                   if (didResume.compareAndSet(false, true)) {
                     LOGGER.fine("Job status: " + job.getStatus());
                     packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_JOB, job);
                     fiber.resume(packet);
                   }
                 };
-            completeCallbackRegistrations.put(metadata.getName(), complete);
+            completeCallbackRegistrations.put(getKey(metadata), complete);
 
             // Timing window -- job may have come ready before registration for callback
             fiber
@@ -239,7 +244,7 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
                                 if (result != null && isComplete(result) /*isReady(result)*/) {
                                   if (didResume.compareAndSet(false, true)) {
                                     completeCallbackRegistrations.remove(
-                                        metadata.getName(), complete);
+                                        getKey(metadata), complete);
                                     fiber.resume(packet);
                                   }
                                 }
@@ -267,8 +272,13 @@ public class JobWatcher extends Watcher<V1Job> implements WatchListener<V1Job> {
       this.isNamespaceStopping = isNamespaceStopping;
     }
 
+    String getWatchKey(Domain domain) {
+      return watchTuning.clusterWide ? "" : getNamespace(domain);
+    }
+
     JobWatcher createFor(Domain domain) {
-      String namespace = getNamespace(domain);
+      String namespace =
+          watchTuning.clusterWide ? WatchBuilder.ALL_NAMESPACES : getNamespace(domain);
       return create(
           threadFactory,
           namespace,
@@ -4,7 +4,11 @@
 
 package oracle.kubernetes.operator;
 
+import io.kubernetes.client.models.V1ConfigMap;
+import io.kubernetes.client.models.V1Event;
 import io.kubernetes.client.models.V1EventList;
+import io.kubernetes.client.models.V1NamespaceList;
+import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1Pod;
 import io.kubernetes.client.models.V1PodList;
 import io.kubernetes.client.models.V1Service;
@@ -16,6 +20,7 @@ import java.io.OutputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
@@ -24,6 +29,7 @@ import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.Semaphore;
@@ -31,8 +37,14 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import javax.annotation.Nonnull;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
+import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.calls.CircuitBreaker;
+import oracle.kubernetes.operator.calls.RateLimiter;
 import oracle.kubernetes.operator.helpers.CRDHelper;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.CallBuilderFactory;
@@ -42,21 +54,28 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.HealthCheckHelper;
 import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.ResourceCache;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.rest.DomainEvents;
 import oracle.kubernetes.operator.rest.RestConfigImpl;
 import oracle.kubernetes.operator.rest.RestServer;
+import oracle.kubernetes.operator.rest.ReviewCache;
+import oracle.kubernetes.operator.rest.ScaleRequests;
 import oracle.kubernetes.operator.steps.ConfigMapAfterStep;
+import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Container;
 import oracle.kubernetes.operator.work.ContainerResolver;
 import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.EngineExecutor;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.FiberScheduler;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -75,7 +94,15 @@ public class Main {
   private static final Container container = new Container();
 
   private static class WrappedThreadFactory implements ThreadFactory {
-    private final ThreadFactory delegate = ThreadFactorySingleton.getInstance();
+    private final ThreadFactory delegate;
+
+    WrappedThreadFactory() {
+      this(ThreadFactorySingleton.getInstance());
+    }
+
+    WrappedThreadFactory(ThreadFactory delegate) {
+      this.delegate = delegate;
+    }
 
     @Override
     public Thread newThread(@Nonnull Runnable r) {
@@ -88,8 +115,16 @@ public class Main {
   }
 
   private static final ThreadFactory threadFactory = new WrappedThreadFactory();
+  private static ThreadFactory watchThreadFactory = threadFactory;
+  private static final EngineExecutor engineExecutor = new EngineExecutor("operator");
   private static final ScheduledExecutorService wrappedExecutorService =
-      Engine.wrappedExecutorService("operator", container);
+      Engine.wrappedExecutorService(engineExecutor, container);
+
+  // Events are written to REST clients on their own threads, so that slow clients cannot hold
+  // the threads which run fibers.
+  private static final int EVENT_SENDER_THREADS = 2;
+  private static final ScheduledExecutorService eventExecutorService =
+      Executors.newScheduledThreadPool(EVENT_SENDER_THREADS, threadFactory);
 
   private static final TuningParameters tuningAndConfig;
 
@@ -104,12 +139,92 @@ public class Main {
 
       TuningParameters.initializeInstance(wrappedExecutorService, "/operator/config");
       tuningAndConfig = TuningParameters.getInstance();
+      configureEngine();
+      configureCalls();
+      configureRest();
+      configureWatches();
     } catch (IOException e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
       throw new RuntimeException(e);
     }
   }
 
+  private static void configureEngine() {
+    TuningParameters.EngineTuning engineTuning = tuningAndConfig.getEngineTuning();
+    engineExecutor.configure(
+        engineTuning.engineThreadCount,
+        engineTuning.engineTimerThreadCount,
+        getWorkerMode(engineTuning));
+    if (engine != null) {
+      configureFiberScheduler(engine, engineTuning.engineFiberConcurrency);
+    }
+  }
+
+  private static void configureCalls() {
+    TuningParameters.CallBuilderTuning callBuilderTuning = tuningAndConfig.getCallBuilderTuning();
+    RateLimiter.getInstance()
+        .configure(callBuilderTuning.callRateLimitQps, callBuilderTuning.callRateLimitBurst);
+    CircuitBreaker.getInstance()
+        .configure(
+            callBuilderTuning.callCircuitBreakerThreshold,
+            callBuilderTuning.callCircuitBreakerOpenSeconds);
+  }
+
+  private static void configureRest() {
+    TuningParameters.RestTuning restTuning = tuningAndConfig.getRestTuning();
+    ReviewCache.getInstance()
+        .configure(
+            restTuning.authCacheTtlSeconds,
+            restTuning.authCacheNegativeTtlSeconds,
+            restTuning.authCacheMaxEntries);
+    ScaleRequests.getInstance().configure(restTuning.scaleCoalesceMillis, restTuning.scaleMaxWins);
+    DomainEvents.getInstance()
+        .configure(restTuning.eventBufferSize, restTuning.eventHeartbeatSeconds);
+  }
+
+  private static Engine createEngine() {
+    Engine engine = new Engine(wrappedExecutorService);
+    configureFiberScheduler(engine, tuningAndConfig.getEngineTuning().engineFiberConcurrency);
+    return engine;
+  }
+
+  private static void configureFiberScheduler(Engine engine, int concurrency) {
+    FiberScheduler scheduler = engine.getScheduler();
+    if (concurrency <= 0) {
+      engine.setScheduler(null);
+    } else if (scheduler == null) {
+      engine.setScheduler(new FiberScheduler(wrappedExecutorService, concurrency));
+    } else {
+      scheduler.setConcurrency(concurrency);
+    }
+  }
+
+  private static void configureWatches() {
+    WatchTuning watchTuning = tuningAndConfig.getWatchTuning();
+    watchClusterWide = watchTuning.clusterWide;
+    if (watchTuning.dispatchQueueSize > 0) {
+      Watcher.setDispatcher(
+          new WatchDispatcher(wrappedExecutorService, watchTuning.dispatchQueueSize));
+    }
+    if (watchTuning.virtualThreads) {
+      ThreadFactory virtualThreadFactory = EngineExecutor.createVirtualThreadFactory("watch-");
+      if (virtualThreadFactory != null) {
+        watchThreadFactory = new WrappedThreadFactory(virtualThreadFactory);
+      } else {
+        LOGGER.info(MessageKeys.WATCH_VIRTUAL_THREADS_UNAVAILABLE);
+      }
+    }
+  }
+
+  private static EngineExecutor.WorkerMode getWorkerMode(TuningParameters.EngineTuning tuning) {
+    if (tuning.engineVirtualThreads) {
+      return EngineExecutor.WorkerMode.VIRTUAL;
+    }
+    return tuning.engineWorkStealing
+        ? EngineExecutor.WorkerMode.WORK_STEALING
+        : EngineExecutor.WorkerMode.FIXED;
+  }
+
   private static final CallBuilderFactory callBuilderFactory = new CallBuilderFactory();
 
   static {
@@ -127,7 +242,7 @@ public class Main {
                 callBuilderFactory));
   }
 
-  private static Engine engine = new Engine(wrappedExecutorService);
+  private static Engine engine = createEngine();
 
   private static final Map<String, AtomicBoolean> isNamespaceStarted = new ConcurrentHashMap<>();
   private static final Map<String, AtomicBoolean> isNamespaceStopping = new ConcurrentHashMap<>();
@@ -138,6 +253,17 @@ public class Main {
   private static final Map<String, ServiceWatcher> serviceWatchers = new ConcurrentHashMap<>();
   private static final Map<String, PodWatcher> podWatchers = new ConcurrentHashMap<>();
 
+  // In cluster-wide watch mode, the single watcher of each kind is held under this key as well as
+  // under each namespace that it serves.
+  private static final String CLUSTER_WATCH_KEY = "";
+  private static final AtomicBoolean isClusterWatchStopping = new AtomicBoolean(false);
+  private static boolean watchClusterWide;
+
+  // In cluster-wide watch mode, the resource version from which the shared watchers start. It is
+  // read before any namespace is listed, so that no namespace can have changes which precede it.
+  private static final AtomicReference<String> clusterWatchResourceVersion =
+      new AtomicReference<>();
+
   private static final String operatorNamespace = computeOperatorNamespace();
   private static final AtomicReference<DateTime> lastFullRecheck =
       new AtomicReference<>(DateTime.now());
@@ -194,7 +320,7 @@ public class Main {
 
     LOGGER.info(MessageKeys.OP_CONFIG_NAMESPACE, operatorNamespace);
     JobWatcher.defineFactory(
-        threadFactory, tuningAndConfig.getWatchTuning(), Main::isNamespaceStopping);
+        watchThreadFactory, tuningAndConfig.getWatchTuning(), Main::isWatchStopping);
 
     Collection<String> targetNamespaces = getTargetNamespaces();
     LOGGER.info(MessageKeys.OP_CONFIG_TARGET_NAMESPACES, StringUtils.join(targetNamespaces, ", "));
@@ -248,6 +374,10 @@ public class Main {
 
     @Override
     public NextAction apply(Packet packet) {
+      if (watchClusterWide && clusterWatchResourceVersion.get() == null) {
+        return doNext(readClusterWatchResourceVersion(this), packet);
+      }
+
       // check for any existing resources and add the watches on them
       // this would happen when the Domain was running BEFORE the Operator starts up
       Collection<StepAndPacket> startDetails = new ArrayList<>();
@@ -262,6 +392,32 @@ public class Main {
     }
   }
 
+  static Step createStartNamespacesStep(Collection<String> targetNamespaces) {
+    return new StartNamespacesStep(targetNamespaces);
+  }
+
+  // Any list made at the start of cluster-wide watching reads the current resource version. The
+  // namespaces are listed only because the operator may always list them.
+  private static Step readClusterWatchResourceVersion(Step next) {
+    return new CallBuilder().listNamespaceAsync(new ClusterWatchResourceVersionStep(next));
+  }
+
+  private static class ClusterWatchResourceVersionStep extends ResponseStep<V1NamespaceList> {
+    ClusterWatchResourceVersionStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1NamespaceList> callResponse) {
+      clusterWatchResourceVersion.compareAndSet(null, getResourceVersion(callResponse.getResult()));
+      return doNext(packet);
+    }
+
+    private String getResourceVersion(V1NamespaceList result) {
+      return result != null ? result.getMetadata().getResourceVersion() : "";
+    }
+  }
+
   private static class StartNamespaceBeforeStep extends Step {
     private final String ns;
 
@@ -273,6 +429,7 @@ public class Main {
     public NextAction apply(Packet packet) {
       AtomicBoolean a = isNamespaceStarted.computeIfAbsent(ns, (key) -> new AtomicBoolean(false));
       if (!a.getAndSet(true)) {
+        ResourceCache.startNamespace(ns);
         try {
           HealthCheckHelper.performSecurityChecks(version, operatorNamespace, ns);
         } catch (Throwable e) {
@@ -293,6 +450,7 @@ public class Main {
         stopping.set(true);
       }
       isNamespaceStarted.remove(ns);
+      ResourceCache.clearNamespace(ns);
     }
   }
 
@@ -300,6 +458,19 @@ public class Main {
     return isNamespaceStopping.computeIfAbsent(ns, (key) -> new AtomicBoolean(false));
   }
 
+  private static AtomicBoolean isWatchStopping(String watchNamespace) {
+    return watchNamespace == WatchBuilder.ALL_NAMESPACES
+        ? isClusterWatchStopping
+        : isNamespaceStopping(watchNamespace);
+  }
+
+  private static boolean isWatchedNamespace(String ns) {
+    return Optional.ofNullable(ns)
+        .map(isNamespaceStopping::get)
+        .map(stopping -> !stopping.get())
+        .orElse(false);
+  }
+
   private static void runSteps(Step firstStep) {
     runSteps(firstStep, null);
   }
@@ -315,6 +486,10 @@ public class Main {
 
   private static Runnable recheckDomains() {
     return () -> {
+      configureEngine();
+      configureCalls();
+      configureRest();
+
       Collection<String> targetNamespaces = getTargetNamespaces();
 
       // Check for removed namespaces
@@ -327,6 +502,14 @@ public class Main {
       DateTime now = DateTime.now();
       if (lastFullRecheck.get().plusSeconds(recheckInterval).isBefore(now)) {
         lastFullRecheck.set(now);
+        LOGGER.fine(MessageKeys.ENGINE_METRICS, "operator", engineExecutor.getMetrics());
+        Optional.ofNullable(engine.getScheduler())
+            .ifPresent(
+                scheduler ->
+                    LOGGER.fine(
+                        MessageKeys.FIBER_SCHEDULER_METRICS, "operator", scheduler.getMetrics()));
+        LOGGER.fine(MessageKeys.CIRCUIT_BREAKER_METRICS, CircuitBreaker.getInstance().getMetrics());
+        LOGGER.fine(MessageKeys.REVIEW_CACHE_METRICS, ReviewCache.getInstance().getMetrics());
       } else {
         namespacesToStart = new TreeSet<>(targetNamespaces);
         namespacesToStart.removeAll(isNamespaceStarted.keySet());
@@ -382,12 +565,8 @@ public class Main {
   }
 
   private static ConfigMapAfterStep createConfigMapStep(String ns) {
-    return new ConfigMapAfterStep(
-        ns,
-        configMapWatchers,
-        tuningAndConfig.getWatchTuning(),
-        isNamespaceStopping(ns),
-        processor::dispatchConfigMapWatch);
+    isNamespaceStopping(ns); // registers the namespace as managed, even if its watches are shared
+    return new ConfigMapAfterStep(ns, configMapWatchers, Main::createConfigMapWatcher);
   }
 
   // -----------------------------------------------------------------------------
@@ -423,6 +602,10 @@ public class Main {
 
   private static void startRestServer(String principal, Collection<String> targetNamespaces)
       throws Exception {
+    ScaleRequests.getInstance().setEngine(engine);
+    DomainEvents.getInstance().setExecutor(eventExecutorService);
+    DomainStatusListeners.getInstance().add(DomainEvents.getInstance());
+    DomainStatusListeners.getInstance().add(ScaleRequests.getInstance());
     RestServer.create(new RestConfigImpl(principal, targetNamespaces));
     RestServer.getInstance().start(container);
   }
@@ -456,47 +639,140 @@ public class Main {
     }
 
     isNamespaceStopping.forEach((key, value) -> value.set(true));
+    isClusterWatchStopping.set(true);
+  }
+
+  /**
+   * Returns the watcher to use for a namespace. Normally, this is a new watcher for just that
+   * namespace, which starts from the resource version of its list. In cluster-wide watch mode, it
+   * is a single watcher for all namespaces, created when first needed, which starts from the
+   * resource version read before any namespace was listed, and whose events are passed on only for
+   * the namespaces being managed.
+   */
+  private static <W> W getWatcher(
+      Map<String, W> watchers,
+      String ns,
+      String initialResourceVersion,
+      BiFunction<String, String, W> create) {
+    if (!watchClusterWide) {
+      return create.apply(ns, initialResourceVersion);
+    }
+    return watchers.computeIfAbsent(
+        CLUSTER_WATCH_KEY,
+        k ->
+            create.apply(
+                WatchBuilder.ALL_NAMESPACES,
+                Optional.ofNullable(clusterWatchResourceVersion.get())
+                    .filter(rv -> !rv.isEmpty())
+                    .orElse(initialResourceVersion)));
+  }
+
+  private static <T> WatchListener<T> forWatchedNamespaces(
+      String watchNamespace, Function<T, V1ObjectMeta> getMetadata, WatchListener<T> listener) {
+    if (watchNamespace != WatchBuilder.ALL_NAMESPACES) {
+      return listener;
+    }
+    return response -> {
+      if (response.object == null
+          || isWatchedNamespace(getMetadata.apply(response.object).getNamespace())) {
+        listener.receivedResponse(response);
+      }
+    };
+  }
+
+  private static ConfigMapWatcher createConfigMapWatcher(String ns, String initialResourceVersion) {
+    return getWatcher(
+        configMapWatchers,
+        ns,
+        initialResourceVersion,
+        (watchNs, watchResourceVersion) ->
+            ConfigMapWatcher.create(
+                watchThreadFactory,
+                watchNs,
+                watchResourceVersion,
+                tuningAndConfig.getWatchTuning(),
+                forWatchedNamespaces(
+                    watchNs, V1ConfigMap::getMetadata, processor::dispatchConfigMapWatch),
+                isWatchStopping(watchNs)));
   }
 
   private static EventWatcher createEventWatcher(String ns, String initialResourceVersion) {
-    return EventWatcher.create(
-        threadFactory,
+    return getWatcher(
+        eventWatchers,
         ns,
-        READINESS_PROBE_FAILURE_EVENT_FILTER,
         initialResourceVersion,
-        tuningAndConfig.getWatchTuning(),
-        processor::dispatchEventWatch,
-        isNamespaceStopping(ns));
+        (watchNs, watchResourceVersion) ->
+            EventWatcher.create(
+                watchThreadFactory,
+                watchNs,
+                READINESS_PROBE_FAILURE_EVENT_FILTER,
+                watchResourceVersion,
+                tuningAndConfig.getWatchTuning(),
+                forWatchedNamespaces(watchNs, V1Event::getMetadata, processor::dispatchEventWatch),
+                isWatchStopping(watchNs)));
   }
 
   private static PodWatcher createPodWatcher(String ns, String initialResourceVersion) {
-    return PodWatcher.create(
-        threadFactory,
+    return getWatcher(
+        podWatchers,
         ns,
         initialResourceVersion,
-        tuningAndConfig.getWatchTuning(),
-        processor::dispatchPodWatch,
-        isNamespaceStopping(ns));
+        (watchNs, watchResourceVersion) ->
+            PodWatcher.create(
+                watchThreadFactory,
+                watchNs,
+                watchResourceVersion,
+                tuningAndConfig.getWatchTuning(),
+                forWatchedNamespaces(
+                    watchNs,
+                    V1Pod::getMetadata,
+                    response -> {
+                      ResourceCache.PODS.receivedResponse(response);
+                      processor.dispatchPodWatch(response);
+                    }),
+                isWatchStopping(watchNs)));
   }
 
   private static ServiceWatcher createServiceWatcher(String ns, String initialResourceVersion) {
-    return ServiceWatcher.create(
-        threadFactory,
+    return getWatcher(
+        serviceWatchers,
         ns,
         initialResourceVersion,
-        tuningAndConfig.getWatchTuning(),
-        processor::dispatchServiceWatch,
-        isNamespaceStopping(ns));
+        (watchNs, watchResourceVersion) ->
+            ServiceWatcher.create(
+                watchThreadFactory,
+                watchNs,
+                watchResourceVersion,
+                tuningAndConfig.getWatchTuning(),
+                forWatchedNamespaces(
+                    watchNs,
+                    V1Service::getMetadata,
+                    response -> {
+                      ResourceCache.SERVICES.receivedResponse(response);
+                      processor.dispatchServiceWatch(response);
+                    }),
+                isWatchStopping(watchNs)));
   }
 
   private static DomainWatcher createDomainWatcher(String ns, String initialResourceVersion) {
-    return DomainWatcher.create(
-        threadFactory,
+    return getWatcher(
+        domainWatchers,
         ns,
         initialResourceVersion,
-        tuningAndConfig.getWatchTuning(),
-        processor::dispatchDomainWatch,
-        isNamespaceStopping(ns));
+        (watchNs, watchResourceVersion) ->
+            DomainWatcher.create(
+                watchThreadFactory,
+                watchNs,
+                watchResourceVersion,
+                tuningAndConfig.getWatchTuning(),
+                forWatchedNamespaces(
+                    watchNs,
+                    Domain::getMetadata,
+                    response -> {
+                      ResourceCache.DOMAINS.receivedResponse(response);
+                      processor.dispatchDomainWatch(response);
+                    }),
+                isWatchStopping(watchNs)));
   }
 
   private static String computeOperatorNamespace() {
@@ -533,6 +809,12 @@ public class Main {
       DomainProcessor dp = x != null ? x : processor;
 
       Set<String> domainUIDs = new HashSet<>();
+      ResourceCache.DOMAINS.seed(
+          ns,
+          Optional.ofNullable(callResponse.getResult())
+              .map(DomainList::getItems)
+              .orElse(Collections.emptyList()),
+          getResourceVersion(callResponse.getResult()));
       if (callResponse.getResult() != null) {
         for (Domain dom : callResponse.getResult().getItems()) {
           String domainUID = dom.getDomainUID();
@@ -595,6 +877,10 @@ public class Main {
       @SuppressWarnings("unchecked")
       Map<String, DomainPresenceInfo> dpis = (Map<String, DomainPresenceInfo>) packet.get(DPI_MAP);
 
+      ResourceCache.SERVICES.seed(
+          ns,
+          Optional.ofNullable(result).map(V1ServiceList::getItems).orElse(Collections.emptyList()),
+          getInitialResourceVersion(result));
       if (result != null) {
         for (V1Service service : result.getItems()) {
           String domainUID = ServiceHelper.getServiceDomainUID(service);
@@ -668,6 +954,10 @@ public class Main {
       @SuppressWarnings("unchecked")
       Map<String, DomainPresenceInfo> dpis = (Map<String, DomainPresenceInfo>) packet.get(DPI_MAP);
 
+      ResourceCache.PODS.seed(
+          ns,
+          Optional.ofNullable(result).map(V1PodList::getItems).orElse(Collections.emptyList()),
+          getInitialResourceVersion(result));
       if (result != null) {
         for (V1Pod pod : result.getItems()) {
           String domainUID = PodHelper.getPodDomainUID(pod);
@@ -39,67 +39,72 @@ public class PodWatcher extends Watcher<V1Pod>
   private final String ns;
   private final WatchListener<V1Pod> listener;
 
-  // Map of Pod name to callback
+  // Map of Pod namespace and name to callback
   private final Map<String, Collection<Runnable>> readyCallbackRegistrations = new HashMap<>();
   private final Map<String, Collection<Runnable>> deletedCallbackRegistrations = new HashMap<>();
 
-  private void registerOnReady(String podName, Runnable onReady) {
+  private void registerOnReady(String podKey, Runnable onReady) {
     synchronized (readyCallbackRegistrations) {
-      Collection<Runnable> col = readyCallbackRegistrations.get(podName);
+      Collection<Runnable> col = readyCallbackRegistrations.get(podKey);
       if (col == null) {
         col = new ArrayList<>();
-        readyCallbackRegistrations.put(podName, col);
+        readyCallbackRegistrations.put(podKey, col);
       }
       col.add(onReady);
     }
   }
 
-  private Collection<Runnable> retrieveOnReady(String podName) {
+  private Collection<Runnable> retrieveOnReady(String podKey) {
     synchronized (readyCallbackRegistrations) {
-      return readyCallbackRegistrations.remove(podName);
+      return readyCallbackRegistrations.remove(podKey);
     }
   }
 
-  private void unregisterOnReady(String podName, Runnable onReady) {
+  private void unregisterOnReady(String podKey, Runnable onReady) {
     synchronized (readyCallbackRegistrations) {
-      Collection<Runnable> col = readyCallbackRegistrations.get(podName);
+      Collection<Runnable> col = readyCallbackRegistrations.get(podKey);
       if (col != null) {
         col.remove(onReady);
       }
     }
   }
 
-  private void registerOnDelete(String podName, Runnable onReady) {
+  private void registerOnDelete(String podKey, Runnable onReady) {
     synchronized (deletedCallbackRegistrations) {
-      Collection<Runnable> col = deletedCallbackRegistrations.get(podName);
+      Collection<Runnable> col = deletedCallbackRegistrations.get(podKey);
       if (col == null) {
         col = new ArrayList<>();
-        deletedCallbackRegistrations.put(podName, col);
+        deletedCallbackRegistrations.put(podKey, col);
       }
       col.add(onReady);
     }
   }
 
-  private Collection<Runnable> retrieveOnDelete(String podName) {
+  private Collection<Runnable> retrieveOnDelete(String podKey) {
     synchronized (deletedCallbackRegistrations) {
-      return deletedCallbackRegistrations.remove(podName);
+      return deletedCallbackRegistrations.remove(podKey);
     }
   }
 
-  private void unregisterOnDelete(String podName, Runnable onReady) {
+  private void unregisterOnDelete(String podKey, Runnable onReady) {
     synchronized (deletedCallbackRegistrations) {
-      Collection<Runnable> col = deletedCallbackRegistrations.get(podName);
+      Collection<Runnable> col = deletedCallbackRegistrations.get(podKey);
       if (col != null) {
         col.remove(onReady);
       }
     }
   }
 
+  // A watch of all namespaces may see pods with the same name in different namespaces
+  private static String getKey(V1ObjectMeta metadata) {
+    return metadata.getNamespace() + "/" + metadata.getName();
+  }
+
   /**
    * Factory for PodWatcher.
    *
    * @param factory thread factory
-   * @param ns Namespace
+   * @param ns Namespace, or null to watch all namespaces
    * @param initialResourceVersion Initial resource version or empty string
    * @param tuning Watch tuning parameters
    * @param listener Callback for watch events
@@ -144,15 +149,13 @@ public class PodWatcher extends Watcher<V1Pod>
 
     V1Pod pod;
     Boolean isReady;
-    String podName;
     switch (item.type) {
       case "ADDED":
       case "MODIFIED":
         pod = item.object;
         isReady = !PodHelper.isDeleting(pod) && PodHelper.isReady(pod);
-        podName = pod.getMetadata().getName();
         if (isReady) {
-          Collection<Runnable> col = retrieveOnReady(podName);
+          Collection<Runnable> col = retrieveOnReady(getKey(pod.getMetadata()));
           if (col != null) {
             for (Runnable ready : col) {
               ready.run();
@@ -162,8 +165,7 @@ public class PodWatcher extends Watcher<V1Pod>
         break;
       case "DELETED":
         pod = item.object;
-        podName = pod.getMetadata().getName();
-        Collection<Runnable> col = retrieveOnDelete(podName);
+        Collection<Runnable> col = retrieveOnDelete(getKey(pod.getMetadata()));
         if (col != null) {
           for (Runnable delete : col) {
             delete.run();
@@ -300,12 +302,12 @@ public class PodWatcher extends Watcher<V1Pod>
 
     @Override
     protected void register(V1ObjectMeta metadata, Runnable callback) {
-      registerOnReady(metadata.getName(), callback);
+      registerOnReady(getKey(metadata), callback);
     }
 
     @Override
     protected void unregister(V1ObjectMeta metadata, Runnable callback) {
-      unregisterOnReady(metadata.getName(), callback);
+      unregisterOnReady(getKey(metadata), callback);
     }
   }
 
@@ -321,12 +323,12 @@ public class PodWatcher extends Watcher<V1Pod>
 
     @Override
     protected void register(V1ObjectMeta metadata, Runnable callback) {
-      registerOnDelete(metadata.getName(), callback);
+      registerOnDelete(getKey(metadata), callback);
     }
 
     @Override
     protected void unregister(V1ObjectMeta metadata, Runnable callback) {
-      unregisterOnDelete(metadata.getName(), callback);
+      unregisterOnDelete(getKey(metadata), callback);
     }
   }
 }
@@ -31,6 +31,7 @@ public interface ProcessingConstants {
   public static final String DOMAIN_INTROSPECTOR_JOB = "domainIntrospectorJob";
   public static final String DOMAIN_INTROSPECTOR_LOG_RESULT = "domainIntrospectorLogResult";
   public static final String SIT_CONFIG_MAP = "sitConfigMap";
+  public static final String INTROSPECTION_HASH = "introspectionHash";
 
   public static final String REMAINING_SERVERS_HEALTH_TO_READ = "serverHealthRead";
 }
@@ -18,6 +18,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
@@ -46,6 +47,12 @@ public class ServerStatusReader {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static KubernetesExecFactory EXEC_FACTORY = new KubernetesExecFactoryImpl();
   private static Function<Step, Step> STEP_FACTORY = ReadHealthStep::createReadHealthStep;
+  private static Function<Step, Step> DOMAIN_STEP_FACTORY =
+      ReadHealthStep::createReadDomainHealthStep;
+
+  // the number of readiness probe periods for which a state reported by a probe is considered
+  // current
+  private static final int READINESS_PROBE_PERIODS_CURRENT = 2;
 
   private ServerStatusReader() {}
 
@@ -72,15 +79,47 @@ public class ServerStatusReader {
       AtomicInteger remainingServerHealthToRead = new AtomicInteger();
       packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, remainingServerHealthToRead);
 
+      long numServerPods = info.getServerPods().count();
+      if (numServerPods == 0) {
+        return doNext(packet);
+      } else {
+        remainingServerHealthToRead.set((int) numServerPods);
+        return doNext(
+            DOMAIN_STEP_FACTORY.apply(new ServerStatusForkStep(info, timeoutSeconds, getNext())),
+            packet);
+      }
+    }
+  }
+
+  /**
+   * Reads the state and health of each server pod whose health was not already recorded by the
+   * domain-wide read from the administration server.
+   */
+  private static class ServerStatusForkStep extends Step {
+    private final DomainPresenceInfo info;
+    private final long timeoutSeconds;
+
+    ServerStatusForkStep(DomainPresenceInfo info, long timeoutSeconds, Step next) {
+      super(next);
+      this.info = info;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      @SuppressWarnings("unchecked")
+      Map<String, ServerHealth> serverHealthMap =
+          (Map<String, ServerHealth>) packet.get(SERVER_HEALTH_MAP);
+
       Collection<StepAndPacket> startDetails =
           info.getServerPods()
+              .filter(pod -> !serverHealthMap.containsKey(PodHelper.getPodServerName(pod)))
               .map(pod -> createStatusReaderStep(packet, pod))
               .collect(Collectors.toList());
 
       if (startDetails.isEmpty()) {
         return doNext(packet);
       } else {
-        remainingServerHealthToRead.set(startDetails.size());
         return doForkJoin(getNext(), packet, startDetails);
       }
     }
@@ -147,6 +186,13 @@ public class ServerStatusReader {
         return doNext(packet);
       }
 
+      // A readiness probe reports the state of a server that is not ready on each probe period;
+      // while those reports are current, there is no need to exec into the pod to read the state.
+      if (isCurrentReadinessProbeStatus(lastKnownStatus)) {
+        serverStateMap.put(serverName, lastKnownStatus.getStatus());
+        return doNext(packet);
+      }
+
       // Even though we don't need input data for this call, the API server is
       // returning 400 Bad Request any time we set these to false.  There is likely some bug in the
       // client
@@ -198,6 +244,20 @@ public class ServerStatusReader {
           });
     }
 
+    private boolean isCurrentReadinessProbeStatus(LastKnownStatus lastKnownStatus) {
+      if (lastKnownStatus == null || !lastKnownStatus.isReportedByReadinessProbe()) {
+        return false;
+      }
+
+      int probePeriodSeconds =
+          TuningParameters.getInstance().getPodTuning().readinessProbePeriodSeconds;
+      return DateTime.now()
+          .isBefore(
+              lastKnownStatus
+                  .getTime()
+                  .plusSeconds(READINESS_PROBE_PERIODS_CURRENT * probePeriodSeconds));
+    }
+
     private String chooseStateOrLastKnownServerStatus(
         LastKnownStatus lastKnownStatus, String state) {
       if (state != null) {
@@ -31,6 +31,10 @@ public interface TuningParameters extends Map<String, String> {
     public final int unchangedCountToDelayStatusRecheck;
     public final long initialShortDelay;
     public final long eventualLongDelay;
+    public final int makeRightDelayMillis;
+    public final int makeRightMaxWaitMillis;
+    public final int statusWriteDelayMillis;
+    public final int statusWriteMaxWaitMillis;
 
     public MainTuning(
         int domainPresenceFailureRetrySeconds,
@@ -40,7 +44,11 @@ public interface TuningParameters extends Map<String, String> {
         int statusUpdateTimeoutSeconds,
         int unchangedCountToDelayStatusRecheck,
         long initialShortDelay,
-        long eventualLongDelay) {
+        long eventualLongDelay,
+        int makeRightDelayMillis,
+        int makeRightMaxWaitMillis,
+        int statusWriteDelayMillis,
+        int statusWriteMaxWaitMillis) {
       this.domainPresenceFailureRetrySeconds = domainPresenceFailureRetrySeconds;
       this.domainPresenceFailureRetryMaxCount = domainPresenceFailureRetryMaxCount;
       this.domainPresenceRecheckIntervalSeconds = domainPresenceRecheckIntervalSeconds;
@@ -49,6 +57,10 @@ public interface TuningParameters extends Map<String, String> {
       this.unchangedCountToDelayStatusRecheck = unchangedCountToDelayStatusRecheck;
       this.initialShortDelay = initialShortDelay;
       this.eventualLongDelay = eventualLongDelay;
+      this.makeRightDelayMillis = makeRightDelayMillis;
+      this.makeRightMaxWaitMillis = makeRightMaxWaitMillis;
+      this.statusWriteDelayMillis = statusWriteDelayMillis;
+      this.statusWriteMaxWaitMillis = statusWriteMaxWaitMillis;
     }
 
     @Override
@@ -62,6 +74,10 @@ public interface TuningParameters extends Map<String, String> {
           .append("unchangedCountToDelayStatusRecheck", unchangedCountToDelayStatusRecheck)
           .append("initialShortDelay", initialShortDelay)
           .append("eventualLongDelay", eventualLongDelay)
+          .append("makeRightDelayMillis", makeRightDelayMillis)
+          .append("makeRightMaxWaitMillis", makeRightMaxWaitMillis)
+          .append("statusWriteDelayMillis", statusWriteDelayMillis)
+          .append("statusWriteMaxWaitMillis", statusWriteMaxWaitMillis)
           .toString();
     }
 
@@ -76,6 +92,10 @@ public interface TuningParameters extends Map<String, String> {
           .append(unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay)
           .append(eventualLongDelay)
+          .append(makeRightDelayMillis)
+          .append(makeRightMaxWaitMillis)
+          .append(statusWriteDelayMillis)
+          .append(statusWriteMaxWaitMillis)
           .toHashCode();
     }
 
@@ -97,6 +117,10 @@ public interface TuningParameters extends Map<String, String> {
           .append(unchangedCountToDelayStatusRecheck, mt.unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay, mt.initialShortDelay)
           .append(eventualLongDelay, mt.eventualLongDelay)
+          .append(makeRightDelayMillis, mt.makeRightDelayMillis)
+          .append(makeRightMaxWaitMillis, mt.makeRightMaxWaitMillis)
+          .append(statusWriteDelayMillis, mt.statusWriteDelayMillis)
+          .append(statusWriteMaxWaitMillis, mt.statusWriteMaxWaitMillis)
           .isEquals();
     }
   }
@@ -105,11 +129,26 @@ public interface TuningParameters extends Map<String, String> {
     public final int callRequestLimit;
     public final int callMaxRetryCount;
     public final int callTimeoutSeconds;
+    public final int callRateLimitQps;
+    public final int callRateLimitBurst;
+    public final int callCircuitBreakerThreshold;
+    public final int callCircuitBreakerOpenSeconds;
 
-    public CallBuilderTuning(int callRequestLimit, int callMaxRetryCount, int callTimeoutSeconds) {
+    public CallBuilderTuning(
+        int callRequestLimit,
+        int callMaxRetryCount,
+        int callTimeoutSeconds,
+        int callRateLimitQps,
+        int callRateLimitBurst,
+        int callCircuitBreakerThreshold,
+        int callCircuitBreakerOpenSeconds) {
       this.callRequestLimit = callRequestLimit;
       this.callMaxRetryCount = callMaxRetryCount;
       this.callTimeoutSeconds = callTimeoutSeconds;
+      this.callRateLimitQps = callRateLimitQps;
+      this.callRateLimitBurst = callRateLimitBurst;
+      this.callCircuitBreakerThreshold = callCircuitBreakerThreshold;
+      this.callCircuitBreakerOpenSeconds = callCircuitBreakerOpenSeconds;
     }
 
     @Override
@@ -118,6 +157,10 @@ public interface TuningParameters extends Map<String, String> {
           .append("callRequestLimit", callRequestLimit)
           .append("callMaxRetryCount", callMaxRetryCount)
           .append("callTimeoutSeconds", callTimeoutSeconds)
+          .append("callRateLimitQps", callRateLimitQps)
+          .append("callRateLimitBurst", callRateLimitBurst)
+          .append("callCircuitBreakerThreshold", callCircuitBreakerThreshold)
+          .append("callCircuitBreakerOpenSeconds", callCircuitBreakerOpenSeconds)
           .toString();
     }
 
@@ -127,6 +170,10 @@ public interface TuningParameters extends Map<String, String> {
           .append(callRequestLimit)
           .append(callMaxRetryCount)
           .append(callTimeoutSeconds)
+          .append(callRateLimitQps)
+          .append(callRateLimitBurst)
+          .append(callCircuitBreakerThreshold)
+          .append(callCircuitBreakerOpenSeconds)
           .toHashCode();
     }
 
@@ -143,6 +190,10 @@ public interface TuningParameters extends Map<String, String> {
           .append(callRequestLimit, cbt.callRequestLimit)
           .append(callMaxRetryCount, cbt.callMaxRetryCount)
           .append(callTimeoutSeconds, cbt.callTimeoutSeconds)
+          .append(callRateLimitQps, cbt.callRateLimitQps)
+          .append(callRateLimitBurst, cbt.callRateLimitBurst)
+          .append(callCircuitBreakerThreshold, cbt.callCircuitBreakerThreshold)
+          .append(callCircuitBreakerOpenSeconds, cbt.callCircuitBreakerOpenSeconds)
           .isEquals();
     }
   }
@@ -150,10 +201,21 @@ public interface TuningParameters extends Map<String, String> {
   public static class WatchTuning {
     public final int watchLifetime;
     public final int watchMinimumDelay;
+    public final boolean clusterWide;
+    public final boolean virtualThreads;
+    public final int dispatchQueueSize;
 
-    public WatchTuning(int watchLifetime, int watchMinimumDelay) {
+    public WatchTuning(
+        int watchLifetime,
+        int watchMinimumDelay,
+        boolean clusterWide,
+        boolean virtualThreads,
+        int dispatchQueueSize) {
       this.watchLifetime = watchLifetime;
       this.watchMinimumDelay = watchMinimumDelay;
+      this.clusterWide = clusterWide;
+      this.virtualThreads = virtualThreads;
+      this.dispatchQueueSize = dispatchQueueSize;
     }
 
     @Override
@@ -161,12 +223,21 @@ public interface TuningParameters extends Map<String, String> {
       return new ToStringBuilder(this)
           .append("watchLifetime", watchLifetime)
           .append("watchMinimumDelay", watchMinimumDelay)
+          .append("clusterWide", clusterWide)
+          .append("virtualThreads", virtualThreads)
+          .append("dispatchQueueSize", dispatchQueueSize)
           .toString();
     }
 
     @Override
     public int hashCode() {
-      return new HashCodeBuilder().append(watchLifetime).append(watchMinimumDelay).toHashCode();
+      return new HashCodeBuilder()
+          .append(watchLifetime)
+          .append(watchMinimumDelay)
+          .append(clusterWide)
+          .append(virtualThreads)
+          .append(dispatchQueueSize)
+          .toHashCode();
     }
 
     @Override
@@ -181,6 +252,9 @@ public interface TuningParameters extends Map<String, String> {
       return new EqualsBuilder()
           .append(watchLifetime, wt.watchLifetime)
           .append(watchMinimumDelay, wt.watchMinimumDelay)
+          .append(clusterWide, wt.clusterWide)
+          .append(virtualThreads, wt.virtualThreads)
+          .append(dispatchQueueSize, wt.dispatchQueueSize)
           .isEquals();
     }
   }
@@ -252,6 +326,140 @@ public interface TuningParameters extends Map<String, String> {
     }
   }
 
+  public static class EngineTuning {
+    public final int engineThreadCount;
+    public final int engineTimerThreadCount;
+    public final boolean engineWorkStealing;
+    public final boolean engineVirtualThreads;
+    public final int engineFiberConcurrency;
+
+    public EngineTuning(
+        int engineThreadCount,
+        int engineTimerThreadCount,
+        boolean engineWorkStealing,
+        boolean engineVirtualThreads,
+        int engineFiberConcurrency) {
+      this.engineThreadCount = engineThreadCount;
+      this.engineTimerThreadCount = engineTimerThreadCount;
+      this.engineWorkStealing = engineWorkStealing;
+      this.engineVirtualThreads = engineVirtualThreads;
+      this.engineFiberConcurrency = engineFiberConcurrency;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("engineThreadCount", engineThreadCount)
+          .append("engineTimerThreadCount", engineTimerThreadCount)
+          .append("engineWorkStealing", engineWorkStealing)
+          .append("engineVirtualThreads", engineVirtualThreads)
+          .append("engineFiberConcurrency", engineFiberConcurrency)
+          .toString();
+    }
+
+    @Override
+    public int hashCode() {
+      return new HashCodeBuilder()
+          .append(engineThreadCount)
+          .append(engineTimerThreadCount)
+          .append(engineWorkStealing)
+          .append(engineVirtualThreads)
+          .append(engineFiberConcurrency)
+          .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == null) {
+        return false;
+      }
+      if (!(o instanceof EngineTuning)) {
+        return false;
+      }
+      EngineTuning et = (EngineTuning) o;
+      return new EqualsBuilder()
+          .append(engineThreadCount, et.engineThreadCount)
+          .append(engineTimerThreadCount, et.engineTimerThreadCount)
+          .append(engineWorkStealing, et.engineWorkStealing)
+          .append(engineVirtualThreads, et.engineVirtualThreads)
+          .append(engineFiberConcurrency, et.engineFiberConcurrency)
+          .isEquals();
+    }
+  }
+
+  public static class RestTuning {
+    public final int authCacheTtlSeconds;
+    public final int authCacheNegativeTtlSeconds;
+    public final int authCacheMaxEntries;
+    public final int scaleCoalesceMillis;
+    public final boolean scaleMaxWins;
+    public final int eventBufferSize;
+    public final int eventHeartbeatSeconds;
+
+    public RestTuning(
+        int authCacheTtlSeconds,
+        int authCacheNegativeTtlSeconds,
+        int authCacheMaxEntries,
+        int scaleCoalesceMillis,
+        boolean scaleMaxWins,
+        int eventBufferSize,
+        int eventHeartbeatSeconds) {
+      this.authCacheTtlSeconds = authCacheTtlSeconds;
+      this.authCacheNegativeTtlSeconds = authCacheNegativeTtlSeconds;
+      this.authCacheMaxEntries = authCacheMaxEntries;
+      this.scaleCoalesceMillis = scaleCoalesceMillis;
+      this.scaleMaxWins = scaleMaxWins;
+      this.eventBufferSize = eventBufferSize;
+      this.eventHeartbeatSeconds = eventHeartbeatSeconds;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("authCacheTtlSeconds", authCacheTtlSeconds)
+          .append("authCacheNegativeTtlSeconds", authCacheNegativeTtlSeconds)
+          .append("authCacheMaxEntries", authCacheMaxEntries)
+          .append("scaleCoalesceMillis", scaleCoalesceMillis)
+          .append("scaleMaxWins", scaleMaxWins)
+          .append("eventBufferSize", eventBufferSize)
+          .append("eventHeartbeatSeconds", eventHeartbeatSeconds)
+          .toString();
+    }
+
+    @Override
+    public int hashCode() {
+      return new HashCodeBuilder()
+          .append(authCacheTtlSeconds)
+          .append(authCacheNegativeTtlSeconds)
+          .append(authCacheMaxEntries)
+          .append(scaleCoalesceMillis)
+          .append(scaleMaxWins)
+          .append(eventBufferSize)
+          .append(eventHeartbeatSeconds)
+          .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == null) {
+        return false;
+      }
+      if (!(o instanceof RestTuning)) {
+        return false;
+      }
+      RestTuning rt = (RestTuning) o;
+      return new EqualsBuilder()
+          .append(authCacheTtlSeconds, rt.authCacheTtlSeconds)
+          .append(authCacheNegativeTtlSeconds, rt.authCacheNegativeTtlSeconds)
+          .append(authCacheMaxEntries, rt.authCacheMaxEntries)
+          .append(scaleCoalesceMillis, rt.scaleCoalesceMillis)
+          .append(scaleMaxWins, rt.scaleMaxWins)
+          .append(eventBufferSize, rt.eventBufferSize)
+          .append(eventHeartbeatSeconds, rt.eventHeartbeatSeconds)
+          .isEquals();
+    }
+  }
+
   public MainTuning getMainTuning();
 
   public CallBuilderTuning getCallBuilderTuning();
@@ -259,4 +467,8 @@ public interface TuningParameters extends Map<String, String> {
   public WatchTuning getWatchTuning();
 
   public PodTuning getPodTuning();
+
+  public EngineTuning getEngineTuning();
+
+  public RestTuning getRestTuning();
 }
@@ -22,6 +22,8 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
   private CallBuilderTuning callBuilder = null;
   private WatchTuning watch = null;
   private PodTuning pod = null;
+  private EngineTuning engine = null;
+  private RestTuning rest = null;
 
   static synchronized TuningParameters initializeInstance(
       ScheduledExecutorService executorService, String mountPoint) throws IOException {
@@ -56,18 +58,29 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("statusUpdateTimeoutSeconds", 10),
             (int) readTuningParameter("statusUpdateUnchangedCountToDelayStatusRecheck", 10),
             readTuningParameter("statusUpdateInitialShortDelay", 3),
-            readTuningParameter("statusUpdateEventualLongDelay", 30));
+            readTuningParameter("statusUpdateEventualLongDelay", 30),
+            (int) readTuningParameter("makeRightDelayMillis", 500),
+            (int) readTuningParameter("makeRightMaxWaitMillis", 5000),
+            (int) readTuningParameter("statusWriteDelayMillis", 200),
+            (int) readTuningParameter("statusWriteMaxWaitMillis", 1000));
 
     CallBuilderTuning callBuilder =
         new CallBuilderTuning(
             (int) readTuningParameter("callRequestLimit", 500),
             (int) readTuningParameter("callMaxRetryCount", 5),
-            (int) readTuningParameter("callTimeoutSeconds", 10));
+            (int) readTuningParameter("callTimeoutSeconds", 10),
+            (int) readTuningParameter("callRateLimitQps", 50),
+            (int) readTuningParameter("callRateLimitBurst", 100),
+            (int) readTuningParameter("callCircuitBreakerThreshold", 5),
+            (int) readTuningParameter("callCircuitBreakerOpenSeconds", 10));
 
     WatchTuning watch =
         new WatchTuning(
             (int) readTuningParameter("watchLifetime", 300),
-            (int) readTuningParameter("watchMinimumDelay", 5));
+            (int) readTuningParameter("watchMinimumDelay", 5),
+            readBooleanTuningParameter("watchClusterWide", false),
+            readBooleanTuningParameter("watchVirtualThreads", false),
+            (int) readTuningParameter("watchDispatchQueueSize", 1000));
 
     PodTuning pod =
         new PodTuning(
@@ -78,18 +91,45 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("livenessProbeTimeoutSeconds", 5),
             (int) readTuningParameter("livenessProbePeriodSeconds", 45));
 
+    int engineThreadCount = (int) readTuningParameter("engineThreadCount", 10);
+    boolean engineVirtualThreads = readBooleanTuningParameter("engineVirtualThreads", false);
+    // virtual threads are not a scarce resource, so fibers are only limited when asked to be
+    EngineTuning engine =
+        new EngineTuning(
+            engineThreadCount,
+            (int) readTuningParameter("engineTimerThreadCount", 2),
+            readBooleanTuningParameter("engineWorkStealing", false),
+            engineVirtualThreads,
+            (int)
+                readTuningParameter(
+                    "engineFiberConcurrency", engineVirtualThreads ? 0 : engineThreadCount));
+
+    RestTuning rest =
+        new RestTuning(
+            (int) readTuningParameter("restAuthCacheTtlSeconds", 30),
+            (int) readTuningParameter("restAuthCacheNegativeTtlSeconds", 5),
+            (int) readTuningParameter("restAuthCacheMaxEntries", 1000),
+            (int) readTuningParameter("restScaleCoalesceMillis", 200),
+            readBooleanTuningParameter("restScaleMaxWins", false),
+            (int) readTuningParameter("restEventBufferSize", 100),
+            (int) readTuningParameter("restEventHeartbeatSeconds", 30));
+
     lock.writeLock().lock();
     try {
       if (!main.equals(this.main)
           || !callBuilder.equals(this.callBuilder)
           || !watch.equals(this.watch)
-          || !pod.equals(this.pod)) {
+          || !pod.equals(this.pod)
+          || !engine.equals(this.engine)
+          || !rest.equals(this.rest)) {
         LOGGER.info(MessageKeys.TUNING_PARAMETERS);
       }
       this.main = main;
       this.callBuilder = callBuilder;
       this.watch = watch;
       this.pod = pod;
+      this.engine = engine;
+      this.rest = rest;
     } finally {
       lock.writeLock().unlock();
     }
@@ -134,4 +174,24 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
       lock.readLock().unlock();
     }
   }
+
+  @Override
+  public EngineTuning getEngineTuning() {
+    lock.readLock().lock();
+    try {
+      return engine;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public RestTuning getRestTuning() {
+    lock.readLock().lock();
+    try {
+      return rest;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
 }
@@ -0,0 +1,97 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import io.kubernetes.client.util.Watch;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.watcher.WatchListener;
+
+/**
+ * Delivers watch events to their listeners on a shared executor, so that the threads reading the
+ * watches do no other work. Each watch has its own queue, whose events are delivered in order; all
+ * of the queues together hold a bounded number of events. When the bound is reached, the watch
+ * threads block until the listeners catch up, so that the watches stop reading from the server.
+ */
+class WatchDispatcher {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  static final int MAX_EVENTS_PER_TASK = 100;
+
+  private final Executor executor;
+  private final Semaphore capacity;
+
+  /**
+   * Creates a dispatcher.
+   *
+   * @param executor the executor on which listeners are to be called
+   * @param queueSize the maximum number of events awaiting their listeners
+   */
+  WatchDispatcher(Executor executor, int queueSize) {
+    this.executor = executor;
+    this.capacity = new Semaphore(queueSize);
+  }
+
+  /**
+   * Returns a listener which queues events for delivery to the specified listener.
+   *
+   * @param listener the listener to receive events
+   * @param <T> the type of resource watched
+   * @return a queueing listener
+   */
+  <T> WatchListener<T> createQueue(WatchListener<T> listener) {
+    return new WatchQueue<>(listener);
+  }
+
+  int getAvailableCapacity() {
+    return capacity.availablePermits();
+  }
+
+  private class WatchQueue<T> implements WatchListener<T> {
+    private final WatchListener<T> listener;
+    private final Queue<Watch.Response<T>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    WatchQueue(WatchListener<T> listener) {
+      this.listener = listener;
+    }
+
+    @Override
+    public void receivedResponse(Watch.Response<T> response) {
+      capacity.acquireUninterruptibly();
+      pending.add(response);
+      schedule();
+    }
+
+    private void schedule() {
+      if (scheduled.compareAndSet(false, true)) {
+        executor.execute(this::deliver);
+      }
+    }
+
+    private void deliver() {
+      Watch.Response<T> response;
+      for (int i = 0; i < MAX_EVENTS_PER_TASK && (response = pending.poll()) != null; i++) {
+        try {
+          listener.receivedResponse(response);
+        } catch (Throwable t) {
+          LOGGER.warning(MessageKeys.EXCEPTION, t);
+        } finally {
+          capacity.release();
+        }
+      }
+
+      scheduled.set(false);
+      if (!pending.isEmpty()) {
+        schedule();
+      }
+    }
+  }
+}
@@ -31,6 +31,7 @@ abstract class Watcher<T> {
   static final String HAS_NEXT_EXCEPTION_MESSAGE = "IO Exception during hasNext method.";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final long IGNORED_RESOURCE_VERSION = 0;
+  private static WatchDispatcher dispatcher;
 
   private final AtomicBoolean isDraining = new AtomicBoolean(false);
   private final WatchTuning tuning;
@@ -39,6 +40,7 @@ abstract class Watcher<T> {
   private WatchListener<T> listener;
   private Thread thread = null;
   private long lastInitialize = 0;
+  private boolean unparsedErrorSeen;
 
   /**
    * Constructs a watcher without specifying a listener. Needed when the listener is the watch
@@ -69,7 +71,20 @@ abstract class Watcher<T> {
       AtomicBoolean stopping,
       WatchListener<T> listener) {
     this(resourceVersion, tuning, stopping);
-    this.listener = listener;
+    this.listener = dispatched(listener);
+  }
+
+  /**
+   * Sets the dispatcher which will deliver the events of watchers created from now on.
+   *
+   * @param watchDispatcher the dispatcher, or null to call listeners on the watch threads
+   */
+  static void setDispatcher(WatchDispatcher watchDispatcher) {
+    dispatcher = watchDispatcher;
+  }
+
+  private static <T> WatchListener<T> dispatched(WatchListener<T> listener) {
+    return dispatcher == null ? listener : dispatcher.createQueue(listener);
   }
 
   /** Waits for this watcher's thread to exit. For unit testing only. */
@@ -89,7 +104,16 @@ abstract class Watcher<T> {
    * @param listener the instance which should receive watch events
    */
   void setListener(WatchListener<T> listener) {
-    this.listener = listener;
+    this.listener = dispatched(listener);
+  }
+
+  /**
+   * Returns the resource version from which this watcher will next watch.
+   *
+   * @return the resource version
+   */
+  long getResourceVersion() {
+    return resourceVersion;
   }
 
   /** Kick off the watcher processing that runs in a separate thread. */
@@ -155,6 +179,8 @@ abstract class Watcher<T> {
 
         if (isError(item)) {
           handleErrorResponse(item);
+        } else if (isBookmark(item)) {
+          handleBookmark(item);
         } else {
           handleRegularUpdate(item);
         }
@@ -186,8 +212,19 @@ abstract class Watcher<T> {
     return item.type.equalsIgnoreCase("ERROR");
   }
 
+  private boolean isBookmark(Watch.Response<T> item) {
+    return item.type.equalsIgnoreCase("BOOKMARK");
+  }
+
+  // A bookmark reports the resource version the watch has reached, but no change to a resource
+  private void handleBookmark(Watch.Response<T> item) {
+    unparsedErrorSeen = false;
+    trackResourceVersion(item.type, item.object);
+  }
+
   private void handleRegularUpdate(Watch.Response<T> item) {
     LOGGER.fine(MessageKeys.WATCH_EVENT, item.type, item.object);
+    unparsedErrorSeen = false;
     trackResourceVersion(item.type, item.object);
     if (listener != null) {
       listener.receivedResponse(item);
@@ -199,8 +236,12 @@ abstract class Watcher<T> {
     if (status == null) {
       // The kubernetes client parsing logic can mistakenly parse a status as a type
       // with similar fields, such as V1ConfigMap. In this case, the actual status is
-      // not available to our layer, so respond defensively by resetting resource version.
-      resourceVersion = 0l;
+      // not available to our layer. Retry once from the last resource version seen, and
+      // only if that fails the same way, respond defensively by resetting resource version.
+      if (unparsedErrorSeen) {
+        resourceVersion = 0L;
+      }
+      unparsedErrorSeen = true;
     } else if (status.getCode() == HTTP_GONE) {
       resourceVersion = computeNextResourceVersionFromMessage(status);
     }
@@ -31,6 +31,9 @@ public class WatchBuilder {
   /** Ignored for watches. */
   private static final String START_LIST = null;
 
+  /** The namespace value which requests a single watch across all namespaces. */
+  public static final String ALL_NAMESPACES = null;
+
   private static final int ADDITIONAL_TIMEOUT_FOR_SOCKET = 60;
 
   private static WatchFactory FACTORY = new WatchFactoryImpl();
@@ -70,7 +73,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track service calls.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or {@link #ALL_NAMESPACES}
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -95,8 +98,21 @@ public class WatchBuilder {
       client.getHttpClient().setReadTimeout(getSocketTimeout(callParams), TimeUnit.SECONDS);
 
       try {
-        return new CoreV1Api(client)
-            .listNamespacedServiceCall(
+        CoreV1Api api = new CoreV1Api(client);
+        return namespace == ALL_NAMESPACES
+            ? api.listServiceForAllNamespacesCall(
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getIncludeUninitialized(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getPretty(),
+                callParams.getResourceVersion(),
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null,
+                null)
+            : api.listNamespacedServiceCall(
                 namespace,
                 callParams.getIncludeUninitialized(),
                 callParams.getPretty(),
@@ -118,7 +134,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track pods.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or {@link #ALL_NAMESPACES}
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -140,8 +156,21 @@ public class WatchBuilder {
       client.getHttpClient().setReadTimeout(getSocketTimeout(callParams), TimeUnit.SECONDS);
 
       try {
-        return new CoreV1Api(client)
-            .listNamespacedPodCall(
+        CoreV1Api api = new CoreV1Api(client);
+        return namespace == ALL_NAMESPACES
+            ? api.listPodForAllNamespacesCall(
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getIncludeUninitialized(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getPretty(),
+                callParams.getResourceVersion(),
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null,
+                null)
+            : api.listNamespacedPodCall(
                 namespace,
                 callParams.getIncludeUninitialized(),
                 callParams.getPretty(),
@@ -163,7 +192,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track jobs.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or {@link #ALL_NAMESPACES}
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -185,8 +214,21 @@ public class WatchBuilder {
       client.getHttpClient().setReadTimeout(getSocketTimeout(callParams), TimeUnit.SECONDS);
 
       try {
-        return new BatchV1Api(client)
-            .listNamespacedJobCall(
+        BatchV1Api api = new BatchV1Api(client);
+        return namespace == ALL_NAMESPACES
+            ? api.listJobForAllNamespacesCall(
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getIncludeUninitialized(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getPretty(),
+                callParams.getResourceVersion(),
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null,
+                null)
+            : api.listNamespacedJobCall(
                 namespace,
                 callParams.getIncludeUninitialized(),
                 callParams.getPretty(),
@@ -208,7 +250,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track events.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or {@link #ALL_NAMESPACES}
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -230,8 +272,21 @@ public class WatchBuilder {
       client.getHttpClient().setReadTimeout(getSocketTimeout(callParams), TimeUnit.SECONDS);
 
       try {
-        return new CoreV1Api(client)
-            .listNamespacedEventCall(
+        CoreV1Api api = new CoreV1Api(client);
+        return namespace == ALL_NAMESPACES
+            ? api.listEventForAllNamespacesCall(
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getIncludeUninitialized(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getPretty(),
+                callParams.getResourceVersion(),
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null,
+                null)
+            : api.listNamespacedEventCall(
                 namespace,
                 callParams.getIncludeUninitialized(),
                 callParams.getPretty(),
@@ -253,7 +308,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track changes to weblogic domains in one namespaces.
    *
-   * @param namespace the namespace in which to track domains
+   * @param namespace the namespace in which to track domains, or {@link #ALL_NAMESPACES}
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -275,8 +330,21 @@ public class WatchBuilder {
       client.getHttpClient().setReadTimeout(getSocketTimeout(callParams), TimeUnit.SECONDS);
 
       try {
-        return new WeblogicApi(client)
-            .listNamespacedDomainCall(
+        WeblogicApi api = new WeblogicApi(client);
+        return namespace == ALL_NAMESPACES
+            ? api.listDomainForAllNamespacesCall(
+                callParams.getIncludeUninitialized(),
+                callParams.getPretty(),
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getResourceVersion(),
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null,
+                null)
+            : api.listNamespacedDomainCall(
                 namespace,
                 callParams.getIncludeUninitialized(),
                 callParams.getPretty(),
@@ -298,7 +366,7 @@ public class WatchBuilder {
   /**
    * Creates a web hook object to track config map calls.
    *
-   * @param namespace the namespace
+   * @param namespace the namespace, or {@link #ALL_NAMESPACES}
    * @return the active web hook
    * @throws ApiException if there is an error on the call that sets up the web hook.
    */
@@ -323,8 +391,21 @@ public class WatchBuilder {
       client.getHttpClient().setReadTimeout(getSocketTimeout(callParams), TimeUnit.SECONDS);
 
       try {
-        return new CoreV1Api(client)
-            .listNamespacedConfigMapCall(
+        CoreV1Api api = new CoreV1Api(client);
+        return namespace == ALL_NAMESPACES
+            ? api.listConfigMapForAllNamespacesCall(
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getIncludeUninitialized(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getPretty(),
+                callParams.getResourceVersion(),
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null,
+                null)
+            : api.listNamespacedConfigMapCall(
                 namespace,
                 callParams.getIncludeUninitialized(),
                 callParams.getPretty(),
@@ -4,12 +4,15 @@
 
 package oracle.kubernetes.operator.calls;
 
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+
 import io.kubernetes.client.ApiCallback;
 import io.kubernetes.client.ApiClient;
 import io.kubernetes.client.ApiException;
 import io.kubernetes.client.models.V1ListMeta;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -23,6 +26,7 @@ import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.FiberScheduler;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -33,6 +37,7 @@ import oracle.kubernetes.operator.work.Step;
  */
 public class AsyncRequestStep<T> extends Step {
   public static final String RESPONSE_COMPONENT_NAME = "response";
+  private static final String RATE_LIMIT_PERMIT = "rateLimitPermit";
   private static final Random R = new Random();
   private static final int HIGH = 200;
   private static final int LOW = 10;
@@ -48,6 +53,7 @@ public class AsyncRequestStep<T> extends Step {
   private final String fieldSelector;
   private final String labelSelector;
   private final String resourceVersion;
+  private final String circuitKey;
 
   /**
    * Construct async step.
@@ -81,6 +87,7 @@ public class AsyncRequestStep<T> extends Step {
     this.fieldSelector = fieldSelector;
     this.labelSelector = labelSelector;
     this.resourceVersion = resourceVersion;
+    this.circuitKey = CircuitBreaker.getKey(requestParams.apiGroup, requestParams.call);
     next.setPrevious(this);
   }
 
@@ -91,6 +98,26 @@ public class AsyncRequestStep<T> extends Step {
 
   @Override
   public NextAction apply(Packet packet) {
+    // a step which has waited for the rate limiter was checked before it waited
+    boolean permitted = packet.remove(RATE_LIMIT_PERMIT) != null;
+    RateLimiter.Lane lane = getLane(packet);
+    if (!permitted && !CircuitBreaker.getInstance().allowRequest(circuitKey)) {
+      return doFailFast(packet);
+    } else if (!permitted && !RateLimiter.getInstance().tryAcquire(lane)) {
+      // wait for the limiter, then apply this step again with the permit it granted
+      return doSuspend(
+          this,
+          (fiber) ->
+              RateLimiter.getInstance()
+                  .await(
+                      lane,
+                      fiber.owner.getExecutor(),
+                      () -> {
+                        packet.put(RATE_LIMIT_PERMIT, Boolean.TRUE);
+                        fiber.resume(packet);
+                      }));
+    }
+
     // clear out earlier results
     String cont = null;
     RetryStrategy retry = null;
@@ -107,8 +134,7 @@ public class AsyncRequestStep<T> extends Step {
     }
     String c = (cont != null) ? cont : "";
     if (retry == null) {
-      retry = new DefaultRetryStrategy();
-      retry.setRetryStep(this);
+      retry = createRetryStrategy();
     }
     RetryStrategy r = retry;
 
@@ -132,6 +158,7 @@ public class AsyncRequestStep<T> extends Step {
                 public void onFailure(
                     ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
                   if (didResume.compareAndSet(false, true)) {
+                    recordOutcome(statusCode, responseHeaders);
                     if (statusCode != CallBuilder.NOT_FOUND) {
                       LOGGER.info(
                           MessageKeys.ASYNC_FAILURE,
@@ -164,6 +191,7 @@ public class AsyncRequestStep<T> extends Step {
                 public void onSuccess(
                     T result, int statusCode, Map<String, List<String>> responseHeaders) {
                   if (didResume.compareAndSet(false, true)) {
+                    CircuitBreaker.getInstance().recordSuccess(circuitKey);
                     LOGGER.fine(MessageKeys.ASYNC_SUCCESS, result, statusCode, responseHeaders);
 
                     helper.recycle(client);
@@ -188,6 +216,7 @@ public class AsyncRequestStep<T> extends Step {
                 .schedule(
                     () -> {
                       if (didResume.compareAndSet(false, true)) {
+                        CircuitBreaker.getInstance().recordFailure(circuitKey, 0);
                         try {
                           cc.cancel();
                         } finally {
@@ -234,6 +263,63 @@ public class AsyncRequestStep<T> extends Step {
         });
   }
 
+  // Responds to the call with a failure, as though the API server were unavailable, so that the
+  // retry strategy waits until the circuit may be probed.
+  private NextAction doFailFast(Packet packet) {
+    RetryStrategy retry =
+        Optional.ofNullable(packet.getComponents().get(RESPONSE_COMPONENT_NAME))
+            .map(component -> component.getSPI(RetryStrategy.class))
+            .orElseGet(this::createRetryStrategy);
+    LOGGER.fine(MessageKeys.CIRCUIT_BREAKER_FAIL_FAST, requestParams.call, circuitKey);
+    packet
+        .getComponents()
+        .put(
+            RESPONSE_COMPONENT_NAME,
+            Component.createFor(
+                RetryStrategy.class,
+                retry,
+                new CallResponse<Void>(
+                    null,
+                    new ApiException(HTTP_UNAVAILABLE, "Circuit open for " + circuitKey),
+                    HTTP_UNAVAILABLE,
+                    Collections.emptyMap())));
+    return doNext(packet);
+  }
+
+  private RetryStrategy createRetryStrategy() {
+    RetryStrategy retry = new DefaultRetryStrategy();
+    retry.setRetryStep(this);
+    return retry;
+  }
+
+  private void recordOutcome(int statusCode, Map<String, List<String>> responseHeaders) {
+    if (isServerUnavailable(statusCode)) {
+      CircuitBreaker.getInstance()
+          .recordFailure(circuitKey, CircuitBreaker.getRetryAfterMillis(responseHeaders));
+    } else {
+      CircuitBreaker.getInstance().recordSuccess(circuitKey);
+    }
+  }
+
+  // a request which got no response, as when the connection failed, tells of the server as well
+  private static boolean isServerUnavailable(int statusCode) {
+    return statusCode == 0 /* no response */
+        || statusCode == 429 /* StatusTooManyRequests */
+        || statusCode >= 500 /* server errors */;
+  }
+
+  // Status updates yield to all other requests; changes made to bring domains to their desired
+  // state take precedence over reads.
+  private RateLimiter.Lane getLane(Packet packet) {
+    FiberScheduler.Assignment assignment = packet.getValue(FiberScheduler.ASSIGNMENT);
+    if (assignment != null
+        && assignment.getPriorityClass() == FiberScheduler.PriorityClass.STATUS) {
+      return RateLimiter.Lane.STATUS;
+    } else {
+      return RateLimiter.getLane(requestParams.call);
+    }
+  }
+
   private static String accessContinue(Object result) {
     String cont = "";
     if (result != null) {
@@ -278,8 +364,13 @@ public class AsyncRequestStep<T> extends Step {
           || statusCode == 503 /* StatusServiceUnavailable */
           || statusCode == 504 /* StatusServerTimeout */) {
 
-        // exponential back-off
-        long waitTime = Math.min((2 << ++retryCount) * SCALE, MAX) + (R.nextInt(HIGH - LOW) + LOW);
+        // exponential back-off, but no sooner than the server asks or the circuit permits
+        long waitTime =
+            Math.max(
+                Math.min((2 << ++retryCount) * SCALE, MAX) + (R.nextInt(HIGH - LOW) + LOW),
+                Math.max(
+                    CircuitBreaker.getRetryAfterMillis(responseHeaders),
+                    CircuitBreaker.getInstance().getMillisUntilProbe(circuitKey)));
 
         if (statusCode == 0 || statusCode == 504 /* StatusServerTimeout */) {
           // increase server timeout
@@ -287,7 +378,9 @@ public class AsyncRequestStep<T> extends Step {
         }
 
         NextAction na = new NextAction();
-        if (statusCode == 0 && retryCount <= maxRetryCount) {
+        if (statusCode == 0
+            && retryCount <= maxRetryCount
+            && CircuitBreaker.getInstance().getMillisUntilProbe(circuitKey) == 0) {
           na.invoke(Optional.ofNullable(conflictStep).orElse(retryStep), packet);
         } else {
           LOGGER.info(MessageKeys.ASYNC_RETRY, String.valueOf(waitTime));
@@ -0,0 +1,249 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Tracks the health of the Kubernetes API server, separately for each API group and verb, as seen
+ * by all the calls made by the operator. After enough consecutive calls for a group and verb fail
+ * in a way that indicates that the server is overloaded or unavailable, the circuit for that group
+ * and verb opens: calls fail at once, without being sent, until the open period (or any longer
+ * period requested by the server with a Retry-After header) has passed. The next call is then sent
+ * as a probe; if it succeeds, the circuit closes, otherwise it opens again.
+ */
+public class CircuitBreaker {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final String RETRY_AFTER_HEADER = "Retry-After";
+
+  private static CircuitBreaker INSTANCE = new CircuitBreaker(System::nanoTime);
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final LongSupplier clock;
+  private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+  private volatile int failureThreshold;
+  private volatile int openSeconds;
+
+  CircuitBreaker(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  public static CircuitBreaker getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Sets the conditions under which circuits open.
+   *
+   * @param failureThreshold the number of consecutive failures which open a circuit, or 0 to keep
+   *     all circuits closed
+   * @param openSeconds the minimum time for which a circuit stays open
+   */
+  public void configure(int failureThreshold, int openSeconds) {
+    this.failureThreshold = failureThreshold;
+    this.openSeconds = openSeconds;
+  }
+
+  /**
+   * Returns the circuit key for a call: the API group of the resource and the verb, for example,
+   * "batch/create".
+   *
+   * @param apiGroup the API group of the resource on which the call acts
+   * @param call the name of the call, which starts with its verb
+   * @return the key
+   */
+  public static String getKey(String apiGroup, String call) {
+    int i = 0;
+    while (i < call.length() && Character.isLowerCase(call.charAt(i))) {
+      i++;
+    }
+    return apiGroup + "/" + call.substring(0, i);
+  }
+
+  /**
+   * Returns true if a call may be sent. While a circuit is open, no calls are permitted; once it is
+   * ready to be probed, a single call is permitted until its outcome is recorded.
+   *
+   * @param key the circuit key
+   * @return true if the call may be sent
+   */
+  public boolean allowRequest(String key) {
+    return failureThreshold <= 0 || getCircuit(key).allowRequest();
+  }
+
+  /**
+   * Records a response which shows that the API server is handling calls.
+   *
+   * @param key the circuit key
+   */
+  public void recordSuccess(String key) {
+    Optional.ofNullable(circuits.get(key)).ifPresent(Circuit::recordSuccess);
+  }
+
+  /**
+   * Records a failure which indicates that the API server is overloaded or unavailable.
+   *
+   * @param key the circuit key
+   * @param retryAfterMillis the minimum delay requested by the server, or 0 if none
+   */
+  public void recordFailure(String key, long retryAfterMillis) {
+    if (failureThreshold > 0) {
+      getCircuit(key).recordFailure(retryAfterMillis);
+    }
+  }
+
+  /**
+   * Returns the time remaining before a call for the specified circuit may be sent.
+   *
+   * @param key the circuit key
+   * @return the delay in milliseconds; 0 if the circuit is closed
+   */
+  public long getMillisUntilProbe(String key) {
+    return Optional.ofNullable(circuits.get(key)).map(Circuit::getMillisUntilProbe).orElse(0L);
+  }
+
+  /**
+   * Returns the state and trip count of each circuit used so far.
+   *
+   * @return metrics by circuit key
+   */
+  public Map<String, Metrics> getMetrics() {
+    Map<String, Metrics> metrics = new TreeMap<>();
+    circuits.forEach((key, circuit) -> metrics.put(key, circuit.getMetrics()));
+    return metrics;
+  }
+
+  /**
+   * Returns the delay requested in a Retry-After header, expressed in seconds.
+   *
+   * @param responseHeaders the response headers, or null
+   * @return the delay in milliseconds, or 0 if no valid header is present
+   */
+  public static long getRetryAfterMillis(Map<String, List<String>> responseHeaders) {
+    if (responseHeaders == null) {
+      return 0;
+    }
+    for (Map.Entry<String, List<String>> entry : responseHeaders.entrySet()) {
+      if (RETRY_AFTER_HEADER.equalsIgnoreCase(entry.getKey())
+          && entry.getValue() != null
+          && !entry.getValue().isEmpty()) {
+        try {
+          return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(entry.getValue().get(0))));
+        } catch (NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+    return 0;
+  }
+
+  private Circuit getCircuit(String key) {
+    return circuits.computeIfAbsent(key, Circuit::new);
+  }
+
+  private long nowMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(clock.getAsLong());
+  }
+
+  private class Circuit {
+    private final String key;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long probeAtMillis;
+    private long tripCount;
+
+    Circuit(String key) {
+      this.key = key;
+    }
+
+    // An open circuit permits one probe once the open period passes; if the probe's outcome is
+    // never recorded, another is permitted after a further open period.
+    synchronized boolean allowRequest() {
+      if (state == State.CLOSED) {
+        return true;
+      } else if (nowMillis() < probeAtMillis) {
+        return false;
+      }
+      state = State.HALF_OPEN;
+      probeAtMillis = nowMillis() + getOpenMillis(0);
+      return true;
+    }
+
+    synchronized void recordSuccess() {
+      consecutiveFailures = 0;
+      if (state != State.CLOSED) {
+        state = State.CLOSED;
+        LOGGER.info(MessageKeys.CIRCUIT_BREAKER_CLOSED, key);
+      }
+    }
+
+    synchronized void recordFailure(long retryAfterMillis) {
+      consecutiveFailures++;
+      if (state == State.OPEN) {
+        // a call sent before the circuit opened
+        probeAtMillis = Math.max(probeAtMillis, nowMillis() + retryAfterMillis);
+      } else if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+        open(getOpenMillis(retryAfterMillis));
+      }
+    }
+
+    private void open(long openMillis) {
+      tripCount++;
+      LOGGER.warning(MessageKeys.CIRCUIT_BREAKER_OPENED, key, consecutiveFailures, openMillis);
+      state = State.OPEN;
+      probeAtMillis = nowMillis() + openMillis;
+    }
+
+    private long getOpenMillis(long retryAfterMillis) {
+      return Math.max(TimeUnit.SECONDS.toMillis(openSeconds), retryAfterMillis);
+    }
+
+    synchronized long getMillisUntilProbe() {
+      return state == State.CLOSED ? 0 : Math.max(0, probeAtMillis - nowMillis());
+    }
+
+    synchronized Metrics getMetrics() {
+      return new Metrics(state, consecutiveFailures, tripCount);
+    }
+  }
+
+  /** Point-in-time view of one circuit. */
+  public static class Metrics {
+    public final State state;
+    public final int consecutiveFailures;
+    public final long tripCount;
+
+    Metrics(State state, int consecutiveFailures, long tripCount) {
+      this.state = state;
+      this.consecutiveFailures = consecutiveFailures;
+      this.tripCount = tripCount;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("state", state)
+          .append("consecutiveFailures", consecutiveFailures)
+          .append("tripCount", tripCount)
+          .toString();
+    }
+  }
+}
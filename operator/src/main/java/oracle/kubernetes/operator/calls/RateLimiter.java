@@ -0,0 +1,215 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A token bucket which limits the rate at which requests are sent to the Kubernetes API server.
+ * Requests which find the bucket empty wait in one of several lanes; when tokens become available,
+ * waiting requests in a more urgent lane are granted them before any in a less urgent lane, and
+ * those in the same lane are granted them in the order in which they arrived. A limiter with no
+ * rate configured grants every request immediately.
+ */
+public class RateLimiter {
+  private static RateLimiter INSTANCE = new RateLimiter(System::nanoTime);
+
+  /** Lanes, from the most urgent to the least. */
+  public enum Lane {
+    MUTATION,
+    READ,
+    STATUS
+  }
+
+  private final LongSupplier clock;
+  private final Map<Lane, Queue<Runnable>> waiting = new EnumMap<>(Lane.class);
+  private int qps;
+  private int burst;
+  private double tokens;
+  private long lastRefillNanos;
+  private boolean drainScheduled;
+
+  RateLimiter(LongSupplier clock) {
+    this.clock = clock;
+    for (Lane lane : Lane.values()) {
+      waiting.put(lane, new ArrayDeque<>());
+    }
+  }
+
+  public static RateLimiter getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Sets the sustained rate and burst size. A bucket whose burst size changes is refilled.
+   *
+   * @param qps the number of requests permitted per second, or 0 for no limit
+   * @param burst the number of requests which may be sent at once after a quiet period
+   */
+  public synchronized void configure(int qps, int burst) {
+    if (qps != this.qps || burst != this.burst) {
+      this.qps = qps;
+      this.burst = Math.max(1, burst);
+      this.tokens = this.burst;
+      this.lastRefillNanos = clock.getAsLong();
+    }
+  }
+
+  private boolean isUnlimited() {
+    return qps <= 0;
+  }
+
+  /**
+   * Returns the lane for a call which is not part of a status update.
+   *
+   * @param call the name of the call
+   * @return the mutation lane for calls which change resources, otherwise the read lane
+   */
+  public static Lane getLane(String call) {
+    if (call.startsWith("create")
+        || call.startsWith("delete")
+        || call.startsWith("replace")
+        || call.startsWith("patch")) {
+      return Lane.MUTATION;
+    }
+    return Lane.READ;
+  }
+
+  /**
+   * Takes a token for a request, if one is available and no request in the same or a more urgent
+   * lane is already waiting.
+   *
+   * @param lane the lane of the request
+   * @return true if the request may be sent now
+   */
+  public synchronized boolean tryAcquire(Lane lane) {
+    if (isUnlimited()) {
+      return true;
+    }
+    refill();
+    if (tokens < 1 || hasWaitingAtOrAbove(lane)) {
+      return false;
+    }
+    tokens--;
+    return true;
+  }
+
+  /**
+   * Blocks the calling thread until a token is available for a synchronous request. Requests
+   * already waiting in the same or a more urgent lane are served first.
+   *
+   * @param lane the lane of the request
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  public void acquire(Lane lane) throws InterruptedException {
+    while (!tryAcquire(lane)) {
+      TimeUnit.NANOSECONDS.sleep(getNanosUntilToken());
+    }
+  }
+
+  // A request blocked only by others waiting ahead of it checks again after one token's time
+  private synchronized long getNanosUntilToken() {
+    return isUnlimited() ? 1 : getNanosUntil(tokens < 1 ? 1 - tokens : 1);
+  }
+
+  private long getNanosUntil(double missingTokens) {
+    return Math.max(1, (long) (missingTokens * TimeUnit.SECONDS.toNanos(1) / qps));
+  }
+
+  /**
+   * Queues a request until a token is available for it.
+   *
+   * @param lane the lane of the request
+   * @param executor the executor with which to schedule the grant
+   * @param onPermit called, on a thread of the executor, once the request may be sent
+   */
+  public void await(Lane lane, ScheduledExecutorService executor, Runnable onPermit) {
+    synchronized (this) {
+      waiting.get(lane).add(onPermit);
+    }
+    drain(executor);
+  }
+
+  private void drain(ScheduledExecutorService executor) {
+    List<Runnable> granted = new ArrayList<>();
+    long delayNanos = 0;
+    synchronized (this) {
+      refill();
+      Runnable next;
+      while ((isUnlimited() || tokens >= 1) && (next = pollWaiting()) != null) {
+        granted.add(next);
+        tokens--;
+      }
+      if (!drainScheduled && getWaitingCount() > 0) {
+        drainScheduled = true;
+        delayNanos = getNanosUntil(1 - tokens);
+      }
+    }
+
+    if (delayNanos > 0) {
+      executor.schedule(
+          () -> {
+            synchronized (this) {
+              drainScheduled = false;
+            }
+            drain(executor);
+          },
+          delayNanos,
+          TimeUnit.NANOSECONDS);
+    }
+    for (Runnable onPermit : granted) {
+      executor.execute(onPermit);
+    }
+  }
+
+  private void refill() {
+    long now = clock.getAsLong();
+    if (!isUnlimited()) {
+      tokens = Math.min(burst, tokens + (now - lastRefillNanos) * qps / 1e9);
+    }
+    lastRefillNanos = now;
+  }
+
+  private boolean hasWaitingAtOrAbove(Lane lane) {
+    for (Lane l : Lane.values()) {
+      if (l.compareTo(lane) > 0) {
+        break;
+      } else if (!waiting.get(l).isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Runnable pollWaiting() {
+    for (Queue<Runnable> queue : waiting.values()) {
+      if (!queue.isEmpty()) {
+        return queue.poll();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the number of requests waiting for a token.
+   *
+   * @return the number of waiting requests
+   */
+  public synchronized int getWaitingCount() {
+    int count = 0;
+    for (Queue<Runnable> queue : waiting.values()) {
+      count += queue.size();
+    }
+    return count;
+  }
+}
@@ -7,25 +7,56 @@ package oracle.kubernetes.operator.calls;
 import oracle.kubernetes.operator.builders.CallParams;
 
 public final class RequestParams {
+  // The API groups of the resources on which calls act. "core" stands for the unnamed core group.
+  public static final String CORE_GROUP = "core";
+  public static final String DOMAIN_GROUP = "weblogic.oracle";
+  public static final String BATCH_GROUP = "batch";
+  public static final String APIEXTENSIONS_GROUP = "apiextensions.k8s.io";
+  public static final String AUTHENTICATION_GROUP = "authentication.k8s.io";
+  public static final String AUTHORIZATION_GROUP = "authorization.k8s.io";
+
   public final String call;
+  public final String apiGroup;
   public final String namespace;
   public final String name;
   public final Object body;
   private CallParams callParams;
 
-  public RequestParams(String call, String namespace, String name, Object body) {
+  /**
+   * Construct the parameters of a request.
+   *
+   * @param call the name of the call
+   * @param apiGroup the API group of the resource on which the call acts
+   * @param namespace the namespace of the resource, or null
+   * @param name the name of the resource, or null
+   * @param body the body of the request, or null
+   */
+  public RequestParams(String call, String apiGroup, String namespace, String name, Object body) {
     this.call = call;
+    this.apiGroup = apiGroup;
     this.namespace = namespace;
     this.name = name;
     this.body = body;
   }
 
+  /**
+   * Construct the parameters of a request.
+   *
+   * @param call the name of the call
+   * @param apiGroup the API group of the resource on which the call acts
+   * @param namespace the namespace of the resource, or null
+   * @param name the name of the resource, or null
+   * @param body the body of the request, or null
+   * @param callParams the parameters which qualify the call
+   */
   public RequestParams(
-      String call, String namespace, String name, Object body, CallParams callParams) {
-    this.call = call;
-    this.namespace = namespace;
-    this.name = name;
-    this.body = body;
+      String call,
+      String apiGroup,
+      String namespace,
+      String name,
+      Object body,
+      CallParams callParams) {
+    this(call, apiGroup, namespace, name, body);
     this.callParams = callParams;
   }
 
@@ -11,6 +11,7 @@ import io.kubernetes.client.util.Yaml;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import org.apache.commons.codec.digest.DigestUtils;
 
 /** Annotates pods, services with details about the Domain instance and checks these annotations. */
@@ -18,7 +19,11 @@ public class AnnotationHelper {
   private static final boolean DEBUG = false;
   static final String SHA256_ANNOTATION = "weblogic.sha256";
   private static final String HASHED_STRING = "hashedString";
-  private static Function<Object, String> HASH_FUNCTION = o -> DigestUtils.sha256Hex(Yaml.dump(o));
+  // Marks hashes computed from the content of a model, rather than from its YAML form
+  static final String HASH_PREFIX = "v2:";
+  private static Function<Object, String> HASH_FUNCTION = CanonicalHash::sha256Hex;
+  private static Function<Object, String> LEGACY_HASH_FUNCTION =
+      o -> DigestUtils.sha256Hex(Yaml.dump(o));
 
   /**
    * Marks metadata with annotations that let Prometheus know how to retrieve metrics from the
@@ -51,12 +56,14 @@ public class AnnotationHelper {
   }
 
   private static V1Pod addHash(V1Pod pod) {
-    pod.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, HASH_FUNCTION.apply(pod));
+    pod.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, HASH_PREFIX + HASH_FUNCTION.apply(pod));
     return pod;
   }
 
   private static V1Service addHash(V1Service service) {
-    service.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, HASH_FUNCTION.apply(service));
+    service
+        .getMetadata()
+        .putAnnotationsItem(SHA256_ANNOTATION, HASH_PREFIX + HASH_FUNCTION.apply(service));
     return service;
   }
 
@@ -68,6 +75,40 @@ public class AnnotationHelper {
     return getAnnotation(service.getMetadata(), AnnotationHelper::getSha256Annotation);
   }
 
+  /**
+   * Returns true if the hash recorded on an existing pod matches that of a model. A pod created by
+   * an earlier operator, which hashed the YAML form of the recipe, is instead compared with the
+   * recipe hashed in the same way, so that upgrading the operator does not replace it.
+   *
+   * @param model the pod model, with its hash
+   * @param current the existing pod
+   * @param recipe supplies a new copy of the recipe from which the model was created
+   * @return true if the pod matches the model
+   */
+  static boolean isHashMatch(V1Pod model, V1Pod current, Supplier<V1Pod> recipe) {
+    return isHashMatch(getHash(model), getHash(current), recipe);
+  }
+
+  /**
+   * Returns true if the hash recorded on an existing service matches that of a model. A service
+   * created by an earlier operator is compared with the recipe hashed as that operator did.
+   *
+   * @param model the service model, with its hash
+   * @param current the existing service
+   * @param recipe supplies a new copy of the recipe from which the model was created
+   * @return true if the service matches the model
+   */
+  static boolean isHashMatch(V1Service model, V1Service current, Supplier<V1Service> recipe) {
+    return isHashMatch(getHash(model), getHash(current), recipe);
+  }
+
+  private static boolean isHashMatch(String modelHash, String currentHash, Supplier<?> recipe) {
+    if (currentHash.isEmpty() || currentHash.startsWith(HASH_PREFIX)) {
+      return modelHash.equals(currentHash);
+    }
+    return LEGACY_HASH_FUNCTION.apply(recipe.get()).equals(currentHash);
+  }
+
   static String getDebugString(V1Pod pod) {
     return getAnnotation(pod.getMetadata(), AnnotationHelper::getDebugHashAnnotation);
   }
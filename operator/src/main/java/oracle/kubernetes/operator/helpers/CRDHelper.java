@@ -21,6 +21,7 @@ import io.kubernetes.client.models.V1beta1JSONSchemaProps;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 import oracle.kubernetes.json.SchemaGenerator;
@@ -111,10 +112,10 @@ public class CRDHelper {
                     new V1beta1CustomResourceSubresourceScale()
                         .specReplicasPath(".spec.replicas")
                         .statusReplicasPath(".status.replicas")));
-        // Remove status for now because seeing status not updated on some k8s environments
-        // Consider adding this only for K8s version 1.13+
-        // See the note in KubernetesVersion
-        // .status(new HashMap<String, Object>()));
+        // The status subresource does not work reliably before 1.13; see KubernetesVersion
+        if (version.isCRDSubresourcesStatusPatternSupported()) {
+          spec.getSubresources().setStatus(new HashMap<String, Object>());
+        }
       }
       return spec;
     }
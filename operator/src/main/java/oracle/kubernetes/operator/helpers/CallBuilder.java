@@ -4,6 +4,13 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import static oracle.kubernetes.operator.calls.RequestParams.APIEXTENSIONS_GROUP;
+import static oracle.kubernetes.operator.calls.RequestParams.AUTHENTICATION_GROUP;
+import static oracle.kubernetes.operator.calls.RequestParams.AUTHORIZATION_GROUP;
+import static oracle.kubernetes.operator.calls.RequestParams.BATCH_GROUP;
+import static oracle.kubernetes.operator.calls.RequestParams.CORE_GROUP;
+import static oracle.kubernetes.operator.calls.RequestParams.DOMAIN_GROUP;
+
 import com.squareup.okhttp.Call;
 import io.kubernetes.client.ApiCallback;
 import io.kubernetes.client.ApiClient;
@@ -19,6 +26,7 @@ import io.kubernetes.client.models.V1DeleteOptions;
 import io.kubernetes.client.models.V1EventList;
 import io.kubernetes.client.models.V1Job;
 import io.kubernetes.client.models.V1Namespace;
+import io.kubernetes.client.models.V1NamespaceList;
 import io.kubernetes.client.models.V1PersistentVolume;
 import io.kubernetes.client.models.V1PersistentVolumeClaim;
 import io.kubernetes.client.models.V1PersistentVolumeClaimList;
@@ -35,6 +43,7 @@ import io.kubernetes.client.models.V1SubjectAccessReview;
 import io.kubernetes.client.models.V1TokenReview;
 import io.kubernetes.client.models.V1beta1CustomResourceDefinition;
 import io.kubernetes.client.models.VersionInfo;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import javax.json.JsonPatch;
@@ -44,6 +53,7 @@ import oracle.kubernetes.operator.calls.AsyncRequestStep;
 import oracle.kubernetes.operator.calls.CallFactory;
 import oracle.kubernetes.operator.calls.CallWrapper;
 import oracle.kubernetes.operator.calls.CancellableCall;
+import oracle.kubernetes.operator.calls.RateLimiter;
 import oracle.kubernetes.operator.calls.RequestParams;
 import oracle.kubernetes.operator.calls.SynchronousCallDispatcher;
 import oracle.kubernetes.operator.calls.SynchronousCallFactory;
@@ -66,6 +76,12 @@ public class CallBuilder {
         public <T> T execute(
             SynchronousCallFactory<T> factory, RequestParams params, Pool<ApiClient> pool)
             throws ApiException {
+          try {
+            RateLimiter.getInstance().acquire(RateLimiter.getLane(params.call));
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(e);
+          }
           ApiClient client = pool.take();
           try {
             return factory.execute(client, params);
@@ -158,7 +174,7 @@ public class CallBuilder {
    * @throws ApiException API Exception
    */
   public VersionInfo readVersionCode() throws ApiException {
-    RequestParams requestParams = new RequestParams("getVersion", null, null, null);
+    RequestParams requestParams = new RequestParams("getVersion", CORE_GROUP, null, null, null);
     return executeSynchronousCall(
         requestParams, ((client, params) -> new VersionApi(client).getCode()));
   }
@@ -202,6 +218,38 @@ public class CallBuilder {
     }
   }
 
+  private com.squareup.okhttp.Call listNamespaceAsync(
+      ApiClient client, String cont, ApiCallback<V1NamespaceList> callback) throws ApiException {
+    return new CoreV1Api(client)
+        .listNamespaceAsync(
+            includeUninitialized,
+            pretty,
+            cont,
+            fieldSelector,
+            labelSelector,
+            limit,
+            resourceVersion,
+            timeoutSeconds,
+            watch,
+            callback);
+  }
+
+  private final CallFactory<V1NamespaceList> LIST_NAMESPACE =
+      (requestParams, usage, cont, callback) -> wrap(listNamespaceAsync(usage, cont, callback));
+
+  /**
+   * Asynchronous step for listing namespaces.
+   *
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step listNamespaceAsync(ResponseStep<V1NamespaceList> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("listNamespace", CORE_GROUP, null, null, null),
+        LIST_NAMESPACE);
+  }
+
   /* Domains */
 
   private SynchronousCallFactory<DomainList> LIST_DOMAIN_CALL =
@@ -227,7 +275,8 @@ public class CallBuilder {
    * @throws ApiException API exception
    */
   public DomainList listDomain(String namespace) throws ApiException {
-    RequestParams requestParams = new RequestParams("listDomain", namespace, null, null);
+    RequestParams requestParams =
+        new RequestParams("listDomain", DOMAIN_GROUP, namespace, null, null);
     return executeSynchronousCall(requestParams, LIST_DOMAIN_CALL);
   }
 
@@ -262,7 +311,9 @@ public class CallBuilder {
    */
   public Step listDomainAsync(String namespace, ResponseStep<DomainList> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("listDomain", namespace, null, null), LIST_DOMAIN);
+        responseStep,
+        new RequestParams("listDomain", DOMAIN_GROUP, namespace, null, null),
+        LIST_DOMAIN);
   }
 
   private com.squareup.okhttp.Call readDomainAsync(
@@ -286,7 +337,9 @@ public class CallBuilder {
    */
   public Step readDomainAsync(String name, String namespace, ResponseStep<Domain> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("readDomain", namespace, name, null), READ_DOMAIN);
+        responseStep,
+        new RequestParams("readDomain", DOMAIN_GROUP, namespace, name, null),
+        READ_DOMAIN);
   }
 
   private SynchronousCallFactory<Domain> REPLACE_DOMAIN_CALL =
@@ -309,7 +362,8 @@ public class CallBuilder {
    * @throws ApiException APIException
    */
   public Domain replaceDomain(String uid, String namespace, Domain body) throws ApiException {
-    RequestParams requestParams = new RequestParams("replaceDomain", namespace, uid, body);
+    RequestParams requestParams =
+        new RequestParams("replaceDomain", DOMAIN_GROUP, namespace, uid, body);
     return executeSynchronousCall(requestParams, REPLACE_DOMAIN_CALL);
   }
 
@@ -342,7 +396,9 @@ public class CallBuilder {
   public Step replaceDomainAsync(
       String name, String namespace, Domain body, ResponseStep<Domain> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("replaceDomain", namespace, name, body), REPLACE_DOMAIN);
+        responseStep,
+        new RequestParams("replaceDomain", DOMAIN_GROUP, namespace, name, body),
+        REPLACE_DOMAIN);
   }
 
   private SynchronousCallFactory<Domain> PATCH_DOMAIN_CALL =
@@ -362,7 +418,8 @@ public class CallBuilder {
    */
   public Domain patchDomain(String uid, String namespace, JsonPatch patchBody) throws ApiException {
     RequestParams requestParams =
-        new RequestParams("patchDomain", namespace, uid, PatchUtils.toKubernetesPatch(patchBody));
+        new RequestParams(
+            "patchDomain", DOMAIN_GROUP, namespace, uid, PatchUtils.toKubernetesPatch(patchBody));
     return executeSynchronousCall(requestParams, PATCH_DOMAIN_CALL);
   }
 
@@ -396,10 +453,50 @@ public class CallBuilder {
       String name, String namespace, JsonPatch patchBody, ResponseStep<Domain> responseStep) {
     return createRequestAsync(
         responseStep,
-        new RequestParams("patchDomain", namespace, name, PatchUtils.toKubernetesPatch(patchBody)),
+        new RequestParams(
+            "patchDomain", DOMAIN_GROUP, namespace, name, PatchUtils.toKubernetesPatch(patchBody)),
         PATCH_DOMAIN);
   }
 
+  private com.squareup.okhttp.Call patchDomainStatusAsync(
+      ApiClient client, String name, String namespace, Object patch, ApiCallback<Domain> callback)
+      throws ApiException {
+    return new WeblogicApi(client)
+        .patchNamespacedDomainStatusAsync(name, namespace, patch, pretty, null, callback);
+  }
+
+  private final CallFactory<Domain> PATCH_DOMAIN_STATUS =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchDomainStatusAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  requestParams.body,
+                  callback));
+
+  /**
+   * Asynchronous step for patching the status subresource of a domain.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param patchBody instructions on what to patch
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchDomainStatusAsync(
+      String name, String namespace, JsonPatch patchBody, ResponseStep<Domain> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams(
+            "patchDomainStatus",
+            DOMAIN_GROUP,
+            namespace,
+            name,
+            PatchUtils.toKubernetesPatch(patchBody)),
+        PATCH_DOMAIN_STATUS);
+  }
+
   private com.squareup.okhttp.Call replaceDomainStatusAsync(
       ApiClient client, String name, String namespace, Domain body, ApiCallback<Domain> callback)
       throws ApiException {
@@ -430,7 +527,7 @@ public class CallBuilder {
       String name, String namespace, Domain body, ResponseStep<Domain> responseStep) {
     return createRequestAsync(
         responseStep,
-        new RequestParams("replaceDomainStatus", namespace, name, body),
+        new RequestParams("replaceDomainStatus", DOMAIN_GROUP, namespace, name, body),
         REPLACE_DOMAIN_STATUS);
   }
 
@@ -457,7 +554,9 @@ public class CallBuilder {
   public Step readCustomResourceDefinitionAsync(
       String name, ResponseStep<V1beta1CustomResourceDefinition> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("readCRD", null, name, null), READ_CRD);
+        responseStep,
+        new RequestParams("readCRD", APIEXTENSIONS_GROUP, null, name, null),
+        READ_CRD);
   }
 
   private com.squareup.okhttp.Call createCustomResourceDefinitionAsync(
@@ -486,7 +585,9 @@ public class CallBuilder {
       V1beta1CustomResourceDefinition body,
       ResponseStep<V1beta1CustomResourceDefinition> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("createCRD", null, null, body), CREATE_CRD);
+        responseStep,
+        new RequestParams("createCRD", APIEXTENSIONS_GROUP, null, null, body),
+        CREATE_CRD);
   }
 
   private com.squareup.okhttp.Call replaceCustomResourceDefinitionAsync(
@@ -521,7 +622,9 @@ public class CallBuilder {
       V1beta1CustomResourceDefinition body,
       ResponseStep<V1beta1CustomResourceDefinition> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("replaceCRD", null, name, body), REPLACE_CRD);
+        responseStep,
+        new RequestParams("replaceCRD", APIEXTENSIONS_GROUP, null, name, body),
+        REPLACE_CRD);
   }
 
   /* Config Maps */
@@ -548,7 +651,9 @@ public class CallBuilder {
   public Step readConfigMapAsync(
       String name, String namespace, ResponseStep<V1ConfigMap> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("readConfigMap", namespace, name, null), READ_CONFIGMAP);
+        responseStep,
+        new RequestParams("readConfigMap", CORE_GROUP, namespace, name, null),
+        READ_CONFIGMAP);
   }
 
   private com.squareup.okhttp.Call createConfigMapAsync(
@@ -576,7 +681,7 @@ public class CallBuilder {
       String namespace, V1ConfigMap body, ResponseStep<V1ConfigMap> responseStep) {
     return createRequestAsync(
         responseStep,
-        new RequestParams("createConfigMap", namespace, null, body),
+        new RequestParams("createConfigMap", CORE_GROUP, namespace, null, body),
         CREATE_CONFIGMAP);
   }
 
@@ -626,7 +731,7 @@ public class CallBuilder {
       ResponseStep<V1Status> responseStep) {
     return createRequestAsync(
         responseStep,
-        new RequestParams("deleteConfigMap", namespace, name, deleteOptions),
+        new RequestParams("deleteConfigMap", CORE_GROUP, namespace, name, deleteOptions),
         DELETE_CONFIG_MAP);
   }
 
@@ -664,7 +769,7 @@ public class CallBuilder {
       String name, String namespace, V1ConfigMap body, ResponseStep<V1ConfigMap> responseStep) {
     return createRequestAsync(
         responseStep,
-        new RequestParams("replaceConfigMap", namespace, name, body),
+        new RequestParams("replaceConfigMap", CORE_GROUP, namespace, name, body),
         REPLACE_CONFIGMAP);
   }
 
@@ -701,7 +806,7 @@ public class CallBuilder {
    */
   public Step listPodAsync(String namespace, ResponseStep<V1PodList> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("listPod", namespace, null, null), LIST_POD);
+        responseStep, new RequestParams("listPod", CORE_GROUP, namespace, null, null), LIST_POD);
   }
 
   private com.squareup.okhttp.Call readPodAsync(
@@ -725,7 +830,7 @@ public class CallBuilder {
    */
   public Step readPodAsync(String name, String namespace, ResponseStep<V1Pod> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("readPod", namespace, name, null), READ_POD);
+        responseStep, new RequestParams("readPod", CORE_GROUP, namespace, name, null), READ_POD);
   }
 
   private com.squareup.okhttp.Call createPodAsync(
@@ -750,7 +855,9 @@ public class CallBuilder {
    */
   public Step createPodAsync(String namespace, V1Pod body, ResponseStep<V1Pod> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("createPod", namespace, null, body), CREATE_POD);
+        responseStep,
+        new RequestParams("createPod", CORE_GROUP, namespace, null, body),
+        CREATE_POD);
   }
 
   private com.squareup.okhttp.Call deletePodAsync(
@@ -798,7 +905,9 @@ public class CallBuilder {
       V1DeleteOptions deleteOptions,
       ResponseStep<V1Status> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("deletePod", namespace, name, deleteOptions), DELETE_POD);
+        responseStep,
+        new RequestParams("deletePod", CORE_GROUP, namespace, name, deleteOptions),
+        DELETE_POD);
   }
 
   private com.squareup.okhttp.Call patchPodAsync(
@@ -831,7 +940,8 @@ public class CallBuilder {
       String name, String namespace, JsonPatch patchBody, ResponseStep<V1Pod> responseStep) {
     return createRequestAsync(
         responseStep,
-        new RequestParams("patchPod", namespace, name, PatchUtils.toKubernetesPatch(patchBody)),
+        new RequestParams(
+            "patchPod", CORE_GROUP, namespace, name, PatchUtils.toKubernetesPatch(patchBody)),
         PATCH_POD);
   }
 
@@ -867,7 +977,7 @@ public class CallBuilder {
   public Step deleteCollectionPodAsync(String namespace, ResponseStep<V1Status> responseStep) {
     return createRequestAsync(
         responseStep,
-        new RequestParams("deletePodCollection", namespace, null, null),
+        new RequestParams("deletePodCollection", CORE_GROUP, namespace, null, null),
         DELETECOLLECTION_POD);
   }
 
@@ -895,7 +1005,9 @@ public class CallBuilder {
    */
   public Step createJobAsync(String namespace, V1Job body, ResponseStep<V1Job> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("createJob", namespace, null, body), CREATE_JOB);
+        responseStep,
+        new RequestParams("createJob", BATCH_GROUP, namespace, null, body),
+        CREATE_JOB);
   }
 
   private final CallFactory<V1Job> READ_JOB =
@@ -919,7 +1031,7 @@ public class CallBuilder {
    */
   public Step readJobAsync(String name, String namespace, ResponseStep<V1Job> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("readJob", namespace, name, null), READ_JOB);
+        responseStep, new RequestParams("readJob", BATCH_GROUP, namespace, name, null), READ_JOB);
   }
 
   private com.squareup.okhttp.Call deleteJobAsync(
@@ -967,7 +1079,9 @@ public class CallBuilder {
       V1DeleteOptions deleteOptions,
       ResponseStep<V1Status> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("deleteJob", namespace, name, deleteOptions), DELETE_JOB);
+        responseStep,
+        new RequestParams("deleteJob", BATCH_GROUP, namespace, name, deleteOptions),
+        DELETE_JOB);
   }
 
   /* Services */
@@ -1031,7 +1145,9 @@ public class CallBuilder {
    */
   public Step listServiceAsync(String namespace, ResponseStep<V1ServiceList> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("listService", namespace, null, null), LIST_SERVICE);
+        responseStep,
+        new RequestParams("listService", CORE_GROUP, namespace, null, null),
+        LIST_SERVICE);
   }
 
   /**
@@ -1073,7 +1189,9 @@ public class CallBuilder {
   public Step readServiceAsync(
       String name, String namespace, ResponseStep<V1Service> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("readService", namespace, name, null), READ_SERVICE);
+        responseStep,
+        new RequestParams("readService", CORE_GROUP, namespace, name, null),
+        READ_SERVICE);
   }
 
   private com.squareup.okhttp.Call createServiceAsync(
@@ -1100,7 +1218,9 @@ public class CallBuilder {
   public Step createServiceAsync(
       String namespace, V1Service body, ResponseStep<V1Service> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("createService", namespace, null, body), CREATE_SERVICE);
+        responseStep,
+        new RequestParams("createService", CORE_GROUP, namespace, null, body),
+        CREATE_SERVICE);
   }
 
   /**
@@ -1177,7 +1297,7 @@ public class CallBuilder {
       ResponseStep<V1Status> responseStep) {
     return createRequestAsync(
         responseStep,
-        new RequestParams("deleteService", namespace, name, deleteOptions),
+        new RequestParams("deleteService", CORE_GROUP, namespace, name, deleteOptions),
         DELETE_SERVICE);
   }
 
@@ -1214,7 +1334,9 @@ public class CallBuilder {
    */
   public Step listEventAsync(String namespace, ResponseStep<V1EventList> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("listEvent", namespace, null, null), LIST_EVENT);
+        responseStep,
+        new RequestParams("listEvent", CORE_GROUP, namespace, null, null),
+        LIST_EVENT);
   }
 
   /* Persistent Volumes */
@@ -1249,7 +1371,7 @@ public class CallBuilder {
   public Step listPersistentVolumeAsync(ResponseStep<V1PersistentVolumeList> responseStep) {
     return createRequestAsync(
         responseStep,
-        new RequestParams("listPersistentVolume", null, null, null),
+        new RequestParams("listPersistentVolume", CORE_GROUP, null, null, null),
         LIST_PERSISTENTVOLUME);
   }
 
@@ -1259,7 +1381,7 @@ public class CallBuilder {
               .createPersistentVolume((V1PersistentVolume) requestParams.body, null, pretty, null);
 
   public V1PersistentVolume createPersistentVolume(V1PersistentVolume volume) throws ApiException {
-    RequestParams requestParams = new RequestParams("createPV", null, null, volume);
+    RequestParams requestParams = new RequestParams("createPV", CORE_GROUP, null, null, volume);
     return executeSynchronousCall(requestParams, CREATE_PV_CALL);
   }
 
@@ -1281,7 +1403,7 @@ public class CallBuilder {
       V1PersistentVolume persistentVolume, ResponseStep<V1PersistentVolume> responseStep) {
     return createRequestAsync(
         responseStep,
-        new RequestParams("createPersistentVolume", null, null, persistentVolume),
+        new RequestParams("createPersistentVolume", CORE_GROUP, null, null, persistentVolume),
         CREATE_PERSISTENTVOLUME);
   }
 
@@ -1300,7 +1422,7 @@ public class CallBuilder {
   public V1Status deletePersistentVolume(String name, V1DeleteOptions deleteOptions)
       throws ApiException {
     RequestParams requestParams =
-        new RequestParams("deletePersistentVolume", null, name, deleteOptions);
+        new RequestParams("deletePersistentVolume", CORE_GROUP, null, name, deleteOptions);
     return executeSynchronousCall(requestParams, DELETE_PV_CALL);
   }
 
@@ -1330,7 +1452,7 @@ public class CallBuilder {
       String name, V1DeleteOptions deleteOptions, ResponseStep<V1Status> responseStep) {
     return createRequestAsync(
         responseStep,
-        new RequestParams("deletePersistentVolume", null, name, deleteOptions),
+        new RequestParams("deletePersistentVolume", CORE_GROUP, null, name, deleteOptions),
         DELETE_PERSISTENTVOLUME);
   }
 
@@ -1372,7 +1494,7 @@ public class CallBuilder {
       String namespace, ResponseStep<V1PersistentVolumeClaimList> responseStep) {
     return createRequestAsync(
         responseStep,
-        new RequestParams("listPersistentVolumeClaim", namespace, null, null),
+        new RequestParams("listPersistentVolumeClaim", CORE_GROUP, namespace, null, null),
         LIST_PERSISTENTVOLUMECLAIM);
   }
 
@@ -1388,7 +1510,8 @@ public class CallBuilder {
 
   public V1PersistentVolumeClaim createPersistentVolumeClaim(V1PersistentVolumeClaim claim)
       throws ApiException {
-    RequestParams requestParams = new RequestParams("createPVC", getNamespace(claim), null, claim);
+    RequestParams requestParams =
+        new RequestParams("createPVC", CORE_GROUP, getNamespace(claim), null, claim);
     return executeSynchronousCall(requestParams, CREATE_PVC_CALL);
   }
 
@@ -1412,7 +1535,8 @@ public class CallBuilder {
       V1PersistentVolumeClaim claim, ResponseStep<V1PersistentVolumeClaim> responseStep) {
     return createRequestAsync(
         responseStep,
-        new RequestParams("createPersistentVolumeClaim", getNamespace(claim), null, claim),
+        new RequestParams(
+            "createPersistentVolumeClaim", CORE_GROUP, getNamespace(claim), null, claim),
         CREATE_PERSISTENTVOLUMECLAIM);
   }
 
@@ -1432,7 +1556,8 @@ public class CallBuilder {
   public V1Status deletePersistentVolumeClaim(
       String name, String namespace, V1DeleteOptions deleteOptions) throws ApiException {
     return executeSynchronousCall(
-        new RequestParams("deletePVC", namespace, name, deleteOptions), DELETE_PVC_CALL);
+        new RequestParams("deletePVC", CORE_GROUP, namespace, name, deleteOptions),
+        DELETE_PVC_CALL);
   }
 
   private final CallFactory<V1Status> DELETE_PERSISTENTVOLUMECLAIM =
@@ -1457,7 +1582,8 @@ public class CallBuilder {
       ResponseStep<V1Status> responseStep) {
     return createRequestAsync(
         responseStep,
-        new RequestParams("deletePersistentVolumeClaim", namespace, name, deleteOptions),
+        new RequestParams(
+            "deletePersistentVolumeClaim", CORE_GROUP, namespace, name, deleteOptions),
         DELETE_PERSISTENTVOLUMECLAIM);
   }
 
@@ -1546,7 +1672,9 @@ public class CallBuilder {
    */
   public Step readSecretAsync(String name, String namespace, ResponseStep<V1Secret> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("readSecret", namespace, name, null), READ_SECRET);
+        responseStep,
+        new RequestParams("readSecret", CORE_GROUP, namespace, name, null),
+        READ_SECRET);
   }
 
   /* Subject Access Review */
@@ -1566,7 +1694,8 @@ public class CallBuilder {
    */
   public V1SubjectAccessReview createSubjectAccessReview(V1SubjectAccessReview body)
       throws ApiException {
-    RequestParams params = new RequestParams("createSubjectAccessReview", null, null, body);
+    RequestParams params =
+        new RequestParams("createSubjectAccessReview", AUTHORIZATION_GROUP, null, null, body);
     return executeSynchronousCall(params, CREATE_SUBJECTACCESSREVIEW_CALL);
   }
 
@@ -1594,7 +1723,7 @@ public class CallBuilder {
       V1SubjectAccessReview body, ResponseStep<V1SubjectAccessReview> responseStep) {
     return createRequestAsync(
         responseStep,
-        new RequestParams("createSubjectAccessReview", null, null, body),
+        new RequestParams("createSubjectAccessReview", AUTHORIZATION_GROUP, null, null, body),
         CREATE_SUBJECTACCESSREVIEW);
   }
 
@@ -1615,7 +1744,8 @@ public class CallBuilder {
    */
   public V1SelfSubjectAccessReview createSelfSubjectAccessReview(V1SelfSubjectAccessReview body)
       throws ApiException {
-    RequestParams requestParams = new RequestParams("selfSubjectAccessReview", null, null, body);
+    RequestParams requestParams =
+        new RequestParams("selfSubjectAccessReview", AUTHORIZATION_GROUP, null, null, body);
     return executeSynchronousCall(requestParams, CREATE_SELFSUBJECTACESSREVIEW_CALL);
   }
 
@@ -1645,7 +1775,7 @@ public class CallBuilder {
       V1SelfSubjectAccessReview body, ResponseStep<V1SelfSubjectAccessReview> responseStep) {
     return createRequestAsync(
         responseStep,
-        new RequestParams("createSelfSubjectAccessReview", null, null, body),
+        new RequestParams("createSelfSubjectAccessReview", AUTHORIZATION_GROUP, null, null, body),
         CREATE_SELFSUBJECTACCESSREVIEW);
   }
 
@@ -1666,7 +1796,8 @@ public class CallBuilder {
    */
   public V1SelfSubjectRulesReview createSelfSubjectRulesReview(V1SelfSubjectRulesReview body)
       throws ApiException {
-    RequestParams params = new RequestParams("selfSubjectRulesReview", null, null, body);
+    RequestParams params =
+        new RequestParams("selfSubjectRulesReview", AUTHORIZATION_GROUP, null, null, body);
     return executeSynchronousCall(params, CREATE_SELFSUBJECTRULESREVIEW_CALL);
   }
 
@@ -1696,7 +1827,7 @@ public class CallBuilder {
       V1SelfSubjectRulesReview body, ResponseStep<V1SelfSubjectRulesReview> responseStep) {
     return createRequestAsync(
         responseStep,
-        new RequestParams("createSelfSubjectRulesReview", null, null, body),
+        new RequestParams("createSelfSubjectRulesReview", AUTHORIZATION_GROUP, null, null, body),
         CREATE_SELFSUBJECTRULESREVIEW);
   }
 
@@ -1715,7 +1846,8 @@ public class CallBuilder {
    * @throws ApiException API Exception
    */
   public V1TokenReview createTokenReview(V1TokenReview body) throws ApiException {
-    RequestParams requestParams = new RequestParams("createTokenReview", null, null, body);
+    RequestParams requestParams =
+        new RequestParams("createTokenReview", AUTHENTICATION_GROUP, null, null, body);
     return executeSynchronousCall(requestParams, CREATE_TOKEN_REVIEW_CALL);
   }
 
@@ -1738,7 +1870,9 @@ public class CallBuilder {
 
   public Step readPodLogAsync(String name, String namespace, ResponseStep<String> responseStep) {
     return createRequestAsync(
-        responseStep, new RequestParams("readPodLog", namespace, name, null), READ_POD_LOG);
+        responseStep,
+        new RequestParams("readPodLog", CORE_GROUP, namespace, name, null),
+        READ_POD_LOG);
   }
 
   private com.squareup.okhttp.Call readPodLogAsync(
@@ -1770,6 +1904,42 @@ public class CallBuilder {
             callback);
   }
 
+  /**
+   * Asynchronous step for reading the log of an introspector pod, split into the files which it
+   * reports. The log is parsed as it is received, and is not held in memory as a whole.
+   *
+   * @param name Name of the pod
+   * @param namespace Namespace
+   * @param maxChars the maximum total size of the files to read; the rest of the log is discarded
+   * @param responseStep Response step for when call completes, with the files by name
+   * @return Asynchronous step
+   */
+  public Step readIntrospectorLogAsync(
+      String name, String namespace, int maxChars, ResponseStep<Map<String, String>> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("readPodLogSections", CORE_GROUP, namespace, name, null),
+        (requestParams, usage, cont, callback) ->
+            wrap(
+                readIntrospectorLogAsync(
+                    usage, requestParams.name, requestParams.namespace, maxChars, callback)));
+  }
+
+  private com.squareup.okhttp.Call readIntrospectorLogAsync(
+      ApiClient client,
+      String name,
+      String namespace,
+      int maxChars,
+      ApiCallback<Map<String, String>> callback)
+      throws ApiException {
+    com.squareup.okhttp.Call call =
+        new CoreV1Api(client)
+            .readNamespacedPodLogCall(
+                name, namespace, null, null, null, pretty, null, null, null, null, null, null);
+    call.enqueue(new IntrospectorLogCallback(name, namespace, maxChars, callback));
+    return call;
+  }
+
   static SynchronousCallDispatcher setCallDispatcher(SynchronousCallDispatcher newDispatcher) {
     SynchronousCallDispatcher oldDispatcher = DISPATCHER;
     DISPATCHER = newDispatcher;
@@ -0,0 +1,249 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import com.google.gson.annotations.SerializedName;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.codec.binary.Hex;
+
+/**
+ * Computes the SHA-256 hash of a Kubernetes model object directly from its content, without first
+ * serializing it. Properties are visited in the order of their JSON names, and map entries in the
+ * order of their keys, so that the hash depends only on the content of the object and is the same
+ * in every run. Properties whose values are null are skipped, so that the hash does not change when
+ * a newer client library adds properties which the operator does not set.
+ */
+class CanonicalHash {
+  private static final String MODEL_PACKAGE = "io.kubernetes.client.models.";
+  private static final int BUFFER_SIZE = 4096;
+
+  private static final byte NULL = 0;
+  private static final byte STRING = 1;
+  private static final byte INTEGER = 2;
+  private static final byte NUMBER = 3;
+  private static final byte BOOLEAN = 4;
+  private static final byte QUANTITY = 5;
+  private static final byte LIST = 6;
+  private static final byte MAP = 7;
+  private static final byte OBJECT = 8;
+  private static final byte END = 9;
+  private static final byte OTHER = 10;
+
+  private static final Comparator<Object> KEY_ORDER =
+      Comparator.comparing(String::valueOf, Comparator.naturalOrder());
+
+  private static final Map<Class<?>, Property[]> PROPERTIES = new ConcurrentHashMap<>();
+  private static final ThreadLocal<CanonicalHash> HASHERS =
+      ThreadLocal.withInitial(CanonicalHash::new);
+
+  private final MessageDigest digest;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int position;
+
+  private CanonicalHash() {
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Returns the hash of an object, as a hexadecimal string.
+   *
+   * @param object a Kubernetes model object
+   * @return the SHA-256 hash of the content of the object
+   */
+  static String sha256Hex(Object object) {
+    return HASHERS.get().hash(object);
+  }
+
+  private String hash(Object object) {
+    try {
+      writeValue(object);
+      flush();
+      return Hex.encodeHexString(digest.digest());
+    } finally {
+      position = 0;
+      digest.reset();
+    }
+  }
+
+  private void writeValue(Object value) {
+    if (value == null) {
+      writeTag(NULL);
+    } else if (value instanceof String) {
+      writeString(STRING, (String) value);
+    } else if (value instanceof Integer || value instanceof Long || value instanceof Short) {
+      writeTag(INTEGER);
+      writeLong(((Number) value).longValue());
+    } else if (value instanceof Boolean) {
+      writeTag(BOOLEAN);
+      writeByte((Boolean) value ? 1 : 0);
+    } else if (value instanceof IntOrString) {
+      writeIntOrString((IntOrString) value);
+    } else if (value instanceof Quantity) {
+      writeString(QUANTITY, ((Quantity) value).toSuffixedString());
+    } else if (value instanceof Number) {
+      writeString(NUMBER, value.toString());
+    } else if (value instanceof Map) {
+      writeMap((Map<?, ?>) value);
+    } else if (value instanceof Collection) {
+      writeCollection((Collection<?>) value);
+    } else if (value.getClass().getName().startsWith(MODEL_PACKAGE)) {
+      writeObject(value);
+    } else {
+      writeString(OTHER, value.toString());
+    }
+  }
+
+  private void writeIntOrString(IntOrString value) {
+    if (value.isInteger()) {
+      writeTag(INTEGER);
+      writeLong(value.getIntValue());
+    } else {
+      writeString(STRING, value.getStrValue());
+    }
+  }
+
+  private void writeCollection(Collection<?> collection) {
+    writeTag(LIST);
+    writeInt(collection.size());
+    for (Object element : collection) {
+      writeValue(element);
+    }
+  }
+
+  private void writeMap(Map<?, ?> map) {
+    writeTag(MAP);
+    writeInt(map.size());
+    if (map instanceof SortedMap && ((SortedMap<?, ?>) map).comparator() == null) {
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        writeValue(entry.getKey());
+        writeValue(entry.getValue());
+      }
+    } else {
+      Object[] keys = map.keySet().toArray();
+      Arrays.sort(keys, KEY_ORDER);
+      for (Object key : keys) {
+        writeValue(key);
+        writeValue(map.get(key));
+      }
+    }
+  }
+
+  private void writeObject(Object object) {
+    writeTag(OBJECT);
+    for (Property property : getProperties(object.getClass())) {
+      Object value = property.get(object);
+      if (value != null) {
+        writeString(STRING, property.name);
+        writeValue(value);
+      }
+    }
+    writeTag(END);
+  }
+
+  private void writeString(byte tag, String value) {
+    writeTag(tag);
+    int length = value.length();
+    writeInt(length);
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      ensureCapacity(2);
+      buffer[position++] = (byte) (c >>> 8);
+      buffer[position++] = (byte) c;
+    }
+  }
+
+  private void writeTag(byte tag) {
+    writeByte(tag);
+  }
+
+  private void writeByte(int value) {
+    ensureCapacity(1);
+    buffer[position++] = (byte) value;
+  }
+
+  private void writeInt(int value) {
+    ensureCapacity(4);
+    for (int shift = 24; shift >= 0; shift -= 8) {
+      buffer[position++] = (byte) (value >>> shift);
+    }
+  }
+
+  private void writeLong(long value) {
+    ensureCapacity(8);
+    for (int shift = 56; shift >= 0; shift -= 8) {
+      buffer[position++] = (byte) (value >>> shift);
+    }
+  }
+
+  private void ensureCapacity(int bytes) {
+    if (position + bytes > buffer.length) {
+      flush();
+    }
+  }
+
+  private void flush() {
+    digest.update(buffer, 0, position);
+    position = 0;
+  }
+
+  private static Property[] getProperties(Class<?> type) {
+    return PROPERTIES.computeIfAbsent(type, CanonicalHash::findProperties);
+  }
+
+  private static Property[] findProperties(Class<?> type) {
+    List<Property> properties = new ArrayList<>();
+    for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        if (!Modifier.isStatic(field.getModifiers())
+            && !Modifier.isTransient(field.getModifiers())) {
+          properties.add(new Property(field));
+        }
+      }
+    }
+    properties.sort(Comparator.comparing(p -> p.name));
+    return properties.toArray(new Property[0]);
+  }
+
+  private static class Property {
+    private final String name;
+    private final Field field;
+
+    Property(Field field) {
+      this.field = field;
+      this.name = getName(field);
+      field.setAccessible(true);
+    }
+
+    private static String getName(Field field) {
+      SerializedName serializedName = field.getAnnotation(SerializedName.class);
+      return serializedName != null ? serializedName.value() : field.getName();
+    }
+
+    Object get(Object object) {
+      try {
+        return field.get(object);
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
@@ -73,6 +73,15 @@ public class ConfigMapConsumer implements Map<String, String> {
     return defaultValue;
   }
 
+  public boolean readBooleanTuningParameter(String parameter, boolean defaultValue) {
+    String val = get(parameter);
+    if (val != null) {
+      return Boolean.parseBoolean(val.trim());
+    }
+
+    return defaultValue;
+  }
+
   @Override
   public int size() {
     String[] list = mountPointDir.list();
@@ -11,14 +11,12 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import io.kubernetes.client.models.V1ConfigMap;
 import io.kubernetes.client.models.V1DeleteOptions;
 import io.kubernetes.client.models.V1ObjectMeta;
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
@@ -45,6 +43,9 @@ public class ConfigMapHelper {
 
   private static final FileGroupReader scriptReader = new FileGroupReader(SCRIPT_LOCATION);
 
+  /** The annotation on the introspector config map with the hash of the introspection inputs. */
+  static final String INTROSPECTION_HASH_ANNOTATION = "weblogic.introspectionHash";
+
   private ConfigMapHelper() {}
 
   /**
@@ -228,6 +229,21 @@ public class ConfigMapHelper {
     return scriptReader;
   }
 
+  /**
+   * Returns the hash of the scripts which the operator provides to its pods and jobs. It changes
+   * only when the operator is upgraded.
+   *
+   * @return the hash of the scripts
+   */
+  static String getScriptsHash() {
+    return ScriptsHash.VALUE;
+  }
+
+  private static class ScriptsHash {
+    private static final String VALUE =
+        CanonicalHash.sha256Hex(scriptReader.loadFilesFromClasspath());
+  }
+
   interface ConfigMapComparator {
     /** Returns true if the actual map contains all of the entries from the expected map. */
     boolean containsAll(V1ConfigMap actual, V1ConfigMap expected);
@@ -260,12 +276,13 @@ public class ConfigMapHelper {
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
 
-      String result = (String) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
-      // Parse results into separate data files
-      Map<String, String> data = parseIntrospectorResult(result, info.getDomainUID());
-      LOGGER.fine("================");
-      LOGGER.fine(data.toString());
-      LOGGER.fine("================");
+      // The introspector results, already split into separate data files as the log was read
+      Map<String, String> data = getIntrospectorResult(packet);
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine("================");
+        LOGGER.fine(data.toString());
+        LOGGER.fine("================");
+      }
       String topologyYaml = data.get("topology.yaml");
       if (topologyYaml != null) {
         LOGGER.fine("topology.yaml: " + topologyYaml);
@@ -287,7 +304,12 @@ public class ConfigMapHelper {
             wlsDomainConfig);
         SitConfigMapContext context =
             new SitConfigMapContext(
-                this, info.getDomainUID(), getOperatorNamespace(), info.getNamespace(), data);
+                this,
+                info.getDomainUID(),
+                getOperatorNamespace(),
+                info.getNamespace(),
+                data,
+                (String) packet.get(ProcessingConstants.INTROSPECTION_HASH));
 
         return doNext(context.verifyConfigMap(getNext()), packet);
       }
@@ -296,6 +318,13 @@ public class ConfigMapHelper {
       return doNext(getNext(), packet);
     }
 
+    @SuppressWarnings("unchecked")
+    private Map<String, String> getIntrospectorResult(Packet packet) {
+      Map<String, String> result =
+          (Map<String, String>) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
+      return result != null ? result : new HashMap<>();
+    }
+
     private void logValidationErrors(List<String> validationErrors) {
       if (!validationErrors.isEmpty()) {
         for (String err : validationErrors) {
@@ -317,18 +346,21 @@ public class ConfigMapHelper {
     Map<String, String> data;
     String domainUID;
     String cmName;
+    String introspectionHash;
 
     SitConfigMapContext(
         Step conflictStep,
         String domainUID,
         String operatorNamespace,
         String domainNamespace,
-        Map<String, String> data) {
+        Map<String, String> data,
+        String introspectionHash) {
       super(conflictStep, operatorNamespace, domainNamespace);
 
       this.domainUID = domainUID;
       this.cmName = getConfigMapName(domainUID);
       this.data = data;
+      this.introspectionHash = introspectionHash;
       this.model = createModel(data);
     }
 
@@ -349,7 +381,19 @@ public class ConfigMapHelper {
     }
 
     private V1ObjectMeta createMetadata() {
-      return super.createMetadata(cmName).putLabelsItem(LabelConstants.DOMAINUID_LABEL, domainUID);
+      V1ObjectMeta metadata =
+          super.createMetadata(cmName).putLabelsItem(LabelConstants.DOMAINUID_LABEL, domainUID);
+      if (introspectionHash != null) {
+        metadata.putAnnotationsItem(INTROSPECTION_HASH_ANNOTATION, introspectionHash);
+      }
+      return metadata;
+    }
+
+    @Override
+    protected boolean isCompatibleMap(V1ConfigMap existingMap) {
+      return super.isCompatibleMap(existingMap)
+          && (introspectionHash == null
+              || introspectionHash.equals(getIntrospectionHash(existingMap)));
     }
 
     class ReadResponseStep extends DefaultResponseStep<V1ConfigMap> {
@@ -518,6 +562,8 @@ public class ConfigMapHelper {
                 info.getDomainUID(),
                 new Scan(wlsDomainConfig, new DateTime()));
             packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, wlsDomainConfig);
+            Optional.ofNullable(getIntrospectionHash(result))
+                .ifPresent(hash -> packet.put(ProcessingConstants.INTROSPECTION_HASH, hash));
           }
         }
       }
@@ -526,44 +572,11 @@ public class ConfigMapHelper {
     }
   }
 
-  static Map<String, String> parseIntrospectorResult(String text, String domainUID) {
-    Map<String, String> map = new HashMap<>();
-    try (BufferedReader reader = new BufferedReader(new StringReader(text))) {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.startsWith(">>>") && !line.endsWith("EOF")) {
-          // Beginning of file, extract file name
-          String filename = extractFilename(line);
-          readFile(reader, filename, map, domainUID);
-        }
-        line = reader.readLine();
-      }
-    } catch (IOException exc) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_RESULT, domainUID, exc);
-    }
-
-    return map;
-  }
-
-  static void readFile(
-      BufferedReader reader, String fileName, Map<String, String> map, String domainUID) {
-    StringBuilder stringBuilder = new StringBuilder();
-    try {
-      String line = reader.readLine();
-      while (line != null) {
-        if (line.startsWith(">>>") && line.endsWith("EOF")) {
-          map.put(fileName, stringBuilder.toString());
-          return;
-        } else {
-          // add line to StringBuilder
-          stringBuilder.append(line);
-          stringBuilder.append(System.getProperty("line.separator"));
-        }
-        line = reader.readLine();
-      }
-    } catch (IOException ioe) {
-      LOGGER.warning(MessageKeys.CANNOT_PARSE_INTROSPECTOR_FILE, fileName, domainUID, ioe);
-    }
+  private static String getIntrospectionHash(V1ConfigMap configMap) {
+    return Optional.ofNullable(configMap.getMetadata())
+        .map(V1ObjectMeta::getAnnotations)
+        .map(annotations -> annotations.get(INTROSPECTION_HASH_ANNOTATION))
+        .orElse(null);
   }
 
   static String extractFilename(String line) {
@@ -607,9 +620,15 @@ public class ConfigMapHelper {
       this.domainValid = domainValid;
     }
 
+    /**
+     * Returns the domain configuration, with its dynamic servers generated, frozen so that it may
+     * be shared.
+     *
+     * @return the domain configuration
+     */
     public WlsDomainConfig getDomain() {
       this.domain.processDynamicClusters();
-      return this.domain;
+      return this.domain.freeze();
     }
 
     public void setDomain(WlsDomainConfig domain) {
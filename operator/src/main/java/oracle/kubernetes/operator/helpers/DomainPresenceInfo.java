@@ -17,12 +17,15 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
+import oracle.kubernetes.operator.DomainStatusListeners;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
 import oracle.kubernetes.weblogic.domain.model.ServerSpec;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -36,8 +39,12 @@ public class DomainPresenceInfo {
   private final String namespace;
   private final String domainUID;
   private final AtomicReference<Domain> domain;
+  private final AtomicReference<DomainStatus> lastWrittenStatus = new AtomicReference<>();
+  private final AtomicLong statusSequence = new AtomicLong();
+  private final AtomicLong writtenStatusSequence = new AtomicLong();
   private final AtomicBoolean isDeleting = new AtomicBoolean(false);
   private final AtomicBoolean isPopulated = new AtomicBoolean(false);
+  private final AtomicBoolean introspectionChecked = new AtomicBoolean(false);
   private final AtomicInteger retryCount = new AtomicInteger(0);
   private final AtomicReference<Collection<ServerStartupInfo>> serverStartupInfo;
 
@@ -159,24 +166,36 @@ public class DomainPresenceInfo {
   }
 
   private void updateStatus(String serverName, V1Pod event) {
-    getSko(serverName)
-        .getLastKnownStatus()
-        .getAndUpdate(
-            lastKnownStatus -> {
-              LastKnownStatus updatedStatus = lastKnownStatus;
-              if (PodHelper.isReady(event)) {
-                if (lastKnownStatus == null
-                    || !WebLogicConstants.RUNNING_STATE.equals(lastKnownStatus.getStatus())) {
-                  updatedStatus = new LastKnownStatus(WebLogicConstants.RUNNING_STATE);
-                }
-              } else {
-                if (lastKnownStatus != null
-                    && WebLogicConstants.RUNNING_STATE.equals(lastKnownStatus.getStatus())) {
-                  updatedStatus = null;
-                }
-              }
-              return updatedStatus;
-            });
+    LastKnownStatus previousStatus =
+        getSko(serverName)
+            .getLastKnownStatus()
+            .getAndUpdate(
+                lastKnownStatus -> {
+                  LastKnownStatus updatedStatus = lastKnownStatus;
+                  if (PodHelper.isReady(event)) {
+                    if (lastKnownStatus == null
+                        || !WebLogicConstants.RUNNING_STATE.equals(lastKnownStatus.getStatus())) {
+                      updatedStatus = new LastKnownStatus(WebLogicConstants.RUNNING_STATE);
+                    }
+                  } else {
+                    if (lastKnownStatus != null
+                        && WebLogicConstants.RUNNING_STATE.equals(lastKnownStatus.getStatus())) {
+                      updatedStatus = null;
+                    }
+                  }
+                  return updatedStatus;
+                });
+    if (PodHelper.isReady(event)) {
+      publishServerStateChange(serverName, previousStatus, WebLogicConstants.RUNNING_STATE);
+    }
+  }
+
+  private void publishServerStateChange(
+      String serverName, LastKnownStatus previousStatus, String status) {
+    if (status != null && (previousStatus == null || !status.equals(previousStatus.getStatus()))) {
+      DomainStatusListeners.getInstance()
+          .serverStateChanged(getNamespace(), getDomainUID(), serverName, status);
+    }
   }
 
   private V1Pod getNewerPod(V1Pod first, V1Pod second) {
@@ -235,19 +254,40 @@ public class DomainPresenceInfo {
    * @param status the new status
    */
   public void updateLastKnownServerStatus(String serverName, String status) {
-    getSko(serverName)
-        .getLastKnownStatus()
-        .getAndUpdate(
-            lastKnownStatus -> {
-              LastKnownStatus updatedStatus = null;
-              if (status != null) {
-                updatedStatus =
-                    (lastKnownStatus != null && status.equals(lastKnownStatus.getStatus()))
-                        ? new LastKnownStatus(status, lastKnownStatus.getUnchangedCount() + 1)
-                        : new LastKnownStatus(status);
-              }
-              return updatedStatus;
-            });
+    updateLastKnownServerStatus(serverName, status, false);
+  }
+
+  private void updateLastKnownServerStatus(
+      String serverName, String status, boolean reportedByReadinessProbe) {
+    LastKnownStatus previousStatus =
+        getSko(serverName)
+            .getLastKnownStatus()
+            .getAndUpdate(
+                lastKnownStatus -> {
+                  LastKnownStatus updatedStatus = null;
+                  if (status != null) {
+                    updatedStatus =
+                        (lastKnownStatus != null && status.equals(lastKnownStatus.getStatus()))
+                            ? new LastKnownStatus(
+                                status,
+                                lastKnownStatus.getUnchangedCount() + 1,
+                                reportedByReadinessProbe)
+                            : new LastKnownStatus(status, 0, reportedByReadinessProbe);
+                  }
+                  return updatedStatus;
+                });
+    publishServerStateChange(serverName, previousStatus, status);
+  }
+
+  /**
+   * Updates the last status reported for the specified server from a readiness probe event. Such a
+   * status is current as of the last probe, and may be used instead of querying the server.
+   *
+   * @param serverName the name of the server
+   * @param status the new status
+   */
+  public void updateLastKnownServerStatusFromReadinessProbe(String serverName, String status) {
+    updateLastKnownServerStatus(serverName, status, true);
   }
 
   /**
@@ -403,6 +443,71 @@ public class DomainPresenceInfo {
     this.domain.set(domain);
   }
 
+  /**
+   * Returns a copy of the status last written to the domain's status subresource.
+   *
+   * @return the status, or null if none has been written since this object was created
+   */
+  public DomainStatus getLastWrittenStatus() {
+    return lastWrittenStatus.get();
+  }
+
+  /**
+   * Records a copy of the status written to the domain's status subresource.
+   *
+   * @param status the status, which must not be changed afterwards
+   */
+  public void setLastWrittenStatus(DomainStatus status) {
+    lastWrittenStatus.set(status);
+  }
+
+  /**
+   * Records that the operator has decided whether to introspect the domain.
+   *
+   * @return true if this is the first such decision since this object was created
+   */
+  public boolean recordIntrospectionCheck() {
+    return introspectionChecked.compareAndSet(false, true);
+  }
+
+  /**
+   * Returns the sequence number of the most recent change to the domain's status. Sequence numbers
+   * increase with every status change made by the operator, for any domain.
+   *
+   * @return the sequence number, or 0 if the status has not changed since this object was created
+   */
+  public long getStatusSequence() {
+    return statusSequence.get();
+  }
+
+  /**
+   * Records a change to the domain's status.
+   *
+   * @param sequence the sequence number of the change
+   */
+  public void setStatusSequence(long sequence) {
+    statusSequence.accumulateAndGet(sequence, Math::max);
+  }
+
+  /**
+   * Returns the sequence number of the most recent status change written to Kubernetes.
+   *
+   * @return the sequence number, or 0 if no change has been written since this object was created
+   */
+  public long getWrittenStatusSequence() {
+    return writtenStatusSequence.get();
+  }
+
+  /**
+   * Records that the status, up to and including a change, has been written to Kubernetes. A write
+   * which completes after a later one does not move the sequence number back.
+   *
+   * @param sequence the sequence number of the last change included in the write
+   */
+  public void setWrittenStatusSequence(long sequence) {
+    writtenStatusSequence.accumulateAndGet(sequence, Math::max);
+  }
+
   /**
    * Gets the Domain UID.
    *
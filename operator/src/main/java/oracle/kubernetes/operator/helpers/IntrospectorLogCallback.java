@@ -0,0 +1,81 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import com.squareup.okhttp.Callback;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+import io.kubernetes.client.ApiCallback;
+import io.kubernetes.client.ApiException;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.List;
+import java.util.Map;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+/**
+ * Reads the log of an introspector pod as the API server sends it, splitting it into the files
+ * which it reports without holding the whole log in memory, and passes those files to an API
+ * callback. Once the size limit is reached, the rest of the log is not read, and the read fails: a
+ * partial set of files would describe a domain other than the one which was introspected.
+ */
+class IntrospectorLogCallback implements Callback {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final String podName;
+  private final String namespace;
+  private final int maxChars;
+  private final ApiCallback<Map<String, String>> callback;
+
+  IntrospectorLogCallback(
+      String podName, String namespace, int maxChars, ApiCallback<Map<String, String>> callback) {
+    this.podName = podName;
+    this.namespace = namespace;
+    this.maxChars = maxChars;
+    this.callback = callback;
+  }
+
+  @Override
+  public void onFailure(Request request, IOException e) {
+    callback.onFailure(new ApiException(e), 0, null);
+  }
+
+  @Override
+  public void onResponse(Response response) {
+    Map<String, List<String>> headers = response.headers().toMultimap();
+    IntrospectorLogParser parser;
+    try (ResponseBody body = response.body()) {
+      if (!response.isSuccessful()) {
+        callback.onFailure(
+            new ApiException(response.message(), response.code(), headers, body.string()),
+            response.code(),
+            headers);
+        return;
+      }
+      parser = IntrospectorLogParser.parse(body.charStream(), maxChars);
+    } catch (IOException e) {
+      callback.onFailure(new ApiException(e), response.code(), headers);
+      return;
+    }
+
+    if (parser.isTruncated()) {
+      LOGGER.warning(MessageKeys.INTROSPECTOR_LOG_TRUNCATED, podName, namespace, maxChars);
+      // reading the log again would not make it smaller, so the status is one which is not retried
+      callback.onFailure(
+          new ApiException(
+              "Introspector log is larger than " + maxChars + " characters",
+              HttpURLConnection.HTTP_ENTITY_TOO_LARGE,
+              headers,
+              null),
+          HttpURLConnection.HTTP_ENTITY_TOO_LARGE,
+          headers);
+    } else {
+      callback.onSuccess(parser.getFiles(), response.code(), headers);
+    }
+  }
+}
@@ -0,0 +1,114 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Splits the log of the introspector pod into the files which it reports, line by line, as the log
+ * is read. Each file starts with a line of the form "&gt;&gt;&gt; /path/name" and ends with a line
+ * which starts with "&gt;&gt;&gt;" and ends with "EOF"; lines outside of files are ignored, as is a
+ * file with no end line. Once the files read reach a maximum total size, the rest of the log is
+ * discarded.
+ */
+class IntrospectorLogParser {
+  static final String LINE_SEPARATOR = System.lineSeparator();
+
+  private static final String MARKER = ">>>";
+  private static final String EOF = "EOF";
+
+  private final int maxChars;
+  private final Map<String, String> files = new HashMap<>();
+  private String fileName;
+  private StringBuilder contents;
+  private long totalChars;
+  private boolean truncated;
+
+  /**
+   * Creates a parser.
+   *
+   * @param maxChars the maximum total size of the files to collect
+   */
+  IntrospectorLogParser(int maxChars) {
+    this.maxChars = maxChars;
+  }
+
+  /**
+   * Parses a log, reading it until its end or until the size limit is reached.
+   *
+   * @param reader a reader of the log
+   * @param maxChars the maximum total size of the files to collect
+   * @return the parser, with the files found
+   * @throws IOException if the log cannot be read
+   */
+  static IntrospectorLogParser parse(Reader reader, int maxChars) throws IOException {
+    IntrospectorLogParser parser = new IntrospectorLogParser(maxChars);
+    BufferedReader lines = new BufferedReader(reader);
+    String line;
+    while (!parser.isTruncated() && (line = lines.readLine()) != null) {
+      parser.addLine(line);
+    }
+    return parser;
+  }
+
+  /**
+   * Processes the next line of the log.
+   *
+   * @param line a line, without its terminator
+   */
+  void addLine(String line) {
+    if (truncated) {
+      return;
+    } else if (fileName == null) {
+      if (line.startsWith(MARKER) && !line.endsWith(EOF)) {
+        startFile(ConfigMapHelper.extractFilename(line));
+      }
+    } else if (line.startsWith(MARKER) && line.endsWith(EOF)) {
+      files.put(fileName, contents.toString());
+      fileName = null;
+      contents = null;
+    } else {
+      appendLine(line);
+    }
+  }
+
+  private void startFile(String name) {
+    fileName = name;
+    contents = new StringBuilder();
+  }
+
+  private void appendLine(String line) {
+    totalChars += line.length() + LINE_SEPARATOR.length();
+    if (totalChars > maxChars) {
+      truncated = true;
+      fileName = null;
+      contents = null;
+    } else {
+      contents.append(line).append(LINE_SEPARATOR);
+    }
+  }
+
+  /**
+   * Returns true if the size limit was reached, so that some files may be missing.
+   *
+   * @return true if the log was truncated
+   */
+  boolean isTruncated() {
+    return truncated;
+  }
+
+  /**
+   * Returns the complete files found so far.
+   *
+   * @return the contents of the files, by file name
+   */
+  Map<String, String> getFiles() {
+    return files;
+  }
+}
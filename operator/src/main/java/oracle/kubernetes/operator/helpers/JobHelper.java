@@ -4,15 +4,23 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import io.kubernetes.client.models.V1ConfigMap;
 import io.kubernetes.client.models.V1DeleteOptions;
 import io.kubernetes.client.models.V1EnvVar;
 import io.kubernetes.client.models.V1Job;
 import io.kubernetes.client.models.V1Pod;
 import io.kubernetes.client.models.V1PodList;
+import io.kubernetes.client.models.V1SecretReference;
 import io.kubernetes.client.models.V1Volume;
 import io.kubernetes.client.models.V1VolumeMount;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import oracle.kubernetes.operator.JobWatcher;
+import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.TuningParameters;
@@ -36,6 +44,9 @@ import oracle.kubernetes.weblogic.domain.model.ManagedServer;
 public class JobHelper {
 
   static final String START_TIME = "WlsRetriever-startTime";
+  // The introspector results are stored in a config map, which cannot exceed one megabyte; a log
+  // much larger than that cannot be used, and is not read beyond this size
+  static final int MAX_INTROSPECTOR_RESULT_CHARS = 8 * 1024 * 1024;
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private JobHelper() {}
@@ -128,15 +139,14 @@ public class JobHelper {
     @Override
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
+      boolean firstCheck = info.recordIntrospectionCheck();
       if (runIntrospector(packet, info)) {
-        JobStepContext context = new DomainIntrospectorJobStepContext(info, packet);
-
-        packet.putIfAbsent(START_TIME, System.currentTimeMillis());
-
+        Map<String, Object> resourceInputs = new HashMap<>();
         return doNext(
-            context.createNewJob(
-                readDomainIntrospectorPodLogStep(
-                    ConfigMapHelper.createSitConfigMapStep(getNext()))),
+            readResourceInputs(
+                info.getDomain(),
+                resourceInputs,
+                new IntrospectIfInputsChangedStep(resourceInputs, firstCheck, getNext())),
             packet);
       }
 
@@ -144,6 +154,113 @@ public class JobHelper {
     }
   }
 
+  // The stored topology may be reused only by the first make-right after the operator starts, which
+  // would otherwise introspect the domain merely because the operator has no topology for it. Any
+  // later introspection is asked for by a restart of the domain, and is always run. The domain home
+  // on a persistent volume, and an image rebuilt under the same tag, may change without changing
+  // the hashed inputs, so a topology computed from them is never reused.
+  private static class IntrospectIfInputsChangedStep extends Step {
+    private final Map<String, Object> resourceInputs;
+    private final boolean firstCheck;
+
+    IntrospectIfInputsChangedStep(
+        Map<String, Object> resourceInputs, boolean firstCheck, Step next) {
+      super(next);
+      this.resourceInputs = resourceInputs;
+      this.firstCheck = firstCheck;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
+      DomainIntrospectorJobStepContext context = new DomainIntrospectorJobStepContext(info, packet);
+      String inputsHash = context.createInputsHash(resourceInputs);
+      if (mayReuseTopology(context) && isIntrospectionCurrent(packet, inputsHash)) {
+        LOGGER.info(MessageKeys.INTROSPECTION_SKIPPED, info.getDomainUID());
+        return doNext(packet);
+      }
+
+      packet.put(ProcessingConstants.INTROSPECTION_HASH, inputsHash);
+      packet.putIfAbsent(START_TIME, System.currentTimeMillis());
+
+      return doNext(
+          context.createNewJob(
+              readDomainIntrospectorPodLogStep(ConfigMapHelper.createSitConfigMapStep(getNext()))),
+          packet);
+    }
+
+    private boolean mayReuseTopology(DomainIntrospectorJobStepContext context) {
+      return firstCheck
+          && context.isDomainHomeInImage()
+          && !KubernetesConstants.ALWAYS_IMAGEPULLPOLICY.equals(context.getImagePullPolicy());
+    }
+  }
+
+  // The introspector reads the credentials secret and applies the config overrides as they are when
+  // it runs, so their current state is an input of the introspection: the data of the config map,
+  // and the versions of the secrets, whose values need not be held by the operator to see that
+  // they have changed
+  private static Step readResourceInputs(Domain domain, Map<String, Object> inputs, Step next) {
+    String namespace = domain.getMetadata().getNamespace();
+    Step step = next;
+    List<String> secretNames = new ArrayList<>();
+    Optional.ofNullable(domain.getWebLogicCredentialsSecret())
+        .map(V1SecretReference::getName)
+        .ifPresent(secretNames::add);
+    secretNames.addAll(domain.getConfigOverrideSecrets());
+    for (int i = secretNames.size() - 1; i >= 0; i--) {
+      String name = secretNames.get(i);
+      step =
+          new CallBuilder()
+              .readSecretAsync(
+                  name,
+                  namespace,
+                  new ResourceInputResponseStep<>(
+                      "secret/" + name, inputs, s -> s.getMetadata().getResourceVersion(), step));
+    }
+    String configMapName = domain.getConfigOverrides();
+    if (configMapName != null) {
+      step =
+          new CallBuilder()
+              .readConfigMapAsync(
+                  configMapName,
+                  namespace,
+                  new ResourceInputResponseStep<>(
+                      "configMap/" + configMapName, inputs, V1ConfigMap::getData, step));
+    }
+    return step;
+  }
+
+  // A missing resource is recorded as such, so that creating it changes the inputs
+  private static class ResourceInputResponseStep<T> extends ResponseStep<T> {
+    private final String key;
+    private final Map<String, Object> inputs;
+    private final Function<T, Object> getInput;
+
+    ResourceInputResponseStep(
+        String key, Map<String, Object> inputs, Function<T, Object> getInput, Step next) {
+      super(next);
+      this.key = key;
+      this.inputs = inputs;
+      this.getInput = getInput;
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<T> callResponse) {
+      if (callResponse.getStatusCode() == CallBuilder.NOT_FOUND) {
+        inputs.put(key, null);
+        return doNext(packet);
+      }
+      return super.onFailure(packet, callResponse);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<T> callResponse) {
+      inputs.put(key, Optional.ofNullable(callResponse.getResult()).map(getInput).orElse(null));
+      return doNext(packet);
+    }
+  }
+
   private static boolean runIntrospector(Packet packet, DomainPresenceInfo info) {
     WlsDomainConfig topology = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
     LOGGER.fine("runIntrospector topology: " + topology);
@@ -152,6 +269,13 @@ public class JobHelper {
     return topology == null || isBringingUpNewDomain(info);
   }
 
+  // The topology read from the introspector config map is still valid if it was computed from the
+  // same inputs as the introspection which would now be run
+  private static boolean isIntrospectionCurrent(Packet packet, String inputsHash) {
+    return packet.get(ProcessingConstants.DOMAIN_TOPOLOGY) != null
+        && inputsHash.equals(packet.get(ProcessingConstants.INTROSPECTION_HASH));
+  }
+
   private static boolean isBringingUpNewDomain(DomainPresenceInfo info) {
     return runningServersCount(info) == 0 && creatingServers(info);
   }
@@ -294,28 +418,34 @@ public class JobHelper {
 
     private Step readDomainIntrospectorPodLog(String jobPodName, String namespace, Step next) {
       return new CallBuilder()
-          .readPodLogAsync(
-              jobPodName, namespace, new ReadDomainIntrospectorPodLogResponseStep(next));
+          .readIntrospectorLogAsync(
+              jobPodName,
+              namespace,
+              MAX_INTROSPECTOR_RESULT_CHARS,
+              new ReadDomainIntrospectorPodLogResponseStep(next));
     }
   }
 
-  private static class ReadDomainIntrospectorPodLogResponseStep extends ResponseStep<String> {
+  private static class ReadDomainIntrospectorPodLogResponseStep
+      extends ResponseStep<Map<String, String>> {
     ReadDomainIntrospectorPodLogResponseStep(Step nextStep) {
       super(nextStep);
     }
 
     @Override
-    public NextAction onFailure(Packet packet, CallResponse<String> callResponse) {
+    public NextAction onFailure(Packet packet, CallResponse<Map<String, String>> callResponse) {
       cleanupJobArtifacts(packet);
       return super.onFailure(packet, callResponse);
     }
 
     @Override
-    public NextAction onSuccess(Packet packet, CallResponse<String> callResponse) {
-      String result = callResponse.getResult();
+    public NextAction onSuccess(Packet packet, CallResponse<Map<String, String>> callResponse) {
+      Map<String, String> result = callResponse.getResult();
 
       // Log output to Operator log
-      LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
+      if (LOGGER.isFineEnabled()) {
+        LOGGER.fine("+++++ ReadDomainIntrospectorPodLogResponseStep: \n" + result);
+      }
 
       V1Job domainIntrospectorJob = (V1Job) packet.get(ProcessingConstants.DOMAIN_INTROSPECTOR_JOB);
       if (domainIntrospectorJob != null && JobWatcher.isComplete(domainIntrospectorJob)) {
@@ -18,6 +18,7 @@ import io.kubernetes.client.models.V1VolumeMount;
 import java.io.File;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
@@ -103,6 +104,24 @@ public abstract class JobStepContext extends StepContextBase {
     return new CallBuilder().createJobAsync(getNamespace(), getJobModel(), createResponse(next));
   }
 
+  /**
+   * Returns a hash of the inputs which determine the result of the job: the spec of its pod, apart
+   * from its deadline, which grows with each retry; the restart version of the domain; the scripts
+   * which the operator provides to the pod; and the state of the resources which it reads.
+   *
+   * @param resourceInputs the state of the resources read by the job, by resource
+   * @return the hash of the inputs
+   */
+  String createInputsHash(Map<String, Object> resourceInputs) {
+    V1PodSpec podSpec = createPodSpec(TuningParameters.getInstance()).activeDeadlineSeconds(null);
+    return CanonicalHash.sha256Hex(
+        Arrays.asList(
+            podSpec,
+            getDomain().getAdminServerSpec().getDomainRestartVersion(),
+            ConfigMapHelper.getScriptsHash(),
+            resourceInputs));
+  }
+
   protected void logJobCreated() {
     LOGGER.info(getJobCreatedMessageKey(), getJobName());
   }
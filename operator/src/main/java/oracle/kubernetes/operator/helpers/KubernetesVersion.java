@@ -18,7 +18,7 @@ public class KubernetesVersion {
   private final int revision;
   private final String version;
 
-  KubernetesVersion(int major, int minor) {
+  public KubernetesVersion(int major, int minor) {
     this.major = major;
     this.minor = minor;
     revision = 0;
@@ -129,9 +129,9 @@ public class KubernetesVersion {
   // Even though subresources are supported at version 1.10, we've determined that the
   // 'status' subresource and the pattern of using "/status" doesn't actually work
   // until 1.13.  This is validated against the published recent changes doc.
-  // *NOTE*: To use this, update CRDHelper to include the status subresource and also
-  // update DomainStatusUpdater to use replaceDomainStatusAsync
-  boolean isCRDSubresourcesStatusPatternSupported() {
+  // CRDHelper includes the status subresource, and DomainStatusUpdater writes status through
+  // it, only at this version or later.
+  public boolean isCRDSubresourcesStatusPatternSupported() {
     return this.major > 1 || (this.major == 1 && this.minor >= 13);
   }
 
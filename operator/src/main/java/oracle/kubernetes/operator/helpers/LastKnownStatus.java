@@ -13,15 +13,28 @@ public class LastKnownStatus {
   private final String status;
   private final int unchangedCount;
   private final DateTime time;
+  private final boolean reportedByReadinessProbe;
 
   public LastKnownStatus(String status) {
     this(status, 0);
   }
 
   public LastKnownStatus(String status, int unchangedCount) {
+    this(status, unchangedCount, false);
+  }
+
+  /**
+   * Creates a status record.
+   *
+   * @param status the server state
+   * @param unchangedCount the number of consecutive times the same state has been reported
+   * @param reportedByReadinessProbe true if the state was taken from a readiness probe event
+   */
+  public LastKnownStatus(String status, int unchangedCount, boolean reportedByReadinessProbe) {
     this.status = status;
     this.unchangedCount = unchangedCount;
     this.time = new DateTime();
+    this.reportedByReadinessProbe = reportedByReadinessProbe;
   }
 
   public String getStatus() {
@@ -36,12 +49,17 @@ public class LastKnownStatus {
     return time;
   }
 
+  public boolean isReportedByReadinessProbe() {
+    return reportedByReadinessProbe;
+  }
+
   @Override
   public String toString() {
     return new ToStringBuilder(this)
         .append("status", status)
         .append("unchangedCount", unchangedCount)
         .append("time", time)
+        .append("reportedByReadinessProbe", reportedByReadinessProbe)
         .toString();
   }
 
@@ -57,7 +75,7 @@ public class LastKnownStatus {
 
     LastKnownStatus that = (LastKnownStatus) o;
 
-    // ignore time
+    // ignore time and source
     return new EqualsBuilder()
         .append(status, that.status)
         .append(unchangedCount, that.unchangedCount)
@@ -66,7 +84,7 @@ public class LastKnownStatus {
 
   @Override
   public int hashCode() {
-    // ignore time
+    // ignore time and source
     return new HashCodeBuilder().append(status).append(unchangedCount).toHashCode();
   }
 }
@@ -0,0 +1,178 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1Service;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.PodTuning;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+/**
+ * Remembers the pod and service models built for each domain, so that a make-right or recheck of a
+ * domain whose spec and topology have not changed reuses them, rather than building each model and
+ * its hash again. The models of a domain are discarded together when its generation, its topology
+ * or the pod tuning parameters change, or when it is deleted. Domains whose resources carry no
+ * generation are not cached. Cached models are shared, and must not be modified.
+ */
+public class ModelCache {
+  static final int MAX_DOMAINS = 1000;
+
+  private static ModelCache INSTANCE = new ModelCache(MAX_DOMAINS);
+
+  private final Map<String, DomainModels> domains;
+
+  ModelCache(int maxDomains) {
+    domains =
+        new LinkedHashMap<String, DomainModels>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, DomainModels> eldest) {
+            return size() > maxDomains;
+          }
+        };
+  }
+
+  public static ModelCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the pod model for a server, building it if no current model is cached.
+   *
+   * @param info the domain presence info
+   * @param topology the domain topology from which the model is built
+   * @param serverName the name of the server
+   * @param builder builds the model
+   * @return the pod model
+   */
+  V1Pod getPodModel(
+      DomainPresenceInfo info,
+      WlsDomainConfig topology,
+      String serverName,
+      Supplier<V1Pod> builder) {
+    return getModel(info, topology, serverName, builder, models -> models.pods);
+  }
+
+  /**
+   * Returns a service model, building it if no current model is cached.
+   *
+   * @param info the domain presence info
+   * @param topology the domain topology from which the model is built
+   * @param serviceName the name of the service
+   * @param builder builds the model
+   * @return the service model
+   */
+  V1Service getServiceModel(
+      DomainPresenceInfo info,
+      WlsDomainConfig topology,
+      String serviceName,
+      Supplier<V1Service> builder) {
+    return getModel(info, topology, serviceName, builder, models -> models.services);
+  }
+
+  private <T> T getModel(
+      DomainPresenceInfo info,
+      WlsDomainConfig topology,
+      String name,
+      Supplier<T> builder,
+      Function<DomainModels, Map<String, T>> selector) {
+    Long generation = getGeneration(info.getDomain());
+    if (generation == null) {
+      return builder.get();
+    }
+
+    PodTuning podTuning = getPodTuning();
+    String key = getKey(info.getNamespace(), info.getDomainUID());
+    synchronized (this) {
+      DomainModels models = domains.get(key);
+      if (models == null || !models.isCurrent(generation, topology, podTuning)) {
+        models = new DomainModels(generation, topology, podTuning);
+        domains.put(key, models);
+      }
+      T model = selector.apply(models).get(name);
+      if (model != null) {
+        return model;
+      }
+    }
+
+    // Builds outside the lock; a model built concurrently for the same name is equivalent
+    T model = builder.get();
+    synchronized (this) {
+      DomainModels models = domains.get(key);
+      if (models != null && models.isCurrent(generation, topology, podTuning)) {
+        selector.apply(models).putIfAbsent(name, model);
+      }
+    }
+    return model;
+  }
+
+  /**
+   * Discards the models of a domain.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUID the UID of the domain
+   */
+  public synchronized void remove(String namespace, String domainUID) {
+    domains.remove(getKey(namespace, domainUID));
+  }
+
+  synchronized int size() {
+    return domains.size();
+  }
+
+  private static String getKey(String namespace, String domainUID) {
+    return namespace + "/" + domainUID;
+  }
+
+  private static Long getGeneration(Domain domain) {
+    return Optional.ofNullable(domain)
+        .map(Domain::getMetadata)
+        .map(V1ObjectMeta::getGeneration)
+        .orElse(null);
+  }
+
+  private static PodTuning getPodTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getPodTuning)
+        .orElse(null);
+  }
+
+  private static class DomainModels {
+    private final long generation;
+    private final PodTuning podTuning;
+    private WlsDomainConfig topology;
+    private final Map<String, V1Pod> pods = new HashMap<>();
+    private final Map<String, V1Service> services = new HashMap<>();
+
+    DomainModels(long generation, WlsDomainConfig topology, PodTuning podTuning) {
+      this.generation = generation;
+      this.topology = topology;
+      this.podTuning = podTuning;
+    }
+
+    // The topology is read again for each make-right; once a new copy is found equal to the one
+    // from which the models were built, it is kept, so that later lookups compare it by identity.
+    boolean isCurrent(long generation, WlsDomainConfig topology, PodTuning podTuning) {
+      if (this.generation != generation || !Objects.equals(this.podTuning, podTuning)) {
+        return false;
+      } else if (this.topology == topology) {
+        return true;
+      } else if (Objects.equals(this.topology, topology)) {
+        this.topology = topology;
+        return true;
+      }
+      return false;
+    }
+  }
+}
@@ -78,7 +78,9 @@ public abstract class PodStepContext extends StepContextBase {
 
   void init() {
     createSubstitutionMap();
-    podModel = createPodModel();
+    podModel =
+        ModelCache.getInstance()
+            .getPodModel(info, domainTopology, getServerName(), this::createPodModel);
   }
 
   private void createSubstitutionMap() {
@@ -391,7 +393,7 @@ public abstract class PodStepContext extends StepContextBase {
 
   private boolean canUseCurrentPod(V1Pod currentPod) {
     boolean useCurrent =
-        AnnotationHelper.getHash(getPodModel()).equals(AnnotationHelper.getHash(currentPod));
+        AnnotationHelper.isHashMatch(getPodModel(), currentPod, this::createPodRecipe);
     if (!useCurrent && AnnotationHelper.getDebugString(currentPod) != null)
       LOGGER.info(
           MessageKeys.POD_DUMP,
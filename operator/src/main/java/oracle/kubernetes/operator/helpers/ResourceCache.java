@@ -0,0 +1,272 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1Service;
+import io.kubernetes.client.util.Watch;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.watcher.WatchListener;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+/**
+ * A local copy of the Kubernetes resources of one kind, kept current by the list and watch calls
+ * the operator already makes. Resources are indexed by namespace and domain UID. Only namespaces
+ * which have been started are cached, so that events which arrive after a namespace has been
+ * cleared do not bring it back. A namespace may be read from the cache only after it has been
+ * seeded from a complete list; until then, callers must go to the API server. Callers are given the
+ * cached resources themselves, which are shared with the watches that reported them, and must not
+ * be modified.
+ *
+ * @param <T> the type of resource cached
+ */
+public class ResourceCache<T> implements WatchListener<T> {
+  public static final ResourceCache<V1Pod> PODS =
+      new ResourceCache<>(V1Pod::getMetadata, p -> getLabel(p.getMetadata()));
+  public static final ResourceCache<V1Service> SERVICES =
+      new ResourceCache<>(V1Service::getMetadata, s -> getLabel(s.getMetadata()));
+  public static final ResourceCache<Domain> DOMAINS =
+      new ResourceCache<>(Domain::getMetadata, Domain::getDomainUID);
+
+  private final Function<T, V1ObjectMeta> getMetadata;
+  private final Function<T, String> getDomainUID;
+  private final Map<String, NamespaceCache> namespaces = new ConcurrentHashMap<>();
+
+  ResourceCache(Function<T, V1ObjectMeta> getMetadata, Function<T, String> getDomainUID) {
+    this.getMetadata = getMetadata;
+    this.getDomainUID = getDomainUID;
+  }
+
+  private static String getLabel(V1ObjectMeta metadata) {
+    return Optional.ofNullable(metadata)
+        .map(V1ObjectMeta::getLabels)
+        .map(labels -> labels.get(LabelConstants.DOMAINUID_LABEL))
+        .orElse(null);
+  }
+
+  private class NamespaceCache {
+    private final Map<String, T> byName = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, T>> byDomainUID = new ConcurrentHashMap<>();
+    // resource versions of deletions seen before the namespace was seeded, which the list may
+    // not yet reflect
+    private final Map<String, Long> deleted = new HashMap<>();
+    private volatile boolean seeded;
+
+    private synchronized void put(T resource) {
+      T cached = byName.get(getName(resource));
+      if (isDeletedAfter(resource)) {
+        return;
+      } else if (cached == null || !isNewer(cached, resource)) {
+        if (cached != null) {
+          unindex(cached);
+        }
+        byName.put(getName(resource), resource);
+        deleted.remove(getName(resource));
+        index(resource);
+      }
+    }
+
+    private boolean isDeletedAfter(T resource) {
+      return Optional.ofNullable(deleted.get(getName(resource)))
+          .map(version -> version >= getResourceVersion(getMetadata(resource)))
+          .orElse(false);
+    }
+
+    private synchronized void remove(T resource) {
+      T cached = byName.get(getName(resource));
+      if (cached == null || !isNewer(cached, resource)) {
+        if (cached != null) {
+          byName.remove(getName(resource));
+          unindex(cached);
+        }
+        if (!seeded) {
+          deleted.put(getName(resource), getResourceVersion(getMetadata(resource)));
+        }
+      }
+    }
+
+    // Resources which the list does not return were deleted before it was made, unless the
+    // watch has since reported a later version of them.
+    private synchronized void merge(Collection<T> resources, long listVersion) {
+      Map<String, T> listed =
+          resources.stream().collect(Collectors.toMap(ResourceCache.this::getName, r -> r));
+      for (T cached : new ArrayList<>(byName.values())) {
+        if (!listed.containsKey(getName(cached))
+            && getResourceVersion(getMetadata(cached)) <= listVersion) {
+          byName.remove(getName(cached));
+          unindex(cached);
+        }
+      }
+      listed.values().forEach(this::put);
+      deleted.clear();
+      seeded = true;
+    }
+
+    private void index(T resource) {
+      Optional.ofNullable(getDomainUID.apply(resource))
+          .ifPresent(
+              uid ->
+                  byDomainUID
+                      .computeIfAbsent(uid, k -> new ConcurrentHashMap<>())
+                      .put(getName(resource), resource));
+    }
+
+    private void unindex(T resource) {
+      Optional.ofNullable(getDomainUID.apply(resource))
+          .map(byDomainUID::get)
+          .ifPresent(resources -> resources.remove(getName(resource)));
+    }
+  }
+
+  /**
+   * Starts caching the resources of every kind in a namespace. Watch events for the namespace are
+   * kept from now on, so that none are lost between the list which seeds it and the watch.
+   *
+   * @param namespace the namespace
+   */
+  public static void startNamespace(String namespace) {
+    PODS.start(namespace);
+    SERVICES.start(namespace);
+    DOMAINS.start(namespace);
+  }
+
+  /**
+   * Starts caching resources in a namespace.
+   *
+   * @param namespace the namespace
+   */
+  public void start(String namespace) {
+    namespaces.putIfAbsent(namespace, new NamespaceCache());
+  }
+
+  /**
+   * Merges the result of a complete list into the cached resources of a started namespace, and
+   * marks the namespace as readable from the cache. Cached resources which are newer than the list
+   * are kept.
+   *
+   * @param namespace the namespace listed
+   * @param resources the resources returned by the list
+   * @param resourceVersion the resource version of the list
+   */
+  public void seed(String namespace, Collection<T> resources, String resourceVersion) {
+    Optional.ofNullable(namespaces.get(namespace))
+        .ifPresent(cache -> cache.merge(resources, parseResourceVersion(resourceVersion)));
+  }
+
+  /**
+   * Discards the resources of every kind cached for a namespace.
+   *
+   * @param namespace the namespace
+   */
+  public static void clearNamespace(String namespace) {
+    PODS.clear(namespace);
+    SERVICES.clear(namespace);
+    DOMAINS.clear(namespace);
+  }
+
+  /**
+   * Discards all cached resources in a namespace, and stops caching it.
+   *
+   * @param namespace the namespace
+   */
+  public void clear(String namespace) {
+    namespaces.remove(namespace);
+  }
+
+  @Override
+  public void receivedResponse(Watch.Response<T> response) {
+    if (response.object == null) {
+      return;
+    }
+
+    NamespaceCache cache = namespaces.get(getMetadata(response.object).getNamespace());
+    if (cache == null) {
+      return;
+    }
+
+    switch (response.type) {
+      case "ADDED":
+      case "MODIFIED":
+        cache.put(response.object);
+        break;
+      case "DELETED":
+        cache.remove(response.object);
+        break;
+      case "ERROR":
+      default:
+    }
+  }
+
+  /**
+   * Returns true if the namespace has been seeded from a complete list, so that its cached
+   * resources may be used in place of a list call.
+   *
+   * @param namespace the namespace
+   * @return true if the namespace may be read from the cache
+   */
+  public boolean isSeeded(String namespace) {
+    return Optional.ofNullable(namespaces.get(namespace)).map(c -> c.seeded).orElse(false);
+  }
+
+  /**
+   * Returns all cached resources in a namespace.
+   *
+   * @param namespace the namespace
+   * @return the resources
+   */
+  public List<T> list(String namespace) {
+    return Optional.ofNullable(namespaces.get(namespace))
+        .map(c -> new ArrayList<>(c.byName.values()))
+        .orElse(new ArrayList<>());
+  }
+
+  /**
+   * Returns the cached resources in a namespace which belong to the specified domain.
+   *
+   * @param namespace the namespace
+   * @param domainUID the domain UID
+   * @return the resources
+   */
+  public List<T> list(String namespace, String domainUID) {
+    return Optional.ofNullable(namespaces.get(namespace))
+        .map(c -> c.byDomainUID.get(domainUID))
+        .map(resources -> new ArrayList<>(resources.values()))
+        .orElse(new ArrayList<>());
+  }
+
+  private String getName(T resource) {
+    return getMetadata(resource).getName();
+  }
+
+  private V1ObjectMeta getMetadata(T resource) {
+    return getMetadata.apply(resource);
+  }
+
+  private boolean isNewer(T first, T second) {
+    return getResourceVersion(getMetadata(first)) > getResourceVersion(getMetadata(second));
+  }
+
+  private static long getResourceVersion(V1ObjectMeta metadata) {
+    return parseResourceVersion(metadata.getResourceVersion());
+  }
+
+  private static long parseResourceVersion(String resourceVersion) {
+    try {
+      return resourceVersion == null ? 0 : Long.parseLong(resourceVersion);
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
+}
@@ -347,6 +347,11 @@ public class ServiceHelper {
       }
     }
 
+    V1Service getModel() {
+      return ModelCache.getInstance()
+          .getServiceModel(info, domainTopology, createServiceName(), this::createModel);
+    }
+
     V1Service createModel() {
       return AnnotationHelper.withSha256Hash(createRecipe());
     }
@@ -451,7 +456,7 @@ public class ServiceHelper {
       V1Service service = getServiceFromRecord();
       if (service == null) {
         return createNewService(next);
-      } else if (canUseCurrentService(createModel(), service)) {
+      } else if (AnnotationHelper.isHashMatch(getModel(), service, this::createRecipe)) {
         logServiceExists();
         return next;
       } else {
@@ -525,7 +530,7 @@ public class ServiceHelper {
 
     private Step createService(String messageKey, Step next) {
       return new CallBuilder()
-          .createServiceAsync(getNamespace(), createModel(), new CreateResponse(messageKey, next));
+          .createServiceAsync(getNamespace(), getModel(), new CreateResponse(messageKey, next));
     }
 
     private class CreateResponse extends ResponseStep<V1Service> {
@@ -712,10 +717,6 @@ public class ServiceHelper {
     }
   }
 
-  private static boolean canUseCurrentService(V1Service model, V1Service current) {
-    return AnnotationHelper.getHash(model).equals(AnnotationHelper.getHash(current));
-  }
-
   /**
    * Create asynchronous step for external, NodePort service.
    *
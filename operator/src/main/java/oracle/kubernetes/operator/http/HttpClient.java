@@ -10,10 +10,14 @@ import io.kubernetes.client.models.V1ServicePort;
 import io.kubernetes.client.models.V1ServiceSpec;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.InvocationCallback;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Response;
 import oracle.kubernetes.operator.helpers.SecretHelper;
@@ -23,6 +27,7 @@ import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import org.glassfish.jersey.client.ClientProperties;
 
 /** HTTP Client. */
 public class HttpClient {
@@ -36,6 +41,14 @@ public class HttpClient {
   private static final String HTTP_PROTOCOL = "http://";
   private static final String HTTPS_PROTOCOL = "https://";
 
+  /**
+   * The JAX-RS client shared by all instances. Credentials are sent with each request, so one
+   * client, and the kept-alive connections it holds to each server, can serve every domain.
+   */
+  private static final class SharedClient {
+    private static final Client INSTANCE = ClientBuilder.newClient();
+  }
+
   // Please use one of the factory methods to get an instance of HttpClient.
   // Constructor is package access for unit testing
   HttpClient(Client httpClient, String encodedCredentials) {
@@ -142,6 +155,82 @@ public class HttpClient {
     return new Result(responseString, status, successful);
   }
 
+  /**
+   * Constructs a URL using the provided service URL and request URL, and use the resulting URL and
+   * the payload provided to issue a HTTP POST request from another thread, so that the calling
+   * thread need not wait for the response. The default Jersey connector is synchronous: the request
+   * still holds one thread of the Jersey client's async executor until it completes or times out,
+   * so this moves the blocking off the caller rather than removing it. The returned future
+   * completes with the result when the response arrives, or exceptionally if the request cannot be
+   * sent or does not complete within the timeout. Cancelling the future abandons the request.
+   *
+   * @param requestUrl The request URL containing the request of the REST call
+   * @param serviceURL The service URL containing the host and port of the server where the HTTP
+   *     request is to be sent to
+   * @param payload The payload to be used in the HTTP POST request
+   * @param timeoutSeconds Connect and read timeout for this request
+   * @return A future for the Result object containing the response from the REST call
+   */
+  public CompletableFuture<Result> executePostUrlOnServiceClusterIPAsync(
+      String requestUrl, String serviceURL, String payload, long timeoutSeconds) {
+    String url = serviceURL + requestUrl;
+    int timeoutMillis = (int) TimeUnit.SECONDS.toMillis(timeoutSeconds);
+    CompletableFuture<Result> result = new CompletableFuture<>();
+    Future<Response> request =
+        httpClient
+            .target(url)
+            .property(ClientProperties.CONNECT_TIMEOUT, timeoutMillis)
+            .property(ClientProperties.READ_TIMEOUT, timeoutMillis)
+            .request()
+            .accept("application/json")
+            .header("Authorization", "Basic " + encodedCredentials)
+            .header("X-Requested-By", "Weblogic Operator")
+            .async()
+            .post(
+                Entity.json(payload),
+                new InvocationCallback<Response>() {
+                  @Override
+                  public void completed(Response response) {
+                    try {
+                      result.complete(createPostResult(url, response));
+                    } catch (RuntimeException e) {
+                      result.completeExceptionally(e);
+                    }
+                  }
+
+                  @Override
+                  public void failed(Throwable throwable) {
+                    result.completeExceptionally(throwable);
+                  }
+                });
+    result.whenComplete(
+        (r, t) -> {
+          if (result.isCancelled()) {
+            request.cancel(true);
+          }
+        });
+    return result;
+  }
+
+  private Result createPostResult(String url, Response response) {
+    try {
+      String responseString = null;
+      int status = response.getStatus();
+      boolean successful = false;
+      if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
+        successful = true;
+        if (response.hasEntity()) {
+          responseString = String.valueOf(response.readEntity(String.class));
+        }
+      } else {
+        LOGGER.fine(MessageKeys.HTTP_METHOD_FAILED, "POST", url, status);
+      }
+      return new Result(responseString, status, successful);
+    } finally {
+      response.close();
+    }
+  }
+
   /**
    * Asynchronous {@link Step} for creating an authenticated HTTP client targeted at a server
    * instance.
@@ -240,7 +329,7 @@ public class HttpClient {
    */
   public static HttpClient createAuthenticatedClient(final byte[] username, final byte[] password) {
     // build client with authentication information.
-    Client client = ClientBuilder.newClient();
+    Client client = SharedClient.INSTANCE;
     String encodedCredentials = null;
     if (username != null && password != null) {
       byte[] usernameAndPassword = new byte[username.length + password.length + 1];
@@ -155,4 +155,17 @@ public class MessageKeys {
   public static final String EXTERNAL_CHANNEL_SERVICE_REPLACED = "WLSKO-0151";
   public static final String EXTERNAL_CHANNEL_SERVICE_EXISTS = "WLSKO-0152";
   public static final String WLS_HEALTH_READ_FAILED_NO_HTTPCLIENT = "WLSKO-0153";
+  public static final String ENGINE_METRICS = "WLSKO-0154";
+  public static final String ENGINE_VIRTUAL_THREADS_UNAVAILABLE = "WLSKO-0155";
+  public static final String WLS_DOMAIN_HEALTH_READ_FAILED = "WLSKO-0156";
+  public static final String WATCH_VIRTUAL_THREADS_UNAVAILABLE = "WLSKO-0157";
+  public static final String FIBER_SCHEDULER_METRICS = "WLSKO-0160";
+  public static final String CIRCUIT_BREAKER_OPENED = "WLSKO-0161";
+  public static final String CIRCUIT_BREAKER_CLOSED = "WLSKO-0162";
+  public static final String CIRCUIT_BREAKER_METRICS = "WLSKO-0163";
+  public static final String CIRCUIT_BREAKER_FAIL_FAST = "WLSKO-0164";
+  public static final String INTROSPECTOR_LOG_TRUNCATED = "WLSKO-0165";
+  public static final String INTROSPECTION_SKIPPED = "WLSKO-0166";
+  public static final String REVIEW_CACHE_METRICS = "WLSKO-0167";
+  public static final String SCALE_REQUEST_FAILED = "WLSKO-0168";
 }
@@ -0,0 +1,261 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import io.kubernetes.client.JSON;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import oracle.kubernetes.operator.DomainStatusListener;
+import oracle.kubernetes.operator.rest.backend.DomainEventSink;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+
+/**
+ * Sends changes in the state of WebLogic domains to the clients which subscribe to them, as
+ * server-sent events. Each event is formatted once, when it is published, and queued for each
+ * subscriber to the domain; the queues are drained by the executor, so that publishers never wait
+ * for clients. Each queue holds up to the configured number of events: when a client falls further
+ * behind, its oldest events are dropped, and it is sent a 'dropped' event with their number before
+ * the events which remain, so that it knows to read the domain's resources again. Subscribers which
+ * cannot be written to are removed; idle subscribers are sent a comment periodically, so that
+ * clients which have gone are found.
+ */
+public class DomainEvents implements DomainStatusListener {
+  static final String STATUS = "status";
+  static final String SERVER = "server";
+  static final String SCALE = "scale";
+  static final String DROPPED = "dropped";
+
+  private static final String HEARTBEAT = ":\n\n";
+
+  private static DomainEvents INSTANCE = new DomainEvents();
+
+  private final JSON json = new JSON();
+  private final AtomicLong sequence = new AtomicLong();
+  private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+  private volatile ScheduledExecutorService executor;
+  private volatile int bufferSize = 100;
+  private volatile int heartbeatSeconds = 30;
+  private ScheduledFuture<?> heartbeats;
+
+  public static DomainEvents getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Sets the executor which sends events to subscribers. Until it is set, events are sent by the
+   * threads which publish them. A slow client holds a thread of the executor while it is sent its
+   * events, so the executor should not be one whose threads run fibers.
+   *
+   * @param executor the executor
+   */
+  public void setExecutor(ScheduledExecutorService executor) {
+    this.executor = executor;
+    scheduleHeartbeats();
+  }
+
+  /**
+   * Sets how many events are held for each subscriber, and how often idle subscribers are checked.
+   *
+   * @param bufferSize the number of events held for a subscriber which has not yet been sent them
+   * @param heartbeatSeconds the time between checks of the subscribers, or 0 not to check them
+   */
+  public void configure(int bufferSize, int heartbeatSeconds) {
+    this.bufferSize = Math.max(1, bufferSize);
+    if (heartbeatSeconds != this.heartbeatSeconds) {
+      this.heartbeatSeconds = heartbeatSeconds;
+      scheduleHeartbeats();
+    }
+  }
+
+  private synchronized void scheduleHeartbeats() {
+    Optional.ofNullable(heartbeats).ifPresent(f -> f.cancel(false));
+    heartbeats = null;
+    if (executor != null && heartbeatSeconds > 0) {
+      heartbeats =
+          executor.scheduleWithFixedDelay(
+              this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+  }
+
+  private void sendHeartbeats() {
+    subscribers.values().forEach(s -> s.forEach(Subscriber::offerHeartbeat));
+  }
+
+  /**
+   * Subscribes to the events of a domain. The subscription lasts until the sink fails.
+   *
+   * @param domainUID the UID of the domain
+   * @param sink receives the events
+   */
+  public void subscribe(String domainUID, DomainEventSink sink) {
+    subscribers
+        .computeIfAbsent(domainUID, k -> ConcurrentHashMap.newKeySet())
+        .add(new Subscriber(domainUID, sink));
+  }
+
+  private void unsubscribe(Subscriber subscriber) {
+    subscribers.computeIfPresent(
+        subscriber.domainUID,
+        (k, s) -> {
+          s.remove(subscriber);
+          return s.isEmpty() ? null : s;
+        });
+  }
+
+  int getNumSubscribers(String domainUID) {
+    return Optional.ofNullable(subscribers.get(domainUID)).map(Set::size).orElse(0);
+  }
+
+  /**
+   * Publishes a change to the status of a domain. The event holds the status with its sequence
+   * number, so that a client can tell which of the statuses it has been sent is the current one.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUID the UID of the domain
+   * @param status the new status
+   * @param sequence the sequence number of the status
+   */
+  @Override
+  public void statusChanged(
+      String namespace, String domainUID, DomainStatus status, long sequence) {
+    Map<String, Object> data = new LinkedHashMap<>();
+    data.put("sequence", sequence);
+    data.put("status", status);
+    publish(domainUID, STATUS, data);
+  }
+
+  /**
+   * Publishes a change to the state of a server.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUID the UID of the domain
+   * @param serverName the name of the server
+   * @param state the new state of the server
+   */
+  @Override
+  public void serverStateChanged(
+      String namespace, String domainUID, String serverName, String state) {
+    Map<String, Object> data = new LinkedHashMap<>();
+    data.put("serverName", serverName);
+    data.put("state", state);
+    publish(domainUID, SERVER, data);
+  }
+
+  /**
+   * Publishes a change to the state of a request to scale a cluster.
+   *
+   * @param domainUID the UID of the domain
+   * @param cluster the name of the cluster
+   * @param managedServerCount the requested number of managed servers
+   * @param state the state of the request
+   * @param message a description of the failure, if the request failed
+   */
+  void scaleStateChanged(
+      String domainUID, String cluster, int managedServerCount, String state, String message) {
+    Map<String, Object> data = new LinkedHashMap<>();
+    data.put("cluster", cluster);
+    data.put("managedServerCount", managedServerCount);
+    data.put("state", state);
+    data.put("message", message);
+    publish(domainUID, SCALE, data);
+  }
+
+  private void publish(String domainUID, String type, Object data) {
+    Set<Subscriber> domainSubscribers =
+        Optional.ofNullable(domainUID).map(subscribers::get).orElse(null);
+    if (domainSubscribers == null || domainSubscribers.isEmpty()) {
+      return;
+    }
+
+    String event = format(sequence.incrementAndGet(), type, data);
+    domainSubscribers.forEach(s -> s.offer(event));
+  }
+
+  // A compact JSON value is a single line, as the data field of an event must be
+  private String format(Long id, String type, Object data) {
+    return Optional.ofNullable(id).map(i -> "id: " + i + "\n").orElse("")
+        + "event: "
+        + type
+        + "\ndata: "
+        + json.serialize(data)
+        + "\n\n";
+  }
+
+  private void execute(Runnable runnable) {
+    ScheduledExecutorService executor = this.executor;
+    if (executor == null) {
+      runnable.run();
+    } else {
+      executor.execute(runnable);
+    }
+  }
+
+  private class Subscriber {
+    private final String domainUID;
+    private final DomainEventSink sink;
+    private final Deque<String> events = new ArrayDeque<>();
+    private int numDropped;
+    private boolean draining;
+
+    Subscriber(String domainUID, DomainEventSink sink) {
+      this.domainUID = domainUID;
+      this.sink = sink;
+    }
+
+    synchronized void offer(String event) {
+      if (events.size() >= bufferSize) {
+        events.removeFirst();
+        numDropped++;
+      }
+      events.addLast(event);
+      if (!draining) {
+        draining = true;
+        execute(this::drain);
+      }
+    }
+
+    // a heartbeat is only needed when the subscriber has nothing else to be sent
+    synchronized void offerHeartbeat() {
+      if (!draining) {
+        offer(HEARTBEAT);
+      }
+    }
+
+    private void drain() {
+      String event;
+      while ((event = nextEvent()) != null) {
+        try {
+          sink.send(event);
+        } catch (IOException | RuntimeException e) {
+          unsubscribe(this);
+          return;
+        }
+      }
+    }
+
+    private synchronized String nextEvent() {
+      String event;
+      if (numDropped > 0) {
+        event = format(null, DROPPED, Collections.singletonMap("count", numDropped));
+        numDropped = 0;
+      } else {
+        event = events.pollFirst();
+        draining = event != null;
+      }
+      return event;
+    }
+  }
+}
@@ -10,33 +10,41 @@ import io.kubernetes.client.models.V1UserInfo;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
-import javax.json.Json;
-import javax.json.JsonPatchBuilder;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.Response.Status;
+import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.helpers.AuthenticationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
 import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.ResourceCache;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.rest.backend.DomainEventSink;
+import oracle.kubernetes.operator.rest.backend.DomainVersion;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
+import oracle.kubernetes.operator.rest.model.ScaleClusterStatusModel;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainList;
+import org.joda.time.DateTime;
 
 /**
  * RestBackendImpl implements the backend of the WebLogic operator REST api by making calls to
@@ -76,25 +84,9 @@ public class RestBackendImpl implements RestBackend {
     LOGGER.entering(domainUID, operation);
     boolean authorized;
     if (domainUID == null) {
-      authorized =
-          atz.check(
-              userInfo.getUsername(),
-              userInfo.getGroups(),
-              operation,
-              Resource.DOMAINS,
-              null,
-              Scope.cluster,
-              null);
+      authorized = isAllowed(operation, null, Scope.cluster, null);
     } else {
-      authorized =
-          atz.check(
-              userInfo.getUsername(),
-              userInfo.getGroups(),
-              operation,
-              Resource.DOMAINS,
-              domainUID,
-              Scope.namespace,
-              getNamespace(domainUID));
+      authorized = isAllowed(operation, domainUID, Scope.namespace, getNamespace(domainUID));
     }
     if (authorized) {
       LOGGER.exiting();
@@ -106,25 +98,41 @@ public class RestBackendImpl implements RestBackend {
     throw e;
   }
 
-  private String getNamespace(String domainUID) {
-    if (domainUID == null) {
-      throw new AssertionError(formatMessage(MessageKeys.NULL_DOMAIN_UID));
-    }
-
-    return getNamespace(domainUID, getDomainsList());
+  private boolean isAllowed(
+      Operation operation, String resourceName, Scope scope, String namespaceName) {
+    return ReviewCache.getInstance()
+        .isAllowed(
+            userInfo.getUsername(),
+            userInfo.getGroups(),
+            operation,
+            Resource.DOMAINS,
+            resourceName,
+            scope,
+            namespaceName,
+            () ->
+                atz.check(
+                    userInfo.getUsername(),
+                    userInfo.getGroups(),
+                    operation,
+                    Resource.DOMAINS,
+                    resourceName,
+                    scope,
+                    namespaceName));
   }
 
-  private String getNamespace(String domainUID, List<Domain> domains) {
+  private String getNamespace(String domainUID) {
     if (domainUID == null) {
       throw new AssertionError(formatMessage(MessageKeys.NULL_DOMAIN_UID));
     }
-    Domain domain = findDomain(domainUID, domains);
-    return domain.getMetadata().getNamespace();
+
+    return findDomain(domainUID).getMetadata().getNamespace();
   }
 
   private V1UserInfo authenticate(String accessToken) {
     LOGGER.entering();
-    V1TokenReviewStatus status = atn.check(principal, accessToken);
+    V1TokenReviewStatus status =
+        ReviewCache.getInstance()
+            .getTokenReviewStatus(principal, accessToken, () -> atn.check(principal, accessToken));
     if (status == null) {
       throw new AssertionError(formatMessage(MessageKeys.NULL_TOKEN_REVIEW_STATUS));
     }
@@ -161,15 +169,19 @@ public class RestBackendImpl implements RestBackend {
     return result;
   }
 
+  // The domains of each namespace are read from the domain cache, if seeded, or from Kubernetes;
+  // those which the operator is managing are replaced by its own, more recent, view of them.
   private List<Domain> getDomainsList() {
-    Collection<List<Domain>> c = new ArrayList<>();
+    Collection<Collection<Domain>> c = new ArrayList<>();
     try {
       for (String ns : targetNamespaces) {
-        DomainList dl = new CallBuilder().listDomain(ns);
-
-        if (dl != null) {
-          c.add(dl.getItems());
+        Map<String, Domain> domains = new LinkedHashMap<>();
+        for (Domain domain : listDomains(ns)) {
+          domains.put(domain.getDomainUID(), domain);
         }
+        Optional.ofNullable(DomainProcessorImpl.getManagedDomains(ns))
+            .ifPresent(managed -> managed.forEach(d -> domains.put(d.getDomainUID(), d)));
+        c.add(domains.values());
       }
       return c.stream().flatMap(Collection::stream).collect(Collectors.toList());
     } catch (ApiException e) {
@@ -177,15 +189,51 @@ public class RestBackendImpl implements RestBackend {
     }
   }
 
+  private List<Domain> listDomains(String ns) throws ApiException {
+    if (ResourceCache.DOMAINS.isSeeded(ns)) {
+      return ResourceCache.DOMAINS.list(ns);
+    }
+
+    DomainList dl = new CallBuilder().listDomain(ns);
+    return dl != null ? dl.getItems() : Collections.emptyList();
+  }
+
   @Override
   public boolean isDomainUID(String domainUID) {
     LOGGER.entering(domainUID);
     authorize(null, Operation.list);
-    boolean result = getDomainUIDs().contains(domainUID);
+    boolean result = findManagedDomain(domainUID) != null || getDomainUIDs().contains(domainUID);
     LOGGER.exiting(result);
     return result;
   }
 
+  @Override
+  public DomainVersion getDomainVersion(String domainUID) {
+    LOGGER.entering(domainUID);
+    authorize(domainUID, Operation.get);
+
+    Domain domain = findDomain(domainUID);
+    Date scanTime =
+        Optional.ofNullable(INSTANCE.getScan(domain.getMetadata().getNamespace(), domainUID))
+            .map(Scan::getLastScanTime)
+            .map(RestBackendImpl::toHttpDate)
+            .orElse(null);
+    DomainVersion result =
+        new DomainVersion(
+            String.format(
+                "%s-%d",
+                Optional.ofNullable(domain.getMetadata().getResourceVersion()).orElse("0"),
+                Optional.ofNullable(scanTime).map(Date::getTime).orElse(0L)),
+            scanTime);
+    LOGGER.exiting(result);
+    return result;
+  }
+
+  // HTTP dates have a precision of one second
+  private static Date toHttpDate(DateTime time) {
+    return new Date(time.getMillis() - time.getMillis() % 1000);
+  }
+
   @Override
   public Set<String> getClusters(String domainUID) {
     LOGGER.entering(domainUID);
@@ -222,41 +270,67 @@ public class RestBackendImpl implements RestBackend {
 
     authorize(domainUID, Operation.update);
 
-    List<Domain> domains = getDomainsList();
-    Domain domain = findDomain(domainUID, domains);
+    Domain domain = findDomain(domainUID);
 
     verifyWLSConfiguredClusterCapacity(domain, cluster, managedServerCount);
 
-    patchDomain(domain, cluster, managedServerCount);
+    ScaleRequests.getInstance().submit(domain, cluster, managedServerCount);
     LOGGER.exiting();
   }
 
-  private static final String NEW_CLUSTER =
-      "{'clusterName':'%s','replicas':%d}".replaceAll("'", "\"");
+  @Override
+  public ScaleClusterStatusModel getScaleClusterStatus(String domainUID, String cluster) {
+    LOGGER.entering(domainUID, cluster);
+    authorize(domainUID, Operation.get);
 
-  private void patchDomain(Domain domain, String cluster, int replicas) {
-    if (replicas == domain.getReplicaCount(cluster)) return;
+    Domain domain = findDomain(domainUID);
+    ScaleClusterStatusModel result =
+        Optional.ofNullable(
+                ScaleRequests.getInstance()
+                    .getStatus(domain.getMetadata().getNamespace(), domainUID, cluster))
+            .map(status -> createScaleClusterStatus(domain, cluster, status))
+            .orElse(null);
+    LOGGER.exiting(result);
+    return result;
+  }
 
-    try {
-      JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
-      int index = getClusterIndex(domain, cluster);
-      if (index < 0)
-        patchBuilder.add("/spec/clusters/0", String.format(NEW_CLUSTER, cluster, replicas));
-      else patchBuilder.replace("/spec/clusters/" + index + "/replicas", replicas);
-
-      new CallBuilder()
-          .patchDomain(
-              domain.getDomainUID(), domain.getMetadata().getNamespace(), patchBuilder.build());
-    } catch (ApiException e) {
-      throw handleApiException(e);
-    }
+  @Override
+  public void subscribeToDomainEvents(String domainUID, DomainEventSink sink) {
+    LOGGER.entering(domainUID);
+    authorize(domainUID, Operation.watch);
+
+    findDomain(domainUID);
+    DomainEvents.getInstance().subscribe(domainUID, sink);
+    LOGGER.exiting();
+  }
+
+  private ScaleClusterStatusModel createScaleClusterStatus(
+      Domain domain, String cluster, ScaleRequests.Status status) {
+    int running = getRunningServerCount(domain, cluster);
+    return new ScaleClusterStatusModel(
+        status.managedServerCount, running, getState(status, running), status.message);
   }
 
-  private int getClusterIndex(Domain domain, String cluster) {
-    for (int i = 0; i < domain.getSpec().getClusters().size(); i++)
-      if (cluster.equals(domain.getSpec().getClusters().get(i).getClusterName())) return i;
+  private String getState(ScaleRequests.Status status, int running) {
+    switch (status.state) {
+      case FAILED:
+        return ScaleClusterStatusModel.FAILED;
+      case APPLIED:
+        return running == status.managedServerCount
+            ? ScaleClusterStatusModel.COMPLETED
+            : ScaleClusterStatusModel.APPLIED;
+      default:
+        return ScaleClusterStatusModel.PENDING;
+    }
+  }
 
-    return -1;
+  // The servers reported by the operator's latest view of the domain status
+  private int getRunningServerCount(Domain domain, String cluster) {
+    return ScaleRequests.getRunningServerCount(
+        Optional.ofNullable(DomainProcessorImpl.getManagedDomain(domain.getDomainUID()))
+            .map(Domain::getStatus)
+            .orElse(null),
+        cluster);
   }
 
   private void verifyWLSConfiguredClusterCapacity(
@@ -287,17 +361,10 @@ public class RestBackendImpl implements RestBackend {
   }
 
   interface TopologyRetriever {
-    WlsDomainConfig getWlsDomainConfig(String ns, String domainUID);
+    Scan getScan(String ns, String domainUID);
   }
 
-  private static final TopologyRetriever INSTANCE =
-      (String ns, String domainUID) -> {
-        Scan s = ScanCache.INSTANCE.lookupScan(ns, domainUID);
-        if (s != null) {
-          return s.getWlsDomainConfig();
-        }
-        return null;
-      };
+  private static final TopologyRetriever INSTANCE = ScanCache.INSTANCE::lookupScan;
 
   /**
    * Find the WlsDomainConfig corresponding to the given domain UID.
@@ -307,15 +374,31 @@ public class RestBackendImpl implements RestBackend {
    *     domain UID. This method returns an empty configuration object if no configuration is found.
    */
   WlsDomainConfig getWlsDomainConfig(String domainUID) {
-    for (String ns : targetNamespaces) {
-      WlsDomainConfig config = INSTANCE.getWlsDomainConfig(ns, domainUID);
-      if (config != null) {
-        return config;
+    Domain domain = findManagedDomain(domainUID);
+    Collection<String> namespaces =
+        domain != null
+            ? Collections.singletonList(domain.getMetadata().getNamespace())
+            : targetNamespaces;
+    for (String ns : namespaces) {
+      Scan s = INSTANCE.getScan(ns, domainUID);
+      if (s != null && s.getWlsDomainConfig() != null) {
+        return s.getWlsDomainConfig();
       }
     }
     return new WlsDomainConfig(null);
   }
 
+  private Domain findManagedDomain(String domainUID) {
+    return Optional.ofNullable(DomainProcessorImpl.getManagedDomain(domainUID))
+        .filter(d -> targetNamespaces.contains(d.getMetadata().getNamespace()))
+        .orElse(null);
+  }
+
+  private Domain findDomain(String domainUID) {
+    return Optional.ofNullable(findManagedDomain(domainUID))
+        .orElseGet(() -> findDomain(domainUID, getDomainsList()));
+  }
+
   private Domain findDomain(String domainUID, List<Domain> domains) {
     for (Domain domain : domains) {
       if (domainUID.equals(domain.getDomainUID())) {
@@ -16,12 +16,14 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import javax.net.ssl.KeyManager;
 import javax.net.ssl.SSLContext;
+import javax.ws.rs.core.MediaType;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.resource.VersionsResource;
 import oracle.kubernetes.operator.work.Container;
 import oracle.kubernetes.operator.work.ContainerResolver;
 import org.apache.commons.codec.binary.Base64;
+import org.glassfish.grizzly.http.CompressionConfig;
 import org.glassfish.grizzly.http.server.HttpServer;
 import org.glassfish.grizzly.http.server.NetworkListener;
 import org.glassfish.grizzly.nio.transport.TCPNIOTransport;
@@ -48,6 +50,7 @@ import org.glassfish.jersey.server.filter.CsrfProtectionFilter;
 public class RestServer {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final int CORE_POOL_SIZE = 3;
+  private static final int COMPRESSION_MIN_SIZE = 1024;
 
   private static RestServer INSTANCE = null;
 
@@ -269,6 +272,12 @@ public class RestServer {
     Collection<NetworkListener> nlc = h.getListeners();
     if (nlc != null) {
       for (NetworkListener nl : nlc) {
+        // gzip JSON responses for clients which accept it; small ones are not worth compressing
+        CompressionConfig compression = nl.getCompressionConfig();
+        compression.setCompressionMode(CompressionConfig.CompressionMode.ON);
+        compression.setCompressionMinSize(COMPRESSION_MIN_SIZE);
+        compression.setCompressibleMimeTypes(MediaType.APPLICATION_JSON);
+
         TCPNIOTransport transport = nl.getTransport();
         ThreadPoolConfig t = transport.getWorkerThreadPoolConfig();
         if (t == null) {
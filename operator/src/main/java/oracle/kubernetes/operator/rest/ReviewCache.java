@@ -0,0 +1,200 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import io.kubernetes.client.models.V1TokenReviewStatus;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Remembers the results of the token reviews and subject access reviews made for REST requests, so
+ * that repeated requests from the same client do not each need several calls to the Kubernetes API
+ * server before any real work is done. Token reviews are keyed by a hash of the token, so that
+ * tokens are not kept in memory. Positive results are kept for the configured time to live;
+ * negative results, which include reviews that failed, for a shorter time, so that a client which
+ * has just been granted access does not wait long. Each kind of review keeps up to the configured
+ * number of results, discarding the least recently used first.
+ */
+public class ReviewCache {
+  static final String TOKEN_REVIEWS = "tokenReviews";
+  static final String ACCESS_REVIEWS = "accessReviews";
+
+  private static ReviewCache INSTANCE = new ReviewCache(System::nanoTime);
+
+  private final LongSupplier clock;
+  private final Reviews<V1TokenReviewStatus> tokenReviews = new Reviews<>();
+  private final Reviews<Boolean> accessReviews = new Reviews<>();
+  private volatile int ttlSeconds = 30;
+  private volatile int negativeTtlSeconds = 5;
+  private volatile int maxEntries = 1000;
+
+  ReviewCache(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  public static ReviewCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Sets how long results are kept, and how many.
+   *
+   * @param ttlSeconds the time for which a positive result is kept, or 0 to keep no results
+   * @param negativeTtlSeconds the time for which a negative result is kept, or 0 to keep none
+   * @param maxEntries the maximum number of results kept for each kind of review
+   */
+  public void configure(int ttlSeconds, int negativeTtlSeconds, int maxEntries) {
+    this.ttlSeconds = ttlSeconds;
+    this.negativeTtlSeconds = negativeTtlSeconds;
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * Returns the status of the review of a token, reviewing it if no current result is kept. A
+   * review which returns no status is not kept.
+   *
+   * @param principal the principal which reviews the token
+   * @param token the access token
+   * @param reviewer reviews the token
+   * @return the status of the review, or null if it could not be done
+   */
+  V1TokenReviewStatus getTokenReviewStatus(
+      String principal, String token, Supplier<V1TokenReviewStatus> reviewer) {
+    return tokenReviews.get(
+        DigestUtils.sha256Hex(principal + "\n" + token), reviewer, ReviewCache::isAuthenticated);
+  }
+
+  private static boolean isAuthenticated(V1TokenReviewStatus status) {
+    return status.getError() == null && Boolean.TRUE.equals(status.isAuthenticated());
+  }
+
+  /**
+   * Returns true if a user may perform an operation, reviewing the access if no current result is
+   * kept.
+   *
+   * @param user the name of the user
+   * @param groups the groups of the user
+   * @param operation the operation
+   * @param resource the kind of resource
+   * @param resourceName the name of the resource, or null
+   * @param scope the scope of the operation
+   * @param namespace the namespace of the resource, or null
+   * @param reviewer reviews the access
+   * @return true if the operation is allowed
+   */
+  boolean isAllowed(
+      String user,
+      List<String> groups,
+      Operation operation,
+      Resource resource,
+      String resourceName,
+      Scope scope,
+      String namespace,
+      Supplier<Boolean> reviewer) {
+    List<Object> key =
+        Arrays.asList(user, groups, operation, resource, resourceName, scope, namespace);
+    return accessReviews.get(key, reviewer, Boolean::booleanValue);
+  }
+
+  /**
+   * Returns the hit and miss counts of each kind of review.
+   *
+   * @return metrics by kind of review
+   */
+  public Map<String, Metrics> getMetrics() {
+    Map<String, Metrics> metrics = new TreeMap<>();
+    metrics.put(TOKEN_REVIEWS, tokenReviews.getMetrics());
+    metrics.put(ACCESS_REVIEWS, accessReviews.getMetrics());
+    return metrics;
+  }
+
+  private long nowMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(clock.getAsLong());
+  }
+
+  private class Reviews<V> {
+    private final Map<Object, Result<V>> results =
+        new LinkedHashMap<Object, Result<V>>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Object, Result<V>> eldest) {
+            return size() > maxEntries;
+          }
+        };
+    private long hits;
+    private long misses;
+
+    // Reviews are made outside of the lock, so that a slow review does not hold up others; a
+    // result from concurrent reviews of the same key replaces the one before it.
+    V get(Object key, Supplier<V> reviewer, Predicate<V> isPositive) {
+      synchronized (this) {
+        Result<V> result = results.get(key);
+        if (result != null && result.expiresAtMillis > nowMillis()) {
+          hits++;
+          return result.value;
+        }
+        misses++;
+      }
+
+      V value = reviewer.get();
+      long ttl = value == null ? 0 : isPositive.test(value) ? ttlSeconds : negativeTtlSeconds;
+      synchronized (this) {
+        if (ttl > 0) {
+          results.put(key, new Result<>(value, nowMillis() + TimeUnit.SECONDS.toMillis(ttl)));
+        } else {
+          results.remove(key);
+        }
+      }
+      return value;
+    }
+
+    synchronized Metrics getMetrics() {
+      return new Metrics(results.size(), hits, misses);
+    }
+  }
+
+  private static class Result<V> {
+    private final V value;
+    private final long expiresAtMillis;
+
+    Result(V value, long expiresAtMillis) {
+      this.value = value;
+      this.expiresAtMillis = expiresAtMillis;
+    }
+  }
+
+  /** Point-in-time view of the results kept for one kind of review. */
+  public static class Metrics {
+    public final int size;
+    public final long hits;
+    public final long misses;
+
+    Metrics(int size, long hits, long misses) {
+      this.size = size;
+      this.hits = hits;
+      this.misses = misses;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("size", size)
+          .append("hits", hits)
+          .append("misses", misses)
+          .toString();
+    }
+  }
+}
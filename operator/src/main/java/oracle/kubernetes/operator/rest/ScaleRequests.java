@@ -0,0 +1,348 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.json.Json;
+import javax.json.JsonPatch;
+import javax.json.JsonPatchBuilder;
+import oracle.kubernetes.operator.DomainProcessorImpl;
+import oracle.kubernetes.operator.DomainStatusListener;
+import oracle.kubernetes.operator.WebLogicConstants;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.rest.model.ScaleClusterStatusModel;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+
+/**
+ * Applies requests to scale WebLogic clusters in the background. The requests for a cluster which
+ * arrive within a short period are merged, keeping either the last or the largest requested number
+ * of managed servers, and applied with a single patch of the domain resource. Requests which arrive
+ * while a patch is being made are applied by a further patch once it completes. The state of the
+ * latest request for each cluster is kept, so that callers may follow it.
+ */
+public class ScaleRequests implements DomainStatusListener {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private static final String NEW_CLUSTER =
+      "{'clusterName':'%s','replicas':%d}".replaceAll("'", "\"");
+
+  private static ScaleRequests INSTANCE = new ScaleRequests();
+
+  public enum State {
+    PENDING,
+    APPLIED,
+    FAILED
+  }
+
+  private final Map<String, ClusterRequests> clusters = new ConcurrentHashMap<>();
+  private volatile Engine engine;
+  private volatile long coalesceMillis = 200;
+  private volatile boolean maxWins;
+
+  public static ScaleRequests getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Sets the engine which runs the fibers that apply requests.
+   *
+   * @param engine the engine
+   */
+  public void setEngine(Engine engine) {
+    this.engine = engine;
+  }
+
+  /**
+   * Sets how requests are merged.
+   *
+   * @param coalesceMillis the time for which a request waits for others to merge with it
+   * @param maxWins true if merged requests keep the largest number of managed servers, false if
+   *     they keep the last
+   */
+  public void configure(long coalesceMillis, boolean maxWins) {
+    this.coalesceMillis = coalesceMillis;
+    this.maxWins = maxWins;
+  }
+
+  /**
+   * Accepts a request to scale a cluster.
+   *
+   * @param domain the domain which contains the cluster
+   * @param cluster the name of the cluster
+   * @param managedServerCount the requested number of managed servers
+   */
+  void submit(Domain domain, String cluster, int managedServerCount) {
+    clusters
+        .computeIfAbsent(
+            getKey(domain.getMetadata().getNamespace(), domain.getDomainUID(), cluster),
+            k -> new ClusterRequests(domain, cluster))
+        .add(managedServerCount);
+  }
+
+  /**
+   * Returns the state of the latest request to scale a cluster.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUID the UID of the domain
+   * @param cluster the name of the cluster
+   * @return the state, or null if no request has been accepted for the cluster
+   */
+  Status getStatus(String namespace, String domainUID, String cluster) {
+    return Optional.ofNullable(clusters.get(getKey(namespace, domainUID, cluster)))
+        .map(ClusterRequests::getStatus)
+        .orElse(null);
+  }
+
+  /**
+   * Publishes the completion of any applied request to scale a cluster of a domain whose requested
+   * number of managed servers is running, according to the domain's new status.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUID the UID of the domain
+   * @param status the new status of the domain
+   * @param sequence the sequence number of the status
+   */
+  @Override
+  public void statusChanged(
+      String namespace, String domainUID, DomainStatus status, long sequence) {
+    clusters.values().stream()
+        .filter(r -> r.isForDomain(namespace, domainUID))
+        .forEach(r -> r.checkCompleted(status));
+  }
+
+  @Override
+  public void serverStateChanged(
+      String namespace, String domainUID, String serverName, String state) {
+    // completion is judged from the domain status, which includes the states of the servers
+  }
+
+  /**
+   * Returns the number of managed servers of a cluster which are running.
+   *
+   * @param status the status of the domain
+   * @param cluster the name of the cluster
+   * @return the number of running servers
+   */
+  static int getRunningServerCount(DomainStatus status, String cluster) {
+    return (int)
+        Optional.ofNullable(status).map(DomainStatus::getServers).orElse(Collections.emptyList())
+            .stream()
+            .filter(server -> cluster.equals(server.getClusterName()))
+            .filter(server -> WebLogicConstants.RUNNING_STATE.equals(server.getState()))
+            .count();
+  }
+
+  private static String getKey(String namespace, String domainUID, String cluster) {
+    return namespace + "/" + domainUID + "/" + cluster;
+  }
+
+  /**
+   * Creates a patch which sets the number of replicas of a cluster. If the domain already has
+   * settings for the cluster, the patch only applies while they remain in the same position.
+   *
+   * @param domain the domain
+   * @param cluster the name of the cluster
+   * @param replicas the number of replicas
+   * @return the patch
+   */
+  static JsonPatch createReplicasPatch(Domain domain, String cluster, int replicas) {
+    JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+    int index = getClusterIndex(domain, cluster);
+    if (index < 0) {
+      patchBuilder.add("/spec/clusters/0", String.format(NEW_CLUSTER, cluster, replicas));
+    } else {
+      patchBuilder.test("/spec/clusters/" + index + "/clusterName", cluster);
+      patchBuilder.replace("/spec/clusters/" + index + "/replicas", replicas);
+    }
+    return patchBuilder.build();
+  }
+
+  private static int getClusterIndex(Domain domain, String cluster) {
+    for (int i = 0; i < domain.getSpec().getClusters().size(); i++) {
+      if (cluster.equals(domain.getSpec().getClusters().get(i).getClusterName())) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private class ClusterRequests {
+    private final String namespace;
+    private final String domainUID;
+    private final String domainName;
+    private final String cluster;
+    private Integer pendingCount;
+    private int count;
+    private State state;
+    private String message;
+    private boolean scheduled;
+    private boolean applying;
+    private boolean completionPublished;
+
+    ClusterRequests(Domain domain, String cluster) {
+      this.namespace = domain.getMetadata().getNamespace();
+      this.domainUID = domain.getDomainUID();
+      this.domainName = domain.getMetadata().getName();
+      this.cluster = cluster;
+    }
+
+    synchronized void add(int managedServerCount) {
+      if (pendingCount == null || !maxWins) {
+        pendingCount = managedServerCount;
+      } else {
+        pendingCount = Math.max(pendingCount, managedServerCount);
+      }
+      state = State.PENDING;
+      message = null;
+      if (!scheduled && !applying) {
+        scheduleApply();
+      }
+    }
+
+    private void scheduleApply() {
+      scheduled = true;
+      engine.getExecutor().schedule(this::apply, coalesceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void apply() {
+      int managedServerCount;
+      synchronized (this) {
+        scheduled = false;
+        applying = true;
+        managedServerCount = pendingCount;
+        count = managedServerCount;
+        pendingCount = null;
+        completionPublished = false;
+      }
+
+      engine
+          .createFiber()
+          .start(
+              new CallBuilder()
+                  .readDomainAsync(
+                      domainName, namespace, new ReadDomainResponseStep(managedServerCount)),
+              new Packet(),
+              new CompletionCallback() {
+                @Override
+                public void onCompletion(Packet packet) {
+                  applied(State.APPLIED, null);
+                }
+
+                @Override
+                public void onThrowable(Packet packet, Throwable throwable) {
+                  LOGGER.warning(
+                      MessageKeys.SCALE_REQUEST_FAILED,
+                      cluster,
+                      domainName,
+                      managedServerCount,
+                      throwable);
+                  applied(State.FAILED, throwable.toString());
+                }
+              });
+    }
+
+    private synchronized void applied(State state, String message) {
+      applying = false;
+      if (pendingCount != null) {
+        scheduleApply();
+      } else {
+        this.state = state;
+        this.message = message;
+        DomainEvents.getInstance()
+            .scaleStateChanged(
+                domainUID,
+                cluster,
+                count,
+                state == State.APPLIED
+                    ? ScaleClusterStatusModel.APPLIED
+                    : ScaleClusterStatusModel.FAILED,
+                message);
+        Optional.ofNullable(DomainProcessorImpl.getManagedDomain(domainUID))
+            .ifPresent(d -> checkCompleted(d.getStatus()));
+      }
+    }
+
+    boolean isForDomain(String namespace, String domainUID) {
+      return this.namespace.equals(namespace) && this.domainUID.equals(domainUID);
+    }
+
+    synchronized void checkCompleted(DomainStatus status) {
+      if (state == State.APPLIED
+          && pendingCount == null
+          && !completionPublished
+          && getRunningServerCount(status, cluster) == count) {
+        completionPublished = true;
+        DomainEvents.getInstance()
+            .scaleStateChanged(domainUID, cluster, count, ScaleClusterStatusModel.COMPLETED, null);
+      }
+    }
+
+    synchronized Status getStatus() {
+      return new Status(Optional.ofNullable(pendingCount).orElse(count), state, message);
+    }
+
+    private class ReadDomainResponseStep extends ResponseStep<Domain> {
+      private final int managedServerCount;
+
+      ReadDomainResponseStep(int managedServerCount) {
+        this.managedServerCount = managedServerCount;
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+        Domain domain = callResponse.getResult();
+        if (domain == null || domain.getReplicaCount(cluster) == managedServerCount) {
+          return doNext(packet);
+        }
+
+        return doNext(createPatchStep(domain), packet);
+      }
+
+      private Step createPatchStep(Domain domain) {
+        return new CallBuilder()
+            .patchDomainAsync(
+                domainName,
+                namespace,
+                createReplicasPatch(domain, cluster, managedServerCount),
+                new PatchDomainResponseStep());
+      }
+    }
+  }
+
+  private static class PatchDomainResponseStep extends ResponseStep<Domain> {
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+      return doNext(packet);
+    }
+  }
+
+  /** The state of the latest request to scale a cluster. */
+  static class Status {
+    final int managedServerCount;
+    final State state;
+    final String message;
+
+    Status(int managedServerCount, State state, String message) {
+      this.managedServerCount = managedServerCount;
+      this.state = state;
+      this.message = message;
+    }
+  }
+}
@@ -0,0 +1,19 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.backend;
+
+import java.io.IOException;
+
+/** DomainEventSink receives the server-sent events which describe changes to a WebLogic domain. */
+public interface DomainEventSink {
+
+  /**
+   * Send an event to the client.
+   *
+   * @param event - the event, formatted as a server-sent event.
+   * @throws IOException if the client can no longer be sent events.
+   */
+  void send(String event) throws IOException;
+}
@@ -0,0 +1,37 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.backend;
+
+import java.util.Date;
+
+/**
+ * DomainVersion identifies the state of a WebLogic domain from which the WebLogic operator REST
+ * resources describing it are built, so that clients which already have the current descriptions
+ * need not be sent them again.
+ */
+public class DomainVersion {
+  private final String tag;
+  private final Date lastModified;
+
+  /**
+   * Construct a DomainVersion.
+   *
+   * @param tag - a value which changes whenever the domain resource or its topology changes.
+   * @param lastModified - the time at which the domain's topology was last scanned, or null if it
+   *     has not been scanned.
+   */
+  public DomainVersion(String tag, Date lastModified) {
+    this.tag = tag;
+    this.lastModified = lastModified;
+  }
+
+  public String getTag() {
+    return tag;
+  }
+
+  public Date getLastModified() {
+    return lastModified;
+  }
+}
@@ -5,6 +5,7 @@
 package oracle.kubernetes.operator.rest.backend;
 
 import java.util.Set;
+import oracle.kubernetes.operator.rest.model.ScaleClusterStatusModel;
 
 /**
  * The RestBackend interface is to implement all of the WebLogic Operator REST resources that need
@@ -29,6 +30,17 @@ public interface RestBackend {
    */
   public boolean isDomainUID(String domainUID);
 
+  /**
+   * Get the version of a WebLogic domain from which its REST resources are built. Resources whose
+   * version has not changed since a client last read them need not be built again.
+   *
+   * @param domainUID - the unique identifier assigned to the Weblogic domain when it was registered
+   *     with the WebLogic operator. The caller is responsible for calling isDomainUID first and not
+   *     calling this method if the domain has not been registered.
+   * @return the version of the domain.
+   */
+  public DomainVersion getDomainVersion(String domainUID);
+
   /**
    * Get the names of the clusters in a WebLogic domain.
    *
@@ -51,10 +63,11 @@ public interface RestBackend {
   public boolean isCluster(String domainUID, String cluster);
 
   /**
-   * Scales the number of managed servers in a WebLogic cluster. This method configures the desired
-   * number of managed servers, both at the Kubernetes and WebLogic cluster levels, then returns. It
-   * does not wait for the number of running managed servers to match the configured number of
-   * servers.
+   * Requests that the number of managed servers in a WebLogic cluster be scaled. This method checks
+   * the request and accepts it, then returns. The desired number of managed servers is configured,
+   * both at the Kubernetes and WebLogic cluster levels, in the background; requests for the same
+   * cluster which arrive close together are merged. Use getScaleClusterStatus to follow the
+   * request.
    *
    * @param domainUID - the unique identifier assigned to the Weblogic domain when it was registered
    *     with the WebLogic operator. The caller is responsible for calling isDomainUID first and not
@@ -64,4 +77,25 @@ public interface RestBackend {
    * @param managedServerCount - the desired number of WebLogic managed servers.
    */
   public void scaleCluster(String domainUID, String cluster, int managedServerCount);
+
+  /**
+   * Gets the state of the latest request to scale a WebLogic cluster.
+   *
+   * @param domainUID - the unique identifier assigned to the Weblogic domain when it was registered
+   *     with the WebLogic operator.
+   * @param cluster - the name of the cluster in the WebLogic domain.
+   * @return the state of the request, or null if no request has been made to scale the cluster.
+   */
+  public ScaleClusterStatusModel getScaleClusterStatus(String domainUID, String cluster);
+
+  /**
+   * Subscribes to the changes to a WebLogic domain: changes to its status, changes to the state of
+   * its servers, and changes to the state of requests to scale its clusters.
+   *
+   * @param domainUID - the unique identifier assigned to the Weblogic domain when it was registered
+   *     with the WebLogic operator. The caller is responsible for calling isDomainUID first and not
+   *     calling this method if the domain has not been registered.
+   * @param sink - receives the changes, as server-sent events, until it fails.
+   */
+  public void subscribeToDomainEvents(String domainUID, DomainEventSink sink);
 }
@@ -0,0 +1,138 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+/**
+ * ScaleClusterStatusModel describes the state of the latest request to scale a WebLogic cluster.
+ */
+public class ScaleClusterStatusModel extends ItemModel {
+
+  /** The request has been accepted, but the domain has not yet been updated. */
+  public static final String PENDING = "Pending";
+
+  /** The domain has been updated, but not all of the requested managed servers are running. */
+  public static final String APPLIED = "Applied";
+
+  /** The domain has been updated, and the requested number of managed servers is running. */
+  public static final String COMPLETED = "Completed";
+
+  /** The domain could not be updated. */
+  public static final String FAILED = "Failed";
+
+  /** Construct an empty ScaleClusterStatusModel. */
+  public ScaleClusterStatusModel() {}
+
+  /**
+   * Construct a populated ScaleClusterStatusModel.
+   *
+   * @param managedServerCount - the requested number of managed servers.
+   * @param runningManagedServerCount - the number of managed servers in the cluster which are
+   *     running.
+   * @param state - the state of the request.
+   * @param message - a description of the failure, if the request failed.
+   */
+  public ScaleClusterStatusModel(
+      int managedServerCount, int runningManagedServerCount, String state, String message) {
+    setManagedServerCount(managedServerCount);
+    setRunningManagedServerCount(runningManagedServerCount);
+    setState(state);
+    setMessage(message);
+  }
+
+  private int managedServerCount;
+
+  /**
+   * Get the requested number of managed servers. If several requests were merged, this is the
+   * number which is applied.
+   *
+   * @return the requested number of managed servers.
+   */
+  public int getManagedServerCount() {
+    return managedServerCount;
+  }
+
+  /**
+   * Set the requested number of managed servers.
+   *
+   * @param managedServerCount - the requested number of managed servers.
+   */
+  public void setManagedServerCount(int managedServerCount) {
+    this.managedServerCount = managedServerCount;
+  }
+
+  private int runningManagedServerCount;
+
+  /**
+   * Get the number of managed servers in the cluster which are running.
+   *
+   * @return the number of running managed servers.
+   */
+  public int getRunningManagedServerCount() {
+    return runningManagedServerCount;
+  }
+
+  /**
+   * Set the number of managed servers in the cluster which are running.
+   *
+   * @param runningManagedServerCount - the number of running managed servers.
+   */
+  public void setRunningManagedServerCount(int runningManagedServerCount) {
+    this.runningManagedServerCount = runningManagedServerCount;
+  }
+
+  private String state;
+
+  /**
+   * Get the state of the request.
+   *
+   * @return the state: 'Pending', 'Applied', 'Completed' or 'Failed'.
+   */
+  public String getState() {
+    return state;
+  }
+
+  /**
+   * Set the state of the request.
+   *
+   * @param state - the state.
+   */
+  public void setState(String state) {
+    this.state = state;
+  }
+
+  private String message;
+
+  /**
+   * Get a description of the failure to apply the request.
+   *
+   * @return the description, or null if the request has not failed.
+   */
+  public String getMessage() {
+    return message;
+  }
+
+  /**
+   * Set a description of the failure to apply the request.
+   *
+   * @param message - the description.
+   */
+  public void setMessage(String message) {
+    this.message = message;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "managedServerCount="
+        + getManagedServerCount()
+        + ", runningManagedServerCount="
+        + getRunningManagedServerCount()
+        + ", state="
+        + getState()
+        + ", message="
+        + getMessage()
+        + ", "
+        + super.propertiesToString();
+  }
+}
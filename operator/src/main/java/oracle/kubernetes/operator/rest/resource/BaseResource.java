@@ -5,15 +5,21 @@
 package oracle.kubernetes.operator.rest.resource;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
+import java.util.function.Supplier;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
 import oracle.kubernetes.operator.rest.AuthenticationFilter;
+import oracle.kubernetes.operator.rest.backend.DomainVersion;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.LinkContainerModel;
 
@@ -75,6 +81,32 @@ public class BaseResource {
     lc.addLink(rel, href(rel));
   }
 
+  /**
+   * Responds to a GET of a resource describing a WebLogic domain. If the request is conditional,
+   * and the client's copy of the resource is current, the response has status 304 (Not Modified)
+   * and the resource is not built; otherwise it holds the resource. Either way, the response
+   * carries the validators for a later conditional request.
+   *
+   * @param domainUID - the unique identifier assigned to the WebLogic domain.
+   * @param entitySupplier - builds the resource.
+   * @return the response.
+   */
+  protected Response getIfModified(String domainUID, Supplier<?> entitySupplier) {
+    DomainVersion version = getBackend().getDomainVersion(domainUID);
+    // weak, as the representation may be compressed on its way to the client
+    EntityTag tag = new EntityTag(version.getTag(), true);
+    Date lastModified = version.getLastModified();
+    Request request = getContainerRequestContext().getRequest();
+    ResponseBuilder builder =
+        lastModified != null
+            ? request.evaluatePreconditions(lastModified, tag)
+            : request.evaluatePreconditions(tag);
+    if (builder == null) {
+      builder = Response.ok(entitySupplier.get());
+    }
+    return builder.tag(tag).lastModified(lastModified).build();
+  }
+
   protected WebApplicationException notFound(String pathSegment) {
     String notFoundHref = href(pathSegment);
     return new WebApplicationException(
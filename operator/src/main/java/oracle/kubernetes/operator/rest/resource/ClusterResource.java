@@ -8,6 +8,7 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.model.ClusterModel;
@@ -34,16 +35,22 @@ public class ClusterResource extends BaseResource {
   /**
    * Get a description of this Weblogic cluster.
    *
-   * @return a ClusterModel describing this cluster.
+   * @return a response holding a ClusterModel describing this cluster, or a response with status
+   *     304 (Not Modified) if the client's copy is current.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public ClusterModel get() {
+  public Response get() {
     LOGGER.entering(href());
+    Response result = getIfModified(getDomainUid(), this::createClusterModel);
+    LOGGER.exiting(result);
+    return result;
+  }
+
+  private ClusterModel createClusterModel() {
     ClusterModel item = new ClusterModel(getCluster());
     addSelfAndParentLinks(item);
     addActionLink(item, "scale");
-    LOGGER.exiting(item);
     return item;
   }
 
@@ -63,4 +70,8 @@ public class ClusterResource extends BaseResource {
   private String getCluster() {
     return getPathSegment();
   }
+
+  private String getDomainUid() {
+    return getParent().getParent().getPathSegment();
+  }
 }
@@ -10,6 +10,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.model.ClusterModel;
@@ -37,12 +38,19 @@ public class ClustersResource extends BaseResource {
   /**
    * List a WebLogic domain's clusters.
    *
-   * @return a collection of ClusterModels describing the clusters.
+   * @return a response holding a collection of ClusterModels describing the clusters, or a response
+   *     with status 304 (Not Modified) if the client's copy is current.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public CollectionModel<ClusterModel> get() {
+  public Response get() {
     LOGGER.entering(href());
+    Response result = getIfModified(getDomainUid(), this::createCollectionModel);
+    LOGGER.exiting(result);
+    return result;
+  }
+
+  private CollectionModel<ClusterModel> createCollectionModel() {
     String domainUid = getDomainUid();
     CollectionModel<ClusterModel> collection = new CollectionModel<ClusterModel>();
     for (String cluster : getBackend().getClusters(domainUid)) {
@@ -51,7 +59,6 @@ public class ClustersResource extends BaseResource {
       collection.addItem(item);
     }
     addSelfAndParentLinks(collection);
-    LOGGER.exiting(collection);
     return collection;
   }
 
@@ -0,0 +1,55 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import org.glassfish.jersey.server.ChunkedOutput;
+
+/**
+ * DomainEventsResource is a jaxrs resource that implements the REST api for the
+ * /operator/{version}/domains/{domainUID}/events path. It can be used to follow the changes to a
+ * WebLogic domain as a stream of server-sent events, rather than by polling its resources.
+ */
+public class DomainEventsResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * Construct a DomainEventsResource.
+   *
+   * @param parent - the jaxrs resource that parents this resource.
+   * @param pathSegment - the last path segment in the url to this resource.
+   */
+  public DomainEventsResource(BaseResource parent, String pathSegment) {
+    super(parent, pathSegment);
+  }
+
+  /**
+   * Stream the changes to this WebLogic domain. Each change is sent as a server-sent event: a
+   * 'status' event holds the domain's new status, a 'server' event the new state of one of its
+   * servers, and a 'scale' event the new state of a request to scale one of its clusters. A client
+   * which falls behind is sent a 'dropped' event with the number of events it missed. The stream
+   * remains open until the client closes it.
+   *
+   * @return the stream of events.
+   */
+  @GET
+  @Produces(MediaType.SERVER_SENT_EVENTS)
+  public ChunkedOutput<String> get() {
+    LOGGER.entering(href());
+    ChunkedOutput<String> output = new ChunkedOutput<>(String.class);
+    getBackend().subscribeToDomainEvents(getDomainUid(), output::write);
+    LOGGER.exiting();
+    return output;
+  }
+
+  private String getDomainUid() {
+    return getParent().getPathSegment();
+  }
+}
@@ -8,6 +8,7 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.model.DomainModel;
@@ -34,16 +35,23 @@ public class DomainResource extends BaseResource {
   /**
    * Get a description of this Weblogic domain.
    *
-   * @return a DomainModel describing this domain.
+   * @return a response holding a DomainModel describing this domain, or a response with status 304
+   *     (Not Modified) if the client's copy is current.
    */
   @GET
   @Produces(MediaType.APPLICATION_JSON)
-  public DomainModel get() {
+  public Response get() {
     LOGGER.entering(href());
+    Response result = getIfModified(getDomainUID(), this::createDomainModel);
+    LOGGER.exiting(result);
+    return result;
+  }
+
+  private DomainModel createDomainModel() {
     DomainModel item = new DomainModel(getDomainUID());
     addSelfAndParentLinks(item);
     addLink(item, "clusters");
-    LOGGER.exiting(item);
+    addLink(item, "events");
     return item;
   }
 
@@ -60,6 +68,19 @@ public class DomainResource extends BaseResource {
     return result;
   }
 
+  /**
+   * Construct and return the 'events' jaxrs child resource.
+   *
+   * @return the events sub resource.
+   */
+  @Path("events")
+  public DomainEventsResource getDomainEventsResource() {
+    LOGGER.entering(href());
+    DomainEventsResource result = new DomainEventsResource(this, "events");
+    LOGGER.exiting(result);
+    return result;
+  }
+
   private String getDomainUID() {
     return getPathSegment();
   }
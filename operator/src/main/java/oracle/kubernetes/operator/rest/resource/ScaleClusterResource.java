@@ -4,17 +4,25 @@
 
 package oracle.kubernetes.operator.rest.resource;
 
+import java.net.URI;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
 import javax.ws.rs.POST;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
+import oracle.kubernetes.operator.rest.model.ScaleClusterStatusModel;
 
 /**
  * ScaleResource is a jaxrs resource that implements the REST api for the
  * /operator/{version}/domains/{domainUID}/clusters/{cluster}/scale path. It can be used to scale up
- * or down the number of managed servers in a WebLogic cluster.
+ * or down the number of managed servers in a WebLogic cluster, and to follow the latest request to
+ * do so.
  */
 public class ScaleClusterResource extends BaseResource {
 
@@ -31,19 +39,43 @@ public class ScaleClusterResource extends BaseResource {
   }
 
   /**
-   * Scale this WebLogic cluster up or down. This method configures the specified numer of managed
-   * servers at both the Kubernetes and WebLogic levels, then returns. It does not wait for the new
-   * managed servers to start or removed managed servers to stop.
+   * Scale this WebLogic cluster up or down. This method checks the request and accepts it, then
+   * returns. The specified number of managed servers is configured at both the Kubernetes and
+   * WebLogic levels in the background; requests for the cluster which arrive close together are
+   * merged. It does not wait for the new managed servers to start or removed managed servers to
+   * stop.
    *
    * @param params - a ScaleClusterParamsModel that specifies the desired number of managed servers
    *     in the cluster
+   * @return a response with status 202 (Accepted) whose location is the url at which the state of
+   *     the request can be found.
    */
   @POST
   @Consumes(MediaType.APPLICATION_JSON)
-  public void post(final ScaleClusterParamsModel params) {
+  public Response post(final ScaleClusterParamsModel params) {
     LOGGER.entering(href(), params);
     getBackend().scaleCluster(getDomainUid(), getCluster(), params.getManagedServerCount());
-    LOGGER.exiting();
+    Response result = Response.accepted().location(URI.create(href())).build();
+    LOGGER.exiting(result);
+    return result;
+  }
+
+  /**
+   * Get the state of the latest request to scale this WebLogic cluster.
+   *
+   * @return a ScaleClusterStatusModel describing the request.
+   */
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public ScaleClusterStatusModel get() {
+    LOGGER.entering(href());
+    ScaleClusterStatusModel item = getBackend().getScaleClusterStatus(getDomainUid(), getCluster());
+    if (item == null) {
+      throw new WebApplicationException(Response.status(Status.NOT_FOUND).entity(href()).build());
+    }
+    addSelfAndParentLinks(item);
+    LOGGER.exiting(item);
+    return item;
   }
 
   private String getCluster() {
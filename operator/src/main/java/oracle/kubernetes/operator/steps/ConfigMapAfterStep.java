@@ -6,13 +6,9 @@ package oracle.kubernetes.operator.steps;
 
 import io.kubernetes.client.models.V1ConfigMap;
 import java.util.Map;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
 import oracle.kubernetes.operator.ConfigMapWatcher;
 import oracle.kubernetes.operator.ProcessingConstants;
-import oracle.kubernetes.operator.TuningParameters.WatchTuning;
-import oracle.kubernetes.operator.watcher.WatchListener;
-import oracle.kubernetes.operator.work.ContainerResolver;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -20,21 +16,22 @@ import oracle.kubernetes.operator.work.Step;
 public class ConfigMapAfterStep extends Step {
   private final String ns;
   private final Map<String, ConfigMapWatcher> configMapWatchers;
-  private final WatchTuning tuning;
-  private final AtomicBoolean stopping;
-  private final WatchListener<V1ConfigMap> listener;
+  private final BiFunction<String, String, ConfigMapWatcher> createWatcher;
 
+  /**
+   * Constructs a step to start watching config maps once the script config map has been read.
+   *
+   * @param ns the namespace
+   * @param configMapWatchers the config map watchers, by namespace
+   * @param createWatcher a function to create a watcher from a namespace and resource version
+   */
   public ConfigMapAfterStep(
       String ns,
       Map<String, ConfigMapWatcher> configMapWatchers,
-      WatchTuning tuning,
-      AtomicBoolean stopping,
-      WatchListener<V1ConfigMap> listener) {
+      BiFunction<String, String, ConfigMapWatcher> createWatcher) {
     this.ns = ns;
     this.configMapWatchers = configMapWatchers;
-    this.tuning = tuning;
-    this.stopping = stopping;
-    this.listener = listener;
+    this.createWatcher = createWatcher;
   }
 
   @Override
@@ -43,17 +40,8 @@ public class ConfigMapAfterStep extends Step {
     if (!configMapWatchers.containsKey(ns)) {
       configMapWatchers.put(
           ns,
-          createConfigMapWatcher(
-              ns, result != null ? result.getMetadata().getResourceVersion() : ""));
+          createWatcher.apply(ns, result != null ? result.getMetadata().getResourceVersion() : ""));
     }
     return doNext(packet);
   }
-
-  private ConfigMapWatcher createConfigMapWatcher(String namespace, String initialResourceVersion) {
-    ThreadFactory factory =
-        ContainerResolver.getInstance().getContainer().getSPI(ThreadFactory.class);
-
-    return ConfigMapWatcher.create(
-        factory, namespace, initialResourceVersion, tuning, listener, stopping);
-  }
 }
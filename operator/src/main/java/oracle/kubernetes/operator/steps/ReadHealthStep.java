@@ -16,12 +16,21 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import oracle.kubernetes.operator.Pair;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.http.HttpClient;
 import oracle.kubernetes.operator.http.Result;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -33,6 +42,7 @@ import oracle.kubernetes.operator.rest.ScanCache;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -50,6 +60,8 @@ public class ReadHealthStep extends Step {
   public static final String OVERALL_HEALTH_FOR_SERVER_OVERLOADED =
       OVERALL_HEALTH_NOT_AVAILABLE + " (possibly overloaded)";
 
+  private static final long DEFAULT_READ_HEALTH_TIMEOUT_SECONDS = 10;
+
   private ReadHealthStep(Step next) {
     super(next);
   }
@@ -91,10 +103,227 @@ public class ReadHealthStep extends Step {
     return doNext(packet);
   }
 
+  /**
+   * Creates asynchronous {@link Step} to read the health of all running servers in a domain with a
+   * single request to the administration server. Servers for which the administration server
+   * reports no runtime are left to {@link #createReadHealthStep(Step)}.
+   *
+   * @param next Next processing step
+   * @return asynchronous step
+   */
+  public static Step createReadDomainHealthStep(Step next) {
+    return new ReadDomainHealthStep(next);
+  }
+
+  private static class ReadDomainHealthStep extends Step {
+
+    ReadDomainHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
+      WlsDomainConfig domainConfig = getDomainConfig(packet, info);
+      if (domainConfig == null || domainConfig.getAdminServerName() == null) {
+        return doNext(packet);
+      }
+
+      String adminServerName = domainConfig.getAdminServerName();
+      V1Service service = info.getServerService(adminServerName);
+      V1Pod pod = info.getServerPod(adminServerName);
+      if (service == null || pod == null || !PodHelper.getReadyStatus(pod)) {
+        return doNext(packet);
+      }
+
+      Domain dom = info.getDomain();
+      DomainSpec spec = dom.getSpec();
+      String secretName =
+          spec.getWebLogicCredentialsSecret() == null
+              ? null
+              : spec.getWebLogicCredentialsSecret().getName();
+
+      Step getClient =
+          HttpClient.createAuthenticatedClientForServer(
+              dom.getMetadata().getNamespace(),
+              secretName,
+              new ReadDomainHealthWithHttpClientStep(service, pod, getNext()));
+      return doNext(getClient, packet);
+    }
+  }
+
+  static final class ReadDomainHealthWithHttpClientStep extends Step {
+    private final V1Service service;
+    private final V1Pod pod;
+
+    ReadDomainHealthWithHttpClientStep(V1Service service, V1Pod pod, Step next) {
+      super(next);
+      this.service = service;
+      this.pod = pod;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      try {
+        HttpClient httpClient = (HttpClient) packet.get(HttpClient.KEY);
+        DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
+        WlsDomainConfig domainConfig = getDomainConfig(packet, info);
+        WlsServerConfig serverConfig =
+            domainConfig.getServerConfig(domainConfig.getAdminServerName());
+        if (httpClient == null || serverConfig == null) {
+          return doNext(packet);
+        }
+
+        String serviceURL =
+            HttpClient.getServiceURL(
+                service,
+                pod,
+                serverConfig.getAdminProtocolChannelName(),
+                serverConfig.getListenPort());
+        if (serviceURL == null) {
+          return doNext(packet);
+        }
+
+        return doSuspend(
+            fiber ->
+                readAsync(
+                    fiber,
+                    packet,
+                    httpClient.executePostUrlOnServiceClusterIPAsync(
+                        getRetrieveDomainHealthSearchUrl(),
+                        serviceURL,
+                        getRetrieveDomainHealthSearchPayload(),
+                        getReadHealthTimeoutSeconds()),
+                    result -> recordDomainHealth(packet, result),
+                    t -> logReadFailure(packet, t)));
+      } catch (Throwable t) {
+        logReadFailure(packet, t);
+        return doNext(packet);
+      }
+    }
+
+    private void recordDomainHealth(Packet packet, Result result) throws IOException {
+      if (!result.isSuccessful() || result.getResponse() == null) {
+        LOGGER.fine(MessageKeys.WLS_DOMAIN_HEALTH_READ_FAILED, getDomainUID(packet), result);
+        return;
+      }
+
+      DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
+      @SuppressWarnings("unchecked")
+      ConcurrentMap<String, String> serverStateMap =
+          (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
+      @SuppressWarnings("unchecked")
+      ConcurrentMap<String, ServerHealth> serverHealthMap =
+          (ConcurrentMap<String, ServerHealth>) packet.get(ProcessingConstants.SERVER_HEALTH_MAP);
+      AtomicInteger remainingServersHealthToRead =
+          packet.getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
+
+      JsonNode root = new ObjectMapper().readTree(result.getResponse());
+      for (JsonNode serverRuntime : root.path("serverRuntimes").path("items")) {
+        String serverName = serverRuntime.path("name").asText(null);
+        if (serverName == null || info.getServerPod(serverName) == null) {
+          continue;
+        }
+
+        Pair<String, ServerHealth> pair = parseServerHealth(serverRuntime);
+        String state = pair.getLeft();
+        if (state != null && !state.isEmpty()) {
+          info.updateLastKnownServerStatus(serverName, state);
+          serverStateMap.put(serverName, state);
+        }
+        if (serverHealthMap.put(serverName, pair.getRight()) == null) {
+          remainingServersHealthToRead.getAndDecrement();
+        }
+      }
+    }
+
+    private void logReadFailure(Packet packet, Throwable t) {
+      LOGGER.fine(MessageKeys.WLS_DOMAIN_HEALTH_READ_FAILED, getDomainUID(packet), t);
+    }
+
+    private String getDomainUID(Packet packet) {
+      return packet.getSPI(DomainPresenceInfo.class).getDomainUID();
+    }
+  }
+
+  private static WlsDomainConfig getDomainConfig(Packet packet, DomainPresenceInfo info) {
+    WlsDomainConfig domainConfig =
+        (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    if (domainConfig == null) {
+      Scan scan = ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUID());
+      domainConfig = scan == null ? null : scan.getWlsDomainConfig();
+    }
+    return domainConfig;
+  }
+
+  @FunctionalInterface
+  private interface ResultProcessor {
+    void process(Result result) throws IOException;
+  }
+
+  /**
+   * Resumes the fiber once the pending request completes, or when the health read timeout expires,
+   * whichever comes first. No engine thread is held while the request is in flight.
+   */
+  private static void readAsync(
+      Fiber fiber,
+      Packet packet,
+      CompletableFuture<Result> future,
+      ResultProcessor processor,
+      Consumer<Throwable> onFailure) {
+    AtomicBoolean didResume = new AtomicBoolean(false);
+    ScheduledFuture<?> timeout =
+        fiber
+            .owner
+            .getExecutor()
+            .schedule(
+                () -> {
+                  if (didResume.compareAndSet(false, true)) {
+                    future.cancel(true);
+                    onFailure.accept(new TimeoutException());
+                    fiber.resume(packet);
+                  }
+                },
+                getReadHealthTimeoutSeconds(),
+                TimeUnit.SECONDS);
+
+    future.whenComplete(
+        (result, throwable) -> {
+          if (didResume.compareAndSet(false, true)) {
+            timeout.cancel(false);
+            try {
+              if (throwable != null) {
+                onFailure.accept(throwable);
+              } else {
+                processor.process(result);
+              }
+            } catch (Throwable t) {
+              onFailure.accept(t);
+            }
+            fiber.resume(packet);
+          }
+        });
+  }
+
+  private static long getReadHealthTimeoutSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> (long) parameters.getMainTuning().statusUpdateTimeoutSeconds)
+        .orElse(DEFAULT_READ_HEALTH_TIMEOUT_SECONDS);
+  }
+
   private static String getRetrieveHealthSearchUrl() {
     return "/management/weblogic/latest/serverRuntime/search";
   }
 
+  private static String getRetrieveDomainHealthSearchUrl() {
+    return "/management/weblogic/latest/domainRuntime/search";
+  }
+
+  private static String getRetrieveDomainHealthSearchPayload() {
+    return "{ fields: [], links: [], children: { serverRuntimes: { fields: [ 'name', 'state',"
+        + " 'overallHealthState', 'activationTime' ], links: [] } } }";
+  }
+
   // overallHealthState, healthState
 
   private static String getRetrieveHealthSearchPayload() {
@@ -116,12 +345,7 @@ public class ReadHealthStep extends Step {
       try {
         HttpClient httpClient = (HttpClient) packet.get(HttpClient.KEY);
         DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
-        WlsDomainConfig domainConfig =
-            (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
-        if (domainConfig == null) {
-          Scan scan = ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUID());
-          domainConfig = scan.getWlsDomainConfig();
-        }
+        WlsDomainConfig domainConfig = getDomainConfig(packet, info);
         String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
         WlsServerConfig serverConfig = domainConfig.getServerConfig(serverName);
 
@@ -146,116 +370,130 @@ public class ReadHealthStep extends Step {
                   serverConfig.getAdminProtocolChannelName(),
                   serverConfig.getListenPort());
           if (serviceURL != null) {
-            Result result =
-                httpClient.executePostUrlOnServiceClusterIP(
-                    getRetrieveHealthSearchUrl(),
-                    serviceURL,
-                    getRetrieveHealthSearchPayload(),
-                    false);
-
-            Pair<String, ServerHealth> pair = createServerHealthFromResult(result);
-
-            String state = pair.getLeft();
-            if (state != null && !state.isEmpty()) {
-              ConcurrentMap<String, String> serverStateMap =
-                  (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
-              info.updateLastKnownServerStatus(serverName, state);
-              serverStateMap.put(serverName, state);
-            }
-
-            @SuppressWarnings("unchecked")
-            ConcurrentMap<String, ServerHealth> serverHealthMap =
-                (ConcurrentMap<String, ServerHealth>)
-                    packet.get(ProcessingConstants.SERVER_HEALTH_MAP);
-
-            serverHealthMap.put(
-                (String) packet.get(ProcessingConstants.SERVER_NAME), pair.getRight());
-            AtomicInteger remainingServersHealthToRead =
-                packet.getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
-            remainingServersHealthToRead.getAndDecrement();
+            return doSuspend(
+                fiber ->
+                    readAsync(
+                        fiber,
+                        packet,
+                        httpClient.executePostUrlOnServiceClusterIPAsync(
+                            getRetrieveHealthSearchUrl(),
+                            serviceURL,
+                            getRetrieveHealthSearchPayload(),
+                            getReadHealthTimeoutSeconds()),
+                        result -> recordServerHealth(packet, result),
+                        t -> logReadFailure(packet, t)));
           }
         }
         return doNext(packet);
       } catch (Throwable t) {
         // do not retry for health check
-        LOGGER.info(
-            (LoggingFilter) packet.get(LoggingFilter.LOGGING_FILTER_PACKET_KEY),
-            MessageKeys.WLS_HEALTH_READ_FAILED,
-            packet.get(ProcessingConstants.SERVER_NAME),
-            t);
+        logReadFailure(packet, t);
         return doNext(packet);
       }
     }
 
-    private Pair<String, ServerHealth> createServerHealthFromResult(Result restResult)
-        throws IOException {
-      if (restResult.isSuccessful()) {
-        return parseServerHealthJson(restResult.getResponse());
+    private void recordServerHealth(Packet packet, Result result) throws IOException {
+      DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
+      String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+      Pair<String, ServerHealth> pair = createServerHealthFromResult(result);
+
+      String state = pair.getLeft();
+      if (state != null && !state.isEmpty()) {
+        ConcurrentMap<String, String> serverStateMap =
+            (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
+        info.updateLastKnownServerStatus(serverName, state);
+        serverStateMap.put(serverName, state);
       }
-      return new Pair<>(
-          WebLogicConstants.UNKNOWN_STATE,
-          new ServerHealth()
-              .withOverallHealth(
-                  restResult.isServerOverloaded()
-                      ? OVERALL_HEALTH_FOR_SERVER_OVERLOADED
-                      : OVERALL_HEALTH_NOT_AVAILABLE));
+
+      @SuppressWarnings("unchecked")
+      ConcurrentMap<String, ServerHealth> serverHealthMap =
+          (ConcurrentMap<String, ServerHealth>) packet.get(ProcessingConstants.SERVER_HEALTH_MAP);
+
+      serverHealthMap.put(serverName, pair.getRight());
+      AtomicInteger remainingServersHealthToRead =
+          packet.getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
+      remainingServersHealthToRead.getAndDecrement();
     }
 
-    private Pair<String, ServerHealth> parseServerHealthJson(String jsonResult) throws IOException {
-      if (jsonResult == null) return null;
+    private void logReadFailure(Packet packet, Throwable t) {
+      LOGGER.info(
+          (LoggingFilter) packet.get(LoggingFilter.LOGGING_FILTER_PACKET_KEY),
+          MessageKeys.WLS_HEALTH_READ_FAILED,
+          packet.get(ProcessingConstants.SERVER_NAME),
+          t);
+    }
+  }
 
-      ObjectMapper mapper = new ObjectMapper();
-      JsonNode root = mapper.readTree(jsonResult);
+  private static Pair<String, ServerHealth> createServerHealthFromResult(Result restResult)
+      throws IOException {
+    if (restResult.isSuccessful()) {
+      return parseServerHealthJson(restResult.getResponse());
+    }
+    return new Pair<>(
+        WebLogicConstants.UNKNOWN_STATE,
+        new ServerHealth()
+            .withOverallHealth(
+                restResult.isServerOverloaded()
+                    ? OVERALL_HEALTH_FOR_SERVER_OVERLOADED
+                    : OVERALL_HEALTH_NOT_AVAILABLE));
+  }
 
-      JsonNode healthState = null;
-      JsonNode subsystemName = null;
-      JsonNode symptoms = null;
-      JsonNode overallHealthState = root.path("overallHealthState");
-      if (overallHealthState != null) {
-        healthState = overallHealthState.path("state");
-        subsystemName = overallHealthState.path("subsystemName");
-        symptoms = overallHealthState.path("symptoms");
-      }
-      JsonNode activationTime = root.path("activationTime");
+  private static Pair<String, ServerHealth> parseServerHealthJson(String jsonResult)
+      throws IOException {
+    if (jsonResult == null) return null;
 
-      List<String> sym = new ArrayList<>();
-      if (symptoms != null) {
-        Iterator<JsonNode> it = symptoms.elements();
-        while (it.hasNext()) {
-          sym.add(it.next().asText());
-        }
-      }
+    return parseServerHealth(new ObjectMapper().readTree(jsonResult));
+  }
 
-      String subName = null;
-      if (subsystemName != null) {
-        String s = subsystemName.asText();
-        if (s != null && !"null".equals(s)) {
-          subName = s;
-        }
+  private static Pair<String, ServerHealth> parseServerHealth(JsonNode root) {
+    JsonNode healthState = null;
+    JsonNode subsystemName = null;
+    JsonNode symptoms = null;
+    JsonNode overallHealthState = root.path("overallHealthState");
+    if (overallHealthState != null) {
+      healthState = overallHealthState.path("state");
+      subsystemName = overallHealthState.path("subsystemName");
+      symptoms = overallHealthState.path("symptoms");
+    }
+    JsonNode activationTime = root.path("activationTime");
+
+    List<String> sym = new ArrayList<>();
+    if (symptoms != null) {
+      Iterator<JsonNode> it = symptoms.elements();
+      while (it.hasNext()) {
+        sym.add(it.next().asText());
       }
+    }
 
-      ServerHealth health =
-          new ServerHealth()
-              .withOverallHealth(healthState != null ? healthState.asText() : null)
-              .withActivationTime(
-                  activationTime != null ? new DateTime(activationTime.asLong()) : null);
-      if (subName != null) {
-        health
-            .getSubsystems()
-            .add(new SubsystemHealth().withSubsystemName(subName).withSymptoms(sym));
+    String subName = null;
+    if (subsystemName != null) {
+      String s = subsystemName.asText();
+      if (s != null && !"null".equals(s)) {
+        subName = s;
       }
+    }
 
-      JsonNode state = root.path("state");
+    ServerHealth health =
+        new ServerHealth()
+            .withOverallHealth(healthState != null ? healthState.asText() : null)
+            .withActivationTime(
+                activationTime != null ? new DateTime(activationTime.asLong()) : null);
+    if (subName != null) {
+      health
+          .getSubsystems()
+          .add(new SubsystemHealth().withSubsystemName(subName).withSymptoms(sym));
+    }
 
-      String stateVal = null;
-      if (state != null) {
-        String s = state.asText();
-        if (s != null && !"null".equals(s)) {
-          stateVal = s;
-        }
-      }
+    JsonNode state = root.path("state");
 
-      return new Pair<>(stateVal, health);
+    String stateVal = null;
+    if (state != null) {
+      String s = state.asText();
+      if (s != null && !"null".equals(s)) {
+        stateVal = s;
+      }
     }
+
+    return new Pair<>(stateVal, health);
   }
 }
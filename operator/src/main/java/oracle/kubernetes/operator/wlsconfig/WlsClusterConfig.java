@@ -5,8 +5,11 @@
 package oracle.kubernetes.operator.wlsconfig;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -26,6 +29,10 @@ public class WlsClusterConfig {
   // owner -- don't include in toString, hashCode, equals
   private WlsDomainConfig wlsDomainConfig;
 
+  // all servers of the cluster, and their names, present once the configuration is frozen
+  private transient List<WlsServerConfig> allServers;
+  private transient Set<String> allServerNames;
+
   public WlsClusterConfig() {}
 
   /**
@@ -89,6 +96,9 @@ public class WlsClusterConfig {
    * @return true or false
    */
   public boolean hasNamedServer(String serverName) {
+    if (allServerNames != null) {
+      return allServerNames.contains(serverName);
+    }
     return getServerConfigs().stream().anyMatch(c -> serverName.equals(c.getName()));
   }
 
@@ -109,11 +119,11 @@ public class WlsClusterConfig {
    *
    * @return The number of servers that are statically configured in this cluster
    */
-  public synchronized int getClusterSize() {
+  public int getClusterSize() {
     return servers.size();
   }
 
-  public synchronized int getMaxClusterSize() {
+  public int getMaxClusterSize() {
     return hasDynamicServers() ? getClusterSize() + getMaxDynamicClusterSize() : getClusterSize();
   }
 
@@ -144,6 +154,7 @@ public class WlsClusterConfig {
   }
 
   public void setDynamicServersConfig(WlsDynamicServersConfig dynamicServersConfig) {
+    checkNotFrozen();
     this.dynamicServersConfig = dynamicServersConfig;
   }
 
@@ -174,8 +185,10 @@ public class WlsClusterConfig {
    * @return A list of WlsServerConfig containing configurations of servers that belong to this
    *     cluster
    */
-  public synchronized List<WlsServerConfig> getServerConfigs() {
-    if (dynamicServersConfig != null) {
+  public List<WlsServerConfig> getServerConfigs() {
+    if (allServers != null) {
+      return allServers;
+    } else if (dynamicServersConfig != null) {
       List<WlsServerConfig> result =
           new ArrayList<>(dynamicServersConfig.getDynamicClusterSize() + servers.size());
       result.addAll(dynamicServersConfig.getServerConfigs());
@@ -190,15 +203,37 @@ public class WlsClusterConfig {
   }
 
   public void setServers(List<WlsServerConfig> servers) {
+    checkNotFrozen();
     this.servers = servers;
   }
 
+  // Called as the domain configuration is frozen
+  void freeze() {
+    if (dynamicServersConfig != null) {
+      dynamicServersConfig.freeze();
+    }
+    servers = Collections.unmodifiableList(new ArrayList<>(servers));
+    List<WlsServerConfig> serverConfigs = getServerConfigs();
+    Set<String> serverNames = new HashSet<>();
+    for (WlsServerConfig serverConfig : serverConfigs) {
+      serverNames.add(serverConfig.getName());
+    }
+    allServerNames = Collections.unmodifiableSet(serverNames);
+    allServers = Collections.unmodifiableList(new ArrayList<>(serverConfigs));
+  }
+
+  private void checkNotFrozen() {
+    if (allServers != null) {
+      throw new IllegalStateException("The configuration of cluster " + name + " is frozen");
+    }
+  }
+
   /**
    * Whether the cluster contains any statically configured servers.
    *
    * @return True if the cluster contains any statically configured servers
    */
-  public synchronized boolean hasStaticServers() {
+  public boolean hasStaticServers() {
     return !servers.isEmpty();
   }
 
@@ -6,9 +6,11 @@ package oracle.kubernetes.operator.wlsconfig;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -20,7 +22,12 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
-/** Contains a snapshot of configuration for a WebLogic Domain. */
+/**
+ * Contains a snapshot of configuration for a WebLogic Domain. A configuration read from the
+ * introspector is frozen once complete: it may then be shared by any number of fibers, and its
+ * lookups by server, cluster and machine name use hash indexes, without locking. A configuration
+ * which is not frozen may only be used by the thread which builds it.
+ */
 public class WlsDomainConfig implements WlsDomain {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
@@ -37,6 +44,8 @@ public class WlsDomainConfig implements WlsDomain {
   private List<WlsServerConfig> serverTemplates = new ArrayList<>();
   // Contains all configured machines in the WLS domain
   private Map<String, WlsMachineConfig> wlsMachineConfigs = new HashMap<>();
+  // Lookup tables, present once the configuration is frozen
+  private transient volatile Index index;
 
   /**
    * Create a new WlsDomainConfig object using the json result from the WLS REST call.
@@ -93,7 +102,17 @@ public class WlsDomainConfig implements WlsDomain {
     }
   }
 
+  /**
+   * Returns the name of the cluster to which the named server belongs.
+   *
+   * @param serverName the name of a server
+   * @return the cluster name, or null if the server is not in a cluster
+   */
   public String getClusterName(String serverName) {
+    Index index = this.index;
+    if (index != null) {
+      return index.clusterNames.get(serverName);
+    }
     return getConfiguredClusters().stream()
         .filter(c -> c.hasNamedServer(serverName))
         .findFirst()
@@ -120,6 +139,7 @@ public class WlsDomainConfig implements WlsDomain {
   }
 
   public void setAdminServerName(String adminServerName) {
+    checkNotFrozen();
     this.adminServerName = adminServerName;
   }
 
@@ -129,7 +149,11 @@ public class WlsDomainConfig implements WlsDomain {
    * @return A Map of WlsClusterConfig, keyed by name, containing server configurations for all
    *     clusters found in the WLS domain
    */
-  public synchronized Map<String, WlsClusterConfig> getClusterConfigs() {
+  public Map<String, WlsClusterConfig> getClusterConfigs() {
+    Index index = this.index;
+    if (index != null) {
+      return index.clusters;
+    }
     Map<String, WlsClusterConfig> clusterConfigs = new HashMap<>();
     for (WlsClusterConfig clusterConfig : configuredClusters) {
       clusterConfigs.put(clusterConfig.getClusterName(), clusterConfig);
@@ -142,6 +166,7 @@ public class WlsDomainConfig implements WlsDomain {
   }
 
   public void setConfiguredClusters(List<WlsClusterConfig> configuredClusters) {
+    checkNotFrozen();
     this.configuredClusters = configuredClusters;
   }
 
@@ -152,7 +177,11 @@ public class WlsDomainConfig implements WlsDomain {
    *
    * @return A Map of WlsServerConfig, keyed by name, for each server configured the WLS domain
    */
-  public synchronized Map<String, WlsServerConfig> getServerConfigs() {
+  public Map<String, WlsServerConfig> getServerConfigs() {
+    Index index = this.index;
+    if (index != null) {
+      return index.servers;
+    }
     Map<String, WlsServerConfig> serverConfigs = new HashMap<>();
     for (WlsServerConfig serverConfig : servers) {
       serverConfigs.put(serverConfig.getName(), serverConfig);
@@ -165,6 +194,7 @@ public class WlsDomainConfig implements WlsDomain {
   }
 
   public void setServers(List<WlsServerConfig> servers) {
+    checkNotFrozen();
     this.servers = servers;
   }
 
@@ -173,6 +203,7 @@ public class WlsDomainConfig implements WlsDomain {
   }
 
   public void setServerTemplates(List<WlsServerConfig> serverTemplates) {
+    checkNotFrozen();
     this.serverTemplates = serverTemplates;
   }
 
@@ -181,7 +212,7 @@ public class WlsDomainConfig implements WlsDomain {
    *
    * @return A Map of WlsMachineConfig, keyed by name, for each machine configured the WLS domain
    */
-  public synchronized Map<String, WlsMachineConfig> getMachineConfigs() {
+  public Map<String, WlsMachineConfig> getMachineConfigs() {
     return wlsMachineConfigs;
   }
 
@@ -193,7 +224,13 @@ public class WlsDomainConfig implements WlsDomain {
    *     name. This methods return an empty WlsClusterConfig object even if no WLS configuration is
    *     found for the given cluster name.
    */
-  public synchronized WlsClusterConfig getClusterConfig(String clusterName) {
+  public WlsClusterConfig getClusterConfig(String clusterName) {
+    Index index = this.index;
+    if (index != null) {
+      return Optional.ofNullable(index.clusters.get(clusterName))
+          .orElseGet(() -> new WlsClusterConfig(clusterName));
+    }
+
     WlsClusterConfig result = null;
     if (clusterName != null) {
       for (WlsClusterConfig clusterConfig : configuredClusters) {
@@ -218,7 +255,12 @@ public class WlsDomainConfig implements WlsDomain {
    * @return The WlsServerConfig object containing configuration of the WLS server with the given
    *     name. This methods return null if no WLS configuration is found for the given server name.
    */
-  public synchronized WlsServerConfig getServerConfig(String serverName) {
+  public WlsServerConfig getServerConfig(String serverName) {
+    Index index = this.index;
+    if (index != null) {
+      return index.servers.get(serverName);
+    }
+
     WlsServerConfig result = null;
     if (serverName != null && servers != null) {
       for (WlsServerConfig serverConfig : servers) {
@@ -238,7 +280,7 @@ public class WlsDomainConfig implements WlsDomain {
    * @return The WlsMachineConfig object containing configuration of the WLS machine with the given
    *     name. This methods return null if no WLS machine is configured with the given name.
    */
-  public synchronized WlsMachineConfig getMachineConfig(String machineName) {
+  public WlsMachineConfig getMachineConfig(String machineName) {
     WlsMachineConfig result = null;
     if (machineName != null && wlsMachineConfigs != null) {
       result = wlsMachineConfigs.get(machineName);
@@ -246,6 +288,45 @@ public class WlsDomainConfig implements WlsDomain {
     return result;
   }
 
+  /**
+   * Freezes this configuration once it is complete, so that it may be shared. The lists and maps of
+   * a frozen configuration, and of its clusters, may no longer be modified.
+   *
+   * @return this configuration
+   */
+  public WlsDomainConfig freeze() {
+    if (index == null) {
+      for (WlsClusterConfig clusterConfig : configuredClusters) {
+        clusterConfig.freeze();
+      }
+      configuredClusters = Collections.unmodifiableList(new ArrayList<>(configuredClusters));
+      servers = Collections.unmodifiableList(new ArrayList<>(servers));
+      if (serverTemplates != null) {
+        serverTemplates = Collections.unmodifiableList(new ArrayList<>(serverTemplates));
+      }
+      if (wlsMachineConfigs != null) {
+        wlsMachineConfigs = Collections.unmodifiableMap(new HashMap<>(wlsMachineConfigs));
+      }
+      index = new Index(this);
+    }
+    return this;
+  }
+
+  /**
+   * Returns true if this configuration has been frozen.
+   *
+   * @return true if frozen
+   */
+  public boolean isFrozen() {
+    return index != null;
+  }
+
+  private void checkNotFrozen() {
+    if (isFrozen()) {
+      throw new IllegalStateException("The configuration of domain " + name + " is frozen");
+    }
+  }
+
   /**
    * Create a new WlsDomainConfig object based on the parsed JSON result from WLS admin server.
    *
@@ -447,11 +528,13 @@ public class WlsDomainConfig implements WlsDomain {
   }
 
   public WlsDomainConfig addWlsServer(String name, String listenAddress, int port) {
+    checkNotFrozen();
     getServers().add(new WlsServerConfig(name, listenAddress, port));
     return this;
   }
 
   public WlsDomainConfig withCluster(WlsClusterConfig clusterConfig) {
+    checkNotFrozen();
     configuredClusters.add(clusterConfig);
     return this;
   }
@@ -511,6 +594,31 @@ public class WlsDomainConfig implements WlsDomain {
     List<Map<String, Object>> machines;
   }
 
+  /** Hash indexes of a frozen configuration. The first of several entries with a name wins. */
+  private static class Index {
+    private final Map<String, WlsServerConfig> servers;
+    private final Map<String, WlsClusterConfig> clusters;
+    // cluster names by the name of each clustered server, including dynamic servers
+    private final Map<String, String> clusterNames = new HashMap<>();
+
+    Index(WlsDomainConfig config) {
+      Map<String, WlsServerConfig> serverMap = new HashMap<>();
+      for (WlsServerConfig serverConfig : config.servers) {
+        serverMap.putIfAbsent(serverConfig.getName(), serverConfig);
+      }
+      servers = Collections.unmodifiableMap(serverMap);
+
+      Map<String, WlsClusterConfig> clusterMap = new HashMap<>();
+      for (WlsClusterConfig clusterConfig : config.configuredClusters) {
+        clusterMap.putIfAbsent(clusterConfig.getClusterName(), clusterConfig);
+        for (WlsServerConfig serverConfig : clusterConfig.getServerConfigs()) {
+          clusterNames.putIfAbsent(serverConfig.getName(), clusterConfig.getClusterName());
+        }
+      }
+      clusters = Collections.unmodifiableMap(clusterMap);
+    }
+  }
+
   @Override
   public String toString() {
     return new ToStringBuilder(this)
@@ -557,7 +665,14 @@ public class WlsDomainConfig implements WlsDomain {
     return builder.isEquals();
   }
 
+  /**
+   * Generates the configurations of the dynamic servers of each dynamic cluster from its server
+   * template. A frozen configuration already contains them.
+   */
   public void processDynamicClusters() {
+    if (isFrozen()) {
+      return;
+    }
     for (WlsClusterConfig wlsClusterConfig : configuredClusters) {
       wlsClusterConfig.setWlsDomainConfig(this);
       if (wlsClusterConfig.hasDynamicServers()) {
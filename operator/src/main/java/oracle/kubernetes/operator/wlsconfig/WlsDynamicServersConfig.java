@@ -5,6 +5,8 @@
 package oracle.kubernetes.operator.wlsconfig;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -32,6 +34,9 @@ public class WlsDynamicServersConfig {
   String machineNameMatchExpression;
   List<WlsServerConfig> serverConfigs;
 
+  // serverConfigs by name, present once the configuration is frozen
+  private transient Map<String, WlsServerConfig> serverConfigsByName;
+
   /**
    * Creates a WlsDynamicServersConfig object using an "dynamicServers" item parsed from JSON result
    * from WLS REST call.
@@ -220,7 +225,11 @@ public class WlsDynamicServersConfig {
    * @return The WlsServerConfig object containing configuration of the WLS server with the given
    *     name. This methods return null if no WLS configuration is found for the given server name.
    */
-  public synchronized WlsServerConfig getServerConfig(String serverName) {
+  public WlsServerConfig getServerConfig(String serverName) {
+    if (serverConfigsByName != null) {
+      return serverConfigsByName.get(serverName);
+    }
+
     WlsServerConfig result = null;
     if (serverName != null && serverConfigs != null) {
       for (WlsServerConfig serverConfig : serverConfigs) {
@@ -234,9 +243,28 @@ public class WlsDynamicServersConfig {
   }
 
   public void setServerConfigs(List<WlsServerConfig> serverConfigs) {
+    checkNotFrozen();
     this.serverConfigs = serverConfigs;
   }
 
+  // Called as the domain configuration is frozen
+  void freeze() {
+    Map<String, WlsServerConfig> byName = new HashMap<>();
+    if (serverConfigs != null) {
+      serverConfigs = Collections.unmodifiableList(new ArrayList<>(serverConfigs));
+      for (WlsServerConfig serverConfig : serverConfigs) {
+        byName.putIfAbsent(serverConfig.getName(), serverConfig);
+      }
+    }
+    serverConfigsByName = Collections.unmodifiableMap(byName);
+  }
+
+  private void checkNotFrozen() {
+    if (serverConfigsByName != null) {
+      throw new IllegalStateException("The dynamic servers configuration " + name + " is frozen");
+    }
+  }
+
   /**
    * Helper method to extract the server template name from the Map obtained from parsing the
    * "dynamicServers" element from the REST result.
@@ -306,6 +334,7 @@ public class WlsDynamicServersConfig {
 
   public void generateDynamicServerConfigs(
       WlsServerConfig serverTemplate, String clusterName, String domainName) {
+    checkNotFrozen();
     List<String> dynamicServerNames = generateDynamicServerNames();
     serverConfigs =
         createServerConfigsFromTemplate(
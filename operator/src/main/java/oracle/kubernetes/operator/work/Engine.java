@@ -6,23 +6,29 @@ package oracle.kubernetes.operator.work;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 /** Collection of {@link Fiber}s. Owns an {@link Executor} to run them. */
 public class Engine {
-  private static final int DEFAULT_THREAD_COUNT = 10;
 
   public static ScheduledExecutorService wrappedExecutorService(String id, Container container) {
-    ScheduledThreadPoolExecutor threadPool =
-        new ScheduledThreadPoolExecutor(DEFAULT_THREAD_COUNT, new DaemonThreadFactory(id));
-    threadPool.setRemoveOnCancelPolicy(true);
-    return wrap(container, threadPool);
+    return wrappedExecutorService(new EngineExecutor(id), container);
+  }
+
+  /**
+   * Wraps the specified engine executor so that its tasks run within the container.
+   *
+   * @param executor Engine executor
+   * @param container Container
+   * @return wrapped executor
+   */
+  public static ScheduledExecutorService wrappedExecutorService(
+      EngineExecutor executor, Container container) {
+    return wrap(container, executor);
   }
 
   private final AtomicReference<ScheduledExecutorService> threadPool = new AtomicReference();
+  private volatile FiberScheduler scheduler;
 
   /**
    * Returns the executor.
@@ -51,8 +57,28 @@ public class Engine {
     this(wrappedExecutorService(id, ContainerResolver.getDefault().getContainer()));
   }
 
+  /**
+   * Sets the scheduler which orders fibers started with an assignment. Without one, all fibers are
+   * passed to the executor as soon as they are ready to run.
+   *
+   * @param scheduler the scheduler, or null
+   */
+  public void setScheduler(FiberScheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  public FiberScheduler getScheduler() {
+    return scheduler;
+  }
+
   void addRunnable(Fiber fiber) {
-    getExecutor().execute(fiber);
+    FiberScheduler current = scheduler;
+    FiberScheduler.Assignment assignment = fiber.getAssignment();
+    if (current != null && assignment != null) {
+      current.execute(fiber, assignment);
+    } else {
+      getExecutor().execute(fiber);
+    }
   }
 
   private static ScheduledExecutorService wrap(Container container, ScheduledExecutorService ex) {
@@ -74,25 +100,4 @@ public class Engine {
   Fiber createChildFiber(Fiber parent) {
     return new Fiber(this, parent);
   }
-
-  private static class DaemonThreadFactory implements ThreadFactory {
-    final AtomicInteger threadNumber = new AtomicInteger(1);
-    final String namePrefix;
-
-    DaemonThreadFactory(String id) {
-      namePrefix = "engine-" + id + "-thread-";
-    }
-
-    public Thread newThread(Runnable r) {
-      Thread t = new Thread(r);
-      t.setName(namePrefix + threadNumber.getAndIncrement());
-      if (!t.isDaemon()) {
-        t.setDaemon(true);
-      }
-      if (t.getPriority() != Thread.NORM_PRIORITY) {
-        t.setPriority(Thread.NORM_PRIORITY);
-      }
-      return t;
-    }
-  }
 }
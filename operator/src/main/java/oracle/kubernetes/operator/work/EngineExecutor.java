@@ -0,0 +1,441 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Executor for an {@link Engine} that keeps running fibers apart from timed work. Fibers, and any
+ * other task submitted for immediate execution, run on a worker pool that is either a fixed-size
+ * thread pool, a work-stealing {@link ForkJoinPool}, or, when the JVM supports them, a new virtual
+ * thread per task. Delayed and periodic tasks, such as those created by {@link Step#doDelay(Packet,
+ * long, TimeUnit)} and {@link Step#doRetry(Packet, long, TimeUnit)}, wait on a separate timer;
+ * one-shot delayed tasks are handed to the worker pool when they come due, while periodic tasks run
+ * on the timer threads.
+ *
+ * <p>With virtual threads, steps that block on I/O, such as the synchronous health read in {@link
+ * oracle.kubernetes.operator.steps.ReadHealthStep} or the wait on a process in {@link
+ * oracle.kubernetes.operator.ServerStatusReader}, no longer hold one of a small number of platform
+ * threads. When virtual threads are requested on a JVM without them, a fixed thread pool is used.
+ *
+ * <p>The worker pool may be reconfigured while running. When the kind of pool changes, the old pool
+ * is shut down after the tasks already queued on it have run.
+ */
+public class EngineExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final int DEFAULT_THREAD_COUNT = 10;
+  static final int DEFAULT_TIMER_THREAD_COUNT = 2;
+
+  private final String id;
+  private final ScheduledThreadPoolExecutor timer;
+  private final AtomicReference<ExecutorService> workers = new AtomicReference<>();
+  private final Object configureLock = new Object();
+  private volatile int threadCount = DEFAULT_THREAD_COUNT;
+  private volatile WorkerMode mode = WorkerMode.FIXED;
+  private volatile boolean shutdown = false;
+  private volatile boolean virtualThreadsUnavailableReported = false;
+
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicInteger active = new AtomicInteger();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder totalQueueNanos = new LongAdder();
+  private final LongAdder totalRunNanos = new LongAdder();
+  private final AtomicLong maxRunNanos = new AtomicLong();
+
+  /**
+   * Creates an executor with the default number of worker and timer threads.
+   *
+   * @param id Engine id, used to name threads
+   */
+  public EngineExecutor(String id) {
+    this.id = id;
+    this.timer =
+        new ScheduledThreadPoolExecutor(
+            DEFAULT_TIMER_THREAD_COUNT, new DaemonThreadFactory(id + "-timer"));
+    this.timer.setRemoveOnCancelPolicy(true);
+    this.workers.set(createWorkers(threadCount, mode));
+  }
+
+  /** The kinds of worker pool on which fibers may run. */
+  public enum WorkerMode {
+    /** A fixed number of platform threads sharing one queue. */
+    FIXED,
+    /** A {@link ForkJoinPool} in which idle threads steal queued fibers from busy ones. */
+    WORK_STEALING,
+    /** A new virtual thread for each task; the thread count is ignored. */
+    VIRTUAL
+  }
+
+  /**
+   * Returns true if this JVM can run fibers on virtual threads.
+   *
+   * @return true, if virtual threads are supported
+   */
+  public static boolean isVirtualThreadSupported() {
+    return VirtualThreads.BUILDER != null;
+  }
+
+  /**
+   * Returns a factory for named virtual threads, or null if this JVM does not support them.
+   *
+   * @param namePrefix Prefix for the names of the threads created
+   * @return Thread factory or null
+   */
+  public static ThreadFactory createVirtualThreadFactory(String namePrefix) {
+    return isVirtualThreadSupported() ? VirtualThreads.createFactory(namePrefix) : null;
+  }
+
+  /**
+   * Applies new sizing to this executor. A change in the number of timer threads or fixed pool
+   * threads takes effect in place; a change of the kind of worker pool, or of the parallelism of a
+   * work-stealing pool, replaces the worker pool.
+   *
+   * @param threadCount Number of worker threads
+   * @param timerThreadCount Number of threads waiting on delayed and periodic tasks
+   * @param requestedMode Kind of worker pool
+   */
+  public void configure(int threadCount, int timerThreadCount, WorkerMode requestedMode) {
+    int newThreadCount = Math.max(1, threadCount);
+    WorkerMode newMode = requestedMode;
+    if (newMode == WorkerMode.VIRTUAL && !isVirtualThreadSupported()) {
+      if (!virtualThreadsUnavailableReported) {
+        virtualThreadsUnavailableReported = true;
+        LOGGER.info(MessageKeys.ENGINE_VIRTUAL_THREADS_UNAVAILABLE, id);
+      }
+      newMode = WorkerMode.FIXED;
+    }
+    synchronized (configureLock) {
+      if (shutdown) {
+        return;
+      }
+      timer.setCorePoolSize(Math.max(1, timerThreadCount));
+
+      if (newThreadCount == this.threadCount && newMode == this.mode) {
+        return;
+      }
+
+      ExecutorService current = workers.get();
+      if (newMode == WorkerMode.FIXED && this.mode == WorkerMode.FIXED) {
+        resize((ThreadPoolExecutor) current, newThreadCount);
+      } else if (newMode != WorkerMode.VIRTUAL || this.mode != WorkerMode.VIRTUAL) {
+        workers.set(createWorkers(newThreadCount, newMode));
+        current.shutdown();
+      }
+      this.threadCount = newThreadCount;
+      this.mode = newMode;
+    }
+  }
+
+  private static void resize(ThreadPoolExecutor pool, int threadCount) {
+    if (threadCount > pool.getMaximumPoolSize()) {
+      pool.setMaximumPoolSize(threadCount);
+      pool.setCorePoolSize(threadCount);
+    } else {
+      pool.setCorePoolSize(threadCount);
+      pool.setMaximumPoolSize(threadCount);
+    }
+  }
+
+  private ExecutorService createWorkers(int threadCount, WorkerMode mode) {
+    switch (mode) {
+      case WORK_STEALING:
+        return new ForkJoinPool(threadCount, new DaemonWorkerThreadFactory(id), null, true);
+      case VIRTUAL:
+        return VirtualThreads.createExecutor(id);
+      default:
+        break;
+    }
+    return new ThreadPoolExecutor(
+        threadCount,
+        threadCount,
+        0L,
+        TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<>(),
+        new DaemonThreadFactory(id));
+  }
+
+  /**
+   * Returns a snapshot of the queue depth and run-time statistics of this executor.
+   *
+   * @return metrics
+   */
+  public Metrics getMetrics() {
+    long count = completed.sum();
+    return new Metrics(
+        threadCount,
+        mode,
+        queued.get(),
+        active.get(),
+        timer.getQueue().size(),
+        count,
+        count > 0 ? TimeUnit.NANOSECONDS.toMicros(totalQueueNanos.sum() / count) : 0,
+        count > 0 ? TimeUnit.NANOSECONDS.toMicros(totalRunNanos.sum() / count) : 0,
+        TimeUnit.NANOSECONDS.toMicros(maxRunNanos.get()));
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    if (command == null) {
+      throw new NullPointerException();
+    }
+    MeasuredTask task = new MeasuredTask(command);
+    queued.incrementAndGet();
+    while (true) {
+      ExecutorService current = workers.get();
+      try {
+        current.execute(task);
+        return;
+      } catch (RejectedExecutionException e) {
+        // the pool may have just been replaced by configure(); retry on its successor
+        if (shutdown || current == workers.get()) {
+          queued.decrementAndGet();
+          throw e;
+        }
+      }
+    }
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    if (command == null) {
+      throw new NullPointerException();
+    }
+    return timer.schedule(() -> execute(command), delay, unit);
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+    return timer.schedule(callable, delay, unit);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(
+      Runnable command, long initialDelay, long period, TimeUnit unit) {
+    return timer.scheduleAtFixedRate(command, initialDelay, period, unit);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(
+      Runnable command, long initialDelay, long delay, TimeUnit unit) {
+    return timer.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+  }
+
+  @Override
+  public void shutdown() {
+    synchronized (configureLock) {
+      shutdown = true;
+      timer.shutdown();
+      workers.get().shutdown();
+    }
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    synchronized (configureLock) {
+      shutdown = true;
+      List<Runnable> pending = new ArrayList<>(timer.shutdownNow());
+      pending.addAll(workers.get().shutdownNow());
+      return pending;
+    }
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return shutdown && timer.isTerminated() && workers.get().isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    if (!timer.awaitTermination(timeout, unit)) {
+      return false;
+    }
+    long remaining = deadline - System.nanoTime();
+    return workers.get().awaitTermination(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+  }
+
+  private class MeasuredTask implements Runnable {
+    private final Runnable command;
+    private final long enqueued = System.nanoTime();
+
+    MeasuredTask(Runnable command) {
+      this.command = command;
+    }
+
+    @Override
+    public void run() {
+      long start = System.nanoTime();
+      queued.decrementAndGet();
+      active.incrementAndGet();
+      totalQueueNanos.add(start - enqueued);
+      try {
+        command.run();
+      } finally {
+        long elapsed = System.nanoTime() - start;
+        active.decrementAndGet();
+        completed.increment();
+        totalRunNanos.add(elapsed);
+        maxRunNanos.accumulateAndGet(elapsed, Math::max);
+      }
+    }
+  }
+
+  /** Point-in-time view of the work done by an {@link EngineExecutor}. */
+  public static class Metrics {
+    public final int threadCount;
+    public final WorkerMode mode;
+    public final int queueDepth;
+    public final int activeCount;
+    public final int timerQueueDepth;
+    public final long completedCount;
+    public final long averageQueueWaitMicros;
+    public final long averageRunMicros;
+    public final long maxRunMicros;
+
+    Metrics(
+        int threadCount,
+        WorkerMode mode,
+        int queueDepth,
+        int activeCount,
+        int timerQueueDepth,
+        long completedCount,
+        long averageQueueWaitMicros,
+        long averageRunMicros,
+        long maxRunMicros) {
+      this.threadCount = threadCount;
+      this.mode = mode;
+      this.queueDepth = queueDepth;
+      this.activeCount = activeCount;
+      this.timerQueueDepth = timerQueueDepth;
+      this.completedCount = completedCount;
+      this.averageQueueWaitMicros = averageQueueWaitMicros;
+      this.averageRunMicros = averageRunMicros;
+      this.maxRunMicros = maxRunMicros;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("threadCount", threadCount)
+          .append("mode", mode)
+          .append("queueDepth", queueDepth)
+          .append("activeCount", activeCount)
+          .append("timerQueueDepth", timerQueueDepth)
+          .append("completedCount", completedCount)
+          .append("averageQueueWaitMicros", averageQueueWaitMicros)
+          .append("averageRunMicros", averageRunMicros)
+          .append("maxRunMicros", maxRunMicros)
+          .toString();
+    }
+  }
+
+  static class DaemonThreadFactory implements ThreadFactory {
+    final AtomicInteger threadNumber = new AtomicInteger(1);
+    final String namePrefix;
+
+    DaemonThreadFactory(String id) {
+      namePrefix = "engine-" + id + "-thread-";
+    }
+
+    public Thread newThread(Runnable r) {
+      Thread t = new Thread(r);
+      t.setName(namePrefix + threadNumber.getAndIncrement());
+      if (!t.isDaemon()) {
+        t.setDaemon(true);
+      }
+      if (t.getPriority() != Thread.NORM_PRIORITY) {
+        t.setPriority(Thread.NORM_PRIORITY);
+      }
+      return t;
+    }
+  }
+
+  private static class DaemonWorkerThreadFactory
+      implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+    final AtomicInteger threadNumber = new AtomicInteger(1);
+    final String namePrefix;
+
+    DaemonWorkerThreadFactory(String id) {
+      namePrefix = "engine-" + id + "-worker-";
+    }
+
+    @Override
+    public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+      ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      t.setName(namePrefix + threadNumber.getAndIncrement());
+      t.setDaemon(true);
+      return t;
+    }
+  }
+
+  /**
+   * Access to virtual threads through reflection, so that the operator still runs on JVMs that
+   * predate them.
+   */
+  private static class VirtualThreads {
+    private static final Object BUILDER = findBuilder();
+
+    private static Object findBuilder() {
+      try {
+        return Thread.class.getMethod("ofVirtual").invoke(null);
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        return null;
+      }
+    }
+
+    static ThreadFactory createFactory(String namePrefix) {
+      try {
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        Object builder =
+            builderClass
+                .getMethod("name", String.class, long.class)
+                .invoke(findBuilder(), namePrefix, 1L);
+        return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    static ExecutorService createExecutor(String id) {
+      try {
+        return (ExecutorService)
+            Executors.class
+                .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                .invoke(null, createFactory("engine-" + id + "-virtual-"));
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
@@ -70,6 +70,9 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
 
   private Collection<Fiber> children = null;
 
+  /** The priority class and namespace by which the engine's scheduler orders this fiber. */
+  private volatile FiberScheduler.Assignment assignment;
+
   // Will only be populated if log level is at least FINE
   private List<BreadCrumb> breadCrumbs = null;
 
@@ -147,6 +150,10 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     this.na = new NextAction();
     this.na.invoke(stepline, packet);
     this.completionCallback = completionCallback;
+    // a child runs within the admission of its parent, so is not queued again by the scheduler
+    if (parent == null && packet != null) {
+      assignment = packet.getValue(FiberScheduler.ASSIGNMENT);
+    }
 
     if (status.get() == NOT_COMPLETE) {
       if (LOGGER.isFineEnabled()) {
@@ -158,6 +165,10 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     }
   }
 
+  FiberScheduler.Assignment getAssignment() {
+    return assignment;
+  }
+
   /**
    * Wakes up a suspended fiber. If a fiber was suspended without specifying the next {@link Step},
    * then the execution will be resumed, by calling the {@link Step#apply(Packet)} method on the
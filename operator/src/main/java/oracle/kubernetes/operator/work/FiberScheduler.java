@@ -0,0 +1,274 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Orders the fibers of an {@link Engine} when more of them are ready to run than the scheduler
+ * allows to run at once. Each fiber started with an {@link Assignment} in its packet belongs to a
+ * priority class and a namespace. Ready fibers of a higher class run before those of a lower class,
+ * except that a class which has been passed over {@link #MAX_PASSED_OVER} times in a row runs next,
+ * so that a steady stream of urgent work cannot starve it. Within a class, the namespaces take
+ * turns, so that many fibers for one namespace cannot delay those for another. Fibers without an
+ * assignment, and any other tasks, are not queued here.
+ */
+public class FiberScheduler {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /** The packet key under which a fiber's assignment may be specified when it is started. */
+  public static final String ASSIGNMENT = "fiberSchedulerAssignment";
+
+  /** The number of fibers of higher classes which may start ahead of a waiting fiber. */
+  static final int MAX_PASSED_OVER = 8;
+
+  /** Priority classes, from the most urgent to the least. */
+  public enum PriorityClass {
+    HIGH,
+    NORMAL,
+    LOW,
+    STATUS
+  }
+
+  /** The priority class and namespace of a fiber. */
+  public static class Assignment {
+    private final PriorityClass priorityClass;
+    private final String namespace;
+
+    public Assignment(PriorityClass priorityClass, String namespace) {
+      this.priorityClass = priorityClass;
+      this.namespace = namespace;
+    }
+
+    public PriorityClass getPriorityClass() {
+      return priorityClass;
+    }
+
+    public String getNamespace() {
+      return namespace;
+    }
+  }
+
+  private final Executor executor;
+  private final Map<PriorityClass, ClassQueue> queues = new EnumMap<>(PriorityClass.class);
+  private int concurrency;
+  private int running;
+
+  /**
+   * Creates a scheduler.
+   *
+   * @param executor the executor which is to run the fibers
+   * @param concurrency the maximum number of fibers to run at once
+   */
+  public FiberScheduler(Executor executor, int concurrency) {
+    this.executor = executor;
+    this.concurrency = concurrency;
+    for (PriorityClass priorityClass : PriorityClass.values()) {
+      queues.put(priorityClass, new ClassQueue());
+    }
+  }
+
+  /**
+   * Changes the maximum number of fibers to run at once.
+   *
+   * @param concurrency the new maximum
+   */
+  public void setConcurrency(int concurrency) {
+    synchronized (this) {
+      this.concurrency = concurrency;
+    }
+    dispatch();
+  }
+
+  /**
+   * Queues a task to run when the tasks ahead of it in priority and turn have started.
+   *
+   * @param task the task
+   * @param assignment the priority class and namespace of the task
+   */
+  public void execute(Runnable task, Assignment assignment) {
+    synchronized (this) {
+      queues.get(assignment.getPriorityClass()).add(assignment.getNamespace(), task);
+    }
+    dispatch();
+  }
+
+  private void dispatch() {
+    Runnable task;
+    while ((task = nextTask()) != null) {
+      executor.execute(task);
+    }
+  }
+
+  private synchronized Runnable nextTask() {
+    if (running >= concurrency) {
+      return null;
+    }
+    ClassQueue selected = selectQueue();
+    if (selected == null) {
+      return null;
+    }
+
+    QueuedTask queued = selected.poll();
+    for (ClassQueue queue : queues.values()) {
+      queue.recordStarted(queue == selected);
+    }
+    running++;
+    return () -> run(queued);
+  }
+
+  // the highest class which has waited too long, or else the highest class with a waiting task
+  private ClassQueue selectQueue() {
+    ClassQueue first = null;
+    for (ClassQueue queue : queues.values()) {
+      if (queue.isStarved()) {
+        return queue;
+      } else if (first == null && !queue.isEmpty()) {
+        first = queue;
+      }
+    }
+    return first;
+  }
+
+  private void run(QueuedTask queued) {
+    try {
+      queued.task.run();
+    } catch (Throwable t) {
+      LOGGER.severe(MessageKeys.EXCEPTION, t);
+    } finally {
+      synchronized (this) {
+        running--;
+      }
+      dispatch();
+    }
+  }
+
+  /**
+   * Returns a snapshot of the queue depth and queue wait statistics of each priority class.
+   *
+   * @return metrics by priority class
+   */
+  public synchronized Map<PriorityClass, Metrics> getMetrics() {
+    Map<PriorityClass, Metrics> metrics = new EnumMap<>(PriorityClass.class);
+    queues.forEach((priorityClass, queue) -> metrics.put(priorityClass, queue.getMetrics()));
+    return metrics;
+  }
+
+  private static class QueuedTask {
+    private final Runnable task;
+    private final long queuedNanos = System.nanoTime();
+
+    QueuedTask(Runnable task) {
+      this.task = task;
+    }
+  }
+
+  // The ready tasks of one priority class, with a queue for each namespace. The namespaces with
+  // tasks take turns, each starting one task per turn.
+  private static class ClassQueue {
+    private final Map<String, Queue<QueuedTask>> byNamespace = new HashMap<>();
+    private final Queue<String> turns = new ArrayDeque<>();
+    private int depth;
+    private int passedOver;
+    private long started;
+    private long totalWaitNanos;
+    private long maxWaitNanos;
+
+    void add(String namespace, Runnable task) {
+      Queue<QueuedTask> queue = byNamespace.get(namespace);
+      if (queue == null) {
+        queue = new ArrayDeque<>();
+        byNamespace.put(namespace, queue);
+        turns.add(namespace);
+      }
+      queue.add(new QueuedTask(task));
+      depth++;
+    }
+
+    boolean isEmpty() {
+      return depth == 0;
+    }
+
+    boolean isStarved() {
+      return passedOver >= MAX_PASSED_OVER;
+    }
+
+    // counts the tasks of other classes which start while this one has tasks waiting
+    void recordStarted(boolean fromThisClass) {
+      if (fromThisClass || isEmpty()) {
+        passedOver = 0;
+      } else {
+        passedOver++;
+      }
+    }
+
+    QueuedTask poll() {
+      String namespace = turns.poll();
+      if (namespace == null) {
+        return null;
+      }
+      Queue<QueuedTask> queue = byNamespace.get(namespace);
+      QueuedTask queued = queue.poll();
+      if (queue.isEmpty()) {
+        byNamespace.remove(namespace);
+      } else {
+        turns.add(namespace);
+      }
+      depth--;
+      recordWait(System.nanoTime() - queued.queuedNanos);
+      return queued;
+    }
+
+    private void recordWait(long waitNanos) {
+      started++;
+      totalWaitNanos += waitNanos;
+      maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+    }
+
+    Metrics getMetrics() {
+      return new Metrics(
+          depth,
+          started,
+          started > 0 ? TimeUnit.NANOSECONDS.toMicros(totalWaitNanos / started) : 0,
+          TimeUnit.NANOSECONDS.toMicros(maxWaitNanos));
+    }
+  }
+
+  /** Point-in-time view of the fibers of one priority class. */
+  public static class Metrics {
+    public final int queueDepth;
+    public final long startedCount;
+    public final long averageQueueWaitMicros;
+    public final long maxQueueWaitMicros;
+
+    Metrics(
+        int queueDepth, long startedCount, long averageQueueWaitMicros, long maxQueueWaitMicros) {
+      this.queueDepth = queueDepth;
+      this.startedCount = startedCount;
+      this.averageQueueWaitMicros = averageQueueWaitMicros;
+      this.maxQueueWaitMicros = maxQueueWaitMicros;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("queueDepth", queueDepth)
+          .append("startedCount", startedCount)
+          .append("averageQueueWaitMicros", averageQueueWaitMicros)
+          .append("maxQueueWaitMicros", maxQueueWaitMicros)
+          .toString();
+    }
+  }
+}
@@ -9,8 +9,12 @@ import static oracle.kubernetes.operator.VersionConstants.DEFAULT_DOMAIN_VERSION
 import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 import com.meterware.simplestub.Memento;
@@ -24,21 +28,26 @@ import io.kubernetes.client.models.V1PersistentVolumeClaim;
 import io.kubernetes.client.models.V1Pod;
 import io.kubernetes.client.models.V1Service;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import oracle.kubernetes.TestUtils;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.helpers.OperatorServiceType;
+import oracle.kubernetes.operator.helpers.ResourceCache;
 import oracle.kubernetes.operator.work.ThreadFactorySingleton;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import org.hamcrest.Matcher;
 import org.joda.time.DateTime;
 import org.junit.After;
 import org.junit.Before;
@@ -49,10 +58,18 @@ public class DomainPresenceTest extends ThreadFactoryTestBase {
 
   private static final String NS = "default";
   private static final String UID = "UID1";
+  private static final String NS2 = "ns2";
+  private static final List<String> CLUSTER_WIDE_NAMESPACES = Arrays.asList(NS, NS2);
+  private static final String UNMANAGED_NS = "unmanaged";
+
+  // the namespace list which finds the resource version for the shared watches is the first list
+  private static final long CLUSTER_LIST_RV = 1;
+  private static final ThreadFactory NO_OP_THREAD_FACTORY = r -> new Thread(() -> {});
 
   private List<Memento> mementos = new ArrayList<>();
   private KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private Map<String, AtomicBoolean> isNamespaceStopping;
+  private boolean clusterWide;
 
   @Before
   public void setUp() throws Exception {
@@ -82,6 +99,8 @@ public class DomainPresenceTest extends ThreadFactoryTestBase {
   public void tearDown() throws Exception {
     isNamespaceStopping.computeIfAbsent(NS, k -> new AtomicBoolean(true)).set(true);
     shutDownThreads();
+    clearClusterWideWatchMode();
+    ResourceCache.clearNamespace(NS);
 
     for (Memento memento : mementos) memento.revert();
 
@@ -231,6 +250,95 @@ public class DomainPresenceTest extends ThreadFactoryTestBase {
         .message(message);
   }
 
+  @Test
+  public void inClusterWideWatchMode_namespacesShareWatchesStartedBeforeAnyNamespaceIsListed()
+      throws Exception {
+    defineClusterWideWatchMode();
+
+    testSupport.runStepsToCompletion(Main.createStartNamespacesStep(CLUSTER_WIDE_NAMESPACES));
+
+    Map<String, PodWatcher> podWatchers = getStaticValue("podWatchers");
+    assertThat(podWatchers.get(NS), notNullValue());
+    assertThat(podWatchers.get(NS2), sameInstance(podWatchers.get(NS)));
+    assertThat(getResourceVersion("podWatchers"), equalTo(CLUSTER_LIST_RV));
+    assertThat(getResourceVersion("serviceWatchers"), equalTo(CLUSTER_LIST_RV));
+    assertThat(getResourceVersion("domainWatchers"), equalTo(CLUSTER_LIST_RV));
+  }
+
+  @Test
+  public void inClusterWideWatchMode_sharedWatchPassesOnEventsOnlyForManagedNamespaces()
+      throws Exception {
+    defineClusterWideWatchMode();
+    testSupport.runStepsToCompletion(Main.createStartNamespacesStep(CLUSTER_WIDE_NAMESPACES));
+    CLUSTER_WIDE_NAMESPACES.forEach(ns -> isNamespaceStopping.get(ns).set(false));
+
+    PodWatcher watcher = this.<Map<String, PodWatcher>>getStaticValue("podWatchers").get(NS);
+    for (String namespace : Arrays.asList(NS, NS2, UNMANAGED_NS)) {
+      watcher.receivedResponse(
+          WatchEvent.createAddedEvent(createPodResource(UID, namespace, "admin"))
+              .toWatchResponse());
+    }
+
+    assertThat(ResourceCache.PODS.list(NS), hasItem(inNamespace(NS)));
+    assertThat(ResourceCache.PODS.list(NS2), hasItem(inNamespace(NS2)));
+    assertThat(ResourceCache.PODS.list(UNMANAGED_NS), empty());
+  }
+
+  private void defineClusterWideWatchMode() throws Exception {
+    mementos.add(StaticStubSupport.install(Main.class, "watchClusterWide", true));
+    mementos.add(StaticStubSupport.install(Main.class, "watchThreadFactory", NO_OP_THREAD_FACTORY));
+    getClusterWatchResourceVersion().set(null);
+    isNamespaceStopping.computeIfAbsent(NS2, k -> new AtomicBoolean(true)).set(true);
+    removeWatchers();
+    clusterWide = true;
+  }
+
+  // a namespace which already has watchers would not be given the shared ones
+  private void removeWatchers() throws NoSuchFieldException {
+    for (String watchers :
+        Arrays.asList(
+            "configMapWatchers",
+            "eventWatchers",
+            "podWatchers",
+            "serviceWatchers",
+            "domainWatchers")) {
+      Map<String, ?> map = getStaticValue(watchers);
+      map.remove("");
+      CLUSTER_WIDE_NAMESPACES.forEach(map::remove);
+    }
+  }
+
+  private AtomicReference<String> getClusterWatchResourceVersion() throws NoSuchFieldException {
+    return getStaticValue("clusterWatchResourceVersion");
+  }
+
+  private long getResourceVersion(String watchers) throws NoSuchFieldException {
+    return this.<Map<String, Watcher<?>>>getStaticValue(watchers).get(NS).getResourceVersion();
+  }
+
+  private <T> T getStaticValue(String fieldName) throws NoSuchFieldException {
+    return StaticStubSupport.preserve(Main.class, fieldName).getOriginalValue();
+  }
+
+  private void clearClusterWideWatchMode() throws NoSuchFieldException {
+    if (!clusterWide) {
+      return;
+    }
+
+    getClusterWatchResourceVersion().set(null);
+    removeWatchers();
+    Map<String, AtomicBoolean> isNamespaceStarted = getStaticValue("isNamespaceStarted");
+    for (String namespace : CLUSTER_WIDE_NAMESPACES) {
+      isNamespaceStopping.get(namespace).set(true);
+      isNamespaceStarted.remove(namespace);
+      ResourceCache.clearNamespace(namespace);
+    }
+  }
+
+  private Matcher<V1Pod> inNamespace(String namespace) {
+    return hasProperty("metadata", hasProperty("namespace", equalTo(namespace)));
+  }
+
   @Test
   public void whenStrandedResourcesExist_removeThem() {
     V1Service service1 = createServerService(UID, NS, "admin");
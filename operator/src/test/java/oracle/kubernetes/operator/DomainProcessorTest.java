@@ -13,6 +13,7 @@ import static oracle.kubernetes.operator.VersionConstants.DEFAULT_DOMAIN_VERSION
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -29,9 +30,11 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.helpers.AnnotationHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
@@ -44,6 +47,7 @@ import oracle.kubernetes.operator.utils.InMemoryCertificates;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.FiberScheduler;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
 import oracle.kubernetes.weblogic.domain.model.Domain;
@@ -85,6 +89,11 @@ public class DomainProcessorTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(testSupport.install());
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", presenceInfoMap));
+    mementos.add(
+        StaticStubSupport.install(
+            DomainProcessorImpl.class, "makeRightFiberGates", new HashMap<>()));
+    mementos.add(
+        StaticStubSupport.install(DomainProcessorImpl.class, "pendingMakeRights", new HashMap<>()));
     mementos.add(TuningParametersStub.install());
     mementos.add(InMemoryCertificates.install());
     mementos.add(UnitTestHash.install());
@@ -177,6 +186,69 @@ public class DomainProcessorTest {
     assertThat(info.getExternalService(ADMIN_NAME), notNullValue());
   }
 
+  @Test
+  public void whenMakeRightDelayed_domainEventDoesNotStartMakeRightAtOnce() {
+    TuningParametersStub.setMakeRightDelays(100, 1000);
+
+    processor.dispatchDomainWatch(WatchEvent.createAddedEvent(domain).toWatchResponse());
+
+    assertThat(getRunningServices(), empty());
+  }
+
+  @Test
+  public void whenMakeRightDelayed_startItOnceEventsStopArriving() {
+    TuningParametersStub.setMakeRightDelays(100, 1000);
+
+    processor.dispatchDomainWatch(WatchEvent.createAddedEvent(domain).toWatchResponse());
+    testSupport.setTime(50, TimeUnit.MILLISECONDS);
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(domain).toWatchResponse());
+    testSupport.setTime(120, TimeUnit.MILLISECONDS);
+    assertThat(getRunningServices(), empty());
+
+    testSupport.setTime(150, TimeUnit.MILLISECONDS);
+    assertThat(getServerServices().count(), greaterThan(0L));
+  }
+
+  @Test
+  public void whenEventsKeepArriving_startMakeRightAfterMaximumWait() {
+    TuningParametersStub.setMakeRightDelays(100, 300);
+
+    processor.dispatchDomainWatch(WatchEvent.createAddedEvent(domain).toWatchResponse());
+    for (int time = 80; time < 300; time += 80) {
+      testSupport.setTime(time, TimeUnit.MILLISECONDS);
+      processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(domain).toWatchResponse());
+    }
+    assertThat(getRunningServices(), empty());
+
+    testSupport.setTime(300, TimeUnit.MILLISECONDS);
+    assertThat(getServerServices().count(), greaterThan(0L));
+  }
+
+  @Test
+  public void whenDomainDeletedWhileMakeRightDelayed_doNotStartIt() {
+    TuningParametersStub.setMakeRightDelays(100, 1000);
+
+    processor.dispatchDomainWatch(WatchEvent.createAddedEvent(domain).toWatchResponse());
+    processor.dispatchDomainWatch(WatchEvent.createDeleteEvent(domain).toWatchResponse());
+    testSupport.setTime(1000, TimeUnit.MILLISECONDS);
+
+    assertThat(getRunningServices(), empty());
+  }
+
+  @Test
+  public void whenDomainHasNoPriorityAnnotation_useNormalPriorityClass() {
+    assertThat(
+        DomainProcessorImpl.getPriorityClass(domain), equalTo(FiberScheduler.PriorityClass.NORMAL));
+  }
+
+  @Test
+  public void whenDomainHasHighPriorityAnnotation_useHighPriorityClass() {
+    domain.getMetadata().putAnnotationsItem(DomainProcessorImpl.PRIORITY_ANNOTATION, "High");
+
+    assertThat(
+        DomainProcessorImpl.getPriorityClass(domain), equalTo(FiberScheduler.PriorityClass.HIGH));
+  }
+
   // todo after external service created, if adminService deleted, delete service
 
   // problem - ServiceType doesn't know what this is, so does not
@@ -0,0 +1,70 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import java.util.ArrayList;
+import java.util.List;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import org.junit.Test;
+
+public class DomainStatusListenersTest {
+  private DomainStatusListeners listeners = new DomainStatusListeners();
+  private List<String> received = new ArrayList<>();
+
+  @Test
+  public void whenStatusChanged_tellEachListener() {
+    listeners.add(new RecordingListener("first"));
+    listeners.add(new RecordingListener("second"));
+
+    listeners.statusChanged("ns", "domain1", new DomainStatus(), 3);
+
+    assertThat(received, contains("first: status ns/domain1 3", "second: status ns/domain1 3"));
+  }
+
+  @Test
+  public void whenServerStateChanged_tellListener() {
+    listeners.add(new RecordingListener("listener"));
+
+    listeners.serverStateChanged("ns", "domain1", "ms1", "RUNNING");
+
+    assertThat(received, contains("listener: server ns/domain1/ms1 RUNNING"));
+  }
+
+  @Test
+  public void afterListenerRemoved_dontTellIt() {
+    RecordingListener listener = new RecordingListener("listener");
+    listeners.add(listener);
+
+    listeners.remove(listener);
+    listeners.statusChanged("ns", "domain1", new DomainStatus(), 3);
+
+    assertThat(received, empty());
+  }
+
+  private class RecordingListener implements DomainStatusListener {
+    private final String name;
+
+    RecordingListener(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void statusChanged(
+        String namespace, String domainUID, DomainStatus status, long sequence) {
+      received.add(name + ": status " + namespace + "/" + domainUID + " " + sequence);
+    }
+
+    @Override
+    public void serverStateChanged(
+        String namespace, String domainUID, String serverName, String state) {
+      received.add(
+          name + ": server " + namespace + "/" + domainUID + "/" + serverName + " " + state);
+    }
+  }
+}
@@ -16,24 +16,38 @@ import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Availa
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Failed;
 import static oracle.kubernetes.weblogic.domain.model.DomainConditionType.Progressing;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.gson.JsonObject;
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.JSON;
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1Pod;
 import io.kubernetes.client.models.V1PodSpec;
 import io.kubernetes.client.models.V1PodStatus;
+import java.net.HttpURLConnection;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import oracle.kubernetes.TestUtils;
 import oracle.kubernetes.operator.helpers.AsyncCallTestSupport;
 import oracle.kubernetes.operator.helpers.BodyMatcher;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesVersion;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.rest.DomainEvents;
 import oracle.kubernetes.operator.utils.RandomStringGenerator;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
@@ -64,16 +78,27 @@ public class DomainStatusUpdaterTest {
           .withSpec(new DomainSpec());
   private DomainPresenceInfo info = new DomainPresenceInfo(domain);
   private Domain recordedDomain;
+  private final List<List<JsonObject>> statusPatches = new ArrayList<>();
   private RandomStringGenerator generator = new RandomStringGenerator();
   private String reason = generator.getUniqueString();
   private final WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport("mydomain");
   private final String message = generator.getUniqueString();
   private RuntimeException failure = new RuntimeException(message);
+  private List<String> events = new ArrayList<>();
 
   @Before
   public void setUp() throws NoSuchFieldException {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(testSupport.installRequestStepFactory());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(
+        StaticStubSupport.install(DomainStatusUpdater.class, "pendingWrites", new HashMap<>()));
+    mementos.add(StaticStubSupport.install(DomainStatusUpdater.class, "writing", new HashSet<>()));
+    DomainEvents domainEvents = new DomainEvents();
+    DomainStatusListeners listeners = new DomainStatusListeners();
+    mementos.add(StaticStubSupport.install(DomainStatusListeners.class, "INSTANCE", listeners));
+    listeners.add(domainEvents);
+    domainEvents.subscribe(NAME, events::add);
 
     domain.setStatus(new DomainStatus());
 
@@ -271,6 +296,53 @@ public class DomainStatusUpdaterTest {
     testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
 
     assertThat(recordedDomain, nullValue());
+    assertThat(events, empty());
+  }
+
+  @Test
+  public void whenStatusChanged_publishStatusEvent() {
+    testSupport.runSteps(new DomainStatusUpdater.StatusUpdateStep(endStep));
+
+    assertThat(events, hasSize(1));
+    assertThat(events.get(0), containsString("event: status\n"));
+  }
+
+  @Test
+  public void whenStatusPatched_publishWrittenStatus() {
+    expectStatusPatch();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(events, hasSize(1));
+    assertThat(events.get(0), containsString("event: status\n"));
+    assertThat(events.get(0), containsString(reason));
+  }
+
+  @Test
+  public void whenStatusWritten_publishItsSequenceNumber() {
+    expectStatusPatch();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(info.getWrittenStatusSequence(), greaterThan(0L));
+    assertThat(
+        events.get(0),
+        containsString("data: {\"sequence\":" + info.getWrittenStatusSequence() + ","));
+  }
+
+  @Test
+  public void whenStatusPatchNotAccepted_dontPublishStatusEvent() {
+    testSupport.addComponent("version", KubernetesVersion.class, new KubernetesVersion(1, 13));
+    testSupport
+        .createCannedResponse("patchDomainStatus")
+        .withNamespace(NS)
+        .withName(NAME)
+        .ignoringBody()
+        .failingWithStatus(HttpURLConnection.HTTP_NOT_FOUND);
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(events, empty());
   }
 
   @Test
@@ -743,4 +815,158 @@ public class DomainStatusUpdaterTest {
 
     assertThat(recordedDomain, hasCondition(Available));
   }
+
+  @Test
+  public void whenStatusSubresourceSupported_progressingStepPatchesStatus() {
+    expectStatusPatch();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(statusPatches, hasSize(1));
+    assertThat(getPatchedStatus(statusPatches.get(0)), hasCondition(Progressing));
+  }
+
+  @Test
+  public void whenStatusSubresourceSupported_patchOmitsModifiedFlag() {
+    expectStatusPatch();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(
+        statusPatches.get(0).get(0).getAsJsonObject("value").has("modified"), equalTo(false));
+  }
+
+  @Test
+  public void whenComputedStatusMatchesLastWritten_dontPatchAgain() {
+    expectStatusPatch();
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    domain.getStatus().removeConditionIf(c -> c.getType() == Progressing);
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(statusPatches, hasSize(1));
+  }
+
+  @Test
+  public void whenComputedStatusDiffersFromLastWritten_patchAgain() {
+    expectStatusPatch();
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep("other", false, endStep));
+
+    assertThat(statusPatches, hasSize(2));
+  }
+
+  @Test
+  public void whenStatusWriteDelayed_dontWriteAtOnce() {
+    TuningParametersStub.setStatusWriteDelays(100, 1000);
+    expectStatusPatch();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(statusPatches, empty());
+  }
+
+  @Test
+  public void whenStatusWriteDelayed_mergeChangesIntoOneWrite() {
+    TuningParametersStub.setStatusWriteDelays(100, 1000);
+    expectStatusPatch();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    testSupport.setTime(50, TimeUnit.MILLISECONDS);
+    testSupport.runSteps(DomainStatusUpdater.createAvailableStep(reason, endStep));
+    testSupport.setTime(120, TimeUnit.MILLISECONDS);
+    assertThat(statusPatches, empty());
+
+    testSupport.setTime(150, TimeUnit.MILLISECONDS);
+    assertThat(statusPatches, hasSize(1));
+    assertThat(getPatchedStatus(statusPatches.get(0)), hasCondition(Progressing));
+    assertThat(getPatchedStatus(statusPatches.get(0)), hasCondition(Available));
+  }
+
+  @Test
+  public void whenStatusChangesKeepArriving_writeAfterMaximumWait() {
+    TuningParametersStub.setStatusWriteDelays(100, 300);
+    expectStatusPatch();
+
+    for (int time = 0; time < 300; time += 80) {
+      testSupport.setTime(time, TimeUnit.MILLISECONDS);
+      testSupport.runSteps(
+          DomainStatusUpdater.createProgressingStep(generator.getUniqueString(), false, endStep));
+    }
+    assertThat(statusPatches, empty());
+
+    testSupport.setTime(300, TimeUnit.MILLISECONDS);
+    assertThat(statusPatches, hasSize(1));
+  }
+
+  @Test
+  public void whenStatusWriteDelayed_writtenSequenceCatchesUpWhenWritten() {
+    TuningParametersStub.setStatusWriteDelays(100, 1000);
+    expectStatusPatch();
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    assertThat(info.getWrittenStatusSequence(), lessThan(info.getStatusSequence()));
+
+    testSupport.setTime(100, TimeUnit.MILLISECONDS);
+    assertThat(info.getWrittenStatusSequence(), equalTo(info.getStatusSequence()));
+  }
+
+  @Test
+  public void whenWatchEchoOfEarlierWriteArrivesWhileWritePending_writePendingStatus() {
+    expectStatusPatch();
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    TuningParametersStub.setStatusWriteDelays(100, 1000);
+    testSupport.runSteps(DomainStatusUpdater.createAvailableStep(reason, endStep));
+
+    info.setDomain(createEchoOfLastWrittenStatus());
+    testSupport.setTime(100, TimeUnit.MILLISECONDS);
+
+    assertThat(statusPatches, hasSize(2));
+    assertThat(getPatchedStatus(statusPatches.get(1)), hasCondition(Available));
+  }
+
+  @Test
+  public void eachStatusChange_hasHigherSequenceNumber() {
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    long first = info.getStatusSequence();
+
+    testSupport.runSteps(DomainStatusUpdater.createAvailableStep(reason, endStep));
+
+    assertThat(info.getStatusSequence(), greaterThan(first));
+  }
+
+  private Domain createEchoOfLastWrittenStatus() {
+    JSON json = new JSON();
+    Domain echo = new Domain().withMetadata(domain.getMetadata()).withSpec(domain.getSpec());
+    echo.setStatus(
+        json.deserialize(json.serialize(info.getLastWrittenStatus()), DomainStatus.class));
+    return echo;
+  }
+
+  private void expectStatusPatch() {
+    testSupport.addComponent("version", KubernetesVersion.class, new KubernetesVersion(1, 13));
+    testSupport
+        .createCannedResponse("patchDomainStatus")
+        .withNamespace(NS)
+        .withName(NAME)
+        .withBody(new RecordStatusPatch())
+        .returning(domain);
+  }
+
+  private Domain getPatchedStatus(List<JsonObject> patch) {
+    Domain patched = new Domain();
+    patched.setStatus(
+        new JSON().deserialize(patch.get(0).get("value").toString(), DomainStatus.class));
+    return patched;
+  }
+
+  class RecordStatusPatch implements BodyMatcher {
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean matches(Object actualBody) {
+      statusPatches.add((List<JsonObject>) actualBody);
+      return true;
+    }
+  }
 }
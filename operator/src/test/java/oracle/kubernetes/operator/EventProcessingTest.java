@@ -6,6 +6,7 @@ package oracle.kubernetes.operator;
 
 import static com.meterware.simplestub.Stub.createStrictStub;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -127,6 +128,15 @@ public class EventProcessingTest {
         equalTo(WebLogicConstants.UNKNOWN_STATE));
   }
 
+  @Test
+  public void onNewEventThatMatches_markStatusAsReportedByReadinessProbe() {
+    info.setServerPod(ADMIN_NAME, new V1Pod());
+
+    dispatchEventWatch();
+
+    assertThat(info.getLastKnownServerStatus(ADMIN_NAME).isReportedByReadinessProbe(), is(true));
+  }
+
   @SuppressWarnings("SameParameterValue")
   private String createReadinessProbeMessage(String message) {
     return WebLogicConstants.READINESS_PROBE_NOT_READY_STATE + ":" + message;
@@ -21,6 +21,7 @@ import io.kubernetes.client.util.Watch;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.watcher.WatchListener;
 import oracle.kubernetes.operator.work.NextAction;
@@ -172,6 +173,19 @@ public class JobWatcherTest extends WatcherTestBase implements WatchListener<V1J
     assertThat(JobWatcher.getOrCreateFor(domain), sameInstance(firstWatcher));
   }
 
+  @Test
+  public void whenWatchingClusterWide_shareWatcherAcrossNamespaces() {
+    AtomicBoolean stopping = new AtomicBoolean(true);
+    JobWatcher.defineFactory(this, new WatchTuning(30, 0, true, false, 0), ns -> stopping);
+    Domain domain1 =
+        new Domain().withMetadata(new V1ObjectMeta().namespace(NS).resourceVersion(VERSION));
+    Domain domain2 =
+        new Domain().withMetadata(new V1ObjectMeta().namespace("ns2").resourceVersion(VERSION));
+
+    assertThat(
+        JobWatcher.getOrCreateFor(domain2), sameInstance(JobWatcher.getOrCreateFor(domain1)));
+  }
+
   @SuppressWarnings({"rawtypes"})
   public void receivedEvents_areSentToListeners() {
     // Override as JobWatcher doesn't currently implement listener for callback
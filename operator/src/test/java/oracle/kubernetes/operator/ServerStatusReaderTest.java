@@ -43,6 +43,7 @@ import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import org.hamcrest.Matchers;
 import org.junit.After;
 import org.junit.Before;
@@ -56,6 +57,8 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
   private final TerminalStep endStep = new TerminalStep();
   private final KubernetesExecFactoryFake execFactory = new KubernetesExecFactoryFake();
   private final ReadServerHealthStepFactoryFake stepFactory = new ReadServerHealthStepFactoryFake();
+  private final ReadDomainHealthStepFactoryFake domainStepFactory =
+      new ReadDomainHealthStepFactoryFake();
 
   private Domain domain =
       new Domain().withMetadata(new V1ObjectMeta().namespace(NS)).withSpec(new DomainSpec());
@@ -66,6 +69,9 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(StaticStubSupport.install(ServerStatusReader.class, "EXEC_FACTORY", execFactory));
     mementos.add(StaticStubSupport.install(ServerStatusReader.class, "STEP_FACTORY", stepFactory));
+    mementos.add(
+        StaticStubSupport.install(
+            ServerStatusReader.class, "DOMAIN_STEP_FACTORY", domainStepFactory));
     mementos.add(TuningParametersStub.install());
 
     testSupport.addDomainPresenceInfo(info);
@@ -153,6 +159,19 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(serverStates, hasEntry("server1", "still not ready yet"));
   }
 
+  @Test
+  public void whenPodNotReadyAndReadinessProbeReportedState_recordWithoutExec() {
+    info.setServerPod("server1", createPod("server1"));
+    info.updateLastKnownServerStatusFromReadinessProbe("server1", "STARTING");
+
+    execFactory.defineResponse("server1", "from exec");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "STARTING"));
+  }
+
   private void setReadyStatus(V1Pod pod) {
     pod.setStatus(
         new V1PodStatus()
@@ -172,6 +191,46 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(stepFactory.serverNames, contains("server1"));
   }
 
+  @Test
+  public void whenDomainHealthReadCoversServer_doNotReadItIndividually() {
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerPod("server2", createPod("server2"));
+    setReadyStatus(info.getServerPod("server1"));
+    setReadyStatus(info.getServerPod("server2"));
+    domainStepFactory.defineHealth("server1", "RUNNING");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(stepFactory.serverNames, contains("server2"));
+    assertThat(getServerStates(packet), hasEntry("server1", "RUNNING"));
+  }
+
+  static class ReadDomainHealthStepFactoryFake implements Function<Step, Step> {
+    private Map<String, String> states = new HashMap<>();
+
+    void defineHealth(String serverName, String state) {
+      states.put(serverName, state);
+    }
+
+    @Override
+    public Step apply(Step next) {
+      return new Step(next) {
+        @Override
+        @SuppressWarnings("unchecked")
+        public NextAction apply(Packet packet) {
+          for (Map.Entry<String, String> entry : states.entrySet()) {
+            ((Map<String, String>) packet.get(SERVER_STATE_MAP))
+                .put(entry.getKey(), entry.getValue());
+            ((Map<String, ServerHealth>) packet.get(SERVER_HEALTH_MAP))
+                .put(entry.getKey(), new ServerHealth().withOverallHealth("ok"));
+          }
+          return doNext(packet);
+        }
+      };
+    }
+  }
+
   static class ReadServerHealthStepFactoryFake implements Function<Step, Step> {
     List<String> serverNames = new ArrayList<>();
 
@@ -0,0 +1,162 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.watcher.WatchListener;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class WatchDispatcherTest {
+  private static final int QUEUE_SIZE = 3;
+
+  private final ManualExecutor executor = new ManualExecutor();
+  private final WatchDispatcher dispatcher = new WatchDispatcher(executor, QUEUE_SIZE);
+  private final List<String> received = new ArrayList<>();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    mementos.add(
+        TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(RuntimeException.class));
+  }
+
+  @After
+  public void tearDown() {
+    for (Memento memento : mementos) {
+      memento.revert();
+    }
+  }
+
+  @Test
+  public void whenEventsQueued_listenerNotCalledUntilTaskRuns() {
+    WatchListener<V1Pod> queue = dispatcher.createQueue(this::record);
+
+    queue.receivedResponse(addedEvent("pod1"));
+
+    assertThat(received, empty());
+  }
+
+  @Test
+  public void eventsFromOneWatch_areDeliveredInOrderByOneTask() {
+    WatchListener<V1Pod> queue = dispatcher.createQueue(this::record);
+
+    queue.receivedResponse(addedEvent("pod1"));
+    queue.receivedResponse(addedEvent("pod2"));
+    queue.receivedResponse(addedEvent("pod3"));
+
+    assertThat(executor.tasks.size(), equalTo(1));
+    executor.runAll();
+    assertThat(received, contains("pod1", "pod2", "pod3"));
+  }
+
+  @Test
+  public void eventsFromDifferentWatches_areDeliveredByDifferentTasks() {
+    dispatcher.createQueue(this::record).receivedResponse(addedEvent("pod1"));
+    dispatcher.createQueue(this::record).receivedResponse(addedEvent("pod2"));
+
+    assertThat(executor.tasks.size(), equalTo(2));
+  }
+
+  @Test
+  public void afterEventsDelivered_capacityIsRestored() {
+    WatchListener<V1Pod> queue = dispatcher.createQueue(this::record);
+    queue.receivedResponse(addedEvent("pod1"));
+    queue.receivedResponse(addedEvent("pod2"));
+
+    executor.runAll();
+
+    assertThat(dispatcher.getAvailableCapacity(), equalTo(QUEUE_SIZE));
+  }
+
+  @Test
+  public void whenListenerThrowsException_laterEventsStillDelivered() {
+    WatchListener<V1Pod> queue =
+        dispatcher.createQueue(
+            response -> {
+              record(response);
+              throw new RuntimeException("test");
+            });
+    queue.receivedResponse(addedEvent("pod1"));
+    queue.receivedResponse(addedEvent("pod2"));
+
+    executor.runAll();
+
+    assertThat(received, contains("pod1", "pod2"));
+    assertThat(dispatcher.getAvailableCapacity(), equalTo(QUEUE_SIZE));
+  }
+
+  @Test
+  public void whenQueueFull_watchThreadBlocksUntilEventsDelivered() throws Exception {
+    WatchListener<V1Pod> queue = dispatcher.createQueue(this::record);
+    for (int i = 0; i < QUEUE_SIZE; i++) {
+      queue.receivedResponse(addedEvent("pod" + i));
+    }
+
+    CountDownLatch queued = new CountDownLatch(1);
+    Thread watchThread =
+        new Thread(
+            () -> {
+              queue.receivedResponse(addedEvent("last"));
+              queued.countDown();
+            });
+    watchThread.setDaemon(true);
+    watchThread.start();
+
+    assertThat(queued.await(100, TimeUnit.MILLISECONDS), is(false));
+    executor.runAll();
+    assertThat(queued.await(5, TimeUnit.SECONDS), is(true));
+  }
+
+  private void record(Watch.Response<V1Pod> response) {
+    synchronized (received) {
+      received.add(response.object.getMetadata().getName());
+    }
+  }
+
+  private Watch.Response<V1Pod> addedEvent(String name) {
+    return WatchEvent.createAddedEvent(new V1Pod().metadata(new V1ObjectMeta().name(name)))
+        .toWatchResponse();
+  }
+
+  private static class ManualExecutor implements Executor {
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public synchronized void execute(Runnable command) {
+      tasks.add(command);
+    }
+
+    void runAll() {
+      Runnable task;
+      while ((task = poll()) != null) {
+        task.run();
+      }
+    }
+
+    private synchronized Runnable poll() {
+      return tasks.poll();
+    }
+  }
+}
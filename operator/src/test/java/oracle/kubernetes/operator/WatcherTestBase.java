@@ -11,13 +11,17 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.util.Watch;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import oracle.kubernetes.TestUtils;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
@@ -41,7 +45,7 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase
 
   private int resourceVersion = INITIAL_RESOURCE_VERSION;
 
-  protected WatchTuning tuning = new WatchTuning(30, 0);
+  protected WatchTuning tuning = new WatchTuning(30, 0, false, false, 0);
 
   private V1ObjectMeta createMetaData() {
     return createMetaData("test", NAMESPACE);
@@ -62,6 +66,7 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase
   public void setUp() throws Exception {
     mementos.add(TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(hasNextException));
     mementos.add(StubWatchFactory.install());
+    mementos.add(StaticStubSupport.install(Watcher.class, "dispatcher", null));
     StubWatchFactory.setListener(this);
   }
 
@@ -111,6 +116,10 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase
     return WatchEvent.createErrorEvent(HTTP_GONE).toWatchResponse();
   }
 
+  private <T> Watch.Response createBookmarkResponse(T object) {
+    return WatchEvent.createBookmarkEvent(object).toWatchResponse();
+  }
+
   private Watch.Response createErrorWithoutStatusResponse() {
     return WatchEvent.createErrorEventWithoutStatus().toWatchResponse();
   }
@@ -169,13 +178,45 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase
 
   @SuppressWarnings({"unchecked", "rawtypes"})
   @Test
-  public void afterErrorWithoutStatus_nextRequestSendsResourceVersionZero() {
+  public void afterErrorWithoutStatus_nextRequestSendsLastResourceVersion() {
     StubWatchFactory.addCallResponses(createErrorWithoutStatusResponse());
     scheduleDeleteResponse(createObjectWithMetaData());
 
     createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
 
-    assertThat(StubWatchFactory.getRequestParameters().get(1), hasEntry("resourceVersion", "0"));
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(1),
+        hasEntry("resourceVersion", Integer.toString(INITIAL_RESOURCE_VERSION)));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  @Test
+  public void afterRepeatedErrorWithoutStatus_nextRequestSendsResourceVersionZero() {
+    StubWatchFactory.addCallResponses(createErrorWithoutStatusResponse());
+    StubWatchFactory.addCallResponses(createErrorWithoutStatusResponse());
+    scheduleDeleteResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(StubWatchFactory.getRequestParameters().get(2), hasEntry("resourceVersion", "0"));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  @Test
+  public void afterBookmark_nextRequestSendsBookmarkResourceVersionWithoutCallingListener() {
+    StubWatchFactory.addCallResponses(createBookmarkResponse(createObjectWithMetaData()));
+    scheduleAddResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, 0);
+
+    assertThat(getCallBackTypes(), not(hasItem("BOOKMARK")));
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(1),
+        hasEntry("resourceVersion", Integer.toString(INITIAL_RESOURCE_VERSION)));
+  }
+
+  private List<String> getCallBackTypes() {
+    return callBacks.stream().map(response -> response.type).collect(Collectors.toList());
   }
 
   @SuppressWarnings({"unchecked", "rawtypes"})
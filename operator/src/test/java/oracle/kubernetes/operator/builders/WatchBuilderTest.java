@@ -63,6 +63,9 @@ public class WatchBuilderTest extends HttpUserAgentTest {
           + "/domains";
   private static final String SERVICE_RESOURCE = "/api/v1/namespaces/" + NAMESPACE + "/services";
   private static final String POD_RESOURCE = "/api/v1/namespaces/" + NAMESPACE + "/pods";
+  private static final String ALL_DOMAINS_RESOURCE =
+      "/apis/weblogic.oracle/" + KubernetesConstants.DOMAIN_VERSION + "/domains";
+  private static final String ALL_PODS_RESOURCE = "/api/v1/pods";
   private static final String EOL = "\n";
   private static final int INITIAL_RESOURCE_VERSION = 123;
 
@@ -206,6 +209,39 @@ public class WatchBuilderTest extends HttpUserAgentTest {
     assertThat(podWatch, contains(addEvent(pod)));
   }
 
+  @Test
+  public void whenAllNamespacesPodWatchReceivesAddResponse_returnItFromIterator() throws Exception {
+    V1Pod pod = new V1Pod().metadata(createMetaData("pod1", "other"));
+    defineHttpResponse(
+        ALL_PODS_RESOURCE,
+        withResponses(createAddedResponse(pod))
+            .andValidations(
+                parameter("labelSelector")
+                    .withValue(DOMAINUID_LABEL + "," + CREATEDBYOPERATOR_LABEL)));
+
+    WatchI<V1Pod> podWatch =
+        new WatchBuilder()
+            .withLabelSelectors(DOMAINUID_LABEL, CREATEDBYOPERATOR_LABEL)
+            .createPodWatch(WatchBuilder.ALL_NAMESPACES);
+
+    assertThat(podWatch, contains(addEvent(pod)));
+  }
+
+  @Test
+  public void whenAllNamespacesDomainWatchReceivesAddResponse_returnItFromIterator()
+      throws Exception {
+    Domain domain =
+        new Domain()
+            .withApiVersion(API_VERSION)
+            .withKind("Domain")
+            .withMetadata(createMetaData("domain1", "other"));
+    defineHttpResponse(ALL_DOMAINS_RESOURCE, withResponses(createAddedResponse(domain)));
+
+    WatchI<Domain> domainWatch = new WatchBuilder().createDomainWatch(WatchBuilder.ALL_NAMESPACES);
+
+    assertThat(domainWatch, contains(addEvent(domain)));
+  }
+
   @Test
   public void whenPodWatchFindsNoData_hasNextReturnsFalse() throws Exception {
     defineHttpResponse(POD_RESOURCE, NO_RESPONSES);
@@ -5,21 +5,26 @@
 package oracle.kubernetes.operator.calls;
 
 import static oracle.kubernetes.operator.calls.AsyncRequestStep.RESPONSE_COMPONENT_NAME;
+import static oracle.kubernetes.operator.calls.RequestParams.CORE_GROUP;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertTrue;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.ApiCallback;
 import io.kubernetes.client.ApiClient;
 import io.kubernetes.client.ApiException;
+import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import oracle.kubernetes.TestUtils;
 import oracle.kubernetes.operator.helpers.ClientPool;
@@ -36,11 +41,15 @@ public class AsyncRequestStepTest {
   private static final int TIMEOUT_SECONDS = 10;
   private static final int MAX_RETRY_COUNT = 2;
   private FiberTestSupport testSupport = new FiberTestSupport();
-  private RequestParams requestParams = new RequestParams("testcall", "junit", "testName", "body");
+  private RequestParams requestParams =
+      new RequestParams("testcall", CORE_GROUP, "junit", "testName", "body");
   private CallFactoryStub callFactory = new CallFactoryStub();
   private TestStep nextStep = new TestStep();
   private ClientPool helper = ClientPool.getInstance();
   private List<Memento> mementos = new ArrayList<>();
+  private long currentMillis;
+  private CircuitBreaker circuitBreaker =
+      new CircuitBreaker(() -> TimeUnit.MILLISECONDS.toNanos(currentMillis));
 
   private final AsyncRequestStep<Integer> asyncRequestStep =
       new AsyncRequestStep<>(
@@ -55,8 +64,12 @@ public class AsyncRequestStepTest {
           null);
 
   @Before
-  public void setUp() {
+  public void setUp() throws NoSuchFieldException {
     mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(StaticStubSupport.install(CircuitBreaker.class, "INSTANCE", circuitBreaker));
+    mementos.add(
+        StaticStubSupport.install(
+            RateLimiter.class, "INSTANCE", new RateLimiter(System::nanoTime)));
 
     testSupport.runSteps(asyncRequestStep);
   }
@@ -108,10 +121,15 @@ public class AsyncRequestStepTest {
         notNullValue());
   }
 
-  @SuppressWarnings("SameParameterValue")
   private void sendFailedCallback(int statusCode) {
+    sendFailedCallback(statusCode, Collections.emptyMap());
+  }
+
+  private void sendFailedCallback(int statusCode, Map<String, List<String>> responseHeaders) {
     testSupport.schedule(
-        () -> callFactory.sendFailedCallback(new ApiException("test failure"), statusCode));
+        () ->
+            callFactory.sendFailedCallback(
+                new ApiException("test failure"), statusCode, responseHeaders));
   }
 
   @Test
@@ -124,6 +142,89 @@ public class AsyncRequestStepTest {
     assertTrue(callFactory.invokedWith(requestParams));
   }
 
+  @Test
+  public void afterFailedCallbackWithRetryAfter_retryNotSentBeforeRequestedDelay() {
+    sendFailedCallback(
+        HttpURLConnection.HTTP_UNAVAILABLE,
+        Collections.singletonMap("Retry-After", Collections.singletonList("20")));
+    callFactory.clearRequest();
+
+    setTime(19);
+    assertThat(callFactory.invokedWith(requestParams), is(false));
+    setTime(20);
+    assertThat(callFactory.invokedWith(requestParams), is(true));
+  }
+
+  @Test
+  public void whenCircuitOpens_retryNotSentUntilCircuitMayBeProbed() {
+    circuitBreaker.configure(1, 30);
+    sendFailedCallback(HttpURLConnection.HTTP_UNAVAILABLE);
+    callFactory.clearRequest();
+
+    setTime(29);
+    assertThat(callFactory.invokedWith(requestParams), is(false));
+    setTime(30);
+    assertThat(callFactory.invokedWith(requestParams), is(true));
+  }
+
+  @Test
+  public void afterSuccessfulCallback_circuitRecordsSuccess() {
+    circuitBreaker.configure(1, 30);
+    sendFailedCallback(HttpURLConnection.HTTP_UNAVAILABLE);
+
+    setTime(30);
+    callFactory.sendSuccessfulCallback(17);
+
+    assertThat(getCircuitState(), equalTo(CircuitBreaker.State.CLOSED));
+  }
+
+  @Test
+  public void whenRequestFailsWithIoException_circuitRecordsFailure() {
+    circuitBreaker.configure(1, 30);
+
+    testSupport.schedule(
+        () ->
+            callFactory.sendFailedCallback(
+                new ApiException(new IOException("connection refused")),
+                0,
+                Collections.emptyMap()));
+
+    assertThat(getCircuitState(), equalTo(CircuitBreaker.State.OPEN));
+  }
+
+  @Test
+  public void whenRequestFailsWithServerError_circuitRecordsFailure() {
+    circuitBreaker.configure(1, 30);
+
+    sendFailedCallback(HttpURLConnection.HTTP_INTERNAL_ERROR);
+
+    assertThat(getCircuitState(), equalTo(CircuitBreaker.State.OPEN));
+  }
+
+  @Test
+  public void whenRequestRejectedByServer_circuitRecordsSuccess() {
+    circuitBreaker.configure(1, 30);
+    sendFailedCallback(HttpURLConnection.HTTP_UNAVAILABLE);
+
+    setTime(30);
+    callFactory.sendFailedCallback(
+        new ApiException("test failure"), HttpURLConnection.HTTP_CONFLICT, Collections.emptyMap());
+
+    assertThat(getCircuitState(), equalTo(CircuitBreaker.State.CLOSED));
+  }
+
+  private CircuitBreaker.State getCircuitState() {
+    return circuitBreaker
+        .getMetrics()
+        .get(CircuitBreaker.getKey(requestParams.apiGroup, requestParams.call))
+        .state;
+  }
+
+  private void setTime(int seconds) {
+    currentMillis = TimeUnit.SECONDS.toMillis(seconds);
+    testSupport.setTime(seconds, TimeUnit.SECONDS);
+  }
+
   // todo tests
   // can new request clear timeout action?
   // what is accessContinue?
@@ -163,8 +264,9 @@ public class AsyncRequestStepTest {
       callback.onSuccess(callbackValue, HttpURLConnection.HTTP_OK, Collections.emptyMap());
     }
 
-    void sendFailedCallback(ApiException exception, int statusCode) {
-      callback.onFailure(exception, statusCode, Collections.emptyMap());
+    void sendFailedCallback(
+        ApiException exception, int statusCode, Map<String, List<String>> responseHeaders) {
+      callback.onFailure(exception, statusCode, responseHeaders);
     }
 
     @Override
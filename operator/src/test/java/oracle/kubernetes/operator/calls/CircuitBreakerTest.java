@@ -0,0 +1,166 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import static oracle.kubernetes.operator.calls.CircuitBreaker.State.CLOSED;
+import static oracle.kubernetes.operator.calls.CircuitBreaker.State.HALF_OPEN;
+import static oracle.kubernetes.operator.calls.CircuitBreaker.State.OPEN;
+import static oracle.kubernetes.operator.calls.RequestParams.BATCH_GROUP;
+import static oracle.kubernetes.operator.calls.RequestParams.CORE_GROUP;
+import static oracle.kubernetes.operator.calls.RequestParams.DOMAIN_GROUP;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import com.meterware.simplestub.Memento;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import oracle.kubernetes.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CircuitBreakerTest {
+  private static final String KEY = "core/create";
+  private static final int THRESHOLD = 3;
+  private static final int OPEN_SECONDS = 10;
+
+  private long currentMillis;
+  private final CircuitBreaker circuitBreaker =
+      new CircuitBreaker(() -> TimeUnit.MILLISECONDS.toNanos(currentMillis));
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    circuitBreaker.configure(THRESHOLD, OPEN_SECONDS);
+  }
+
+  @After
+  public void tearDown() {
+    for (Memento memento : mementos) {
+      memento.revert();
+    }
+  }
+
+  @Test
+  public void whenNotConfigured_allowRequestsAfterFailures() {
+    circuitBreaker.configure(0, OPEN_SECONDS);
+
+    recordFailures(10);
+
+    assertThat(circuitBreaker.allowRequest(KEY), is(true));
+  }
+
+  @Test
+  public void whenFailuresBelowThreshold_allowRequests() {
+    recordFailures(THRESHOLD - 1);
+
+    assertThat(circuitBreaker.allowRequest(KEY), is(true));
+  }
+
+  @Test
+  public void whenSuccessIntervenes_failureCountStartsOver() {
+    recordFailures(THRESHOLD - 1);
+    circuitBreaker.recordSuccess(KEY);
+    recordFailures(THRESHOLD - 1);
+
+    assertThat(getState(), equalTo(CLOSED));
+  }
+
+  @Test
+  public void whenFailuresReachThreshold_circuitOpensAndRejectsRequests() {
+    recordFailures(THRESHOLD);
+
+    assertThat(getState(), equalTo(OPEN));
+    assertThat(circuitBreaker.allowRequest(KEY), is(false));
+  }
+
+  @Test
+  public void whenCircuitOpen_otherCircuitsStillAllowRequests() {
+    recordFailures(THRESHOLD);
+
+    assertThat(circuitBreaker.allowRequest("batch/create"), is(true));
+  }
+
+  @Test
+  public void afterOpenPeriod_allowOneProbe() {
+    recordFailures(THRESHOLD);
+
+    setTime(OPEN_SECONDS);
+
+    assertThat(circuitBreaker.allowRequest(KEY), is(true));
+    assertThat(getState(), equalTo(HALF_OPEN));
+    assertThat(circuitBreaker.allowRequest(KEY), is(false));
+  }
+
+  @Test
+  public void afterProbeSucceeds_circuitCloses() {
+    recordFailures(THRESHOLD);
+    setTime(OPEN_SECONDS);
+    circuitBreaker.allowRequest(KEY);
+
+    circuitBreaker.recordSuccess(KEY);
+
+    assertThat(getState(), equalTo(CLOSED));
+    assertThat(circuitBreaker.allowRequest(KEY), is(true));
+  }
+
+  @Test
+  public void afterProbeFails_circuitReopens() {
+    recordFailures(THRESHOLD);
+    setTime(OPEN_SECONDS);
+    circuitBreaker.allowRequest(KEY);
+
+    circuitBreaker.recordFailure(KEY, 0);
+
+    assertThat(getState(), equalTo(OPEN));
+    assertThat(circuitBreaker.getMetrics().get(KEY).tripCount, equalTo(2L));
+  }
+
+  @Test
+  public void whenRetryAfterExceedsOpenPeriod_circuitStaysOpenLonger() {
+    recordFailures(THRESHOLD - 1);
+    circuitBreaker.recordFailure(KEY, TimeUnit.SECONDS.toMillis(60));
+
+    setTime(OPEN_SECONDS);
+
+    assertThat(circuitBreaker.allowRequest(KEY), is(false));
+    assertThat(circuitBreaker.getMillisUntilProbe(KEY), equalTo(TimeUnit.SECONDS.toMillis(50)));
+  }
+
+  @Test
+  public void getRetryAfterMillis_readsDelayInSeconds() {
+    assertThat(
+        CircuitBreaker.getRetryAfterMillis(
+            Collections.singletonMap("retry-after", Collections.singletonList("7"))),
+        equalTo(7000L));
+  }
+
+  @Test
+  public void getKey_combinesApiGroupAndVerb() {
+    assertThat(CircuitBreaker.getKey(BATCH_GROUP, "createJob"), equalTo("batch/create"));
+    assertThat(
+        CircuitBreaker.getKey(DOMAIN_GROUP, "replaceDomainStatus"),
+        equalTo("weblogic.oracle/replace"));
+    assertThat(CircuitBreaker.getKey(CORE_GROUP, "listPod"), equalTo("core/list"));
+  }
+
+  private void recordFailures(int count) {
+    for (int i = 0; i < count; i++) {
+      circuitBreaker.recordFailure(KEY, 0);
+    }
+  }
+
+  private CircuitBreaker.State getState() {
+    return circuitBreaker.getMetrics().get(KEY).state;
+  }
+
+  private void setTime(int seconds) {
+    currentMillis = TimeUnit.SECONDS.toMillis(seconds);
+  }
+}
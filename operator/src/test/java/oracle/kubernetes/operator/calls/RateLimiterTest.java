@@ -0,0 +1,133 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import static oracle.kubernetes.operator.calls.RateLimiter.Lane.MUTATION;
+import static oracle.kubernetes.operator.calls.RateLimiter.Lane.READ;
+import static oracle.kubernetes.operator.calls.RateLimiter.Lane.STATUS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import org.junit.Test;
+
+public class RateLimiterTest {
+  private static final int QPS = 10;
+  private static final int BURST = 2;
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private long currentMillis;
+  private final RateLimiter limiter =
+      new RateLimiter(() -> TimeUnit.MILLISECONDS.toNanos(currentMillis));
+  private final List<String> granted = new ArrayList<>();
+
+  @Test
+  public void whenNotConfigured_grantEveryRequest() {
+    for (int i = 0; i < 100; i++) {
+      assertThat(limiter.tryAcquire(MUTATION), is(true));
+    }
+  }
+
+  @Test
+  public void whenConfigured_grantRequestsUpToBurst() {
+    limiter.configure(QPS, BURST);
+
+    assertThat(limiter.tryAcquire(READ), is(true));
+    assertThat(limiter.tryAcquire(READ), is(true));
+    assertThat(limiter.tryAcquire(READ), is(false));
+  }
+
+  @Test
+  public void afterTokenInterval_grantAnotherRequest() {
+    limiter.configure(QPS, BURST);
+    useAllTokens();
+
+    setTime(1000 / QPS);
+
+    assertThat(limiter.tryAcquire(READ), is(true));
+  }
+
+  @Test
+  public void whenWaitingRequestQueued_grantItAfterTokenInterval() {
+    limiter.configure(QPS, BURST);
+    useAllTokens();
+
+    await(READ, "read");
+    assertThat(granted, empty());
+
+    setTime(1000 / QPS);
+    assertThat(granted, contains("read"));
+  }
+
+  @Test
+  public void whenRequestsWaiting_grantMoreUrgentLaneFirst() {
+    limiter.configure(QPS, BURST);
+    useAllTokens();
+
+    await(STATUS, "status");
+    await(READ, "read");
+    await(MUTATION, "mutation");
+
+    setTime(1000 / QPS);
+    setTime(2000 / QPS);
+    setTime(3000 / QPS);
+    assertThat(granted, contains("mutation", "read", "status"));
+  }
+
+  @Test
+  public void whenRequestsWaitingInSameLane_grantInArrivalOrder() {
+    limiter.configure(QPS, BURST);
+    useAllTokens();
+
+    await(MUTATION, "first");
+    await(MUTATION, "second");
+
+    setTime(1000 / QPS);
+    assertThat(granted, contains("first"));
+    setTime(2000 / QPS);
+    assertThat(granted, contains("first", "second"));
+  }
+
+  @Test
+  public void whenRequestWaitingInLane_tryAcquireInSameLaneFails() {
+    limiter.configure(QPS, BURST);
+    useAllTokens();
+    await(MUTATION, "mutation");
+
+    currentMillis = 1000;
+
+    assertThat(limiter.tryAcquire(MUTATION), is(false));
+  }
+
+  @Test
+  public void getLane_classifiesCallsThatChangeResourcesAsMutations() {
+    assertThat(RateLimiter.getLane("createPod"), equalTo(MUTATION));
+    assertThat(RateLimiter.getLane("deleteService"), equalTo(MUTATION));
+    assertThat(RateLimiter.getLane("replaceDomain"), equalTo(MUTATION));
+    assertThat(RateLimiter.getLane("patchPod"), equalTo(MUTATION));
+    assertThat(RateLimiter.getLane("listPod"), equalTo(READ));
+  }
+
+  private void useAllTokens() {
+    for (int i = 0; i < BURST; i++) {
+      assertThat(limiter.tryAcquire(MUTATION), is(true));
+    }
+  }
+
+  private void await(RateLimiter.Lane lane, String name) {
+    limiter.await(lane, testSupport.getEngine().getExecutor(), () -> granted.add(name));
+  }
+
+  private void setTime(int millis) {
+    currentMillis = millis;
+    testSupport.setTime(millis, TimeUnit.MILLISECONDS);
+  }
+}
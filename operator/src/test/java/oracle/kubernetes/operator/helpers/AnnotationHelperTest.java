@@ -0,0 +1,106 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import static oracle.kubernetes.operator.helpers.AnnotationHelper.HASH_PREFIX;
+import static oracle.kubernetes.operator.helpers.AnnotationHelper.SHA256_ANNOTATION;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1PodSpec;
+import io.kubernetes.client.models.V1Service;
+import io.kubernetes.client.models.V1ServiceSpec;
+import io.kubernetes.client.util.Yaml;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.Test;
+
+public class AnnotationHelperTest {
+
+  @Test
+  public void hashedPod_hasVersionedHash() {
+    V1Pod pod = AnnotationHelper.withSha256Hash(createPodRecipe());
+
+    assertThat(AnnotationHelper.getHash(pod), startsWith(HASH_PREFIX));
+  }
+
+  @Test
+  public void whenPodCreatedFromSameRecipe_hashMatches() {
+    V1Pod current = AnnotationHelper.withSha256Hash(createPodRecipe());
+
+    assertThat(
+        AnnotationHelper.isHashMatch(
+            AnnotationHelper.withSha256Hash(createPodRecipe()), current, this::createPodRecipe),
+        is(true));
+  }
+
+  @Test
+  public void whenPodCreatedFromDifferentRecipe_hashDoesNotMatch() {
+    V1Pod current = AnnotationHelper.withSha256Hash(createPodRecipe().kind("Other"));
+
+    assertThat(
+        AnnotationHelper.isHashMatch(
+            AnnotationHelper.withSha256Hash(createPodRecipe()), current, this::createPodRecipe),
+        is(false));
+  }
+
+  @Test
+  public void whenPodHasLegacyHashOfSameRecipe_hashMatches() {
+    V1Pod current = withLegacyHash(createPodRecipe());
+
+    assertThat(
+        AnnotationHelper.isHashMatch(
+            AnnotationHelper.withSha256Hash(createPodRecipe()), current, this::createPodRecipe),
+        is(true));
+  }
+
+  @Test
+  public void whenPodHasLegacyHashOfDifferentRecipe_hashDoesNotMatch() {
+    V1Pod current = withLegacyHash(createPodRecipe().kind("Other"));
+
+    assertThat(
+        AnnotationHelper.isHashMatch(
+            AnnotationHelper.withSha256Hash(createPodRecipe()), current, this::createPodRecipe),
+        is(false));
+  }
+
+  @Test
+  public void whenServiceHasLegacyHashOfSameRecipe_hashMatches() {
+    V1Service recipe = createServiceRecipe();
+    V1Service current = createServiceRecipe();
+    current.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, legacyHash(recipe));
+
+    assertThat(
+        AnnotationHelper.isHashMatch(
+            AnnotationHelper.withSha256Hash(createServiceRecipe()),
+            current,
+            this::createServiceRecipe),
+        is(true));
+  }
+
+  private V1Pod withLegacyHash(V1Pod recipe) {
+    String hash = legacyHash(recipe);
+    recipe.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, hash);
+    return recipe;
+  }
+
+  private String legacyHash(Object recipe) {
+    return DigestUtils.sha256Hex(Yaml.dump(recipe));
+  }
+
+  private V1Pod createPodRecipe() {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta().name("pod").namespace("ns").putLabelsItem("a", "b"))
+        .spec(new V1PodSpec().nodeName("node"));
+  }
+
+  private V1Service createServiceRecipe() {
+    return new V1Service()
+        .metadata(new V1ObjectMeta().name("service").namespace("ns"))
+        .spec(new V1ServiceSpec().type("ClusterIP"));
+  }
+}
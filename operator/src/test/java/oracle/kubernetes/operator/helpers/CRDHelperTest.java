@@ -8,6 +8,8 @@ import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.LogMatcher.containsInfo;
 import static oracle.kubernetes.operator.VersionConstants.OPERATOR_V1;
 import static oracle.kubernetes.operator.logging.MessageKeys.CREATING_CRD;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -127,6 +129,19 @@ public class CRDHelperTest {
     assertThat(retryStrategy.getConflictStep(), sameInstance(scriptCRDStep));
   }
 
+  @Test
+  public void whenStatusSubresourceSupported_includeItInModel() {
+    V1beta1CustomResourceDefinition crd =
+        CRDHelper.CRDContext.createModel(new KubernetesVersion(1, 13));
+
+    assertThat(crd.getSpec().getSubresources().getStatus(), notNullValue());
+  }
+
+  @Test
+  public void whenStatusSubresourceNotSupported_omitItFromModel() {
+    assertThat(defaultCRD.getSpec().getSubresources().getStatus(), nullValue());
+  }
+
   @Test
   public void whenMatchingCRDExists_noop() {
     expectReadCRD().returning(defaultCRD);
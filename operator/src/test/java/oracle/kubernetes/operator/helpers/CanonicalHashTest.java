@@ -0,0 +1,126 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.models.V1Container;
+import io.kubernetes.client.models.V1ContainerPort;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1PodSpec;
+import io.kubernetes.client.models.V1ResourceRequirements;
+import io.kubernetes.client.models.V1Service;
+import io.kubernetes.client.models.V1ServicePort;
+import io.kubernetes.client.models.V1ServiceSpec;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class CanonicalHashTest {
+
+  @Test
+  public void hashIsStableAcrossRuns() {
+    assertThat(
+        CanonicalHash.sha256Hex(createPod()),
+        equalTo("06a40d88970533da1580345b8196142ba3e24f7f5054add6dd4f6079e54326f7"));
+  }
+
+  @Test
+  public void whenPodsHaveSameContent_hashesAreEqual() {
+    assertThat(CanonicalHash.sha256Hex(createPod()), equalTo(CanonicalHash.sha256Hex(createPod())));
+  }
+
+  @Test
+  public void whenMapEntriesAddedInDifferentOrder_hashesAreEqual() {
+    Map<String, String> labels1 = new LinkedHashMap<>();
+    labels1.put("a", "1");
+    labels1.put("b", "2");
+    Map<String, String> labels2 = new LinkedHashMap<>();
+    labels2.put("b", "2");
+    labels2.put("a", "1");
+
+    assertThat(
+        CanonicalHash.sha256Hex(new V1ObjectMeta().labels(labels1)),
+        equalTo(CanonicalHash.sha256Hex(new V1ObjectMeta().labels(labels2))));
+  }
+
+  @Test
+  public void whenListOrderDiffers_hashesDiffer() {
+    assertThat(
+        CanonicalHash.sha256Hex(
+            new V1PodSpec().containers(Arrays.asList(container("a"), container("b")))),
+        not(
+            equalTo(
+                CanonicalHash.sha256Hex(
+                    new V1PodSpec().containers(Arrays.asList(container("b"), container("a")))))));
+  }
+
+  @Test
+  public void whenValueChanges_hashChanges() {
+    V1Pod pod = createPod();
+    pod.getSpec().getContainers().get(0).setImage("other:latest");
+
+    assertThat(CanonicalHash.sha256Hex(pod), not(equalTo(CanonicalHash.sha256Hex(createPod()))));
+  }
+
+  @Test
+  public void whenValueMovesToOtherProperty_hashChanges() {
+    assertThat(
+        CanonicalHash.sha256Hex(new V1ObjectMeta().name("x")),
+        not(equalTo(CanonicalHash.sha256Hex(new V1ObjectMeta().namespace("x")))));
+  }
+
+  @Test
+  public void whenEmptyMapSet_hashDiffersFromUnset() {
+    assertThat(
+        CanonicalHash.sha256Hex(new V1ObjectMeta().labels(new HashMap<>())),
+        not(equalTo(CanonicalHash.sha256Hex(new V1ObjectMeta()))));
+  }
+
+  @Test
+  public void whenServiceTargetPortsDiffer_hashesDiffer() {
+    assertThat(
+        CanonicalHash.sha256Hex(createService(new IntOrString(8001))),
+        not(equalTo(CanonicalHash.sha256Hex(createService(new IntOrString("http"))))));
+  }
+
+  private V1Service createService(IntOrString targetPort) {
+    return new V1Service()
+        .metadata(new V1ObjectMeta().name("service").namespace("ns"))
+        .spec(
+            new V1ServiceSpec()
+                .type("ClusterIP")
+                .addPortsItem(new V1ServicePort().port(8001).targetPort(targetPort)));
+  }
+
+  private V1Pod createPod() {
+    return new V1Pod()
+        .metadata(
+            new V1ObjectMeta()
+                .name("domain1-managed-server1")
+                .namespace("ns1")
+                .putLabelsItem("weblogic.domainUID", "domain1")
+                .putLabelsItem("weblogic.serverName", "managed-server1"))
+        .spec(new V1PodSpec().addContainersItem(container("weblogic-server")));
+  }
+
+  private V1Container container(String name) {
+    return new V1Container()
+        .name(name)
+        .image("container-registry.oracle.com/middleware/weblogic:12.2.1.3")
+        .addPortsItem(new V1ContainerPort().containerPort(8001).protocol("TCP"))
+        .resources(
+            new V1ResourceRequirements()
+                .putLimitsItem("memory", new Quantity("1Gi"))
+                .putRequestsItem("cpu", new Quantity("500m")));
+  }
+}
@@ -8,8 +8,11 @@ import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.LogMatcher.containsInfo;
 import static oracle.kubernetes.operator.logging.MessageKeys.JOB_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.JOB_DELETED;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.core.AllOf.allOf;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -30,6 +33,7 @@ import io.kubernetes.client.models.V1Pod;
 import io.kubernetes.client.models.V1PodList;
 import io.kubernetes.client.models.V1PodSpec;
 import io.kubernetes.client.models.V1PodTemplateSpec;
+import io.kubernetes.client.models.V1Secret;
 import io.kubernetes.client.models.V1SecretReference;
 import io.kubernetes.client.models.V1SecretVolumeSource;
 import io.kubernetes.client.models.V1Status;
@@ -37,16 +41,21 @@ import io.kubernetes.client.models.V1Volume;
 import io.kubernetes.client.models.V1VolumeMount;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import oracle.kubernetes.TestUtils;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.VersionConstants;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
 import oracle.kubernetes.weblogic.domain.model.Cluster;
 import oracle.kubernetes.weblogic.domain.model.ConfigurationConstants;
 import oracle.kubernetes.weblogic.domain.model.Domain;
@@ -139,6 +148,13 @@ public class DomainIntrospectorJobTest {
   protected List<Memento> mementos = new ArrayList<>();
   protected List<LogRecord> logRecords = new ArrayList<>();
   RetryStrategyStub retryStrategy = createStrictStub(RetryStrategyStub.class);
+  private final V1ConfigMap overridesConfigMap =
+      new V1ConfigMap()
+          .metadata(new V1ObjectMeta().name(OVERRIDES_CM).namespace(NS))
+          .putDataItem("config.xml", "<domain/>");
+  private final List<V1Secret> overrideSecrets =
+      Arrays.asList(createSecret(OVERRIDE_SECRET_1), createSecret(OVERRIDE_SECRET_2));
+  private final V1Secret credentialsSecret = createSecret(CREDENTIALS_SECRET_NAME);
 
   public DomainIntrospectorJobTest() {}
 
@@ -152,6 +168,33 @@ public class DomainIntrospectorJobTest {
     // mementos.add(TuningParametersStub.install());
 
     testSupport.addDomainPresenceInfo(domainPresenceInfo);
+    defineConfigOverrideResponses();
+  }
+
+  private void defineConfigOverrideResponses() {
+    testSupport
+        .createOptionalCannedResponse("readConfigMap")
+        .withNamespace(NS)
+        .withName(OVERRIDES_CM)
+        .returning(overridesConfigMap);
+    for (V1Secret secret : getInputSecrets()) {
+      testSupport
+          .createOptionalCannedResponse("readSecret")
+          .withNamespace(NS)
+          .withName(secret.getMetadata().getName())
+          .returning(secret);
+    }
+  }
+
+  private List<V1Secret> getInputSecrets() {
+    List<V1Secret> secrets = new ArrayList<>(overrideSecrets);
+    secrets.add(credentialsSecret);
+    return secrets;
+  }
+
+  private static V1Secret createSecret(String name) {
+    return new V1Secret()
+        .metadata(new V1ObjectMeta().name(name).namespace(NS).resourceVersion("1"));
   }
 
   private String[] getMessageKeys() {
@@ -208,7 +251,8 @@ public class DomainIntrospectorJobTest {
   public void whenNoJob_createIt() {
     expectCreateJob(jobWithName(getJobName())).returning(createJobModel());
     expectListPods(NS).returning(createListPods());
-    expectReadPodLog(getJobName(), NS).returning(introspectResult);
+    expectReadPodLog(getJobName(), NS)
+        .returning(KubernetesTestSupport.parseIntrospectorLog(introspectResult));
     expectDeleteJob(getJobName(), NS, new V1DeleteOptions().propagationPolicy("Foreground"))
         .returning(new V1Status());
     expectReadConfigMap(ConfigMapHelper.SitConfigMapContext.getConfigMapName(UID), NS)
@@ -236,6 +280,134 @@ public class DomainIntrospectorJobTest {
     testSupport.verifyAllDefinedResponsesInvoked();
   }
 
+  @Test
+  public void whenTopologyComputedFromSameInputs_dontCreateJob() {
+    domain.getSpec().setDomainHomeInImage(true);
+    defineStoredTopology(getInputsHash());
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(logRecords, not(containsInfo(getJobCreatedMessageKey())));
+    assertThat(terminalStep.wasRun(), is(true));
+    testSupport.verifyAllDefinedResponsesInvoked();
+  }
+
+  @Test
+  public void whenDomainRestartedAfterOperatorStarted_createJobEvenIfInputsUnchanged() {
+    domain.getSpec().setDomainHomeInImage(true);
+    defineStoredTopology(getInputsHash());
+    domainPresenceInfo.recordIntrospectionCheck();
+    expectCreateJob(jobWithName(getJobName())).failingWithStatus(401);
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    testSupport.verifyAllDefinedResponsesInvoked();
+  }
+
+  @Test
+  public void whenDomainHomeOnPersistentVolume_createJobEvenIfInputsUnchanged() {
+    domain.getSpec().setDomainHomeInImage(false);
+    defineStoredTopology(getInputsHash());
+    expectCreateJob(jobWithName(getJobName())).failingWithStatus(401);
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    testSupport.verifyAllDefinedResponsesInvoked();
+  }
+
+  @Test
+  public void whenImageAlwaysPulled_createJobEvenIfInputsUnchanged() {
+    domain.getSpec().setDomainHomeInImage(true);
+    domain.getSpec().setImagePullPolicy(KubernetesConstants.ALWAYS_IMAGEPULLPOLICY);
+    defineStoredTopology(getInputsHash());
+    expectCreateJob(jobWithName(getJobName())).failingWithStatus(401);
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    testSupport.verifyAllDefinedResponsesInvoked();
+  }
+
+  @Test
+  public void whenCredentialsSecretChangedSinceTopologyComputed_createJob() {
+    domain.getSpec().setDomainHomeInImage(true);
+    defineStoredTopology(getInputsHash());
+    credentialsSecret.getMetadata().setResourceVersion("2");
+    expectCreateJob(jobWithName(getJobName())).failingWithStatus(401);
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    testSupport.verifyAllDefinedResponsesInvoked();
+  }
+
+  @Test
+  public void whenTopologyComputedFromDifferentInputs_createJob() {
+    domain.getSpec().setDomainHomeInImage(true);
+    defineStoredTopology("obsolete");
+    expectCreateJob(jobWithName(getJobName())).failingWithStatus(401);
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(
+        testSupport.getPacket().get(ProcessingConstants.INTROSPECTION_HASH),
+        equalTo(getInputsHash()));
+    testSupport.verifyAllDefinedResponsesInvoked();
+  }
+
+  @Test
+  public void whenConfigOverridesChangedSinceTopologyComputed_createJob() {
+    domain.getSpec().setDomainHomeInImage(true);
+    defineStoredTopology(getInputsHash());
+    overridesConfigMap.putDataItem("jdbc-ds.xml", "<jdbc-data-source/>");
+    expectCreateJob(jobWithName(getJobName())).failingWithStatus(401);
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    testSupport.verifyAllDefinedResponsesInvoked();
+  }
+
+  @Test
+  public void whenConfigOverrideSecretChangedSinceTopologyComputed_createJob() {
+    domain.getSpec().setDomainHomeInImage(true);
+    defineStoredTopology(getInputsHash());
+    overrideSecrets.get(1).getMetadata().setResourceVersion("2");
+    expectCreateJob(jobWithName(getJobName())).failingWithStatus(401);
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    testSupport.verifyAllDefinedResponsesInvoked();
+  }
+
+  @Test
+  public void whenDomainRestartVersionChanged_inputsHashChanges() {
+    String hash = getInputsHash();
+
+    DomainConfiguratorFactory.forDomain(domain).withRestartVersion("2");
+
+    assertThat(getInputsHash(), not(equalTo(hash)));
+  }
+
+  // The topology and inputs hash read from the introspector config map
+  private void defineStoredTopology(String inputsHash) {
+    testSupport.addToPacket(ProcessingConstants.DOMAIN_TOPOLOGY, new WlsDomainConfig("domain1"));
+    testSupport.addToPacket(ProcessingConstants.INTROSPECTION_HASH, inputsHash);
+  }
+
+  private String getInputsHash() {
+    return new JobHelper.DomainIntrospectorJobStepContext(
+            domainPresenceInfo, testSupport.getPacket())
+        .createInputsHash(getResourceInputs());
+  }
+
+  private Map<String, Object> getResourceInputs() {
+    Map<String, Object> inputs = new HashMap<>();
+    inputs.put("configMap/" + OVERRIDES_CM, new HashMap<>(overridesConfigMap.getData()));
+    for (V1Secret secret : getInputSecrets()) {
+      inputs.put(
+          "secret/" + secret.getMetadata().getName(), secret.getMetadata().getResourceVersion());
+    }
+    return inputs;
+  }
+
   @Test
   public void whenJobCreated_specHasOneContainer() {
     assertThat(getCreatedJob().getSpec().getTemplate().getSpec().getContainers(), hasSize(1));
@@ -274,7 +446,7 @@ public class DomainIntrospectorJobTest {
 
   CallTestSupport.CannedResponse expectReadPodLog(String jobName, String namespace) {
     return testSupport
-        .createCannedResponse("readPodLog")
+        .createCannedResponse("readPodLogSections")
         .withName(jobName)
         .withNamespace(namespace);
   }
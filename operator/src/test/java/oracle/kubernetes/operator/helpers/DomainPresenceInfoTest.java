@@ -4,16 +4,44 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
+import static oracle.kubernetes.operator.WebLogicConstants.STARTING_STATE;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.hasSize;
 import static org.junit.Assert.assertThat;
 
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.models.V1Pod;
 import io.kubernetes.client.models.V1Service;
+import java.util.ArrayList;
+import java.util.List;
+import oracle.kubernetes.operator.DomainStatusListeners;
+import oracle.kubernetes.operator.rest.DomainEvents;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 public class DomainPresenceInfoTest {
   private DomainPresenceInfo info = new DomainPresenceInfo("ns", "domain");
+  private List<Memento> mementos = new ArrayList<>();
+  private List<String> events = new ArrayList<>();
+
+  @Before
+  public void setUp() throws NoSuchFieldException {
+    DomainEvents domainEvents = new DomainEvents();
+    DomainStatusListeners listeners = new DomainStatusListeners();
+    mementos.add(StaticStubSupport.install(DomainStatusListeners.class, "INSTANCE", listeners));
+    listeners.add(domainEvents);
+    domainEvents.subscribe("domain", events::add);
+  }
+
+  @After
+  public void tearDown() {
+    for (Memento memento : mementos) memento.revert();
+  }
 
   @Test
   public void whenNoneDefined_getClusterServiceReturnsNull() {
@@ -54,6 +82,23 @@ public class DomainPresenceInfoTest {
     assertThat(info.getExternalService("admin"), sameInstance(service));
   }
 
+  @Test
+  public void whenServerStatusChanges_publishServerEvent() {
+    info.updateLastKnownServerStatus("ms1", STARTING_STATE);
+    info.updateLastKnownServerStatus("ms1", RUNNING_STATE);
+
+    assertThat(events, hasSize(2));
+    assertThat(events.get(1), containsString("\"state\":\"RUNNING\""));
+  }
+
+  @Test
+  public void whenServerStatusUnchanged_dontPublishServerEvent() {
+    info.updateLastKnownServerStatus("ms1", RUNNING_STATE);
+    info.updateLastKnownServerStatus("ms1", RUNNING_STATE);
+
+    assertThat(events, hasSize(1));
+  }
+
   @Test
   public void whenNoneDefined_getServerPodReturnsNull() {
     assertThat(info.getServerPod("myserver"), nullValue());
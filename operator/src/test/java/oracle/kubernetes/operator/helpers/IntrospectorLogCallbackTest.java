@@ -0,0 +1,139 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import static oracle.kubernetes.LogMatcher.containsWarning;
+import static oracle.kubernetes.operator.logging.MessageKeys.INTROSPECTOR_LOG_TRUNCATED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.meterware.simplestub.Memento;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import com.squareup.okhttp.ResponseBody;
+import io.kubernetes.client.ApiCallback;
+import io.kubernetes.client.ApiException;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import oracle.kubernetes.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IntrospectorLogCallbackTest {
+  private static final MediaType TEXT = MediaType.parse("text/plain");
+  private static final String LOG =
+      ">>>  /u01/introspect/domain1/a.txt\n"
+          + "line a\n"
+          + ">>> EOF\n"
+          + ">>>  /u01/introspect/domain1/b.txt\n"
+          + "line b\n"
+          + ">>> EOF\n";
+
+  private RecordingCallback apiCallback = new RecordingCallback();
+  private List<LogRecord> logRecords = new ArrayList<>();
+  private Memento consoleControl;
+
+  @Before
+  public void setUp() {
+    consoleControl =
+        TestUtils.silenceOperatorLogger()
+            .collectLogMessages(logRecords, INTROSPECTOR_LOG_TRUNCATED)
+            .withLogLevel(Level.WARNING);
+  }
+
+  @After
+  public void tearDown() {
+    consoleControl.revert();
+  }
+
+  @Test
+  public void whenLogRead_passFilesToCallback() throws IOException {
+    createCallback(1000).onResponse(createResponse(200, LOG));
+
+    assertThat(apiCallback.result, hasKey("a.txt"));
+    assertThat(apiCallback.result, hasKey("b.txt"));
+    assertThat(apiCallback.statusCode, equalTo(200));
+  }
+
+  @Test
+  public void whenLogTooLarge_reportFailureWithoutFilesAndLogWarning() throws IOException {
+    createCallback(10).onResponse(createResponse(200, LOG));
+
+    assertThat(apiCallback.result, nullValue());
+    assertThat(apiCallback.failure.getCode(), equalTo(HttpURLConnection.HTTP_ENTITY_TOO_LARGE));
+    assertThat(logRecords, containsWarning(INTROSPECTOR_LOG_TRUNCATED));
+  }
+
+  @Test
+  public void whenServerReturnsError_reportFailure() throws IOException {
+    createCallback(1000).onResponse(createResponse(404, "not found"));
+
+    assertThat(apiCallback.result, nullValue());
+    assertThat(apiCallback.failure.getCode(), equalTo(404));
+    assertThat(apiCallback.statusCode, equalTo(404));
+  }
+
+  @Test
+  public void whenConnectionFails_reportFailure() {
+    createCallback(1000).onFailure(createRequest(), new IOException("connection reset"));
+
+    assertThat(apiCallback.failure, notNullValue());
+  }
+
+  private IntrospectorLogCallback createCallback(int maxChars) {
+    return new IntrospectorLogCallback("pod", "namespace", maxChars, apiCallback);
+  }
+
+  private Request createRequest() {
+    return new Request.Builder().url("http://localhost/api/v1/namespaces/ns/pods/pod/log").build();
+  }
+
+  private Response createResponse(int code, String body) {
+    return new Response.Builder()
+        .request(createRequest())
+        .protocol(Protocol.HTTP_1_1)
+        .code(code)
+        .message(code == 200 ? "OK" : "Error")
+        .body(ResponseBody.create(TEXT, body))
+        .build();
+  }
+
+  static class RecordingCallback implements ApiCallback<Map<String, String>> {
+    private Map<String, String> result;
+    private ApiException failure;
+    private int statusCode;
+
+    @Override
+    public void onFailure(
+        ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+      this.failure = e;
+      this.statusCode = statusCode;
+    }
+
+    @Override
+    public void onSuccess(
+        Map<String, String> result, int statusCode, Map<String, List<String>> responseHeaders) {
+      this.result = result;
+      this.statusCode = statusCode;
+    }
+
+    @Override
+    public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {}
+
+    @Override
+    public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {}
+  }
+}
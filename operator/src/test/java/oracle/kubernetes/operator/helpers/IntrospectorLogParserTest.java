@@ -0,0 +1,143 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import static oracle.kubernetes.operator.helpers.IntrospectorLogParser.LINE_SEPARATOR;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+import org.junit.Test;
+
+public class IntrospectorLogParserTest {
+  private static final String LOG =
+      "introspector started\n"
+          + ">>>  /u01/introspect/domain1/userKeyNodeManager.secure\n"
+          + "key-line-1\n"
+          + "key-line-2\n"
+          + ">>> EOF\n"
+          + "\n"
+          + "@[2018-10-04T21:07:06.864 UTC] Printing file topology.yaml\n"
+          + ">>>  /u01/introspect/domain1/topology.yaml\n"
+          + "domainValid: true\n"
+          + ">>> EOF\n";
+
+  private static final String INTROSPECTOR_LOG =
+      ">>>  /u01/introspect/domain1/userConfigNodeManager.secure\n"
+          + "#WebLogic User Configuration File; 2\n"
+          + "#Thu Oct 04 21:07:06 GMT 2018\n"
+          + "weblogic.management.username={AES}fq11xKVoE927O07IUKhQ00d4A8QY598Dvd+KSnHNTEA\\=\n"
+          + "weblogic.management.password={AES}LIxVY+aqI8KBkmlBTwkvAnQYQs4PS0FX3Ili4uLBggo\\=\n"
+          + "\n"
+          + ">>> EOF\n"
+          + "\n"
+          + "@[2018-10-04T21:07:06.864 UTC][introspectDomain.py:105] Printing file /u01/introspect/domain1/userKeyNodeManager.secure\n"
+          + "\n"
+          + ">>>  /u01/introspect/domain1/userKeyNodeManager.secure\n"
+          + "BPtNabkCIIc2IJp/TzZ9TzbUHG7O3xboteDytDO3XnwNhumdSpaUGKmcbusdmbOUY+4J2kteu6xJPWTzmNRAtg==\n"
+          + "\n"
+          + ">>> EOF\n"
+          + "\n"
+          + "@[2018-10-04T21:07:06.867 UTC][introspectDomain.py:105] Printing file /u01/introspect/domain1/topology.yaml\n"
+          + "\n"
+          + ">>>  /u01/introspect/domain1/topology.yaml\n"
+          + "domainValid: true\n"
+          + "domain:\n"
+          + "  name: \"base_domain\"\n"
+          + "  adminServerName: \"admin-server\"\n"
+          + "  configuredClusters:\n"
+          + "    \"mycluster\":\n"
+          + "      port: 8001\n"
+          + "      servers:\n"
+          + "        \"managed-server1\": {}\n"
+          + "        \"managed-server2\": {}\n"
+          + "  dynamicClusters: {}\n"
+          + "  servers:\n"
+          + "    \"admin-server\":\n"
+          + "      port: 7001\n"
+          + "\n"
+          + ">>> EOF";
+
+  @Test
+  public void splitLogIntoFiles() throws IOException {
+    Map<String, String> files = parse(LOG, Integer.MAX_VALUE).getFiles();
+
+    assertThat(files.size(), equalTo(2));
+    assertThat(
+        files,
+        hasEntry(
+            "userKeyNodeManager.secure",
+            "key-line-1" + LINE_SEPARATOR + "key-line-2" + LINE_SEPARATOR));
+    assertThat(files, hasEntry("topology.yaml", "domainValid: true" + LINE_SEPARATOR));
+  }
+
+  @Test
+  public void splitIntrospectorLogIntoFiles() throws IOException {
+    Map<String, String> files = parse(INTROSPECTOR_LOG, Integer.MAX_VALUE).getFiles();
+
+    assertThat(
+        files.keySet(),
+        containsInAnyOrder(
+            "userConfigNodeManager.secure", "userKeyNodeManager.secure", "topology.yaml"));
+  }
+
+  @Test
+  public void whenFileEnds_includeAllLinesBeforeEndLine() throws IOException {
+    Map<String, String> files = parse(INTROSPECTOR_LOG, Integer.MAX_VALUE).getFiles();
+
+    assertThat(
+        files,
+        hasEntry(
+            "userKeyNodeManager.secure",
+            "BPtNabkCIIc2IJp/TzZ9TzbUHG7O3xboteDytDO3XnwNhumdSpaUGKmcbusdmbOUY+4J2kteu6xJPWTzmNRAtg=="
+                + LINE_SEPARATOR
+                + LINE_SEPARATOR));
+  }
+
+  @Test
+  public void whenFileHasNoEnd_ignoreIt() throws IOException {
+    Map<String, String> files = parse(">>>  /u01/introspect/domain1/a.txt\nline\n", 100).getFiles();
+
+    assertThat(files, anEmptyMap());
+  }
+
+  @Test
+  public void whenLinesAddedIncrementally_completeFilesAreAvailable() {
+    IntrospectorLogParser parser = new IntrospectorLogParser(Integer.MAX_VALUE);
+
+    parser.addLine(">>>  /u01/introspect/domain1/a.txt");
+    parser.addLine("line");
+    assertThat(parser.getFiles(), not(hasKey("a.txt")));
+
+    parser.addLine(">>> EOF");
+    assertThat(parser.getFiles(), hasEntry("a.txt", "line" + LINE_SEPARATOR));
+  }
+
+  @Test
+  public void whenSizeLimitReached_keepEarlierFilesAndReportTruncation() throws IOException {
+    IntrospectorLogParser parser = parse(LOG, 30);
+
+    assertThat(parser.isTruncated(), is(true));
+    assertThat(parser.getFiles(), hasKey("userKeyNodeManager.secure"));
+    assertThat(parser.getFiles(), not(hasKey("topology.yaml")));
+  }
+
+  @Test
+  public void whenWithinSizeLimit_dontReportTruncation() throws IOException {
+    assertThat(parse(LOG, 1000).isTruncated(), is(false));
+  }
+
+  private IntrospectorLogParser parse(String log, int maxChars) throws IOException {
+    return IntrospectorLogParser.parse(new StringReader(log), maxChars);
+  }
+}
@@ -22,6 +22,8 @@ import io.kubernetes.client.models.V1EventList;
 import io.kubernetes.client.models.V1Job;
 import io.kubernetes.client.models.V1JobList;
 import io.kubernetes.client.models.V1ListMeta;
+import io.kubernetes.client.models.V1Namespace;
+import io.kubernetes.client.models.V1NamespaceList;
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1PersistentVolume;
 import io.kubernetes.client.models.V1PersistentVolumeClaim;
@@ -29,13 +31,17 @@ import io.kubernetes.client.models.V1PersistentVolumeClaimList;
 import io.kubernetes.client.models.V1PersistentVolumeList;
 import io.kubernetes.client.models.V1Pod;
 import io.kubernetes.client.models.V1PodList;
+import io.kubernetes.client.models.V1Secret;
+import io.kubernetes.client.models.V1SecretList;
 import io.kubernetes.client.models.V1Service;
 import io.kubernetes.client.models.V1ServiceList;
 import io.kubernetes.client.models.V1Status;
 import io.kubernetes.client.models.V1SubjectAccessReview;
 import io.kubernetes.client.models.V1TokenReview;
 import io.kubernetes.client.models.V1beta1CustomResourceDefinition;
+import java.io.IOException;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -82,10 +88,13 @@ public class KubernetesTestSupport extends FiberTestSupport {
   public static final String DOMAIN = "Domain";
   public static final String EVENT = "Event";
   public static final String JOB = "Job";
+  public static final String NAMESPACE = "Namespace";
   public static final String PV = "PersistentVolume";
   public static final String PVC = "PersistentVolumeClaim";
   public static final String POD = "Pod";
   public static final String PODLOG = "PodLog";
+  public static final String PODLOG_SECTIONS = "PodLogSections";
+  public static final String SECRET = "Secret";
   public static final String SERVICE = "Service";
   public static final String SUBJECT_ACCESS_REVIEW = "SubjectAccessReview";
   public static final String TOKEN_REVIEW = "TokenReview";
@@ -100,6 +109,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
     support(SUBJECT_ACCESS_REVIEW, V1SubjectAccessReview.class);
     support(TOKEN_REVIEW, V1TokenReview.class);
     support(PV, V1PersistentVolume.class, this::createPVList);
+    support(NAMESPACE, V1Namespace.class, this::createNamespaceList);
 
     supportNamespaced(CONFIG_MAP, V1ConfigMap.class, this::createConfigMapList);
     supportNamespaced(DOMAIN, Domain.class, this::createDomainList);
@@ -107,7 +117,9 @@ public class KubernetesTestSupport extends FiberTestSupport {
     supportNamespaced(JOB, V1Job.class, this::createJobList);
     supportNamespaced(POD, V1Pod.class, this::createPodList);
     supportNamespaced(PODLOG, String.class);
+    supportNamespaced(PODLOG_SECTIONS, Map.class);
     supportNamespaced(PVC, V1PersistentVolumeClaim.class, this::createPVCList);
+    supportNamespaced(SECRET, V1Secret.class, this::createSecretList);
     supportNamespaced(SERVICE, V1Service.class, this::createServiceList);
 
     return new KubernetesTestSupportMemento();
@@ -125,6 +137,10 @@ public class KubernetesTestSupport extends FiberTestSupport {
     return new V1EventList().metadata(createListMeta()).items(items);
   }
 
+  private V1NamespaceList createNamespaceList(List<V1Namespace> items) {
+    return new V1NamespaceList().metadata(createListMeta()).items(items);
+  }
+
   private V1PersistentVolumeList createPVList(List<V1PersistentVolume> items) {
     return new V1PersistentVolumeList().metadata(createListMeta()).items(items);
   }
@@ -141,6 +157,10 @@ public class KubernetesTestSupport extends FiberTestSupport {
     return new V1JobList().metadata(createListMeta()).items(items);
   }
 
+  private V1SecretList createSecretList(List<V1Secret> items) {
+    return new V1SecretList().metadata(createListMeta()).items(items);
+  }
+
   private V1ServiceList createServiceList(List<V1Service> items) {
     return new V1ServiceList().metadata(createListMeta()).items(items);
   }
@@ -193,6 +213,19 @@ public class KubernetesTestSupport extends FiberTestSupport {
 
   public void definePodLog(String name, String namespace, Object contents) {
     repositories.get(PODLOG).createResourceInNamespace(name, namespace, contents);
+    if (contents instanceof String) {
+      repositories
+          .get(PODLOG_SECTIONS)
+          .createResourceInNamespace(name, namespace, parseIntrospectorLog((String) contents));
+    }
+  }
+
+  static Map<String, String> parseIntrospectorLog(String log) {
+    try {
+      return IntrospectorLogParser.parse(new StringReader(log), Integer.MAX_VALUE).getFiles();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   @SuppressWarnings("unchecked")
@@ -13,6 +13,7 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -345,6 +346,17 @@ public class KubernetesTestSupportTest {
     assertThat(endStep.callResponse.getResult(), equalTo(POD_LOG_CONTENTS));
   }
 
+  @Test
+  public void whenDefined_readPodLogSections() {
+    TestResponseStep<Map<String, String>> endStep = new TestResponseStep<>();
+    testSupport.definePodLog("name", "namespace", ">>> /dir/file1\nline\n>>> EOF\n");
+
+    testSupport.runSteps(
+        new CallBuilder().readIntrospectorLogAsync("name", "namespace", 1000, endStep));
+
+    assertThat(endStep.callResponse.getResult(), hasKey("file1"));
+  }
+
   static class TestResponseStep<T> extends DefaultResponseStep<T> {
     private CallResponse<T> callResponse;
 
@@ -0,0 +1,124 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1Service;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.junit.Test;
+
+public class ModelCacheTest {
+  private static final String NS = "namespace";
+  private static final String UID = "uid1";
+
+  private ModelCache cache = new ModelCache(2);
+  private WlsDomainConfig topology = new WlsDomainConfig("base_domain");
+
+  @Test
+  public void whenGenerationUnchanged_reusePodModel() {
+    V1Pod model = getPodModel(createInfo(1L), topology, "ms1");
+
+    assertThat(getPodModel(createInfo(1L), topology, "ms1"), sameInstance(model));
+  }
+
+  @Test
+  public void whenGenerationUnchanged_reuseServiceModel() {
+    V1Service model = getServiceModel(createInfo(1L), topology, "uid1-ms1");
+
+    assertThat(getServiceModel(createInfo(1L), topology, "uid1-ms1"), sameInstance(model));
+  }
+
+  @Test
+  public void eachServerHasItsOwnModel() {
+    V1Pod model = getPodModel(createInfo(1L), topology, "ms1");
+
+    assertThat(getPodModel(createInfo(1L), topology, "ms2"), not(sameInstance(model)));
+  }
+
+  @Test
+  public void whenGenerationChanged_rebuildPodModel() {
+    V1Pod model = getPodModel(createInfo(1L), topology, "ms1");
+
+    assertThat(getPodModel(createInfo(2L), topology, "ms1"), not(sameInstance(model)));
+  }
+
+  @Test
+  public void whenTopologyReadAgainUnchanged_reusePodModel() {
+    V1Pod model = getPodModel(createInfo(1L), topology, "ms1");
+
+    assertThat(
+        getPodModel(createInfo(1L), new WlsDomainConfig("base_domain"), "ms1"),
+        sameInstance(model));
+  }
+
+  @Test
+  public void whenTopologyChanged_rebuildPodModel() {
+    V1Pod model = getPodModel(createInfo(1L), topology, "ms1");
+
+    assertThat(
+        getPodModel(createInfo(1L), new WlsDomainConfig("other_domain"), "ms1"),
+        not(sameInstance(model)));
+  }
+
+  @Test
+  public void whenDomainHasNoGeneration_dontCacheModels() {
+    V1Pod model = getPodModel(createInfo(null), topology, "ms1");
+
+    assertThat(getPodModel(createInfo(null), topology, "ms1"), not(sameInstance(model)));
+    assertThat(cache.size(), equalTo(0));
+  }
+
+  @Test
+  public void whenDomainRemoved_rebuildPodModel() {
+    V1Pod model = getPodModel(createInfo(1L), topology, "ms1");
+
+    cache.remove(NS, UID);
+
+    assertThat(getPodModel(createInfo(1L), topology, "ms1"), not(sameInstance(model)));
+  }
+
+  @Test
+  public void whenMoreDomainsThanLimit_evictLeastRecentlyUsed() {
+    V1Pod model = getPodModel(createInfo(NS, "uid1", 1L), topology, "ms1");
+    getPodModel(createInfo(NS, "uid2", 1L), topology, "ms1");
+    getPodModel(createInfo(NS, "uid1", 1L), topology, "ms1");
+    getPodModel(createInfo(NS, "uid3", 1L), topology, "ms1");
+
+    assertThat(cache.size(), equalTo(2));
+    assertThat(getPodModel(createInfo(NS, "uid1", 1L), topology, "ms1"), sameInstance(model));
+  }
+
+  private V1Pod getPodModel(DomainPresenceInfo info, WlsDomainConfig topology, String name) {
+    return cache.getPodModel(info, topology, name, () -> new V1Pod().metadata(createMeta(name)));
+  }
+
+  private V1Service getServiceModel(
+      DomainPresenceInfo info, WlsDomainConfig topology, String name) {
+    return cache.getServiceModel(
+        info, topology, name, () -> new V1Service().metadata(createMeta(name)));
+  }
+
+  private V1ObjectMeta createMeta(String name) {
+    return new V1ObjectMeta().name(name).namespace(NS);
+  }
+
+  private DomainPresenceInfo createInfo(Long generation) {
+    return createInfo(NS, UID, generation);
+  }
+
+  private DomainPresenceInfo createInfo(String namespace, String uid, Long generation) {
+    return new DomainPresenceInfo(
+        new Domain()
+            .withMetadata(
+                new V1ObjectMeta().name(uid).namespace(namespace).generation(generation)));
+  }
+}
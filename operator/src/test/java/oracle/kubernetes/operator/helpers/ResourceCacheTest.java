@@ -0,0 +1,223 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import java.util.Arrays;
+import java.util.Collections;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ResourceCacheTest {
+  private static final String NS = "namespace";
+  private static final String UID1 = "uid1";
+  private static final String UID2 = "uid2";
+
+  private ResourceCache<V1Pod> cache =
+      new ResourceCache<>(
+          V1Pod::getMetadata, p -> p.getMetadata().getLabels().get(LabelConstants.DOMAINUID_LABEL));
+
+  @Before
+  public void setUp() {
+    cache.start(NS);
+  }
+
+  private V1Pod createPod(String name, String domainUID, String serverName, int resourceVersion) {
+    return new V1Pod()
+        .metadata(
+            new V1ObjectMeta()
+                .namespace(NS)
+                .name(name)
+                .resourceVersion(Integer.toString(resourceVersion))
+                .putLabelsItem(LabelConstants.DOMAINUID_LABEL, domainUID)
+                .putLabelsItem(LabelConstants.SERVERNAME_LABEL, serverName));
+  }
+
+  @Test
+  public void whenNamespaceNotSeeded_isNotSeeded() {
+    cache.receivedResponse(addedEvent(createPod("pod1", UID1, "admin", 1)));
+
+    assertThat(cache.isSeeded(NS), is(false));
+  }
+
+  @Test
+  public void afterSeed_namespaceIsSeededAndContainsResources() {
+    V1Pod pod1 = createPod("pod1", UID1, "admin", 1);
+    V1Pod pod2 = createPod("pod2", UID2, "admin", 2);
+
+    cache.seed(NS, Arrays.asList(pod1, pod2), "5");
+
+    assertThat(cache.isSeeded(NS), is(true));
+    assertThat(cache.list(NS), containsInAnyOrder(pod1, pod2));
+  }
+
+  @Test
+  public void afterSeed_resourcesIndexedByDomainUid() {
+    V1Pod pod1 = createPod("pod1", UID1, "admin", 1);
+    V1Pod pod2 = createPod("pod2", UID1, "ms1", 2);
+    V1Pod pod3 = createPod("pod3", UID2, "admin", 3);
+
+    cache.seed(NS, Arrays.asList(pod1, pod2, pod3), "5");
+
+    assertThat(cache.list(NS, UID1), containsInAnyOrder(pod1, pod2));
+    assertThat(cache.list(NS, UID2), contains(pod3));
+  }
+
+  @Test
+  public void whenModifiedEventIsNewer_replaceCachedResource() {
+    cache.seed(NS, Collections.singletonList(createPod("pod1", UID1, "admin", 1)), "1");
+    V1Pod updated = createPod("pod1", UID1, "admin", 2);
+
+    cache.receivedResponse(modifiedEvent(updated));
+
+    assertThat(cache.list(NS), contains(updated));
+  }
+
+  @Test
+  public void whenModifiedEventIsOlder_keepCachedResource() {
+    V1Pod cached = createPod("pod1", UID1, "admin", 3);
+    cache.seed(NS, Collections.singletonList(cached), "3");
+
+    cache.receivedResponse(modifiedEvent(createPod("pod1", UID1, "admin", 2)));
+
+    assertThat(cache.list(NS), contains(cached));
+  }
+
+  @Test
+  public void whenDeletedEvent_removeResourceFromAllIndexes() {
+    V1Pod pod = createPod("pod1", UID1, "admin", 1);
+    cache.seed(NS, Collections.singletonList(pod), "1");
+
+    cache.receivedResponse(deletedEvent(createPod("pod1", UID1, "admin", 2)));
+
+    assertThat(cache.list(NS), empty());
+    assertThat(cache.list(NS, UID1), empty());
+  }
+
+  @Test
+  public void afterClear_namespaceIsNotSeeded() {
+    cache.seed(NS, Collections.singletonList(createPod("pod1", UID1, "admin", 1)), "1");
+
+    cache.clear(NS);
+
+    assertThat(cache.isSeeded(NS), is(false));
+    assertThat(cache.list(NS), empty());
+  }
+
+  @Test
+  public void afterClear_ignoreEventsForNamespace() {
+    cache.clear(NS);
+
+    cache.receivedResponse(addedEvent(createPod("pod1", UID1, "admin", 1)));
+    cache.seed(NS, Collections.singletonList(createPod("pod2", UID1, "ms1", 2)), "2");
+
+    assertThat(cache.isSeeded(NS), is(false));
+    assertThat(cache.list(NS), empty());
+  }
+
+  @Test
+  public void whenNamespaceNotStarted_ignoreEvents() {
+    V1Pod pod = createPod("pod1", UID1, "admin", 1);
+    pod.getMetadata().setNamespace("other");
+
+    cache.receivedResponse(addedEvent(pod));
+
+    assertThat(cache.list("other"), empty());
+  }
+
+  @Test
+  public void whenSeeded_keepResourcesAddedByWatchAfterList() {
+    V1Pod added = createPod("pod2", UID1, "ms1", 6);
+    cache.receivedResponse(addedEvent(added));
+
+    cache.seed(NS, Collections.singletonList(createPod("pod1", UID1, "admin", 1)), "5");
+
+    assertThat(cache.list(NS), containsInAnyOrder(added, createPod("pod1", UID1, "admin", 1)));
+  }
+
+  @Test
+  public void whenSeeded_keepNewerVersionFromWatch() {
+    V1Pod modified = createPod("pod1", UID1, "admin", 7);
+    cache.receivedResponse(modifiedEvent(modified));
+
+    cache.seed(NS, Collections.singletonList(createPod("pod1", UID1, "admin", 3)), "5");
+
+    assertThat(cache.list(NS), contains(modified));
+  }
+
+  @Test
+  public void whenSeeded_removeResourcesDeletedBeforeList() {
+    cache.seed(NS, Collections.singletonList(createPod("pod1", UID1, "admin", 1)), "1");
+
+    cache.seed(NS, Collections.singletonList(createPod("pod2", UID1, "ms1", 4)), "5");
+
+    assertThat(cache.list(NS), contains(createPod("pod2", UID1, "ms1", 4)));
+    assertThat(cache.list(NS, UID1), contains(createPod("pod2", UID1, "ms1", 4)));
+  }
+
+  @Test
+  public void whenDeletedByWatchBeforeSeed_dontRestoreFromList() {
+    cache.receivedResponse(deletedEvent(createPod("pod1", UID1, "admin", 6)));
+
+    cache.seed(NS, Collections.singletonList(createPod("pod1", UID1, "admin", 3)), "5");
+
+    assertThat(cache.list(NS), empty());
+  }
+
+  @Test
+  public void cachedResourcesAreReturnedWithoutCopying() {
+    V1Pod pod = createPod("pod1", UID1, "admin", 1);
+    cache.seed(NS, Collections.singletonList(pod), "1");
+
+    assertThat(cache.list(NS).get(0), sameInstance(pod));
+    assertThat(cache.list(NS, UID1).get(0), sameInstance(pod));
+  }
+
+  @Test
+  public void changingReturnedListDoesNotChangeCache() {
+    cache.seed(NS, Collections.singletonList(createPod("pod1", UID1, "admin", 1)), "1");
+
+    cache.list(NS).clear();
+    cache.list(NS, UID1).clear();
+
+    assertThat(cache.list(NS), hasSize(1));
+    assertThat(cache.list(NS, UID1), hasSize(1));
+  }
+
+  @Test
+  public void whenResourceMovesToAnotherDomain_reindexIt() {
+    cache.seed(NS, Collections.singletonList(createPod("pod1", UID1, "admin", 1)), "1");
+    V1Pod moved = createPod("pod1", UID2, "admin", 2);
+
+    cache.receivedResponse(modifiedEvent(moved));
+
+    assertThat(cache.list(NS, UID1), empty());
+    assertThat(cache.list(NS, UID2), contains(moved));
+  }
+
+  private Watch.Response<V1Pod> addedEvent(V1Pod pod) {
+    return WatchEvent.createAddedEvent(pod).toWatchResponse();
+  }
+
+  private Watch.Response<V1Pod> modifiedEvent(V1Pod pod) {
+    return WatchEvent.createModifiedEvent(pod).toWatchResponse();
+  }
+
+  private Watch.Response<V1Pod> deletedEvent(V1Pod pod) {
+    return WatchEvent.createDeleteEvent(pod).toWatchResponse();
+  }
+}
@@ -21,13 +21,45 @@ public abstract class TuningParametersStub implements TuningParameters {
   static final int LIVENESS_PERIOD = 6;
   static final int LIVENESS_TIMEOUT = 5;
   static Map<String, String> namedParameters;
+  static int makeRightDelayMillis;
+  static int makeRightMaxWaitMillis;
+  static int statusWriteDelayMillis;
+  static int statusWriteMaxWaitMillis;
 
   public static Memento install() throws NoSuchFieldException {
     namedParameters = new HashMap<>();
+    makeRightDelayMillis = 0;
+    makeRightMaxWaitMillis = 0;
+    statusWriteDelayMillis = 0;
+    statusWriteMaxWaitMillis = 0;
     return StaticStubSupport.install(
         TuningParametersImpl.class, "INSTANCE", createStrictStub(TuningParametersStub.class));
   }
 
+  /**
+   * Sets the delays with which watch events start a make-right; they are zero, so that events start
+   * it immediately, unless set.
+   *
+   * @param delayMillis the time to wait for further events
+   * @param maxWaitMillis the maximum time to wait after the first event
+   */
+  public static void setMakeRightDelays(int delayMillis, int maxWaitMillis) {
+    makeRightDelayMillis = delayMillis;
+    makeRightMaxWaitMillis = maxWaitMillis;
+  }
+
+  /**
+   * Sets the delays with which changes to a domain's status are written; they are zero, so that
+   * each change is written immediately, unless set.
+   *
+   * @param delayMillis the time to wait for further changes
+   * @param maxWaitMillis the maximum time to wait after the first change
+   */
+  public static void setStatusWriteDelays(int delayMillis, int maxWaitMillis) {
+    statusWriteDelayMillis = delayMillis;
+    statusWriteMaxWaitMillis = maxWaitMillis;
+  }
+
   @Override
   public PodTuning getPodTuning() {
     return new PodTuning(
@@ -41,7 +73,19 @@ public abstract class TuningParametersStub implements TuningParameters {
 
   @Override
   public MainTuning getMainTuning() {
-    return new MainTuning(2, 2, 2, 2, 2, 2, 2L, 2L);
+    return new MainTuning(
+        2,
+        2,
+        2,
+        2,
+        2,
+        2,
+        2L,
+        2L,
+        makeRightDelayMillis,
+        makeRightMaxWaitMillis,
+        statusWriteDelayMillis,
+        statusWriteMaxWaitMillis);
   }
 
   @Override
@@ -4,11 +4,14 @@
 
 package oracle.kubernetes.operator.http;
 
+import java.util.concurrent.CompletableFuture;
+
 public abstract class HttpClientStub extends HttpClient {
 
   String response = "{}";
   int status = 200;
   boolean successful = true;
+  boolean responsePending;
 
   public HttpClientStub() {
     super(null, null);
@@ -21,6 +24,15 @@ public abstract class HttpClientStub extends HttpClient {
     return new Result(response, status, successful);
   }
 
+  @Override
+  public CompletableFuture<Result> executePostUrlOnServiceClusterIPAsync(
+      String requestUrl, String serviceURL, String payload, long timeoutSeconds) {
+    if (responsePending) {
+      return new CompletableFuture<>();
+    }
+    return CompletableFuture.completedFuture(new Result(response, status, successful));
+  }
+
   public HttpClientStub withResponse(String response) {
     this.response = response;
     return this;
@@ -35,4 +47,9 @@ public abstract class HttpClientStub extends HttpClient {
     this.successful = successful;
     return this;
   }
+
+  public HttpClientStub withResponsePending() {
+    this.responsePending = true;
+    return this;
+  }
 }
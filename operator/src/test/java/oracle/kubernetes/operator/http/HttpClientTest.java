@@ -6,6 +6,8 @@ package oracle.kubernetes.operator.http;
 import static oracle.kubernetes.LogMatcher.containsFine;
 import static oracle.kubernetes.operator.logging.MessageKeys.HTTP_METHOD_FAILED;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
 
 import com.meterware.simplestub.Stub;
@@ -15,12 +17,16 @@ import io.kubernetes.client.models.V1ServicePort;
 import io.kubernetes.client.models.V1ServiceSpec;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
+import javax.ws.rs.client.AsyncInvoker;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.Invocation.Builder;
+import javax.ws.rs.client.InvocationCallback;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -74,6 +80,82 @@ public class HttpClientTest {
         FAKE_URL, FAKE_URL, WlsDomainConfig.getRetrieveServersSearchPayload(), throwOnFailure);
   }
 
+  @Test
+  public void whenAsyncPostSucceeds_futureCompletesWithResponse() throws Exception {
+    HttpClient httpClient = createHttpClient(Status.OK, "{}");
+
+    Result result =
+        httpClient
+            .executePostUrlOnServiceClusterIPAsync(
+                FAKE_URL, FAKE_URL, WlsDomainConfig.getRetrieveServersSearchPayload(), 5)
+            .get();
+
+    assertThat(result.isSuccessful(), is(true));
+    assertThat(result.getResponse(), equalTo("{}"));
+  }
+
+  @Test
+  public void whenAsyncPostFails_futureCompletesWithFailedResultAndMessageLogged()
+      throws Exception {
+    HttpClient httpClient = createHttpClient(Status.NOT_FOUND, null);
+
+    Result result =
+        httpClient
+            .executePostUrlOnServiceClusterIPAsync(
+                FAKE_URL, FAKE_URL, WlsDomainConfig.getRetrieveServersSearchPayload(), 5)
+            .get();
+
+    assertThat(result.isSuccessful(), is(false));
+    assertThat(result.getStatus(), equalTo(Status.NOT_FOUND.getStatusCode()));
+    assertThat(logRecords, containsFine(HTTP_METHOD_FAILED, Status.NOT_FOUND.getStatusCode()));
+  }
+
+  @Test
+  public void whenAsyncPostSucceeds_responseIsClosed() throws Exception {
+    ResponseStub response = Stub.createStub(ResponseStub.class, Status.OK, "{}");
+
+    createHttpClient(response)
+        .executePostUrlOnServiceClusterIPAsync(
+            FAKE_URL, FAKE_URL, WlsDomainConfig.getRetrieveServersSearchPayload(), 5)
+        .get();
+
+    assertThat(response.closed, is(true));
+  }
+
+  @Test
+  public void whenAsyncPostSucceedsWithoutEntity_responseIsClosed() throws Exception {
+    ResponseStub response = Stub.createStub(ResponseStub.class, Status.NO_CONTENT, null);
+
+    createHttpClient(response)
+        .executePostUrlOnServiceClusterIPAsync(
+            FAKE_URL, FAKE_URL, WlsDomainConfig.getRetrieveServersSearchPayload(), 5)
+        .get();
+
+    assertThat(response.closed, is(true));
+  }
+
+  @Test
+  public void whenAsyncPostFails_responseIsClosed() throws Exception {
+    ignoreMessage(HTTP_METHOD_FAILED);
+    ResponseStub response = Stub.createStub(ResponseStub.class, Status.NOT_FOUND, null);
+
+    createHttpClient(response)
+        .executePostUrlOnServiceClusterIPAsync(
+            FAKE_URL, FAKE_URL, WlsDomainConfig.getRetrieveServersSearchPayload(), 5)
+        .get();
+
+    assertThat(response.closed, is(true));
+  }
+
+  private HttpClient createHttpClient(Status status, Object entity) {
+    return createHttpClient(Stub.createStub(ResponseStub.class, status, entity));
+  }
+
+  private HttpClient createHttpClient(ResponseStub response) {
+    ClientStub clientStub = Stub.createStub(ClientStub.class).withResponse(response);
+    return new HttpClient(clientStub, "");
+  }
+
   private void ignoreMessage(String message) {
     consoleControl.ignoreMessage(message);
   }
@@ -127,6 +209,11 @@ public class HttpClientTest {
 
   abstract static class WebTargetStub implements WebTarget {
 
+    @Override
+    public WebTarget property(String name, Object value) {
+      return this;
+    }
+
     @Override
     public Builder request() {
       return Stub.createStub(InvocationBuilderStub.class);
@@ -149,12 +236,29 @@ public class HttpClientTest {
     public Response post(Entity<?> entity) {
       return ClientStub.mockResponse;
     }
+
+    @Override
+    public AsyncInvoker async() {
+      return Stub.createStub(AsyncInvokerStub.class);
+    }
+  }
+
+  abstract static class AsyncInvokerStub implements AsyncInvoker {
+
+    @Override
+    public <T> Future<T> post(Entity<?> entity, InvocationCallback<T> callback) {
+      @SuppressWarnings("unchecked")
+      T response = (T) ClientStub.mockResponse;
+      callback.completed(response);
+      return CompletableFuture.completedFuture(response);
+    }
   }
 
   abstract static class ResponseStub extends Response {
 
     final StatusType statusInfo;
     final Object entity;
+    boolean closed;
 
     public ResponseStub(StatusType statusInfo, Object entity) {
       this.statusInfo = statusInfo;
@@ -180,5 +284,10 @@ public class HttpClientTest {
     public boolean hasEntity() {
       return entity != null;
     }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
   }
 }
@@ -0,0 +1,179 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static com.meterware.simplestub.Stub.createStub;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import org.junit.Test;
+
+public class DomainEventsTest {
+  private static final String NS = "ns";
+  private static final String UID = "domain1";
+
+  private DomainEvents events = new DomainEvents();
+  private List<String> received = new ArrayList<>();
+
+  @Test
+  public void whenNoSubscribers_publishingDoesNothing() {
+    events.serverStateChanged(NS, UID, "ms1", "RUNNING");
+
+    assertThat(events.getNumSubscribers(UID), equalTo(0));
+  }
+
+  @Test
+  public void afterServerStateChanged_subscriberReceivesServerEvent() {
+    events.subscribe(UID, received::add);
+
+    events.serverStateChanged(NS, UID, "ms1", "RUNNING");
+
+    assertThat(
+        received,
+        contains("id: 1\nevent: server\ndata: {\"serverName\":\"ms1\",\"state\":\"RUNNING\"}\n\n"));
+  }
+
+  @Test
+  public void afterStatusChanged_subscriberReceivesStatusEvent() {
+    events.subscribe(UID, received::add);
+
+    events.statusChanged(NS, UID, new DomainStatus().withMessage("hello"), 17);
+
+    assertThat(received, hasSize(1));
+    assertThat(received.get(0), startsWith("id: 1\nevent: status\ndata: {\"sequence\":17,"));
+    assertThat(received.get(0), containsString("\"status\":{"));
+    assertThat(received.get(0), containsString("\"message\":\"hello\""));
+  }
+
+  @Test
+  public void afterScaleStateChanged_subscriberReceivesScaleEvent() {
+    events.subscribe(UID, received::add);
+
+    events.scaleStateChanged(UID, "cluster1", 3, "Applied", null);
+
+    assertThat(
+        received,
+        contains(
+            "id: 1\nevent: scale\ndata: "
+                + "{\"cluster\":\"cluster1\",\"managedServerCount\":3,\"state\":\"Applied\"}\n\n"));
+  }
+
+  @Test
+  public void eventsAreNumberedInOrder() {
+    events.subscribe(UID, received::add);
+
+    events.serverStateChanged(NS, UID, "ms1", "STARTING");
+    events.serverStateChanged(NS, UID, "ms1", "RUNNING");
+
+    assertThat(received.get(0), startsWith("id: 1\n"));
+    assertThat(received.get(1), startsWith("id: 2\n"));
+  }
+
+  @Test
+  public void subscriberToOtherDomain_receivesNothing() {
+    events.subscribe("domain2", received::add);
+
+    events.serverStateChanged(NS, UID, "ms1", "RUNNING");
+
+    assertThat(received, empty());
+  }
+
+  @Test
+  public void whenSinkFails_removeSubscriber() {
+    events.subscribe(
+        UID,
+        e -> {
+          throw new IOException("closed");
+        });
+
+    events.serverStateChanged(NS, UID, "ms1", "RUNNING");
+
+    assertThat(events.getNumSubscribers(UID), equalTo(0));
+  }
+
+  @Test
+  public void whenSubscriberFallsBehind_dropOldestEventsAndReportNumber() {
+    ExecutorStub executor = createStrictStub(ExecutorStub.class);
+    events.setExecutor(executor);
+    events.configure(2, 0);
+    events.subscribe(UID, received::add);
+
+    events.serverStateChanged(NS, UID, "ms1", "STARTING");
+    events.serverStateChanged(NS, UID, "ms2", "STARTING");
+    events.serverStateChanged(NS, UID, "ms1", "RUNNING");
+    events.serverStateChanged(NS, UID, "ms2", "RUNNING");
+    executor.runAll();
+
+    assertThat(received, hasSize(3));
+    assertThat(received.get(0), equalTo("event: dropped\ndata: {\"count\":2}\n\n"));
+    assertThat(received.get(1), startsWith("id: 3\n"));
+    assertThat(received.get(2), startsWith("id: 4\n"));
+  }
+
+  @Test
+  public void whilePreviousEventsBeingSent_dontScheduleAnotherSend() {
+    ExecutorStub executor = createStrictStub(ExecutorStub.class);
+    events.setExecutor(executor);
+    events.configure(10, 0);
+    events.subscribe(UID, received::add);
+
+    events.serverStateChanged(NS, UID, "ms1", "STARTING");
+    events.serverStateChanged(NS, UID, "ms1", "RUNNING");
+
+    assertThat(executor.runnables, hasSize(1));
+  }
+
+  @Test
+  public void whenHeartbeatDue_idleSubscriberReceivesComment() {
+    ExecutorStub executor = createStrictStub(ExecutorStub.class);
+    events.setExecutor(executor);
+    events.configure(10, 15);
+    events.subscribe(UID, received::add);
+
+    executor.heartbeat.run();
+    executor.runAll();
+
+    assertThat(received, contains(":\n\n"));
+    assertThat(executor.heartbeatSeconds, equalTo(15L));
+  }
+
+  abstract static class ExecutorStub implements ScheduledExecutorService {
+    private List<Runnable> runnables = new ArrayList<>();
+    private Runnable heartbeat;
+    private long heartbeatSeconds;
+
+    @Override
+    public void execute(Runnable command) {
+      runnables.add(command);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(
+        Runnable command, long initialDelay, long delay, TimeUnit unit) {
+      heartbeat = command;
+      heartbeatSeconds = unit.toSeconds(delay);
+      return createStub(ScheduledFuture.class);
+    }
+
+    void runAll() {
+      while (!runnables.isEmpty()) {
+        runnables.remove(0).run();
+      }
+    }
+  }
+}
@@ -5,10 +5,17 @@
 package oracle.kubernetes.operator.rest;
 
 import static java.net.HttpURLConnection.HTTP_CONFLICT;
+import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SUBJECT_ACCESS_REVIEW;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.TOKEN_REVIEW;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -22,13 +29,22 @@ import io.kubernetes.client.models.V1TokenReview;
 import io.kubernetes.client.models.V1TokenReviewStatus;
 import io.kubernetes.client.models.V1UserInfo;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import javax.ws.rs.WebApplicationException;
 import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.DomainProcessorImpl;
+import oracle.kubernetes.operator.DomainStatusListeners;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.ResourceCache;
 import oracle.kubernetes.operator.rest.RestBackendImpl.TopologyRetriever;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
+import oracle.kubernetes.operator.rest.model.ScaleClusterStatusModel;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.weblogic.domain.ClusterConfigurator;
@@ -36,6 +52,9 @@ import oracle.kubernetes.weblogic.domain.DomainConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
+import oracle.kubernetes.weblogic.domain.model.ServerStatus;
+import org.joda.time.DateTime;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -48,15 +67,24 @@ public class RestBackendImplTest {
   private static final String NS = "namespace1";
   private static final String NAME1 = "domain";
   private static final String NAME2 = "domain2";
+  private static final int COALESCE_MILLIS = 200;
   private WlsDomainConfigSupport configSupport = new WlsDomainConfigSupport(NAME1);
 
   private List<Memento> mementos = new ArrayList<>();
   private RestBackend restBackend;
   private Domain domain = createDomain(NS, NAME1);
   private Domain domain2 = createDomain(NS, NAME2);
-  private Domain updatedDomain;
   private DomainConfigurator configurator = DomainConfiguratorFactory.forDomain(domain);
   private KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private Map<String, Map<String, DomainPresenceInfo>> presenceInfos = new HashMap<>();
+  private Map<String, String> domainNamespaces = new HashMap<>();
+  private int numTokenReviews;
+  private int numAccessReviews;
+  private ScaleRequests scaleRequests = new ScaleRequests();
+  private List<Domain> updatedDomains = new ArrayList<>();
+  private DomainEvents domainEvents = new DomainEvents();
+  private DomainStatusListeners statusListeners = new DomainStatusListeners();
+  private List<String> events = new ArrayList<>();
 
   private static Domain createDomain(String namespace, String name) {
     return new Domain()
@@ -65,11 +93,12 @@ public class RestBackendImplTest {
   }
 
   private WlsDomainConfig config;
+  private DateTime scanTime = new DateTime(2019, 5, 1, 12, 0, 0, 250);
 
   private class TopologyRetrieverStub implements TopologyRetriever {
     @Override
-    public WlsDomainConfig getWlsDomainConfig(String ns, String domainUID) {
-      return config;
+    public Scan getScan(String ns, String domainUID) {
+      return config == null ? null : new Scan(config, scanTime);
     }
   }
 
@@ -79,11 +108,26 @@ public class RestBackendImplTest {
     mementos.add(testSupport.install());
     mementos.add(
         StaticStubSupport.install(RestBackendImpl.class, "INSTANCE", new TopologyRetrieverStub()));
+    mementos.add(
+        StaticStubSupport.install(
+            ReviewCache.class, "INSTANCE", new ReviewCache(System::nanoTime)));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", presenceInfos));
+    mementos.add(
+        StaticStubSupport.install(
+            DomainProcessorImpl.class, "DOMAIN_NAMESPACES", domainNamespaces));
+    mementos.add(StaticStubSupport.install(ScaleRequests.class, "INSTANCE", scaleRequests));
+    mementos.add(StaticStubSupport.install(DomainEvents.class, "INSTANCE", domainEvents));
+    mementos.add(
+        StaticStubSupport.install(DomainStatusListeners.class, "INSTANCE", statusListeners));
+    statusListeners.add(domainEvents);
+    statusListeners.add(scaleRequests);
+    scaleRequests.setEngine(testSupport.getEngine());
+    scaleRequests.configure(COALESCE_MILLIS, false);
 
     testSupport.defineResources(domain, domain2);
     testSupport.doOnCreate(TOKEN_REVIEW, r -> authenticate((V1TokenReview) r));
     testSupport.doOnCreate(SUBJECT_ACCESS_REVIEW, s -> allow((V1SubjectAccessReview) s));
-    testSupport.doOnUpdate(DOMAIN, d -> updatedDomain = (Domain) d);
+    testSupport.doOnUpdate(DOMAIN, d -> updatedDomains.add((Domain) d));
     configSupport.addWlsCluster("cluster1", "ms1", "ms2", "ms3", "ms4", "ms5", "ms6");
     restBackend = new RestBackendImpl("", "", Collections.singletonList(NS));
 
@@ -91,18 +135,100 @@ public class RestBackendImplTest {
   }
 
   private void authenticate(V1TokenReview tokenReview) {
+    numTokenReviews++;
     tokenReview.setStatus(new V1TokenReviewStatus().authenticated(true).user(new V1UserInfo()));
   }
 
   private void allow(V1SubjectAccessReview subjectAccessReview) {
+    numAccessReviews++;
     subjectAccessReview.setStatus(new V1SubjectAccessReviewStatus().allowed(true));
   }
 
   @After
   public void tearDown() {
+    ResourceCache.clearNamespace(NS);
     for (Memento memento : mementos) memento.revert();
   }
 
+  @Test
+  public void whenDomainsCachedForNamespace_listDomainsFromCache() {
+    ResourceCache.startNamespace(NS);
+    ResourceCache.DOMAINS.seed(
+        NS, Collections.singletonList(createDomain(NS, "cachedDomain")), "1");
+
+    assertThat(restBackend.getDomainUIDs(), contains("cachedDomain"));
+  }
+
+  @Test
+  public void whenDomainsManagedInNamespace_listThemWithDomainsNotYetProcessed() {
+    defineManagedDomain(createDomain(NS, "managedDomain"));
+
+    assertThat(restBackend.getDomainUIDs(), containsInAnyOrder(NAME1, NAME2, "managedDomain"));
+  }
+
+  @Test
+  public void whenManagedDomainIsBeingDeleted_dontListIt() {
+    defineManagedDomain(createDomain(NS, "managedDomain"));
+    defineManagedDomain(createDomain(NS, "deletedDomain")).setDeleting(true);
+
+    assertThat(restBackend.getDomainUIDs(), not(hasItem("deletedDomain")));
+  }
+
+  @Test
+  public void whenOtherDomainInNamespaceManaged_findDomainNotYetProcessed() {
+    defineManagedDomain(createDomain(NS, "managedDomain"));
+
+    assertThat(restBackend.isDomainUID(NAME2), is(true));
+  }
+
+  @Test
+  public void whenManagedDomainReturned_changingItDoesNotChangeOperatorState() {
+    Domain managed = createDomain(NS, "managedDomain");
+    managed.getMetadata().setResourceVersion("1");
+    defineManagedDomain(managed);
+
+    DomainProcessorImpl.getManagedDomain("managedDomain").getMetadata().setResourceVersion("2");
+
+    assertThat(
+        DomainProcessorImpl.getManagedDomain("managedDomain").getMetadata().getResourceVersion(),
+        equalTo("1"));
+  }
+
+  @Test
+  public void whenDomainManaged_findItByDomainUID() {
+    defineManagedDomain(createDomain(NS, "managedDomain"));
+
+    assertThat(restBackend.isDomainUID("managedDomain"), is(true));
+  }
+
+  @Test
+  public void whenDomainManagedInOtherNamespace_dontFindIt() {
+    defineManagedDomain(createDomain("other", "managedDomain"));
+
+    assertThat(restBackend.isDomainUID("managedDomain"), is(false));
+  }
+
+  private DomainPresenceInfo defineManagedDomain(Domain domain) {
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    presenceInfos
+        .computeIfAbsent(info.getNamespace(), k -> new HashMap<>())
+        .put(info.getDomainUID(), info);
+    domainNamespaces.put(info.getDomainUID(), info.getNamespace());
+    return info;
+  }
+
+  @Test
+  public void whenSameClientRepeatsRequest_reuseReviews() {
+    restBackend.getDomainUIDs();
+    int tokenReviews = numTokenReviews;
+    int accessReviews = numAccessReviews;
+
+    new RestBackendImpl("", "", Collections.singletonList(NS)).getDomainUIDs();
+
+    assertThat(numTokenReviews, equalTo(tokenReviews));
+    assertThat(numAccessReviews, equalTo(accessReviews));
+  }
+
   @Test(expected = WebApplicationException.class)
   public void whenNegativeScaleSpecified_throwException() {
     restBackend.scaleCluster(NAME1, "cluster1", -1);
@@ -113,12 +239,17 @@ public class RestBackendImplTest {
     configureCluster("cluster1").withReplicas(5);
 
     restBackend.scaleCluster(NAME1, "cluster1", 5);
+    applyScaleRequests();
 
     assertThat(getUpdatedDomain(), nullValue());
   }
 
+  private void applyScaleRequests() {
+    testSupport.setTime(COALESCE_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
   private Domain getUpdatedDomain() {
-    return updatedDomain;
+    return updatedDomains.isEmpty() ? null : updatedDomains.get(updatedDomains.size() - 1);
   }
 
   private ClusterConfigurator configureCluster(String clusterName) {
@@ -130,10 +261,143 @@ public class RestBackendImplTest {
     configureCluster("cluster1").withReplicas(1);
 
     restBackend.scaleCluster(NAME1, "cluster1", 5);
+    applyScaleRequests();
+
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
+  }
+
+  @Test
+  public void whenScaleRequestAccepted_dontUpdateDomainUntilCoalescingTimePassed() {
+    configureCluster("cluster1").withReplicas(1);
+
+    restBackend.scaleCluster(NAME1, "cluster1", 5);
+
+    assertThat(getUpdatedDomain(), nullValue());
+  }
+
+  @Test
+  public void whenScaleRequestsArriveTogether_updateDomainOnceWithLastCount() {
+    configureCluster("cluster1").withReplicas(1);
+
+    restBackend.scaleCluster(NAME1, "cluster1", 5);
+    restBackend.scaleCluster(NAME1, "cluster1", 2);
+    restBackend.scaleCluster(NAME1, "cluster1", 3);
+    applyScaleRequests();
+
+    assertThat(updatedDomains.size(), equalTo(1));
+    assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(3));
+  }
+
+  @Test
+  public void whenMaxWinsConfigured_updateDomainOnceWithLargestCount() {
+    scaleRequests.configure(COALESCE_MILLIS, true);
+    configureCluster("cluster1").withReplicas(1);
+
+    restBackend.scaleCluster(NAME1, "cluster1", 5);
+    restBackend.scaleCluster(NAME1, "cluster1", 2);
+    applyScaleRequests();
 
+    assertThat(updatedDomains.size(), equalTo(1));
     assertThat(getUpdatedDomain().getReplicaCount("cluster1"), equalTo(5));
   }
 
+  @Test
+  public void whenNoScaleRequestMade_scaleStatusIsNull() {
+    assertThat(restBackend.getScaleClusterStatus(NAME1, "cluster1"), nullValue());
+  }
+
+  @Test
+  public void whenScaleRequestNotYetApplied_scaleStatusIsPending() {
+    configureCluster("cluster1").withReplicas(1);
+
+    restBackend.scaleCluster(NAME1, "cluster1", 5);
+
+    assertThat(getScaleState("cluster1"), equalTo(ScaleClusterStatusModel.PENDING));
+    assertThat(getScaleStatus("cluster1").getManagedServerCount(), equalTo(5));
+  }
+
+  private ScaleClusterStatusModel getScaleStatus(String cluster) {
+    return restBackend.getScaleClusterStatus(NAME1, cluster);
+  }
+
+  private String getScaleState(String cluster) {
+    return getScaleStatus(cluster).getState();
+  }
+
+  @Test
+  public void whenScaleRequestAppliedButServersNotRunning_scaleStatusIsApplied() {
+    configureCluster("cluster1").withReplicas(1);
+
+    restBackend.scaleCluster(NAME1, "cluster1", 2);
+    applyScaleRequests();
+
+    assertThat(getScaleState("cluster1"), equalTo(ScaleClusterStatusModel.APPLIED));
+  }
+
+  @Test
+  public void whenRequestedServersRunning_scaleStatusIsCompleted() {
+    configureCluster("cluster1").withReplicas(1);
+    defineManagedDomain(createDomain(NS, NAME1))
+        .getDomain()
+        .setStatus(
+            new DomainStatus()
+                .withServers(
+                    Arrays.asList(
+                        createServerStatus("ms1", "cluster1", RUNNING_STATE),
+                        createServerStatus("ms2", "cluster1", RUNNING_STATE),
+                        createServerStatus("ms3", "cluster2", RUNNING_STATE))));
+
+    restBackend.scaleCluster(NAME1, "cluster1", 2);
+    applyScaleRequests();
+
+    assertThat(getScaleState("cluster1"), equalTo(ScaleClusterStatusModel.COMPLETED));
+    assertThat(getScaleStatus("cluster1").getRunningManagedServerCount(), equalTo(2));
+  }
+
+  @Test
+  public void whenScaleRequestApplied_publishScaleEvent() {
+    configureCluster("cluster1").withReplicas(1);
+    restBackend.subscribeToDomainEvents(NAME1, events::add);
+
+    restBackend.scaleCluster(NAME1, "cluster1", 2);
+    applyScaleRequests();
+
+    assertThat(events, contains(containsString("\"state\":\"Applied\"")));
+  }
+
+  @Test
+  public void whenStatusShowsScaledServersRunning_publishScaleCompletedEvent() {
+    configureCluster("cluster1").withReplicas(1);
+    defineManagedDomain(createDomain(NS, NAME1));
+    restBackend.subscribeToDomainEvents(NAME1, events::add);
+    restBackend.scaleCluster(NAME1, "cluster1", 1);
+    applyScaleRequests();
+
+    DomainStatusListeners.getInstance()
+        .statusChanged(
+            NS,
+            NAME1,
+            new DomainStatus()
+                .withServers(
+                    Collections.singletonList(
+                        createServerStatus("ms1", "cluster1", RUNNING_STATE))),
+            1);
+
+    assertThat(events.get(events.size() - 1), containsString("\"state\":\"Completed\""));
+  }
+
+  @Test(expected = WebApplicationException.class)
+  public void whenDomainUnknown_subscribeToDomainEventsThrowsException() {
+    restBackend.subscribeToDomainEvents("noSuchDomain", events::add);
+  }
+
+  private ServerStatus createServerStatus(String serverName, String clusterName, String state) {
+    return new ServerStatus()
+        .withServerName(serverName)
+        .withClusterName(clusterName)
+        .withState(state);
+  }
+
   @Test
   @Ignore
   public void whenNoPerClusterReplicaSetting_scaleClusterCreatesOne() {
@@ -151,13 +415,62 @@ public class RestBackendImplTest {
     assertThat(getUpdatedDomain(), nullValue());
   }
 
-  @Test(expected = WebApplicationException.class)
-  public void whenReplaceDomainReturnsError_scaleClusterThrowsException() {
+  @Test
+  public void whenPatchDomainReturnsError_scaleStatusIsFailed() {
     testSupport.failOnResource(DOMAIN, NAME2, NS, HTTP_CONFLICT);
 
     DomainConfiguratorFactory.forDomain(domain2).configureCluster("cluster1").withReplicas(2);
 
     restBackend.scaleCluster(NAME2, "cluster1", 3);
+    applyScaleRequests();
+
+    assertThat(
+        restBackend.getScaleClusterStatus(NAME2, "cluster1").getState(),
+        equalTo(ScaleClusterStatusModel.FAILED));
+  }
+
+  @Test
+  public void whenDomainResourceVersionChanges_domainVersionChanges() {
+    domain.getMetadata().setResourceVersion("1");
+    defineManagedDomain(domain);
+    String tag = restBackend.getDomainVersion(NAME1).getTag();
+
+    domain.getMetadata().setResourceVersion("2");
+
+    assertThat(restBackend.getDomainVersion(NAME1).getTag(), not(equalTo(tag)));
+  }
+
+  @Test
+  public void whenTopologyScannedAgain_domainVersionChanges() {
+    defineManagedDomain(domain);
+    String tag = restBackend.getDomainVersion(NAME1).getTag();
+
+    scanTime = scanTime.plusMinutes(1);
+
+    assertThat(restBackend.getDomainVersion(NAME1).getTag(), not(equalTo(tag)));
+  }
+
+  @Test
+  public void whenNothingChanged_domainVersionIsUnchanged() {
+    defineManagedDomain(domain);
+
+    assertThat(
+        restBackend.getDomainVersion(NAME1).getTag(),
+        equalTo(restBackend.getDomainVersion(NAME1).getTag()));
+  }
+
+  @Test
+  public void domainLastModified_isScanTimeToTheSecond() {
+    assertThat(
+        restBackend.getDomainVersion(NAME1).getLastModified(),
+        equalTo(new DateTime(2019, 5, 1, 12, 0, 0, 0).toDate()));
+  }
+
+  @Test
+  public void whenTopologyNotScanned_domainHasNoLastModified() {
+    config = null;
+
+    assertThat(restBackend.getDomainVersion(NAME1).getLastModified(), nullValue());
   }
 
   @Test
@@ -6,8 +6,14 @@ package oracle.kubernetes.operator.rest;
 
 import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath;
 import static com.meterware.simplestub.Stub.createStrictStub;
+import static java.net.HttpURLConnection.HTTP_ACCEPTED;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
+import static java.net.HttpURLConnection.HTTP_OK;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
+import static javax.ws.rs.core.HttpHeaders.IF_MODIFIED_SINCE;
+import static javax.ws.rs.core.HttpHeaders.IF_NONE_MATCH;
+import static javax.ws.rs.core.HttpHeaders.LAST_MODIFIED;
 import static oracle.kubernetes.operator.rest.AuthenticationFilter.ACCESS_TOKEN_PREFIX;
 import static oracle.kubernetes.operator.rest.RestTest.JsonArrayMatcher.withValues;
 import static org.hamcrest.Matchers.equalTo;
@@ -18,10 +24,12 @@ import com.meterware.simplestub.Memento;
 import java.net.HttpURLConnection;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -29,12 +37,15 @@ import java.util.stream.Stream;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.rest.backend.DomainVersion;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
+import oracle.kubernetes.operator.rest.model.ScaleClusterStatusModel;
 import org.glassfish.jersey.test.JerseyTest;
 import org.glassfish.jersey.test.inmemory.InMemoryTestContainerFactory;
 import org.glassfish.jersey.test.spi.TestContainerException;
@@ -60,6 +71,7 @@ public class RestTest extends JerseyTest {
   private static final String DOMAIN2_HREF = DOMAINS_HREF + "/uid2";
   private static final String DOMAIN1_CLUSTERS_HREF = DOMAIN1_HREF + "/clusters";
   private static final String ACCESS_TOKEN = "dummy token";
+  private static final Date SCAN_TIME = new Date(1556712000000L);
 
   private List<Memento> mementos = new ArrayList<>();
   private RestBackendStub restBackend = createStrictStub(RestBackendStub.class);
@@ -202,6 +214,38 @@ public class RestTest extends JerseyTest {
         hasJsonPath("$.links[?(@.rel=='clusters')].href", withValues(DOMAIN1_CLUSTERS_HREF)));
   }
 
+  @Test
+  public void domainEndPoint_returnsValidators() {
+    defineDomains("uid1", "uid2");
+
+    Response response = createRequest(DOMAIN1_HREF).get();
+
+    assertThat(response.getEntityTag(), equalTo(new EntityTag("1", true)));
+    assertThat(response.getLastModified(), equalTo(SCAN_TIME));
+  }
+
+  @Test
+  public void whenDomainVersionUnchanged_domainEndPointReturnsNotModified() {
+    defineDomains("uid1", "uid2");
+    EntityTag tag = createRequest(DOMAIN1_HREF).get().getEntityTag();
+
+    Response response = createRequest(DOMAIN1_HREF).header(IF_NONE_MATCH, tag).get();
+
+    assertThat(response.getStatus(), equalTo(HTTP_NOT_MODIFIED));
+  }
+
+  @Test
+  public void whenDomainVersionChanged_domainEndPointReturnsDomain() {
+    defineDomains("uid1", "uid2");
+    EntityTag tag = createRequest(DOMAIN1_HREF).get().getEntityTag();
+
+    restBackend.setDomainVersion("uid1", "2");
+    Response response = createRequest(DOMAIN1_HREF).header(IF_NONE_MATCH, tag).get();
+
+    assertThat(response.getStatus(), equalTo(HTTP_OK));
+    assertThat(response.getEntityTag(), equalTo(new EntityTag("2", true)));
+  }
+
   @Test
   public void nonexistingDomainEndPoint_fails() {
     defineDomains("uid1", "uid2");
@@ -231,6 +275,28 @@ public class RestTest extends JerseyTest {
             withValues(DOMAIN1_CLUSTERS_HREF + "/cluster2")));
   }
 
+  @Test
+  public void whenTopologyNotScannedSinceLastRequest_clustersEndPointReturnsNotModified() {
+    defineClusters("uid1", "cluster1", "cluster2");
+    String lastModified = createRequest(DOMAIN1_CLUSTERS_HREF).get().getHeaderString(LAST_MODIFIED);
+
+    Response response =
+        createRequest(DOMAIN1_CLUSTERS_HREF).header(IF_MODIFIED_SINCE, lastModified).get();
+
+    assertThat(response.getStatus(), equalTo(HTTP_NOT_MODIFIED));
+  }
+
+  @Test
+  public void whenDomainVersionUnchanged_clusterEndPointReturnsNotModified() {
+    defineClusters("uid1", "cluster1", "cluster2");
+    EntityTag tag = createRequest(DOMAIN1_CLUSTERS_HREF + "/cluster1").get().getEntityTag();
+
+    Response response =
+        createRequest(DOMAIN1_CLUSTERS_HREF + "/cluster1").header(IF_NONE_MATCH, tag).get();
+
+    assertThat(response.getStatus(), equalTo(HTTP_NOT_MODIFIED));
+  }
+
   @Test
   public void existingClusterEndPoint_returnsClusterNameAndScalingLink() {
     defineClusters("uid1", "cluster1", "cluster2");
@@ -267,6 +333,41 @@ public class RestTest extends JerseyTest {
     assertThat(restBackend.getNumManagedServers("uid1", "cluster1"), equalTo(3));
   }
 
+  @Test
+  public void whenScaleRequestAccepted_returnStatusUrl() {
+    defineClusters("uid1", "cluster1", "cluster2");
+
+    Response response = sendScaleRequest("cluster1", 3);
+
+    assertThat(response.getStatus(), equalTo(HTTP_ACCEPTED));
+    assertThat(
+        response.getLocation().getPath(), equalTo(DOMAIN1_CLUSTERS_HREF + "/cluster1/scale"));
+  }
+
+  @Test
+  public void afterScaleRequest_getScaleStatus() {
+    defineClusters("uid1", "cluster1", "cluster2");
+    sendScaleRequest("cluster1", 3);
+
+    String result = createRequest(DOMAIN1_CLUSTERS_HREF + "/cluster1/scale").get(String.class);
+
+    assertThat(result, hasJsonPath("$.managedServerCount", equalTo(3)));
+    assertThat(result, hasJsonPath("$.state", equalTo(ScaleClusterStatusModel.PENDING)));
+    assertThat(
+        result,
+        hasJsonPath(
+            "$.links[?(@.rel=='self')].href",
+            withValues(DOMAIN1_CLUSTERS_HREF + "/cluster1/scale")));
+  }
+
+  @Test
+  public void whenNoScaleRequestMade_scaleStatusNotFound() {
+    defineClusters("uid1", "cluster1", "cluster2");
+
+    assertThat(
+        getResponseStatus(DOMAIN1_CLUSTERS_HREF + "/cluster1/scale"), equalTo(HTTP_NOT_FOUND));
+  }
+
   private Response sendScaleRequest(String cluster, int numManagedServers) {
     return createRequest(DOMAIN1_CLUSTERS_HREF + String.format("/%s/scale", cluster))
         .post(createScaleRequest(numManagedServers));
@@ -374,12 +475,17 @@ public class RestTest extends JerseyTest {
 
   abstract static class RestBackendStub implements RestBackend {
     private Map<String, List<ClusterState>> domainClusters = new HashMap<>();
+    private Map<String, String> domainVersions = new HashMap<>();
 
     void addDomain(String domain, String... clusterNames) {
       domainClusters.put(
           domain, Arrays.stream(clusterNames).map(ClusterState::new).collect(Collectors.toList()));
     }
 
+    void setDomainVersion(String domain, String tag) {
+      domainVersions.put(domain, tag);
+    }
+
     Integer getNumManagedServers(String domain, String clusterName) {
       return getClusterStateStream(domain, clusterName)
           .findFirst()
@@ -397,6 +503,11 @@ public class RestTest extends JerseyTest {
       return domainClusters.containsKey(domainUID);
     }
 
+    @Override
+    public DomainVersion getDomainVersion(String domainUID) {
+      return new DomainVersion(domainVersions.getOrDefault(domainUID, "1"), SCAN_TIME);
+    }
+
     @Override
     public Set<String> getClusters(String domainUID) {
       return domainClusters.get(domainUID).stream()
@@ -414,6 +525,17 @@ public class RestTest extends JerseyTest {
       getClusterStateStream(domainUID, cluster).forEach(cs -> cs.setScale(managedServerCount));
     }
 
+    @Override
+    public ScaleClusterStatusModel getScaleClusterStatus(String domainUID, String cluster) {
+      return getClusterStateStream(domainUID, cluster)
+          .map(ClusterState::getScale)
+          .filter(Objects::nonNull)
+          .findFirst()
+          .map(
+              scale -> new ScaleClusterStatusModel(scale, 0, ScaleClusterStatusModel.PENDING, null))
+          .orElse(null);
+    }
+
     Stream<ClusterState> getClusterStateStream(String domainUID, String cluster) {
       return domainClusters.get(domainUID).stream().filter(cs -> cs.hasClusterName(cluster));
     }
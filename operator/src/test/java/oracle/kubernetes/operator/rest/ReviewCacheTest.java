@@ -0,0 +1,174 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import static oracle.kubernetes.operator.rest.ReviewCache.ACCESS_REVIEWS;
+import static oracle.kubernetes.operator.rest.ReviewCache.TOKEN_REVIEWS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import io.kubernetes.client.models.V1TokenReviewStatus;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ReviewCacheTest {
+  private static final String PRINCIPAL = "operator";
+  private static final String TOKEN = "token";
+
+  private long nanoTime;
+  private ReviewCache cache = new ReviewCache(() -> nanoTime);
+  private int numReviews;
+
+  @Before
+  public void setUp() {
+    cache.configure(30, 5, 2);
+  }
+
+  @Test
+  public void whenTokenReviewedRecently_reuseResult() {
+    V1TokenReviewStatus status = reviewToken(TOKEN, authenticated());
+
+    assertThat(reviewToken(TOKEN, authenticated()), is(status));
+    assertThat(numReviews, equalTo(1));
+  }
+
+  @Test
+  public void eachTokenHasItsOwnResult() {
+    reviewToken(TOKEN, authenticated());
+    reviewToken("other", authenticated());
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  public void whenTimeToLivePassed_reviewTokenAgain() {
+    reviewToken(TOKEN, authenticated());
+
+    advanceSeconds(31);
+    reviewToken(TOKEN, authenticated());
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  public void whenTokenRejected_keepResultForShorterTime() {
+    reviewToken(TOKEN, new V1TokenReviewStatus().authenticated(false));
+
+    advanceSeconds(4);
+    reviewToken(TOKEN, authenticated());
+    advanceSeconds(2);
+    reviewToken(TOKEN, authenticated());
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  public void whenTokenReviewFails_dontKeepResult() {
+    assertThat(reviewToken(TOKEN, null), nullValue());
+
+    reviewToken(TOKEN, authenticated());
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  public void whenAccessReviewedRecently_reuseResult() {
+    checkAccess("user", "ns1", true);
+
+    assertThat(checkAccess("user", "ns1", false), is(true));
+    assertThat(numReviews, equalTo(1));
+  }
+
+  @Test
+  public void whenAccessReviewedForOtherNamespace_reviewIt() {
+    checkAccess("user", "ns1", true);
+
+    assertThat(checkAccess("user", "ns2", false), is(false));
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  public void whenAccessDenied_keepResultForShorterTime() {
+    checkAccess("user", "ns1", false);
+
+    advanceSeconds(4);
+    assertThat(checkAccess("user", "ns1", true), is(false));
+    advanceSeconds(2);
+    assertThat(checkAccess("user", "ns1", true), is(true));
+  }
+
+  @Test
+  public void whenMoreResultsThanLimit_evictLeastRecentlyUsed() {
+    checkAccess("user1", "ns1", true);
+    checkAccess("user2", "ns1", true);
+    checkAccess("user1", "ns1", true);
+    checkAccess("user3", "ns1", true);
+    checkAccess("user1", "ns1", true);
+
+    assertThat(numReviews, equalTo(3));
+    assertThat(cache.getMetrics().get(ACCESS_REVIEWS).size, equalTo(2));
+  }
+
+  @Test
+  public void whenTimeToLiveIsZero_dontKeepResults() {
+    cache.configure(0, 0, 2);
+
+    reviewToken(TOKEN, authenticated());
+    reviewToken(TOKEN, authenticated());
+
+    assertThat(numReviews, equalTo(2));
+  }
+
+  @Test
+  public void metricsCountHitsAndMisses() {
+    reviewToken(TOKEN, authenticated());
+    reviewToken(TOKEN, authenticated());
+    checkAccess("user", "ns1", true);
+
+    assertThat(cache.getMetrics().get(TOKEN_REVIEWS).hits, equalTo(1L));
+    assertThat(cache.getMetrics().get(TOKEN_REVIEWS).misses, equalTo(1L));
+    assertThat(cache.getMetrics().get(ACCESS_REVIEWS).misses, equalTo(1L));
+  }
+
+  private V1TokenReviewStatus authenticated() {
+    return new V1TokenReviewStatus().authenticated(true);
+  }
+
+  private V1TokenReviewStatus reviewToken(String token, V1TokenReviewStatus status) {
+    return cache.getTokenReviewStatus(
+        PRINCIPAL,
+        token,
+        () -> {
+          numReviews++;
+          return status;
+        });
+  }
+
+  private boolean checkAccess(String user, String namespace, boolean allowed) {
+    return cache.isAllowed(
+        user,
+        Collections.singletonList("group"),
+        Operation.get,
+        Resource.DOMAINS,
+        "domain1",
+        Scope.namespace,
+        namespace,
+        () -> {
+          numReviews++;
+          return allowed;
+        });
+  }
+
+  private void advanceSeconds(int seconds) {
+    nanoTime += TimeUnit.SECONDS.toNanos(seconds);
+  }
+}
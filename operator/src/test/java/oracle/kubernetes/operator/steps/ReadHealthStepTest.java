@@ -13,6 +13,7 @@ import static org.hamcrest.Matchers.is;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.Stub;
+import io.kubernetes.client.models.V1Pod;
 import io.kubernetes.client.models.V1Service;
 import io.kubernetes.client.models.V1ServicePort;
 import io.kubernetes.client.models.V1ServiceSpec;
@@ -20,6 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -29,12 +31,14 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.http.HttpClient;
 import oracle.kubernetes.operator.http.HttpClientStub;
+import oracle.kubernetes.operator.steps.ReadHealthStep.ReadDomainHealthWithHttpClientStep;
 import oracle.kubernetes.operator.steps.ReadHealthStep.ReadHealthWithHttpClientStep;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.work.Component;
-import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import org.junit.After;
 import org.junit.Before;
@@ -69,6 +73,7 @@ public class ReadHealthStepTest {
   Step next;
   HttpClientStub httpClientStub;
   ReadHealthWithHttpClientStep withHttpClientStep;
+  private FiberTestSupport testSupport = new FiberTestSupport();
 
   @Before
   public void setup() {
@@ -78,7 +83,7 @@ public class ReadHealthStepTest {
             .ignoringLoggedExceptions(CLASSCAST_EXCEPTION)
             .withLogLevel(Level.FINE);
     service = Stub.createStub(V1ServiceStub.class);
-    next = new MockStep(null);
+    next = new TerminalStep();
     httpClientStub = Stub.createStub(HttpClientStub.class);
     withHttpClientStep = new ReadHealthWithHttpClientStep(service, null, next);
   }
@@ -95,7 +100,7 @@ public class ReadHealthStepTest {
             .withServerName(ADMIN_NAME)
             .withGetKeyThrowsException(true);
 
-    withHttpClientStep.apply(packet);
+    testSupport.runSteps(packet, withHttpClientStep);
 
     assertThat(logRecords, containsInfo(WLS_HEALTH_READ_FAILED, ADMIN_NAME));
   }
@@ -106,7 +111,7 @@ public class ReadHealthStepTest {
         Stub.createStub(PacketStub.class).withServerName(ADMIN_NAME).withGetKeyReturnValue(null);
     packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, new AtomicInteger(1));
 
-    withHttpClientStep.apply(packet);
+    testSupport.runSteps(packet, withHttpClientStep);
 
     assertThat(logRecords, containsInfo(WLS_HEALTH_READ_FAILED_NO_HTTPCLIENT, ADMIN_NAME));
     assertThat(
@@ -124,7 +129,7 @@ public class ReadHealthStepTest {
         ProcessingConstants.SERVER_HEALTH_MAP, new ConcurrentHashMap<String, ServerHealth>());
     packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, new AtomicInteger(1));
 
-    withHttpClientStep.apply(packet);
+    testSupport.runSteps(packet, withHttpClientStep);
 
     assertThat(
         ((AtomicInteger) packet.get(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ)).get(),
@@ -147,11 +152,11 @@ public class ReadHealthStepTest {
 
     Packet packet1 = packet.clone();
     packet1.put(ProcessingConstants.SERVER_NAME, ADMIN_NAME);
-    withHttpClientStep1.apply(packet1);
+    testSupport.runSteps(packet1, withHttpClientStep1);
 
     Packet packet2 = packet.clone();
     packet2.put(ProcessingConstants.SERVER_NAME, MANAGED_SERVER1);
-    withHttpClientStep2.apply(packet2);
+    testSupport.runSteps(packet2, withHttpClientStep2);
 
     assertThat(
         ((AtomicInteger) packet.get(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ)).get(),
@@ -164,7 +169,7 @@ public class ReadHealthStepTest {
 
     Packet packet = createPacketForTest();
 
-    withHttpClientStep.apply(packet);
+    testSupport.runSteps(packet, withHttpClientStep);
 
     Map<String, ServerHealth> serverHealthMap =
         packet.getValue(ProcessingConstants.SERVER_HEALTH_MAP);
@@ -180,7 +185,7 @@ public class ReadHealthStepTest {
 
     Packet packet = createPacketForTest();
 
-    withHttpClientStep.apply(packet);
+    testSupport.runSteps(packet, withHttpClientStep);
 
     Map<String, ServerHealth> serverHealthMap =
         packet.getValue(ProcessingConstants.SERVER_HEALTH_MAP);
@@ -197,7 +202,7 @@ public class ReadHealthStepTest {
 
     Packet packet = createPacketForTest();
 
-    withHttpClientStep.apply(packet);
+    testSupport.runSteps(packet, withHttpClientStep);
 
     Map<String, ServerHealth> serverHealthMap =
         packet.getValue(ProcessingConstants.SERVER_HEALTH_MAP);
@@ -207,6 +212,84 @@ public class ReadHealthStepTest {
     assertThat(serverStateMap.get(MANAGED_SERVER1), is("UNKNOWN"));
   }
 
+  @Test
+  public void withHttpClientStep_whenNoResponseBeforeTimeout_logFailureAndContinue() {
+    httpClientStub.withResponsePending();
+
+    Packet packet = createPacketForTest();
+
+    testSupport.runSteps(packet, withHttpClientStep);
+    testSupport.setTime(10, TimeUnit.SECONDS);
+
+    assertThat(logRecords, containsInfo(WLS_HEALTH_READ_FAILED, MANAGED_SERVER1));
+    assertThat(
+        ((AtomicInteger) packet.get(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ)).get(),
+        is(1));
+  }
+
+  @Test
+  public void withDomainHealthStep_recordHealthOfServersWithPods() {
+    httpClientStub.withResponse(DOMAIN_RESPONSE);
+
+    Packet packet = createPacketForTest();
+    DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
+    info.setServerPod(ADMIN_NAME, new V1Pod());
+    info.setServerPod(MANAGED_SERVER1, new V1Pod());
+    packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, new AtomicInteger(2));
+
+    testSupport.runSteps(packet, new ReadDomainHealthWithHttpClientStep(service, null, next));
+
+    Map<String, ServerHealth> serverHealthMap =
+        packet.getValue(ProcessingConstants.SERVER_HEALTH_MAP);
+    Map<String, String> serverStateMap = packet.getValue(SERVER_STATE_MAP);
+    assertThat(serverHealthMap.get(ADMIN_NAME).getOverallHealth(), is("ok"));
+    assertThat(serverStateMap.get(MANAGED_SERVER1), is("STARTING"));
+    assertThat(serverHealthMap.containsKey("unknown-server"), is(false));
+    assertThat(
+        ((AtomicInteger) packet.get(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ)).get(),
+        is(0));
+  }
+
+  @Test
+  public void withDomainHealthStep_whenRequestFails_recordNoHealth() {
+    httpClientStub.withStatus(500).withSuccessful(false);
+
+    Packet packet = createPacketForTest();
+    packet.getSPI(DomainPresenceInfo.class).setServerPod(MANAGED_SERVER1, new V1Pod());
+
+    testSupport.runSteps(packet, new ReadDomainHealthWithHttpClientStep(service, null, next));
+
+    Map<String, ServerHealth> serverHealthMap =
+        packet.getValue(ProcessingConstants.SERVER_HEALTH_MAP);
+    assertThat(serverHealthMap.isEmpty(), is(true));
+    assertThat(
+        ((AtomicInteger) packet.get(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ)).get(),
+        is(1));
+  }
+
+  static final String DOMAIN_RESPONSE =
+      "{\n"
+          + "    \"serverRuntimes\": {\n"
+          + "        \"items\": [\n"
+          + "            {\n"
+          + "                \"name\": \"admin-server\",\n"
+          + "                \"overallHealthState\": { \"state\": \"ok\", \"symptoms\": [] },\n"
+          + "                \"state\": \"RUNNING\",\n"
+          + "                \"activationTime\": 1556759105378\n"
+          + "            },\n"
+          + "            {\n"
+          + "                \"name\": \"managed-server1\",\n"
+          + "                \"overallHealthState\": { \"state\": \"ok\", \"symptoms\": [] },\n"
+          + "                \"state\": \"STARTING\"\n"
+          + "            },\n"
+          + "            {\n"
+          + "                \"name\": \"unknown-server\",\n"
+          + "                \"state\": \"RUNNING\"\n"
+          + "            }\n"
+          + "        ]\n"
+          + "    }\n"
+          + "}";
+
   static final String OK_RESPONSE =
       "{\n"
           + "    \"overallHealthState\": {\n"
@@ -285,15 +368,4 @@ public class ReadHealthStepTest {
       return v1ServiceSpec;
     }
   }
-
-  static class MockStep extends Step {
-    public MockStep(Step next) {
-      super(next);
-    }
-
-    @Override
-    public NextAction apply(Packet packet) {
-      return null;
-    }
-  }
 }
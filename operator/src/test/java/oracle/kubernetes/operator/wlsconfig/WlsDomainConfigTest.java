@@ -15,6 +15,7 @@ import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -311,6 +312,80 @@ public class WlsDomainConfigTest {
     assertNull(wlsDomainConfig.getMachineConfig("noSuchMachine"));
   }
 
+  @Test
+  public void whenFrozen_lookupsReturnSameConfigs() {
+    createDomainConfig(JSON_STRING_MIXED_CLUSTER);
+    WlsServerConfig adminServer = wlsDomainConfig.getServerConfig("AdminServer");
+    WlsClusterConfig cluster = wlsDomainConfig.getClusterConfig("DockerCluster");
+
+    wlsDomainConfig.freeze();
+
+    assertThat(wlsDomainConfig.getServerConfig("AdminServer"), sameInstance(adminServer));
+    assertThat(wlsDomainConfig.getClusterConfig("DockerCluster"), sameInstance(cluster));
+    assertThat(wlsDomainConfig.getServerConfigs().size(), equalTo(6));
+    assertThat(wlsDomainConfig.getClusterConfigs().keySet(), contains("DockerCluster"));
+  }
+
+  @Test
+  public void whenFrozen_findMachines() {
+    createDomainConfig(JSON_STRING_1_CLUSTER);
+    WlsMachineConfig machine = wlsDomainConfig.getMachineConfig("domain1-machine1");
+
+    wlsDomainConfig.freeze();
+
+    assertNotNull(machine);
+    assertThat(wlsDomainConfig.getMachineConfig("domain1-machine1"), sameInstance(machine));
+    assertThat(wlsDomainConfig.getMachineConfigs().size(), equalTo(2));
+  }
+
+  @Test
+  public void whenFrozen_findDynamicServers() {
+    createDomainConfig(JSON_STRING_MIXED_CLUSTER);
+    wlsDomainConfig.freeze();
+
+    WlsClusterConfig cluster = wlsDomainConfig.getClusterConfig("DockerCluster");
+    assertThat(cluster.getServerConfigs().size(), equalTo(7));
+    assertTrue(cluster.hasNamedServer("dynamic-2"));
+    assertThat(
+        cluster.getDynamicServersConfig().getServerConfig("dynamic-2").getName(),
+        equalTo("dynamic-2"));
+    assertThat(wlsDomainConfig.getClusterName("dynamic-2"), equalTo("DockerCluster"));
+    assertThat(wlsDomainConfig.getClusterName("ms-3"), equalTo("DockerCluster"));
+  }
+
+  @Test
+  public void whenFrozen_unknownNamesAreNotFound() {
+    createDomainConfig(JSON_STRING_MIXED_CLUSTER);
+    wlsDomainConfig.freeze();
+
+    assertNull(wlsDomainConfig.getServerConfig("noSuchServer"));
+    assertNull(wlsDomainConfig.getServerConfig(null));
+    assertNull(wlsDomainConfig.getMachineConfig("noSuchMachine"));
+    assertNull(wlsDomainConfig.getClusterName("AdminServer"));
+    assertThat(wlsDomainConfig.getClusterConfig("noSuchCluster").getClusterSize(), equalTo(0));
+  }
+
+  @Test
+  public void whenFrozen_configIsStillEqualToUnfrozenCopy() {
+    createDomainConfig(JSON_STRING_MIXED_CLUSTER);
+
+    assertThat(
+        wlsDomainConfig.freeze(), equalTo(WlsDomainConfig.create(JSON_STRING_MIXED_CLUSTER)));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void whenFrozen_rejectNewServers() {
+    wlsDomainConfig.freeze().addWlsServer("ms1", "host", 7001);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void whenFrozen_rejectNewClusterMembers() {
+    createDomainConfig(JSON_STRING_MIXED_CLUSTER);
+    wlsDomainConfig.freeze();
+
+    wlsDomainConfig.getClusterConfig("DockerCluster").addServerConfig(new WlsServerConfig());
+  }
+
   @Test
   public void verifyUpdateDomainSpecWarnsIfReplicasTooLarge() {
     createDomainConfig(JSON_STRING_1_CLUSTER);
@@ -0,0 +1,176 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import oracle.kubernetes.operator.work.EngineExecutor.WorkerMode;
+import org.junit.After;
+import org.junit.Test;
+
+public class EngineExecutorTest {
+  private EngineExecutor executor = new EngineExecutor("EngineExecutorTest");
+
+  @After
+  public void tearDown() throws Exception {
+    executor.shutdownNow();
+    executor.awaitTermination(100, TimeUnit.MILLISECONDS);
+  }
+
+  @Test
+  public void whenTaskExecuted_metricsRecordCompletion() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(3);
+    for (int i = 0; i < 3; i++) {
+      executor.execute(latch::countDown);
+    }
+
+    assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+    waitForCompletedCount(3);
+
+    EngineExecutor.Metrics metrics = executor.getMetrics();
+    assertThat(metrics.completedCount, equalTo(3L));
+    assertThat(metrics.queueDepth, equalTo(0));
+    assertThat(metrics.threadCount, equalTo(EngineExecutor.DEFAULT_THREAD_COUNT));
+  }
+
+  @Test
+  public void delayedTask_runsOnWorkerThread() throws InterruptedException {
+    AtomicReference<String> threadName = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(1);
+    executor.schedule(
+        () -> {
+          threadName.set(Thread.currentThread().getName());
+          latch.countDown();
+        },
+        10,
+        TimeUnit.MILLISECONDS);
+
+    assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(threadName.get(), containsString("engine-EngineExecutorTest-thread-"));
+  }
+
+  @Test
+  public void whenConfiguredForWorkStealing_tasksRunOnForkJoinWorkers()
+      throws InterruptedException {
+    executor.configure(4, 1, WorkerMode.WORK_STEALING);
+
+    AtomicReference<Thread> thread = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(1);
+    executor.execute(
+        () -> {
+          thread.set(Thread.currentThread());
+          latch.countDown();
+        });
+
+    assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(thread.get() instanceof ForkJoinWorkerThread, is(true));
+    assertThat(executor.getMetrics().mode, equalTo(WorkerMode.WORK_STEALING));
+    assertThat(executor.getMetrics().threadCount, equalTo(4));
+  }
+
+  @Test
+  public void whenConfiguredForWorkStealing_forkJoinCompletes() throws InterruptedException {
+    executor.configure(2, 1, WorkerMode.WORK_STEALING);
+    Engine engine = new Engine(executor);
+
+    CountDownLatch latch = new CountDownLatch(1);
+    engine.createFiber().start(new ForkingStep(20), new Packet(), new LatchCallback(latch));
+
+    assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(executor.getMetrics().completedCount, greaterThanOrEqualTo(20L));
+  }
+
+  @Test
+  public void whenConfiguredForVirtualThreads_tasksRunOnVirtualThreadsIfSupported()
+      throws InterruptedException {
+    executor.configure(2, 1, WorkerMode.VIRTUAL);
+
+    AtomicReference<String> threadName = new AtomicReference<>();
+    CountDownLatch latch = new CountDownLatch(1);
+    executor.execute(
+        () -> {
+          threadName.set(Thread.currentThread().getName());
+          latch.countDown();
+        });
+
+    assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+    if (EngineExecutor.isVirtualThreadSupported()) {
+      assertThat(executor.getMetrics().mode, equalTo(WorkerMode.VIRTUAL));
+      assertThat(threadName.get(), containsString("engine-EngineExecutorTest-virtual-"));
+    } else {
+      assertThat(executor.getMetrics().mode, equalTo(WorkerMode.FIXED));
+      assertThat(threadName.get(), containsString("engine-EngineExecutorTest-thread-"));
+    }
+  }
+
+  @Test
+  public void virtualThreadFactory_isAvailableOnlyIfSupported() throws InterruptedException {
+    ThreadFactory factory = EngineExecutor.createVirtualThreadFactory("test-");
+
+    if (!EngineExecutor.isVirtualThreadSupported()) {
+      assertThat(factory, nullValue());
+    } else {
+      AtomicReference<String> threadName = new AtomicReference<>();
+      Thread thread = factory.newThread(() -> threadName.set(Thread.currentThread().getName()));
+      thread.start();
+      thread.join(5000);
+      assertThat(threadName.get(), equalTo("test-1"));
+    }
+  }
+
+  private void waitForCompletedCount(long count) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (executor.getMetrics().completedCount < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+  }
+
+  private static class ForkingStep extends Step {
+    private final int count;
+
+    ForkingStep(int count) {
+      this.count = count;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Collection<StepAndPacket> startDetails = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        startDetails.add(new StepAndPacket(new TerminalStep(), packet.clone()));
+      }
+      return doForkJoin(null, packet, startDetails);
+    }
+  }
+
+  private static class LatchCallback implements Fiber.CompletionCallback {
+    private final CountDownLatch latch;
+
+    LatchCallback(CountDownLatch latch) {
+      this.latch = latch;
+    }
+
+    @Override
+    public void onCompletion(Packet packet) {
+      latch.countDown();
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      // leave latch closed so that the test fails
+    }
+  }
+}
@@ -0,0 +1,209 @@
+// Copyright 2019, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import static com.meterware.simplestub.Stub.createStrictStub;
+import static oracle.kubernetes.operator.work.FiberScheduler.MAX_PASSED_OVER;
+import static oracle.kubernetes.operator.work.FiberScheduler.PriorityClass.HIGH;
+import static oracle.kubernetes.operator.work.FiberScheduler.PriorityClass.NORMAL;
+import static oracle.kubernetes.operator.work.FiberScheduler.PriorityClass.STATUS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+import com.meterware.simplestub.Memento;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.work.FiberScheduler.Assignment;
+import oracle.kubernetes.operator.work.FiberScheduler.PriorityClass;
+import org.junit.Test;
+
+public class FiberSchedulerTest {
+  private final ManualExecutor executor = new ManualExecutor();
+  private final FiberScheduler scheduler = new FiberScheduler(executor, 1);
+  private final List<String> ran = new ArrayList<>();
+
+  @Test
+  public void whenBelowConcurrency_passTaskToExecutorAtOnce() {
+    submit("first", NORMAL, "ns1");
+
+    assertThat(executor.tasks.size(), equalTo(1));
+  }
+
+  @Test
+  public void whenAtConcurrency_holdTaskUntilRunningTaskCompletes() {
+    submit("first", NORMAL, "ns1");
+    submit("second", NORMAL, "ns1");
+
+    assertThat(executor.tasks.size(), equalTo(1));
+    executor.runNext();
+    assertThat(executor.tasks.size(), equalTo(1));
+  }
+
+  @Test
+  public void whenSaturated_runHigherPriorityClassFirst() {
+    submit("running", NORMAL, "ns1");
+    submit("status", STATUS, "ns1");
+    submit("normal", NORMAL, "ns1");
+    submit("high", HIGH, "ns2");
+
+    executor.runAll();
+
+    assertThat(ran, contains("running", "high", "normal", "status"));
+  }
+
+  @Test
+  public void whenSaturated_namespacesInClassTakeTurns() {
+    submit("running", NORMAL, "ns1");
+    submit("ns1-a", NORMAL, "ns1");
+    submit("ns1-b", NORMAL, "ns1");
+    submit("ns1-c", NORMAL, "ns1");
+    submit("ns2-a", NORMAL, "ns2");
+    submit("ns3-a", NORMAL, "ns3");
+
+    executor.runAll();
+
+    assertThat(ran, contains("running", "ns1-a", "ns2-a", "ns3-a", "ns1-b", "ns1-c"));
+  }
+
+  @Test
+  public void whenLowerClassPassedOverTooOften_runItNext() {
+    submit("running", HIGH, "ns1");
+    submit("status", STATUS, "ns1");
+    for (int i = 1; i <= MAX_PASSED_OVER + 1; i++) {
+      submit("high" + i, HIGH, "ns1");
+    }
+
+    executor.runAll();
+
+    assertThat(ran.indexOf("status"), equalTo(MAX_PASSED_OVER + 1));
+  }
+
+  @Test
+  public void whenTaskOfLowerClassStarts_itIsNotPassedOverAgainAtOnce() {
+    submit("running", HIGH, "ns1");
+    submit("status1", STATUS, "ns1");
+    submit("status2", STATUS, "ns1");
+    for (int i = 1; i <= MAX_PASSED_OVER + 1; i++) {
+      submit("high" + i, HIGH, "ns1");
+    }
+
+    executor.runAll();
+
+    assertThat(ran.indexOf("status2"), equalTo(ran.size() - 1));
+  }
+
+  @Test
+  public void whenFiberHasAssignment_engineQueuesItWithScheduler() {
+    Engine engine = createEngineWithScheduler();
+
+    engine.createFiber().start(null, createPacketWithAssignment(), null);
+
+    assertThat(executor.tasks.size(), equalTo(1));
+  }
+
+  @Test
+  public void whenChildFiberStarted_engineDoesNotQueueItWithScheduler() {
+    Engine engine = createEngineWithScheduler();
+    Fiber parent = engine.createFiber();
+    parent.start(null, createPacketWithAssignment(), null);
+
+    parent.createChildFiber().start(null, createPacketWithAssignment(), null);
+
+    assertThat(executor.tasks.size(), equalTo(1));
+    assertThat(((EngineExecutorStub) engine.getExecutor()).numExecuted, equalTo(1));
+  }
+
+  @Test
+  public void whenConcurrencyRaised_passHeldTasksToExecutor() {
+    submit("first", NORMAL, "ns1");
+    submit("second", NORMAL, "ns1");
+    submit("third", NORMAL, "ns2");
+
+    scheduler.setConcurrency(3);
+
+    assertThat(executor.tasks.size(), equalTo(3));
+  }
+
+  @Test
+  public void whenTaskThrowsException_runNextTask() {
+    Memento memento =
+        TestUtils.silenceOperatorLogger().ignoringLoggedExceptions(IllegalStateException.class);
+    try {
+      scheduler.execute(
+          () -> {
+            throw new IllegalStateException();
+          },
+          new Assignment(NORMAL, "ns1"));
+      submit("next", NORMAL, "ns1");
+
+      executor.runAll();
+
+      assertThat(ran, contains("next"));
+    } finally {
+      memento.revert();
+    }
+  }
+
+  @Test
+  public void metrics_reportQueueDepthAndStartedCountByClass() {
+    submit("first", NORMAL, "ns1");
+    submit("second", NORMAL, "ns1");
+    submit("third", STATUS, "ns1");
+
+    assertThat(scheduler.getMetrics().get(NORMAL).startedCount, equalTo(1L));
+    assertThat(scheduler.getMetrics().get(NORMAL).queueDepth, equalTo(1));
+    assertThat(scheduler.getMetrics().get(STATUS).queueDepth, equalTo(1));
+  }
+
+  private Engine createEngineWithScheduler() {
+    Engine engine = new Engine(createStrictStub(EngineExecutorStub.class));
+    engine.setScheduler(scheduler);
+    return engine;
+  }
+
+  private Packet createPacketWithAssignment() {
+    Packet packet = new Packet();
+    packet.put(FiberScheduler.ASSIGNMENT, new Assignment(NORMAL, "ns1"));
+    return packet;
+  }
+
+  private void submit(String name, PriorityClass priorityClass, String namespace) {
+    scheduler.execute(() -> ran.add(name), new Assignment(priorityClass, namespace));
+  }
+
+  abstract static class EngineExecutorStub implements ScheduledExecutorService {
+    private int numExecuted;
+
+    @Override
+    public void execute(Runnable command) {
+      numExecuted++;
+    }
+  }
+
+  private static class ManualExecutor implements Executor {
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    @Override
+    public void execute(Runnable command) {
+      tasks.add(command);
+    }
+
+    void runNext() {
+      tasks.remove().run();
+    }
+
+    void runAll() {
+      while (!tasks.isEmpty()) {
+        runNext();
+      }
+    }
+  }
+}
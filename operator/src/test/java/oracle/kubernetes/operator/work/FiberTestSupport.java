@@ -152,6 +152,19 @@ public class FiberTestSupport {
     return packet;
   }
 
+  /**
+   * Starts a unit-test fiber with the specified packet and step
+   *
+   * @param packet the packet to use
+   * @param step the first step to run
+   */
+  public Packet runSteps(Packet packet, Step step) {
+    fiber = engine.createFiber();
+    fiber.start(step, packet, completionCallback);
+
+    return packet;
+  }
+
   /**
    * Starts a unit-test fiber with the specified step and runs until the fiber is done
    *
@@ -224,7 +237,7 @@ public class FiberTestSupport {
     @Nonnull
     public ScheduledFuture<?> schedule(
         @Nonnull Runnable command, long delay, @Nonnull TimeUnit unit) {
-      scheduledItems.add(new ScheduledItem(unit.toMillis(delay), command));
+      scheduledItems.add(new ScheduledItem(currentTime + unit.toMillis(delay), command));
       runNextRunnable();
       return createStub(ScheduledFuture.class);
     }
@@ -272,17 +285,20 @@ public class FiberTestSupport {
         throw new IllegalStateException(
             "Attempt to move clock backwards from " + currentTime + " to " + newTime);
 
+      List<ScheduledItem> dueItems = new ArrayList<>();
       List<ScheduledItem> rescheduledItems = new ArrayList<>();
       for (Iterator<ScheduledItem> it = scheduledItems.iterator(); it.hasNext(); ) {
         ScheduledItem item = it.next();
         if (item.atTime > newTime) break;
         it.remove();
         Optional.ofNullable(item.rescheduled()).ifPresent(rescheduledItems::add);
-        execute(item.runnable);
+        dueItems.add(item);
       }
       scheduledItems.addAll(rescheduledItems);
-
       currentTime = newTime;
+
+      // run the items only after collecting them, as they may schedule others
+      dueItems.forEach(item -> execute(item.runnable));
     }
 
     /**